@@ -0,0 +1,92 @@
+#!/bin/bash
+# 일회성 DB 마이그레이션 실행 (CodeDeploy AfterInstall 단계 = 애플리케이션 기동 전)
+#
+# - migration/V<번호>__<설명>.sql 을 번호 순서대로 한 번씩 실행하고 schema_migration 테이블에 기록
+# - 하나라도 실패하면 즉시 중단하고 0이 아닌 코드로 종료 → 배포 실패 (새 버전은 기동되지 않음)
+# - 엄격 모드(STRICT_ALL_TABLES)로 실행 → 변환할 수 없는 값은 경고가 아니라 오류
+# - 테이블/컬럼 추가는 기본적으로 ddl-auto가 기동 시 처리 (기존 데이터 변환/정리에 필요한 것만 여기서 먼저 처리)
+#
+# 스크립트 머리말 지시자 (선택):
+#   -- requires-column: <table>.<column>  컬럼이 없으면 실행하지 않고 적용한 것으로 기록 (신규 DB 등)
+#   -- skip-if-column: <table>.<column>   컬럼이 이미 있으면 실행하지 않고 적용한 것으로 기록
+#   -- expect-empty: <SELECT ...>         실행 후 이 조회 결과가 한 행이라도 있으면 실패
+#
+# 접속 정보: DB_HOST, DB_PORT, DB_NAME, DB_USERNAME, DB_PASSWORD (start.sh와 같은 .env)
+set -euo pipefail
+
+ENV_FILE="${ENV_FILE:-/home/ec2-user/app/.env}"
+if [ -f "$ENV_FILE" ]; then
+  set -a
+  # shellcheck disable=SC1090
+  source "$ENV_FILE"
+  set +a
+fi
+
+MIGRATION_DIR="$(cd "$(dirname "$0")" && pwd)/migration"
+STRICT_MODE="SET SESSION sql_mode = 'STRICT_ALL_TABLES,NO_ZERO_IN_DATE,NO_ZERO_DATE,ERROR_FOR_DIVISION_BY_ZERO,NO_ENGINE_SUBSTITUTION';"
+
+if ! command -v mysql > /dev/null; then
+  echo "❌ mysql 클라이언트가 없습니다. DB 마이그레이션을 실행할 수 없습니다." >&2
+  exit 1
+fi
+
+export MYSQL_PWD="${DB_PASSWORD:?DB_PASSWORD 가 필요합니다}"
+
+run_sql() {
+  mysql --batch --skip-column-names \
+    -h "${DB_HOST:?DB_HOST 가 필요합니다}" -P "${DB_PORT:-3306}" \
+    -u "${DB_USERNAME:?DB_USERNAME 가 필요합니다}" "${DB_NAME:?DB_NAME 가 필요합니다}" "$@"
+}
+
+column_exists() {
+  local table="${1%%.*}" column="${1#*.}"
+  [ "$(run_sql -e "SELECT COUNT(*) FROM information_schema.columns
+      WHERE table_schema = DATABASE() AND table_name = '${table}' AND column_name = '${column}'")" != "0" ]
+}
+
+directive() {
+  sed -n "s/^-- $1: *//p" "$2" | head -n 1
+}
+
+run_sql -e "CREATE TABLE IF NOT EXISTS schema_migration (
+  version    VARCHAR(100) NOT NULL PRIMARY KEY,
+  applied_at DATETIME     NOT NULL,
+  skipped    TINYINT(1)   NOT NULL DEFAULT 0
+)"
+
+for file in $(ls "$MIGRATION_DIR"/V*__*.sql 2> /dev/null | sort -V); do
+  version="$(basename "$file" .sql)"
+  if [ "$(run_sql -e "SELECT COUNT(*) FROM schema_migration WHERE version = '${version}'")" != "0" ]; then
+    continue
+  fi
+
+  skipped=0
+  requires="$(directive requires-column "$file")"
+  skip_if="$(directive skip-if-column "$file")"
+  if [ -n "$requires" ] && ! column_exists "$requires"; then
+    skipped=1
+  elif [ -n "$skip_if" ] && column_exists "$skip_if"; then
+    skipped=1
+  fi
+
+  if [ "$skipped" = "1" ]; then
+    echo "⏭️ ${version}: 조건에 맞지 않아 건너뜀"
+  else
+    echo "🗄️ ${version}: 실행"
+    { echo "$STRICT_MODE"; cat "$file"; } | run_sql
+
+    expect_empty="$(directive expect-empty "$file")"
+    if [ -n "$expect_empty" ]; then
+      remaining="$(run_sql -e "$expect_empty")"
+      if [ -n "$remaining" ]; then
+        echo "❌ ${version}: 검증 실패 (남은 행: $(echo "$remaining" | wc -l))" >&2
+        echo "$remaining" | head -n 20 >&2
+        exit 1
+      fi
+    fi
+  fi
+
+  run_sql -e "INSERT INTO schema_migration (version, applied_at, skipped) VALUES ('${version}', NOW(), ${skipped})"
+done
+
+echo "✅ DB 마이그레이션 완료"
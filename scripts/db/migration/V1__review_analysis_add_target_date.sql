@@ -0,0 +1,6 @@
+-- review_analysis.target_date (DATE) 컬럼 추가
+-- 기존 target_ym 데이터를 옮겨 담기 전에 컬럼이 있어야 하므로 ddl-auto(기동 시)보다 먼저 추가
+-- requires-column: review_analysis.target_ym
+-- skip-if-column: review_analysis.target_date
+
+ALTER TABLE review_analysis ADD COLUMN target_date DATE NULL;
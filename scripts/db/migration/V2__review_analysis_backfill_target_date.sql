@@ -0,0 +1,14 @@
+-- review_analysis.target_ym(문자열) → target_date(DATE) 이관
+-- yyyy-MM-dd → 그대로, yyyy-MM → 해당 월 1일
+-- 엄격 모드에서 실행되므로 날짜로 바꿀 수 없는 값이 있으면 UPDATE 전체가 실패 (값을 고친 뒤 재배포)
+-- 이관 후 target_ym 컬럼은 더 이상 쓰지 않음 (확인 후 운영 DB에서 직접 삭제)
+-- requires-column: review_analysis.target_ym
+-- expect-empty: SELECT id, target_ym FROM review_analysis WHERE target_date IS NULL AND target_ym IS NOT NULL
+
+UPDATE review_analysis
+SET target_date = CASE
+        WHEN CHAR_LENGTH(target_ym) = 7 THEN STR_TO_DATE(CONCAT(target_ym, '-01'), '%Y-%m-%d')
+        ELSE STR_TO_DATE(target_ym, '%Y-%m-%d')
+    END
+WHERE target_date IS NULL
+  AND target_ym IS NOT NULL;
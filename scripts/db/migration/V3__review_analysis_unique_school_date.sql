@@ -0,0 +1,15 @@
+-- review_analysis (school_id, target_date) 유일 키 추가 (배치가 여러 인스턴스에서 돌아도 같은 날짜 분석은 한 건만 저장)
+-- 기존 중복 행은 가장 먼저 저장된 것(id가 가장 작은 것)만 남기고 삭제
+-- 신규 DB는 ddl-auto가 유일 키와 함께 테이블을 만들므로 건너뜀
+-- requires-column: review_analysis.target_date
+-- expect-empty: SELECT school_id, target_date, COUNT(*) FROM review_analysis WHERE target_date IS NOT NULL GROUP BY school_id, target_date HAVING COUNT(*) > 1
+
+DELETE dup
+FROM review_analysis dup
+JOIN review_analysis keep
+  ON keep.school_id = dup.school_id
+ AND keep.target_date = dup.target_date
+ AND keep.id < dup.id;
+
+ALTER TABLE review_analysis
+    ADD CONSTRAINT uk_review_analysis_school_date UNIQUE (school_id, target_date);
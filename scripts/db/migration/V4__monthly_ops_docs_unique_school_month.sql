@@ -0,0 +1,9 @@
+-- monthly_ops_docs (school_id, year, month) 유일 키 추가 (여러 인스턴스가 동시에 등록해도 학교/연월당 문서 1건)
+-- 운영자료는 임의로 지우지 않음 → 중복 문서가 있으면 ALTER가 실패하고 배포가 중단됨
+--   (중복 확인: SELECT school_id, year, month, COUNT(*) FROM monthly_ops_docs GROUP BY school_id, year, month HAVING COUNT(*) > 1
+--    남길 문서를 정해 나머지를 정리한 뒤 재배포)
+-- 신규 DB는 ddl-auto가 유일 키와 함께 테이블을 만들므로 건너뜀
+-- requires-column: monthly_ops_docs.school_id
+
+ALTER TABLE monthly_ops_docs
+    ADD CONSTRAINT uk_monthly_ops_docs_school_ym UNIQUE (school_id, year, month);
@@ -1,2 +1,6 @@
 #!/bin/bash
-echo "Install step - nothing to do, already built by CodeBuild"
+set -e
+echo "Install step - already built by CodeBuild"
+
+# 일회성 DB 마이그레이션 (실패하면 배포 중단, 새 버전은 기동되지 않음)
+bash /home/ec2-user/app/scripts/db/migrate.sh
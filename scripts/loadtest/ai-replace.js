@@ -0,0 +1,47 @@
+// k6 부하 시나리오: PUT /mealplan/ai-replace
+//
+// 환경 변수:
+//   BASE_URL   (기본 http://localhost:8080)
+//   TOKEN      영양사 계정 Access Token (필수)
+//   DATE       식단이 등록된 날짜 (YYYY-MM-DD, 필수)
+//   MEAL_TYPE  LUNCH / DINNER (기본 LUNCH)
+//   VUS        동시 사용자 수 (기본 200)
+//   DURATION   측정 시간 (기본 60s)
+//
+// 실행: k6 run -e TOKEN=... -e DATE=2026-03-02 scripts/loadtest/ai-replace.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const status503 = new Counter('ai_replace_503');
+
+export const options = {
+    scenarios: {
+        ai_replace: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 200),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const res = http.put(
+        `${BASE_URL}/mealplan/ai-replace`,
+        JSON.stringify({ date: __ENV.DATE, mealType: __ENV.MEAL_TYPE || 'LUNCH' }),
+        {
+            headers: {
+                'Content-Type': 'application/json',
+                Authorization: `Bearer ${__ENV.TOKEN}`,
+            },
+            timeout: '120s',
+        }
+    );
+
+    if (res.status === 503) {
+        status503.add(1);
+    }
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,101 @@
+#!/bin/bash
+# 플랫폼 스레드 vs 가상 스레드 비교 (PUT /mealplan/ai-replace, 느린 AI 스텁)
+#
+# 준비:
+# - Java 21, k6, python3
+# - 로컬 DB에 DATE/MEAL_TYPE 식단이 등록된 학교와 영양사 계정 (TOKEN)
+# - ./gradlew bootJar -PjavaVersion=21
+#
+# 실행:
+#   TOKEN=... DATE=2026-03-02 INTERNAL_TOKEN=... scripts/loadtest/compare-threads.sh
+#
+# 결과: build/loadtest/{platform,virtual}.json (k6 요약), 마지막에 두 모드 비교표 출력
+#
+# 주의:
+# - replaceMenuWithAi는 AI 응답을 기다리는 동안 트랜잭션(DB 커넥션)을 유지하므로
+#   HIKARI_POOL 이 동시 처리 상한이 됩니다. 스레드 모델만 비교하려면 충분히 크게 지정하세요.
+# - FastAPI 보호 설정(동시 호출 상한, HTTP 커넥션 풀)도 같은 값으로 올려 양쪽 조건을 맞춥니다.
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+JAR=${JAR:-build/libs/nutriassistant-back-0.0.1-SNAPSHOT.jar}
+PORT=${PORT:-8080}
+STUB_PORT=${STUB_PORT:-8001}
+STUB_DELAY_SECONDS=${STUB_DELAY_SECONDS:-2}
+VUS=${VUS:-200}
+DURATION=${DURATION:-60s}
+HIKARI_POOL=${HIKARI_POOL:-50}
+AI_CONCURRENCY=${AI_CONCURRENCY:-400}
+OUT_DIR=build/loadtest
+
+: "${TOKEN:?TOKEN(영양사 Access Token)이 필요합니다}"
+: "${DATE:?DATE(식단 날짜, YYYY-MM-DD)가 필요합니다}"
+
+mkdir -p "$OUT_DIR"
+
+STUB_DELAY_SECONDS=$STUB_DELAY_SECONDS STUB_PORT=$STUB_PORT python3 scripts/loadtest/slow_ai_stub.py &
+STUB_PID=$!
+APP_PID=""
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true
+    kill "$STUB_PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+
+    echo "=== ${mode} (spring.threads.virtual.enabled=${virtual}) ==="
+    java -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$virtual" \
+        --fastapi.base-url="http://localhost:${STUB_PORT}" \
+        --fastapi.retry.max-attempts=1 \
+        --fastapi.resilience.max-concurrent.single-replace="$AI_CONCURRENCY" \
+        --http-client.pool.max-total="$AI_CONCURRENCY" \
+        --http-client.pool.max-per-route="$AI_CONCURRENCY" \
+        --spring.datasource.hikari.maximum-pool-size="$HIKARI_POOL" \
+        > "$OUT_DIR/${mode}-app.log" 2>&1 &
+    APP_PID=$!
+
+    for _ in $(seq 1 60); do
+        curl -sf -H "X-Internal-API-Key: ${INTERNAL_TOKEN:-}" \
+            "http://localhost:${PORT}/internal/actuator/health" > /dev/null && break
+        sleep 2
+    done
+
+    k6 run --quiet \
+        -e BASE_URL="http://localhost:${PORT}" -e TOKEN="$TOKEN" -e DATE="$DATE" \
+        -e MEAL_TYPE="${MEAL_TYPE:-LUNCH}" -e VUS="$VUS" -e DURATION="$DURATION" \
+        --summary-export "$OUT_DIR/${mode}.json" \
+        scripts/loadtest/ai-replace.js
+
+    curl -sf -H "X-Internal-API-Key: ${INTERNAL_TOKEN:-}" \
+        "http://localhost:${PORT}/internal/actuator/metrics/jvm.threads.peak" > "$OUT_DIR/${mode}-threads.json" || true
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=""
+}
+
+run_mode platform false
+run_mode virtual true
+
+python3 - "$OUT_DIR" <<'EOF'
+import json, sys, os
+
+out = sys.argv[1]
+print(f"\n{'mode':<10}{'req/s':>10}{'p50(ms)':>10}{'p95(ms)':>10}{'p99(ms)':>10}{'fail%':>8}{'503':>7}{'peak thr':>10}")
+for mode in ("platform", "virtual"):
+    m = json.load(open(os.path.join(out, f"{mode}.json")))["metrics"]
+    d = m["http_req_duration"]
+    peak = "-"
+    try:
+        peak = int(json.load(open(os.path.join(out, f"{mode}-threads.json")))["measurements"][0]["value"])
+    except Exception:
+        pass
+    print(f"{mode:<10}{m['http_reqs']['rate']:>10.1f}{d['p(50)']:>10.0f}{d['p(95)']:>10.0f}{d['p(99)']:>10.0f}"
+          f"{m['http_req_failed']['value'] * 100:>7.1f}%{m.get('ai_replace_503', {}).get('count', 0):>7}{peak:>10}")
+EOF
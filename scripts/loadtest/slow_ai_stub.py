@@ -0,0 +1,70 @@
+#!/usr/bin/env python3
+"""
+부하 테스트용 느린 FastAPI 스텁 (표준 라이브러리만 사용)
+
+POST /v1/menus/single:generate 요청을 STUB_DELAY_SECONDS 만큼 지연시킨 뒤
+1끼 AI 대체 응답과 같은 형식의 JSON을 반환합니다.
+
+사용:
+  STUB_DELAY_SECONDS=2 STUB_PORT=8001 python3 scripts/loadtest/slow_ai_stub.py
+"""
+import json
+import os
+import random
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+DELAY_SECONDS = float(os.environ.get("STUB_DELAY_SECONDS", "2"))
+PORT = int(os.environ.get("STUB_PORT", "8001"))
+
+MENUS = [
+    ["쌀밥", "잡곡밥", "현미밥"],
+    ["된장국", "미역국", "북엇국"],
+    ["제육볶음", "닭갈비", "불고기"],
+    ["계란말이", "고등어구이", "떡갈비"],
+    ["시금치나물", "콩나물무침", "감자조림"],
+    ["배추김치", "깍두기"],
+    ["요구르트", "사과", "귤"],
+]
+
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_POST(self):
+        length = int(self.headers.get("Content-Length", "0"))
+        if length:
+            self.rfile.read(length)
+
+        if self.path != "/v1/menus/single:generate":
+            self._send(404, {"detail": "not found"})
+            return
+
+        time.sleep(DELAY_SECONDS)
+        self._send(200, {
+            "menus": [random.choice(slot) for slot in MENUS],
+            "kcal": 680.0,
+            "carb": 95.0,
+            "prot": 27.0,
+            "fat": 19.0,
+            "cost": 4300,
+            "reason": "부하 테스트 스텁 응답",
+        })
+
+    def _send(self, status, body):
+        payload = json.dumps(body, ensure_ascii=False).encode("utf-8")
+        self.send_response(status)
+        self.send_header("Content-Type", "application/json; charset=utf-8")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def log_message(self, fmt, *args):
+        pass
+
+
+if __name__ == "__main__":
+    server = ThreadingHTTPServer(("0.0.0.0", PORT), Handler)
+    server.daemon_threads = True
+    print(f"slow AI stub: port={PORT}, delay={DELAY_SECONDS}s")
+    server.serve_forever()
@@ -5,5 +5,7 @@ set -a
 source /home/ec2-user/app/.env
 set +a
 
+# 가상 스레드 모드: .env에 SPRING_THREADS_VIRTUAL_ENABLED=true (Java 21 런타임 필요)
+# JVM 옵션은 JAVA_OPTS로 전달 (예: -XX:StartFlightRecording=... 로 pinning 이벤트 파일 기록)
 cd /home/ec2-user/app
-nohup java -jar build/libs/nutriassistant-back-0.0.1-SNAPSHOT.jar > /home/ec2-user/app.log 2>&1 &
+nohup java ${JAVA_OPTS:-} -jar build/libs/nutriassistant-back-0.0.1-SNAPSHOT.jar > /home/ec2-user/app.log 2>&1 &
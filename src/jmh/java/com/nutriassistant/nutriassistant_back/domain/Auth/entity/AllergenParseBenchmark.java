@@ -0,0 +1,26 @@
+package com.nutriassistant.nutriassistant_back.domain.Auth.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 알레르기 코드 문자열 파싱 벤치마크
+ * 한 달 응답 변환 시 메뉴 칸마다(44끼 × 7칸) 호출되는 경로
+ */
+@State(Scope.Benchmark)
+public class AllergenParseBenchmark {
+
+    // 메뉴 칸에 실제로 저장되는 형태 (빈 값, 단일, 복수, 공백 포함)
+    private final String[] codes = {
+            "", "9", "5,6", "1,5,6", "5,6,10,13", "1,2,5,6,10,13", "2", " 5, 6 ,16", "7", "5,6,10,16"
+    };
+
+    @Benchmark
+    public void parseCodes(Blackhole bh) {
+        for (String csv : codes) {
+            bh.consume(Allergen.parseCodes(csv));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlan;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenu;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenuItem;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MenuSlot;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 고정 데이터 (한 달 44끼 = 평일 22일 × 중식/석식, 끼니당 메뉴 칸 7개)
+ */
+final class MealPlanFixtures {
+
+    static final int YEAR = 2026;
+    static final int MONTH = 3;
+
+    private static final String[][] FOODS = {
+            {"쌀밥", ""}, {"잡곡밥", ""}, {"현미밥", ""}, {"보리밥", ""},
+            {"된장국", "5,6"}, {"미역국", "5,6,16"}, {"김치찌개", "9,10"}, {"북엇국", "1,5"}, {"어묵국", "1,5,6"},
+            {"제육볶음", "5,6,10,13"}, {"닭갈비", "5,6,15"}, {"고등어구이", "7"}, {"불고기", "5,6,16"},
+            {"돈까스", "1,2,5,6,10,13"}, {"떡갈비", "5,6,10,16"},
+            {"시금치나물", "5"}, {"콩나물무침", "5"}, {"감자조림", "5,6"}, {"계란말이", "1"},
+            {"배추김치", "9"}, {"깍두기", "9"}, {"총각김치", "9"},
+            {"요구르트", "2"}, {"사과", ""}, {"귤", ""}, {"바나나우유", "2"}
+    };
+
+    private static final int[][] SLOT_RANGES = {
+            {0, 4}, {4, 9}, {9, 15}, {9, 15}, {15, 19}, {19, 22}, {22, 26}
+    };
+
+    private MealPlanFixtures() {
+    }
+
+    static List<MealPlanMenu> month() {
+        MealPlan mealPlan = new MealPlan(1L, YEAR, MONTH);
+        List<MealPlanMenu> menus = new ArrayList<>();
+
+        LocalDate date = LocalDate.of(YEAR, MONTH, 1);
+        long id = 1;
+        int seq = 0;
+        while (menus.size() < 44) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                menus.add(menu(mealPlan, id++, date, MealType.LUNCH, seq++));
+                menus.add(menu(mealPlan, id++, date, MealType.DINNER, seq++));
+            }
+            date = date.plusDays(1);
+        }
+        return menus;
+    }
+
+    private static MealPlanMenu menu(MealPlan mealPlan, long id, LocalDate date, MealType mealType, int seq) {
+        MealPlanMenu menu = new MealPlanMenu(date, mealType);
+        menu.setId(id);
+        menu.setMealPlan(mealPlan);
+        menu.setKcal(BigDecimal.valueOf(650 + seq % 50));
+        menu.setCarb(BigDecimal.valueOf(90));
+        menu.setProt(BigDecimal.valueOf(25));
+        menu.setFat(BigDecimal.valueOf(18));
+        menu.setCost(4200);
+        menu.setAiComment("단백질과 채소 반찬의 균형을 맞춘 식단입니다.");
+
+        MenuSlot[] slots = MenuSlot.values();
+        for (int i = 0; i < slots.length; i++) {
+            int from = SLOT_RANGES[i][0];
+            int size = SLOT_RANGES[i][1] - from;
+            String[] food = FOODS[from + (seq + i * 3) % size];
+
+            MealPlanMenuItem item = new MealPlanMenuItem(slots[i]);
+            item.setMenu(menu);
+            item.setFoodName(food[0]);
+            item.setDisplay(food[1].isEmpty() ? food[0] : food[0] + "(" + food[1] + ")");
+            item.setFoodId((long) (from + i));
+            item.setFoodCode("F" + (from + i));
+            item.setAllergenCodes(food[1]);
+            menu.getItems().add(item);
+        }
+        return menu;
+    }
+
+    /**
+     * 히스토리 저장 형식의 메뉴 문자열 (신규 " || " 구분 / 구형 쉼표 구분)
+     */
+    static List<String> historyMenuStrings(List<MealPlanMenu> menus) {
+        List<String> out = new ArrayList<>();
+        for (MealPlanMenu menu : menus) {
+            List<String> displays = new ArrayList<>();
+            for (MealPlanMenuItem item : menu.getItems()) {
+                displays.add(item.getDisplay());
+            }
+            out.add(String.join(" || ", displays));
+            out.add(String.join(", ", displays));
+        }
+        return out;
+    }
+}
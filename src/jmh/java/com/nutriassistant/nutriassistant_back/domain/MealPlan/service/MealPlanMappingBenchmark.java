@@ -0,0 +1,73 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 식단 응답 변환 벤치마크 (한 달 44끼 기준, 1회 = 44끼 전체 변환)
+ *
+ * - toResponse    : 월간 생성/조회 응답 (알레르기 코드 파싱 + 빌더)
+ * - toMenuDetail  : 월간 식단표 응답 (action_type 매핑 포함)
+ * - toWeeklyMenu  : 주간 식단표 응답
+ * - parseMenuString : 히스토리 메뉴 문자열 파싱 (" || " / 괄호 인식 쉼표 구분)
+ *
+ * 메뉴 칸이 이미 채워진 엔티티만 사용하므로 저장소/외부 의존성 없이 MealPlanService를 생성합니다.
+ */
+@State(Scope.Benchmark)
+public class MealPlanMappingBenchmark {
+
+    private MealPlanService mealPlanService;
+    private List<MealPlanMenu> month;
+    private Map<String, String> actionTypeMap;
+    private List<String> historyMenuStrings;
+
+    @Setup
+    public void setUp() {
+        mealPlanService = new MealPlanService(null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null);
+        month = MealPlanFixtures.month();
+        historyMenuStrings = MealPlanFixtures.historyMenuStrings(month);
+
+        actionTypeMap = new HashMap<>();
+        for (int i = 0; i < month.size(); i += 5) {
+            MealPlanMenu menu = month.get(i);
+            actionTypeMap.put(menu.getMenuDate() + "_" + menu.getMealType().name(), "AI_AUTO_REPLACE");
+        }
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole bh) {
+        for (MealPlanMenu menu : month) {
+            bh.consume(mealPlanService.toResponse(menu));
+        }
+    }
+
+    @Benchmark
+    public void toMenuDetail(Blackhole bh) {
+        for (MealPlanMenu menu : month) {
+            bh.consume(mealPlanService.toMenuDetail(menu, actionTypeMap));
+        }
+    }
+
+    @Benchmark
+    public void toWeeklyMenu(Blackhole bh) {
+        for (MealPlanMenu menu : month) {
+            bh.consume(mealPlanService.toWeeklyMenu(menu));
+        }
+    }
+
+    @Benchmark
+    public void parseMenuString(Blackhole bh) {
+        for (String menuString : historyMenuStrings) {
+            bh.consume(mealPlanService.parseMenuString(menuString));
+        }
+    }
+}
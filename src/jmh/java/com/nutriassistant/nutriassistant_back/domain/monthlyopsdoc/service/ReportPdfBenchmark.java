@@ -0,0 +1,51 @@
+package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월간 운영자료 PDF 생성 벤치마크
+ * FastAPI 보고서 응답과 같은 { data: { doc: {...} } } 구조, 7개 섹션 × 한글 본문
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportPdfBenchmark {
+
+    private static final String PARAGRAPH =
+            "이번 달 중식 평균 잔반률은 지난달 대비 소폭 감소했으며, 국과 나물류에서 잔반이 집중되었습니다. "
+            + "학생 만족도는 주찬 메뉴가 육류일 때 높게 나타났고, 생선류 제공일에는 결식률이 증가했습니다. "
+            + "다음 달에는 선호도가 낮은 메뉴의 조리법을 변경하고 제철 과일 후식을 확대할 것을 권장합니다. ";
+
+    private ReportPdfGenerator reportPdfGenerator;
+    private Map<String, Object> reportData;
+
+    @Setup
+    public void setUp() {
+        reportPdfGenerator = new ReportPdfGenerator();
+
+        Map<String, Object> doc = new LinkedHashMap<>();
+        for (String key : new String[]{"summary", "leftover", "satisfaction", "issues",
+                "trendAnalysis", "nutritionQuality", "opStrategies"}) {
+            doc.put(key, PARAGRAPH.repeat(4));
+        }
+        reportData = Map.of("data", Map.of("doc", doc));
+    }
+
+    @Benchmark
+    public int writePdf() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportPdfGenerator.writePdf(reportData, 2026, 3, "2026년 3월 월간 운영자료", out);
+        return out.size();
+    }
+}
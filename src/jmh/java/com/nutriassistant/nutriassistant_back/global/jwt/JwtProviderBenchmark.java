@@ -0,0 +1,70 @@
+package com.nutriassistant.nutriassistant_back.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Base64;
+
+/**
+ * JWT 검증/클레임 추출 벤치마크
+ *
+ * - validateToken        : 검증 1회 (캐시 적중)
+ * - verifyUncached       : 서명 검증 1회 (캐시 미사용)
+ * - perRequestLegacy     : 이전 요청 처리 방식 (검증 캐시 없이 토큰을 매번 파싱, 요청당 7회)
+ * - perRequestCurrent    : 현재 요청 1건의 처리량
+ *                          (필터 verify + getAuthentication(claims), 리졸버는 요청 속성의 Claims 재사용)
+ */
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    // 검증 캐시 크기 0: 매번 서명 검증
+    private JwtProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = "nutriassistant-benchmark-secret-key-0123456789abcdef".getBytes();
+        String encoded = Base64.getEncoder().encodeToString(secret);
+        jwtProvider = new JwtProvider(encoded, 3_600_000L, 10_000L);
+        uncachedProvider = new JwtProvider(encoded, 3_600_000L, 0L);
+        token = jwtProvider.createToken(42L, "dietitian01", 7L, "ROLE_DIETITIAN");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims verifyUncached() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public void perRequestLegacy(Blackhole bh) {
+        // JwtAuthenticationFilter
+        bh.consume(uncachedProvider.validateToken(token));
+        bh.consume(uncachedProvider.getAuthentication(token));
+        // CurrentUserArgumentResolver
+        bh.consume(uncachedProvider.validateToken(token));
+        bh.consume(uncachedProvider.getUserId(token));
+        bh.consume(uncachedProvider.getSchoolId(token));
+        bh.consume(uncachedProvider.getRole(token));
+    }
+
+    @Benchmark
+    public void perRequestCurrent(Blackhole bh) {
+        // JwtAuthenticationFilter
+        Claims claims = jwtProvider.verify(token);
+        bh.consume(jwtProvider.getAuthentication(claims));
+        // CurrentUserArgumentResolver (요청 속성의 Claims 사용)
+        bh.consume(claims.get("id", Long.class));
+        bh.consume(claims.get("schoolId", Long.class));
+        bh.consume(claims.get("role", String.class));
+    }
+}
@@ -1,51 +1,245 @@
 package com.nutriassistant.nutriassistant_back.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정 클래스
  *
  * 역할:
  * - Spring의 비동기 처리 기능(@Async)을 활성화합니다.
- * - @Async 어노테이션이 붙은 메서드를 별도의 스레드에서 실행합니다.
+ * - 작업 종류별로 이름 있는 제한된 스레드 풀을 등록합니다.
+ *   (요청마다 스레드를 새로 만들지 않고, 느린 외부 호출이 몰려도 스레드 수가 늘어나지 않음)
+ *
+ * 실행기 목록:
+ * - applicationTaskExecutor (= taskExecutor) : 기본 @Async, Spring MVC 비동기 처리
+ * - aiAnalysisExecutor         : 신메뉴 AI 분석 요청 (NewMenuService.requestAnalysisAsync)
+ * - imageGenerationExecutor    : 식단 이미지 생성 (MealImageGenerationWorker)
+ * - pdfRenderExecutor          : 운영자료 PDF 생성 (MonthlyOpsDocService)
+ * - opsDocExecutor             : 월간 운영자료 생성 파이프라인 (MonthlyOpsDocPipeline)
+ * - opsDocStatsExecutor        : 운영자료 STATS 단계 동시 조회 (MonthlyOpsDocStatsCollector)
+ * - mealPlanGenerationExecutor : 월간 식단 생성 작업 (MealPlanGenerationJobService)
+ * - reviewAnalysisExecutor     : 야간 전체 학교 리뷰 감성 분석 (DailyReviewAnalysisBatch)
+ * - todayWarmupExecutor        : 오늘의 식단 사전 적재 (TodayMealPlanWarmer)
+ *
+ * 설정 (async.{name}.*):
+ * - pool-size        : 동시 실행 스레드 수 (core = max)
+ * - queue-capacity   : 대기열 크기
+ * - rejection-policy : 대기열까지 가득 찼을 때 처리 방식
+ *     ABORT          - 예외 발생 (호출자가 거절을 직접 처리)
+ *     CALLER_RUNS    - 호출한 스레드에서 직접 실행 (자연스러운 속도 조절)
+ *     DISCARD        - 버림 (반환값 없는 fire-and-forget 작업에만 사용)
+ *     DISCARD_OLDEST - 가장 오래 대기한 작업을 버리고 등록
  *
- * 사용 예시:
- * - 신메뉴 AI 분석 요청 (NewMenuService.requestAnalysisAsync)
- * - 이메일 발송
- * - 푸시 알림 전송
- * - 로그 기록 등 시간이 오래 걸리는 작업
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, Java 21 런타임 필요):
+ * - 각 실행기의 작업 스레드를 가상 스레드로 생성합니다. (pool-size는 동시 실행 수 제한으로 그대로 적용)
+ * - Tomcat 요청 처리와 스케줄러는 Spring Boot가 같은 설정으로 가상 스레드로 전환합니다.
+ * - 플랫폼 스레드와의 부하 비교는 아직 측정 전이라 기본값은 비활성 (scripts/loadtest/README.md)
  *
- * 동작 방식:
- * 1. @Async가 붙은 메서드 호출 시 즉시 반환
- * 2. 실제 작업은 별도 스레드에서 비동기로 실행
- * 3. 호출자는 대기하지 않고 다음 로직 진행
+ * 종료:
+ * - 종료 시 새 작업은 받지 않고, 실행 중/대기 중 작업은 async.await-termination-seconds 까지 기다립니다.
+ *
+ * 지표:
+ * - executor.active / executor.queued / executor.queue.remaining / executor.pool.* {name=...}
+ * - nutri.executor.rejected{name, policy}
  *
  * 주의사항:
  * - @Async 메서드는 반드시 public이어야 함
  * - 같은 클래스 내에서 호출하면 프록시를 거치지 않아 동기로 실행됨
  * - 트랜잭션과 함께 사용 시 주의 필요 (별도 트랜잭션으로 실행됨)
- *
- * 커스터마이징 (필요 시):
- * - ThreadPoolTaskExecutor Bean 등록으로 스레드 풀 설정 가능
- * - 예: 코어 스레드 수, 최대 스레드 수, 큐 크기 등
  */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-    // 기본 설정 사용 (SimpleAsyncTaskExecutor)
-    // 커스텀 스레드 풀이 필요하면 아래 주석 해제 후 수정
 
-    /*
-    @Bean
-    public Executor asyncExecutor() {
+    public static final String AI_ANALYSIS_EXECUTOR = "aiAnalysisExecutor";
+    public static final String IMAGE_GENERATION_EXECUTOR = "imageGenerationExecutor";
+    public static final String PDF_RENDER_EXECUTOR = "pdfRenderExecutor";
+    public static final String MEAL_PLAN_GENERATION_EXECUTOR = "mealPlanGenerationExecutor";
+    public static final String REVIEW_ANALYSIS_EXECUTOR = "reviewAnalysisExecutor";
+    public static final String OPS_DOC_EXECUTOR = "opsDocExecutor";
+    public static final String OPS_DOC_STATS_EXECUTOR = "opsDocStatsExecutor";
+    public static final String TODAY_WARMUP_EXECUTOR = "todayWarmupExecutor";
+
+    public enum RejectionPolicy {
+        ABORT,
+        CALLER_RUNS,
+        DISCARD,
+        DISCARD_OLDEST
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int awaitTerminationSeconds;
+    private final boolean virtualThreads;
+
+    public AsyncConfig(MeterRegistry meterRegistry,
+                       @Value("${async.await-termination-seconds:60}") int awaitTerminationSeconds,
+                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.meterRegistry = meterRegistry;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+        this.virtualThreads = virtualThreads;
+    }
+
+    // =========================================================================
+    // 기본 실행기 (@Async 기본값, Spring MVC 비동기 요청 처리)
+    // =========================================================================
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(
+            @Value("${async.default.pool-size:8}") int poolSize,
+            @Value("${async.default.queue-capacity:100}") int queueCapacity,
+            @Value("${async.default.rejection-policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
+        return buildExecutor("default", "async-", poolSize, queueCapacity, rejectionPolicy);
+    }
+
+    // =========================================================================
+    // 신메뉴 AI 분석 (FastAPI 응답까지 최대 수 분 대기)
+    // 포화 시 예외 발생 → BoardService 가 받아 게시글은 저장하고 누락된 boardId 를 에러 로그로 남김
+    // (요청 스레드가 FastAPI 호출을 떠안지 않도록 CALLER_RUNS 는 쓰지 않음)
+    // =========================================================================
+    @Bean(name = AI_ANALYSIS_EXECUTOR)
+    public ThreadPoolTaskExecutor aiAnalysisExecutor(
+            @Value("${async.ai-analysis.pool-size:4}") int poolSize,
+            @Value("${async.ai-analysis.queue-capacity:50}") int queueCapacity,
+            @Value("${async.ai-analysis.rejection-policy:ABORT}") RejectionPolicy rejectionPolicy) {
+        return buildExecutor("ai.analysis", "ai-analysis-", poolSize, queueCapacity, rejectionPolicy);
+    }
+
+    // =========================================================================
+    // 식단 이미지 생성 (거절 시 워커가 FAILED + 백오프로 처리)
+    // =========================================================================
+    @Bean(name = IMAGE_GENERATION_EXECUTOR)
+    public ThreadPoolTaskExecutor imageGenerationExecutor(
+            @Value("${async.image-generation.pool-size:2}") int poolSize,
+            @Value("${async.image-generation.queue-capacity:20}") int queueCapacity,
+            @Value("${async.image-generation.rejection-policy:ABORT}") RejectionPolicy rejectionPolicy) {
+        return buildExecutor("image.generation", "image-gen-", poolSize, queueCapacity, rejectionPolicy);
+    }
+
+    // =========================================================================
+    // PDF 생성 (CPU/메모리 사용량이 커서 동시 생성 수를 제한, 결과를 기다리므로 DISCARD 사용 불가)
+    // =========================================================================
+    @Bean(name = PDF_RENDER_EXECUTOR)
+    public ThreadPoolTaskExecutor pdfRenderExecutor(
+            @Value("${async.pdf-render.pool-size:2}") int poolSize,
+            @Value("${async.pdf-render.queue-capacity:10}") int queueCapacity,
+            @Value("${async.pdf-render.rejection-policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
+        return buildExecutor("pdf.render", "pdf-render-", poolSize, queueCapacity, rejectionPolicy);
+    }
+
+    // =========================================================================
+    // 월간 식단 생성 (거절 시 작업을 FAILED로 기록하고 클라이언트에 재시도 안내)
+    // =========================================================================
+    @Bean(name = MEAL_PLAN_GENERATION_EXECUTOR)
+    public ThreadPoolTaskExecutor mealPlanGenerationExecutor(
+            @Value("${mealplan.generation.workers:2}") int poolSize,
+            @Value("${mealplan.generation.queue-capacity:20}") int queueCapacity) {
+        return buildExecutor("mealplan.generation", "mealplan-gen-", poolSize, queueCapacity, RejectionPolicy.ABORT);
+    }
+
+    // =========================================================================
+    // 야간 리뷰 감성 분석 배치 (학교 단위 병렬 처리, 포화 시 배치 스레드가 직접 실행해 속도 조절)
+    // =========================================================================
+    @Bean(name = REVIEW_ANALYSIS_EXECUTOR)
+    public ThreadPoolTaskExecutor reviewAnalysisExecutor(
+            @Value("${async.review-analysis.pool-size:4}") int poolSize,
+            @Value("${async.review-analysis.queue-capacity:20}") int queueCapacity) {
+        return buildExecutor("review.analysis", "review-analysis-", poolSize, queueCapacity, RejectionPolicy.CALLER_RUNS);
+    }
+
+    // =========================================================================
+    // 월간 운영자료 생성 (STATS → AI → PDF → UPLOAD, 거절 시 문서를 FAILED로 기록하고 재시도 안내)
+    // =========================================================================
+    @Bean(name = OPS_DOC_EXECUTOR)
+    public ThreadPoolTaskExecutor opsDocExecutor(
+            @Value("${async.ops-doc.pool-size:2}") int poolSize,
+            @Value("${async.ops-doc.queue-capacity:20}") int queueCapacity) {
+        return buildExecutor("ops.doc", "ops-doc-", poolSize, queueCapacity, RejectionPolicy.ABORT);
+    }
+
+    // =========================================================================
+    // 운영자료 STATS 단계 조회 (기동 시 백필 등 긴 @Async 작업 뒤에 밀리지 않도록 기본 실행기와 분리,
+    // 포화 시 파이프라인 스레드가 직접 조회)
+    // =========================================================================
+    @Bean(name = OPS_DOC_STATS_EXECUTOR)
+    public ThreadPoolTaskExecutor opsDocStatsExecutor(
+            @Value("${async.ops-doc-stats.pool-size:4}") int poolSize,
+            @Value("${async.ops-doc-stats.queue-capacity:8}") int queueCapacity) {
+        return buildExecutor("ops.doc.stats", "ops-doc-stats-", poolSize, queueCapacity, RejectionPolicy.CALLER_RUNS);
+    }
+
+    // =========================================================================
+    // 오늘의 식단 사전 적재 (학교 단위 병렬 DB 조회, 포화 시 스케줄러 스레드가 직접 실행해 속도 조절)
+    // =========================================================================
+    @Bean(name = TODAY_WARMUP_EXECUTOR)
+    public ThreadPoolTaskExecutor todayWarmupExecutor(
+            @Value("${mealplan.today-warmup.concurrency:4}") int poolSize,
+            @Value("${async.today-warmup.queue-capacity:100}") int queueCapacity) {
+        return buildExecutor("today.warmup", "today-warmup-", poolSize, queueCapacity, RejectionPolicy.CALLER_RUNS);
+    }
+
+    // =========================================================================
+    // 공통 생성
+    // =========================================================================
+    private ThreadPoolTaskExecutor buildExecutor(String name, String threadNamePrefix,
+                                                 int poolSize, int queueCapacity,
+                                                 RejectionPolicy rejectionPolicy) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);      // 기본 스레드 수
-        executor.setMaxPoolSize(10);      // 최대 스레드 수
-        executor.setQueueCapacity(25);    // 대기 큐 크기
-        executor.setThreadNamePrefix("Async-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        }
+        executor.setRejectedExecutionHandler(rejectionHandler(name, rejectionPolicy));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
         executor.initialize();
+
+        // 대기열 깊이 / 실행 중 작업 수 / 포화도
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty())
+                .bindTo(meterRegistry);
+
+        log.info("🧵 실행기 등록: name={}, pool={}, queue={}, rejection={}, virtual={}",
+                name, poolSize, queueCapacity, rejectionPolicy, virtualThreads);
         return executor;
     }
-    */
+
+    /**
+     * 거절 정책 + 거절 횟수 기록/로그
+     */
+    private RejectedExecutionHandler rejectionHandler(String name, RejectionPolicy policy) {
+        RejectedExecutionHandler delegate = switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+
+        Counter rejected = Counter.builder("nutri.executor.rejected")
+                .description("대기열 포화로 거절된 작업 수")
+                .tag("name", name)
+                .tag("policy", policy.name().toLowerCase())
+                .register(meterRegistry);
+
+        return (task, pool) -> {
+            rejected.increment();
+            log.warn("⚠️ 실행기 포화: name={}, policy={}, active={}, queued={}",
+                    name, policy, pool.getActiveCount(), pool.getQueue().size());
+            delegate.rejectedExecution(task, pool);
+        };
+    }
 }
@@ -1,18 +1,37 @@
 package com.nutriassistant.nutriassistant_back.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * REST API 클라이언트 통합 설정 클래스
  *
  * [중요] 이 설정 파일 하나로 RestClient와 RestTemplate을 모두 관리합니다.
  * 별도의 RestTemplateConfig 파일을 만들지 마세요. (중복 에러 원인)
+ *
+ * 모든 클라이언트는 하나의 커넥션 풀(Apache HttpClient 5)을 공유합니다.
+ * - 호출마다 TCP 연결을 새로 맺지 않고 keep-alive 연결을 재사용
+ * - FastAPI 호출은 FastApiGateway가 작업별 타임아웃으로 같은 풀을 사용
+ * - 라우트당 연결 수는 FastAPI 작업별 벌크헤드 합계보다 작아지지 않도록 보정
+ *   (벌크헤드를 통과한 호출이 풀에서 연결을 기다리며 묶이지 않도록)
+ * - 풀이 가득 찼을 때 연결 대기 시간을 제한 (기본값은 무제한 대기)
  */
+@Slf4j
 @Configuration
 public class RestClientConfig {
 
@@ -24,36 +43,93 @@ public class RestClientConfig {
     @Value("${fastapi.base-url:http://localhost:8001}")
     private String fastApiBaseUrl;
 
+    @Value("${http-client.pool.max-total:100}")
+    private int maxTotal;
+
+    @Value("${http-client.pool.max-per-route:20}")
+    private int maxPerRoute;
+
+    // 풀에서 연결을 빌릴 때 최대 대기 시간
+    @Value("${http-client.pool.connection-request-timeout-seconds:5}")
+    private long connectionRequestTimeoutSeconds;
+
+    // FastAPI 작업별 동시 호출 제한 (FastApiResilience 와 같은 설정)
+    @Value("${fastapi.resilience.max-concurrent.generate:2}")
+    private int generateConcurrent;
+
+    @Value("${fastapi.resilience.max-concurrent.single-replace:8}")
+    private int singleReplaceConcurrent;
+
+    @Value("${fastapi.resilience.max-concurrent.analyze:8}")
+    private int analyzeConcurrent;
+
+    @Value("${fastapi.resilience.max-concurrent.report:4}")
+    private int reportConcurrent;
+
+    // 서버(uvicorn 등)가 먼저 끊은 유휴 연결을 재사용하지 않도록 일정 시간 이상 쉰 연결은 검증 후 사용
+    @Value("${http-client.pool.validate-after-inactivity-seconds:5}")
+    private long validateAfterInactivitySeconds;
+
+    @Value("${http-client.pool.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    /**
+     * [0] 공유 커넥션 풀
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pooledHttpClient() {
+        int fastApiConcurrent = generateConcurrent + singleReplaceConcurrent + analyzeConcurrent + reportConcurrent;
+        int perRoute = Math.max(maxPerRoute, fastApiConcurrent);
+        int total = Math.max(maxTotal, perRoute);
+        if (perRoute != maxPerRoute) {
+            log.warn("⚠️ max-per-route({})가 FastAPI 벌크헤드 합계({})보다 작아 {}로 보정", maxPerRoute, fastApiConcurrent, perRoute);
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(total)
+                .setMaxConnPerRoute(perRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(10))   // 연결 시도 10초 제한
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(validateAfterInactivitySeconds))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofSeconds(connectionRequestTimeoutSeconds))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .evictExpiredConnections()
+                .build();
+    }
+
     /**
      * [1] RestClient 설정 (Spring 6.1+ 권장)
-     * 최신 방식의 HTTP 클라이언트입니다.
+     * 최신 방식의 HTTP 클라이언트입니다. (FastAPI 호출은 FastApiGateway 사용)
      */
     @Bean
-    public RestClient restClient() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // AI 분석이 오래 걸릴 수 있으므로 타임아웃을 넉넉하게 3분(180초)으로 설정
-        factory.setConnectTimeout(10000);   // 연결 시도 10초 제한
-        factory.setReadTimeout(180000);     // 응답 대기 180초 제한
-
+    public RestClient restClient(CloseableHttpClient pooledHttpClient) {
         return RestClient.builder()
                 .baseUrl(fastApiBaseUrl)
-                .requestFactory(factory)
+                .requestFactory(requestFactory(pooledHttpClient))
                 .build();
     }
 
     /**
      * [2] RestTemplate 설정 (레거시 호환용)
-     * ReviewAnalysisService 등에서 사용하는 전통적인 HTTP 클라이언트입니다.
+     * ImageGenerationService 등에서 사용하는 전통적인 HTTP 클라이언트입니다.
      * 이 Bean이 등록되어 있어야 'private final RestTemplate restTemplate;' 주입이 가능합니다.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-
-        // FastAPI 분석 요청 시 타임아웃 방지를 위한 설정
-        factory.setConnectTimeout(10000);   // 연결: 10초
-        factory.setReadTimeout(180000);     // 읽기: 3분 (분석이 1분 이상 걸려도 끊기지 않도록 함)
+    public RestTemplate restTemplate(CloseableHttpClient pooledHttpClient) {
+        return new RestTemplate(requestFactory(pooledHttpClient));
+    }
 
-        return new RestTemplate(factory);
+    private HttpComponentsClientHttpRequestFactory requestFactory(CloseableHttpClient httpClient) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // AI 분석이 오래 걸릴 수 있으므로 타임아웃을 넉넉하게 3분(180초)으로 설정
+        factory.setReadTimeout(Duration.ofSeconds(180));
+        return factory;
     }
-}
\ No newline at end of file
+}
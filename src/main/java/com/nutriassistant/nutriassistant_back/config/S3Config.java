@@ -8,6 +8,9 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
 
 @Slf4j
 @Configuration
@@ -22,6 +25,10 @@ public class S3Config {
     @Value("${cloud.aws.region.static:ap-northeast-2}")
     private String region;
 
+    // S3 호환 저장소(MinIO, LocalStack 등) 엔드포인트 - 로컬/통합 테스트용 (비우면 AWS S3)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public S3Client s3Client() {
         if (accessKey == null || accessKey.isEmpty() || secretKey == null || secretKey.isEmpty()) {
@@ -31,10 +38,16 @@ public class S3Config {
 
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        log.info("AWS S3 Client 초기화 완료: region={}", region);
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                .build();
+                .credentialsProvider(StaticCredentialsProvider.create(credentials));
+        if (endpoint != null && !endpoint.isBlank()) {
+            // S3 호환 저장소는 대부분 버킷 서브도메인을 지원하지 않으므로 경로 방식 사용
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+
+        log.info("AWS S3 Client 초기화 완료: region={}, endpoint={}", region,
+                endpoint == null || endpoint.isBlank() ? "AWS" : endpoint);
+        return builder.build();
     }
 }
@@ -0,0 +1,30 @@
+package com.nutriassistant.nutriassistant_back.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ *
+ * 역할:
+ * - @Scheduled 메서드를 활성화합니다.
+ *
+ * 사용 예시:
+ * - 오늘의 식단 사전 적재 (TodayMealPlanWarmer)
+ * - 일일 리뷰 감성 분석 배치 (DailyReviewAnalysisBatch)
+ *
+ * 주의사항:
+ * - 이 설정이 생기기 전에는 @Scheduled 메서드가 실행되지 않았음
+ *   → 새 @Scheduled 메서드를 추가하거나 기존 코드에 남은 것이 있으면 배포 즉시 실행되므로 위 목록에 추가할 것
+ *   (처음 켤 때 함께 깨어난 학교 ID 하드코딩 배치 AnalysisScheduler / SatisfactionBatchScheduler 는
+ *    DailyReviewAnalysisBatch 로 대체하며 삭제함)
+ * - 여러 인스턴스로 배포하면 각 인스턴스에서 모두 실행됨
+ *   (DailyReviewAnalysisBatch는 실행 기록 소유권으로 중복 실행을 막고, 사전 적재는 인스턴스별 캐시라 중복 무방)
+ * - scheduling.enabled=false 로 끌 수 있음 (배치 전용 인스턴스 분리, 테스트 등)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
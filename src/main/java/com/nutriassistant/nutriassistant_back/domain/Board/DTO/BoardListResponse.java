@@ -1,5 +1,6 @@
 package com.nutriassistant.nutriassistant_back.domain.Board.DTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,21 +8,33 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 게시글 목록 응답
+ * - 페이지 모드: current_page / total_pages / total_items
+ * - 커서 모드(cursor 파라미터 사용): has_next / next_cursor (전체 건수는 세지 않음)
+ */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class BoardListResponse {
 
     @JsonProperty("current_page")
-    private int currentPage;
+    private Integer currentPage;
 
     @JsonProperty("page_size")
-    private int pageSize;
+    private Integer pageSize;
 
     @JsonProperty("total_pages")
-    private int totalPages;
+    private Integer totalPages;
 
     @JsonProperty("total_items")
-    private long totalItems;
+    private Long totalItems;
+
+    @JsonProperty("has_next")
+    private Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
 
     private List<BoardItem> items;
 
@@ -200,7 +200,9 @@ public class BoardController {
             @Parameter(description = "카테고리 필터 (NOTICE, NEW_MENU, FREE 등)")
             @RequestParam(required = false) String category,
             @Parameter(description = "검색 키워드 (제목, 작성자명)")
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "커서 모드: 이전 응답의 next_cursor (첫 페이지는 빈 값). 지정하면 page는 무시하고 전체 건수 대신 has_next를 반환")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             if (size > 100) {
@@ -217,10 +219,12 @@ public class BoardController {
                 );
             }
 
-            log.info("📋 게시글 목록 조회: schoolId={}, page={}, size={}, category={}, keyword={}",
-                    user.getSchoolId(), page, size, category, keyword);
+            log.info("📋 게시글 목록 조회: schoolId={}, page={}, size={}, category={}, keyword={}, cursor={}",
+                    user.getSchoolId(), page, size, category, keyword, cursor);
 
-            BoardListResponse response = boardService.getBoardList(user.getSchoolId(), category, keyword, page - 1, size);
+            BoardListResponse response = (cursor != null)
+                    ? boardService.getBoardListByCursor(user.getSchoolId(), category, keyword, cursor, size)
+                    : boardService.getBoardList(user.getSchoolId(), category, keyword, page - 1, size);
 
             return ResponseEntity.ok(
                     ApiResponse.success("게시글 목록 조회 성공", response)
@@ -10,7 +10,13 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "board")
+@Table(
+        name = "board",
+        indexes = {
+                // 학교별 최신순 목록 (커서 페이지: created_at, id 순으로 이어서 조회)
+                @Index(name = "idx_board_school_created", columnList = "school_id,created_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,4 +30,21 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
             @Param("category") CategoryType category,
             @Param("keyword") String keyword,
             Pageable pageable);
+
+    // 위 조건의 커서 페이지 조회 (createdAt DESC, id DESC / 커서 이후 행만, COUNT 없음)
+    @Query("SELECT b FROM Board b WHERE " +
+            "b.deleted = false AND " +
+            "b.schoolId = :schoolId AND " +
+            "(:category IS NULL OR b.category = :category) AND " +
+            "(:keyword IS NULL OR :keyword = '' OR b.title LIKE %:keyword% OR b.authorName LIKE %:keyword%) AND " +
+            "(:cursorCreatedAt IS NULL OR b.createdAt < :cursorCreatedAt " +
+            " OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findByFiltersAfter(
+            @Param("schoolId") Long schoolId,
+            @Param("category") CategoryType category,
+            @Param("keyword") String keyword,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 }
@@ -21,7 +21,10 @@ import com.nutriassistant.nutriassistant_back.domain.Board.entity.CategoryType;
 import com.nutriassistant.nutriassistant_back.domain.Board.repository.BoardRepository;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.service.NewMenuService;
 import com.nutriassistant.nutriassistant_back.global.aws.S3Uploader;
+import com.nutriassistant.nutriassistant_back.global.pagination.CursorPage;
+import com.nutriassistant.nutriassistant_back.global.pagination.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -118,8 +121,7 @@ public class BoardService {
 
         // 5. NEW_MENU 카테고리인 경우 비동기로 분석 요청
         if (category == CategoryType.NEW_MENU) {
-            newMenuService.requestAnalysisAsync(savedBoard);
-            log.info("🔄 신메뉴 분석 비동기 요청 전송: boardId={}", savedBoard.getId());
+            requestNewMenuAnalysis(savedBoard);
         }
 
         // 6. 응답 생성
@@ -232,8 +234,7 @@ public class BoardService {
 
         // 7. NEW_MENU 카테고리인 경우 비동기로 분석 요청
         if (category == CategoryType.NEW_MENU) {
-            newMenuService.requestAnalysisAsync(savedBoard);
-            log.info("🔄 신메뉴 분석 비동기 요청 전송: boardId={}", savedBoard.getId());
+            requestNewMenuAnalysis(savedBoard);
         }
 
         // 8. 응답 생성
@@ -284,14 +285,7 @@ public class BoardService {
 
     @Transactional(readOnly = true)
     public BoardListResponse getBoardList(Long schoolId, String category, String keyword, int page, int size) {
-        CategoryType categoryType = null;
-        if (category != null && !category.isBlank()) {
-            try {
-                categoryType = CategoryType.valueOf(category.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("유효하지 않은 카테고리입니다: " + category);
-            }
-        }
+        CategoryType categoryType = parseCategory(category);
 
         Page<Board> boardPage = boardRepository.findByFilters(
                 schoolId,
@@ -313,6 +307,49 @@ public class BoardService {
                 .build();
     }
 
+    /**
+     * 게시글 목록 조회 (커서 모드)
+     * - 최신순(createdAt DESC, id DESC)으로 cursor 다음 게시글부터 size건 조회
+     * - 전체 건수를 세지 않고 size + 1건 조회로 다음 페이지 여부만 확인
+     *
+     * @param cursor 이전 응답의 next_cursor (null/빈 문자열이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public BoardListResponse getBoardListByCursor(Long schoolId, String category, String keyword, String cursor, int size) {
+        CategoryType categoryType = parseCategory(category);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<Board> rows = boardRepository.findByFiltersAfter(
+                schoolId,
+                categoryType,
+                keyword,
+                after != null ? after.keyAsDateTime() : null,
+                after != null ? after.id() : null,
+                CursorPage.probe(size)
+        );
+
+        CursorPage<BoardListResponse.BoardItem> result = CursorPage.of(
+                rows, size, b -> KeysetCursor.of(b.getCreatedAt(), b.getId()), this::toBoardItem);
+
+        return BoardListResponse.builder()
+                .pageSize(size)
+                .hasNext(result.hasNext())
+                .nextCursor(result.nextCursor())
+                .items(result.items())
+                .build();
+    }
+
+    private CategoryType parseCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        try {
+            return CategoryType.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 카테고리입니다: " + category);
+        }
+    }
+
     private BoardListResponse.BoardItem toBoardItem(Board board) {
         boolean hasAttachment = attachmentRepository.existsByRelatedTypeAndRelatedId(
                 RelatedType.BOARD, board.getId()
@@ -676,6 +713,21 @@ public class BoardService {
                 .build();
     }
 
+    /**
+     * 신메뉴 분석 비동기 요청
+     * 분석 실행기가 포화되면 게시글 저장은 유지하고, 누락된 게시글은 로그로 남겨
+     * POST /new-menu/analyze/{boardId} 로 다시 요청할 수 있게 함
+     */
+    private void requestNewMenuAnalysis(Board board) {
+        try {
+            newMenuService.requestAnalysisAsync(board);
+            log.info("🔄 신메뉴 분석 비동기 요청 전송: boardId={}", board.getId());
+        } catch (TaskRejectedException e) {
+            log.error("❌ 신메뉴 분석 대기열 포화 - 분석 누락 (재요청 필요: POST /new-menu/analyze/{}): boardId={}",
+                    board.getId(), board.getId());
+        }
+    }
+
     private String resolveAuthorName(Long authorId, AuthorType authorType) {
         if (authorType == AuthorType.DIETITIAN) {
             Dietitian dietitian = dietitianRepository.findById(authorId)
@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.Map;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MealPlanDetailResponse {
@@ -37,6 +37,10 @@ public class MealPlanDetailResponse {
     @JsonProperty("image_url")
     private String imageUrl;
 
+    // 이미지 생성 상태 (READY / PENDING / FAILED / NONE)
+    @JsonProperty("image_status")
+    private String imageStatus;
+
     // ▼▼▼ [추가] 리뷰 작성 여부 (중복 방지 UI용) ▼▼▼
     @JsonProperty("is_reviewed")
     private boolean isReviewed;
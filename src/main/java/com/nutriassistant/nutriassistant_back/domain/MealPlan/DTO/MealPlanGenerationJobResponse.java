@@ -0,0 +1,71 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanGenerationJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MealPlanGenerationJobResponse {
+
+    @JsonProperty("job_id")
+    private Long jobId;
+
+    private String status;
+
+    @JsonProperty("school_id")
+    private Long schoolId;
+
+    private Integer year;
+
+    private Integer month;
+
+    @JsonProperty("meal_plan_id")
+    private Long mealPlanId;
+
+    @JsonProperty("error_message")
+    private String errorMessage;
+
+    @JsonProperty("created_at")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonProperty("started_at")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonProperty("finished_at")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    // DONE 상태일 때만 포함 (기존 POST /mealplan 응답과 동일한 형식)
+    private List<MealPlanGenerateResponse> meals;
+
+    public static MealPlanGenerationJobResponse from(MealPlanGenerationJob job,
+                                                     List<MealPlanGenerateResponse> meals) {
+        return MealPlanGenerationJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .schoolId(job.getSchoolId())
+                .year(job.getYear())
+                .month(job.getMonth())
+                .mealPlanId(job.getMealPlanId())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .meals(meals)
+                .build();
+    }
+}
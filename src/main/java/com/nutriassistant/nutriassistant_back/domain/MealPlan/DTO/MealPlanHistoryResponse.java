@@ -1,6 +1,7 @@
 package com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,8 +9,14 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 식단표 수정 히스토리 응답
+ * - 페이지 모드: current_page / total_items / total_pages
+ * - 커서 모드(cursor 파라미터 사용): has_next / next_cursor (전체 건수는 세지 않음)
+ */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class MealPlanHistoryResponse {
 
     @JsonProperty("current_page")
@@ -24,6 +31,12 @@ public class MealPlanHistoryResponse {
     @JsonProperty("total_pages")
     private Integer totalPages;
 
+    @JsonProperty("has_next")
+    private Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
     private List<HistoryItem> items;
 
     @Getter
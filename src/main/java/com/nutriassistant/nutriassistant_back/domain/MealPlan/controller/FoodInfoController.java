@@ -2,16 +2,20 @@ package com.nutriassistant.nutriassistant_back.domain.MealPlan.controller;
 
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.FoodInfo;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.FoodInfoRepository;
+import com.nutriassistant.nutriassistant_back.global.pagination.CursorPage;
+import com.nutriassistant.nutriassistant_back.global.pagination.KeysetCursor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/internal/food")
@@ -26,17 +30,33 @@ public class FoodInfoController {
         this.repo = repo;
     }
 
+    /**
+     * 음식 목록 (id 오름차순)
+     * - 기본: page/size 페이지 응답 (Page, 전체 건수 포함)
+     * - cursor 지정 시 커서 모드: 이전 응답의 next_cursor 다음 id부터 조회 (첫 페이지는 빈 값)
+     *   → 전체 건수 대신 has_next / next_cursor 반환 (전체 카탈로그 동기화에 사용)
+     */
     @GetMapping
-    public Page<FoodInfo> list(
+    public ResponseEntity<?> list(
             @RequestHeader(value="X-INTERNAL-TOKEN", required=false) String token,
             @RequestParam(required=false) Instant since,
             @RequestParam(defaultValue="0") int page,
-            @RequestParam(defaultValue="2000") int size
+            @RequestParam(defaultValue="2000") int size,
+            @RequestParam(required=false) String cursor
     ) {
         if (internalToken != null && !internalToken.isBlank() && !internalToken.equals(token)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "unauthorized");
         }
+        if (cursor != null) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            long afterId = after != null ? after.id() : 0L;
+            Pageable probe = CursorPage.probe(size);
+            List<FoodInfo> rows = (since == null)
+                    ? repo.findByIdGreaterThanOrderByIdAsc(afterId, probe)
+                    : repo.findByUpdatedAtAfterAndIdGreaterThanOrderByIdAsc(since, afterId, probe);
+            return ResponseEntity.ok(CursorPage.of(rows, size, f -> KeysetCursor.ofId(f.getId()), Function.identity()));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").ascending());
-        return (since == null) ? repo.findAll(pageable) : repo.findByUpdatedAtAfter(since, pageable);
+        return ResponseEntity.ok((since == null) ? repo.findAll(pageable) : repo.findByUpdatedAtAfter(since, pageable));
     }
 }
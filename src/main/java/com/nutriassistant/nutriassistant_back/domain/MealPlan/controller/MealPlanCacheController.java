@@ -0,0 +1,31 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.controller;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.MealPlanResponseCache;
+import com.nutriassistant.nutriassistant_back.global.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 식단 응답 캐시 통계 조회 (내부 운영용, X-Internal-API-Key 필요)
+ */
+@RestController
+@RequestMapping("/internal/mealplan/cache")
+public class MealPlanCacheController {
+
+    private final MealPlanResponseCache mealPlanResponseCache;
+
+    public MealPlanCacheController(MealPlanResponseCache mealPlanResponseCache) {
+        this.mealPlanResponseCache = mealPlanResponseCache;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success("식단 응답 캐시 통계 조회 성공", mealPlanResponseCache.statsSummary())
+        );
+    }
+}
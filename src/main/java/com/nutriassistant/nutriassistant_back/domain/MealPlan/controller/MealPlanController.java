@@ -1,26 +1,27 @@
 package com.nutriassistant.nutriassistant_back.domain.MealPlan.controller;
 
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.*;
-import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlan;
-import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenu;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanGenerationJob;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.AllergenService;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.MealPlanGenerationJobService;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.MealPlanResponseCache;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.MealPlanService;
 import com.nutriassistant.nutriassistant_back.global.ApiResponse;
 import com.nutriassistant.nutriassistant_back.global.auth.CurrentUser;
 import com.nutriassistant.nutriassistant_back.global.auth.UserContext;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiUnavailableException;
 import com.nutriassistant.nutriassistant_back.global.exception.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -36,10 +37,14 @@ public class MealPlanController {
 
     private final MealPlanService mealPlanService;
     private final AllergenService allergenService;
+    private final MealPlanGenerationJobService mealPlanGenerationJobService;
 
-    public MealPlanController(MealPlanService mealPlanService, AllergenService allergenService) {
+    public MealPlanController(MealPlanService mealPlanService,
+                              AllergenService allergenService,
+                              MealPlanGenerationJobService mealPlanGenerationJobService) {
         this.mealPlanService = mealPlanService;
         this.allergenService = allergenService;
+        this.mealPlanGenerationJobService = mealPlanGenerationJobService;
     }
 
     // =========================================================================
@@ -82,10 +87,12 @@ public class MealPlanController {
     }
 
     /**
-     * 월간 식단표 생성
+     * 월간 식단표 생성 작업 등록
+     * FastAPI 생성과 저장은 백그라운드 작업으로 진행되며, 즉시 job_id를 반환합니다. (202 Accepted)
+     * 진행 상태와 결과는 GET /mealplan/jobs/{jobId} 로 조회합니다.
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<List<MealPlanGenerateResponse>>> generateMealPlan(
+    public ResponseEntity<ApiResponse<MealPlanGenerationJobResponse>> generateMealPlan(
             @CurrentUser UserContext user,
             @Validated @RequestBody MealPlanGenerateRequest request
     ) {
@@ -95,11 +102,11 @@ public class MealPlanController {
             log.info("🎯 식단 생성 API 호출: 학교 ID={}, 연도={}, 월={}",
                     schoolId, request.getYear(), request.getMonth());
 
-            MealPlan mealPlan = mealPlanService.generateAndSave(schoolId, request);
-            List<MealPlanGenerateResponse> responseData = mealPlanService.toResponseList(mealPlan);
+            MealPlanGenerationJob job = mealPlanGenerationJobService.submit(schoolId, request);
 
-            return ResponseEntity.ok(
-                    ApiResponse.success("월간 식단표 생성 성공.", responseData)
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                    ApiResponse.success("월간 식단표 생성 작업이 등록되었습니다.",
+                            mealPlanGenerationJobService.toResponse(job))
             );
 
         } catch (IllegalArgumentException e) {
@@ -108,22 +115,43 @@ public class MealPlanController {
                     ApiResponse.error("요청값이 올바르지 않습니다.")
             );
 
-        } catch (HttpClientErrorException e) {
-            log.error("❌ FastAPI 클라이언트 오류 (4xx): ", e);
-            return ResponseEntity.status(e.getStatusCode()).body(
-                    ApiResponse.error("외부 서비스 요청이 실패했습니다: " + e.getMessage())
+        } catch (IllegalStateException e) {
+            log.warn("⚠️ 식단 생성 작업 등록 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    ApiResponse.error(e.getMessage())
             );
 
-        } catch (HttpServerErrorException e) {
-            log.error("❌ FastAPI 서버 오류 (5xx): ", e);
-            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(
-                    ApiResponse.error("외부 서비스에서 오류가 발생했습니다.")
+        } catch (Exception e) {
+            log.error("❌ 예상치 못한 오류 발생: ", e);
+            String errorId = "err-" + UUID.randomUUID().toString().substring(0, 6);
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    ApiResponse.error(
+                            "서버 내부 오류가 발생했습니다.",
+                            new ApiResponse.ErrorDetails(errorId)
+                    )
             );
+        }
+    }
 
-        } catch (ResourceAccessException e) {
-            log.error("❌ FastAPI 연결 실패: ", e);
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
-                    ApiResponse.error("외부 서비스에 연결할 수 없습니다.")
+    /**
+     * 월간 식단표 생성 작업 상태 조회
+     * status: QUEUED / RUNNING / SAVING / DONE / FAILED (DONE이면 meals 포함)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<MealPlanGenerationJobResponse>> getGenerationJob(
+            @CurrentUser UserContext user,
+            @PathVariable Long jobId
+    ) {
+        try {
+            MealPlanGenerationJobResponse response =
+                    mealPlanGenerationJobService.getJob(user.getSchoolId(), jobId);
+            return ResponseEntity.ok(ApiResponse.success("식단 생성 작업 조회 성공", response));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ 식단 생성 작업 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponse.error(e.getMessage())
             );
 
         } catch (Exception e) {
@@ -139,7 +167,6 @@ public class MealPlanController {
         }
     }
 
-
     /**
      * 월간 식단표 조회
      */
@@ -147,7 +174,8 @@ public class MealPlanController {
     public ResponseEntity<ApiResponse<MealPlanMonthlyResponse>> getMealPlanMonthly(
             @CurrentUser UserContext user,
             @RequestParam Integer year,
-            @RequestParam Integer month
+            @RequestParam Integer month,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             Long schoolId = user.getSchoolId();
@@ -171,13 +199,14 @@ public class MealPlanController {
                 );
             }
 
-            return mealPlanService.findBySchoolIdAndYearAndMonth(schoolId, year, month)
-                    .map(mealPlan -> {
-                        MealPlanMonthlyResponse response = mealPlanService.toMonthlyResponse(mealPlan);
-                        return ResponseEntity.ok(
-                                ApiResponse.success("월간 식단표 조회 성공", response)
-                        );
-                    })
+            // 캐시 항목(본문 + 같은 시점의 ETag)으로 비교, 변경 없으면 304 / 식단표가 없으면 404
+            return mealPlanService.getMonthlyResponse(schoolId, year, month)
+                    .map(versioned -> isNotModified(ifNoneMatch, versioned.etag())
+                            ? MealPlanController.<MealPlanMonthlyResponse>notModified(versioned.etag())
+                            : ResponseEntity.ok()
+                                    .eTag(versioned.etag())
+                                    .cacheControl(MEAL_PLAN_CACHE_CONTROL)
+                                    .body(ApiResponse.success("월간 식단표 조회 성공", versioned.body())))
                     .orElseGet(() -> {
                         log.warn("⚠️ 월간 식단표를 찾을 수 없음: year={}, month={}", year, month);
                         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
@@ -208,7 +237,8 @@ public class MealPlanController {
     public ResponseEntity<ApiResponse<MealPlanDetailResponse>> getMealPlanDetail(
             @CurrentUser UserContext user,
             @PathVariable String menuDate,
-            @PathVariable String mealType
+            @PathVariable String mealType,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             Long schoolId = user.getSchoolId();
@@ -243,13 +273,14 @@ public class MealPlanController {
                 );
             }
 
-            return mealPlanService.findByDateAndMealType(schoolId, date, type)
-                    .map(menu -> {
-                        MealPlanDetailResponse response = mealPlanService.toDetailResponse(menu);
-                        return ResponseEntity.ok(
-                                ApiResponse.success("일간 식단표 상세 조회 성공", response)
-                        );
-                    })
+            // ETag를 먼저 비교해 변경 없으면 본문을 만들지 않고 304 / 식단이 없으면 404
+            return mealPlanService.getDetailResponse(schoolId, date, type, etag -> isNotModified(ifNoneMatch, etag))
+                    .map(versioned -> versioned.body() == null
+                            ? MealPlanController.<MealPlanDetailResponse>notModified(versioned.etag())
+                            : ResponseEntity.ok()
+                                    .eTag(versioned.etag())
+                                    .cacheControl(MEAL_PLAN_CACHE_CONTROL)
+                                    .body(ApiResponse.success("일간 식단표 상세 조회 성공", versioned.body())))
                     .orElseGet(() -> {
                         log.warn("⚠️ 일간 식단표를 찾을 수 없음: menuDate={}, mealType={}", menuDate, mealType);
                         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
@@ -280,7 +311,8 @@ public class MealPlanController {
     public ResponseEntity<ApiResponse<MealPlanWeeklyResponse>> getMealPlanWeekly(
             @CurrentUser UserContext user,
             @RequestParam(required = false) String date,
-            @RequestParam(required = false, defaultValue = "0") Integer offset
+            @RequestParam(required = false, defaultValue = "0") Integer offset,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
             Long schoolId = user.getSchoolId();
@@ -317,7 +349,9 @@ public class MealPlanController {
             log.info("🔍 주간 식단표 조회: schoolId={}, weekStart={}, weekEnd={}, offset={}",
                     schoolId, startDate, endDate, currentOffset);
 
-            List<MealPlanMenu> menus = mealPlanService.findWeeklyMenus(schoolId, startDate, endDate);
+            MealPlanResponseCache.Versioned<List<MealPlanWeeklyResponse.WeeklyMenu>> versioned =
+                    mealPlanService.getWeeklyMenus(schoolId, startDate, endDate);
+            List<MealPlanWeeklyResponse.WeeklyMenu> menus = versioned.body();
 
             if (menus.isEmpty()) {
                 log.warn("⚠️ 주간 식단표 데이터 없음: weekStart={}", startDate);
@@ -329,10 +363,19 @@ public class MealPlanController {
                 );
             }
 
-            MealPlanWeeklyResponse response = mealPlanService.toWeeklyResponse(
+            // 캐시 항목의 ETag + current_offset 으로 비교, 변경 없으면 응답 생성 없이 304
+            String etag = mealPlanService.weeklyETag(versioned.etag(), currentOffset);
+            if (isNotModified(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+
+            MealPlanWeeklyResponse response = mealPlanService.buildWeeklyResponse(
                     schoolId, startDate, endDate, currentOffset, menus
             );
-            return ResponseEntity.ok(ApiResponse.success("주간 식단표 조회 성공", response));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(MEAL_PLAN_CACHE_CONTROL)
+                    .body(ApiResponse.success("주간 식단표 조회 성공", response));
 
         } catch (Exception e) {
             log.error("❌ 예상치 못한 오류 발생: ", e);
@@ -398,6 +441,12 @@ public class MealPlanController {
                     ApiResponse.error(e.getMessage())
             );
 
+        } catch (FastApiUnavailableException e) {
+            log.warn("⚠️ AI 대체 요청 차단: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    ApiResponse.error(e.getMessage())
+            );
+
         } catch (Exception e) {
             log.error("❌ AI 대체 처리 중 오류 발생: ", e);
             String errorId = "err-" + UUID.randomUUID().toString().substring(0, 6);
@@ -454,6 +503,9 @@ public class MealPlanController {
 
     /**
      * 식단표 수정 히스토리 조회
+     *
+     * @param cursor 커서 모드: 이전 응답의 next_cursor (첫 페이지는 빈 값).
+     *               지정하면 page는 무시하고 전체 건수 대신 has_next / next_cursor를 반환
      */
     @GetMapping("/histories")
     public ResponseEntity<ApiResponse<MealPlanHistoryResponse>> getHistories(
@@ -462,14 +514,17 @@ public class MealPlanController {
             @RequestParam(required = false) String endDate,
             @RequestParam(required = false) String actionType,
             @RequestParam(required = false, defaultValue = "0") Integer page,
-            @RequestParam(required = false, defaultValue = "20") Integer size
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         try {
             Long schoolId = user.getSchoolId();
-            log.info("📜 히스토리 조회 API 호출: schoolId={}, startDate={}, endDate={}, actionType={}, page={}, size={}",
-                    schoolId, startDate, endDate, actionType, page, size);
+            log.info("📜 히스토리 조회 API 호출: schoolId={}, startDate={}, endDate={}, actionType={}, page={}, size={}, cursor={}",
+                    schoolId, startDate, endDate, actionType, page, size, cursor);
 
-            MealPlanHistoryResponse response = mealPlanService.getHistories(schoolId, startDate, endDate, actionType, page, size);
+            MealPlanHistoryResponse response = (cursor != null)
+                    ? mealPlanService.getHistoriesByCursor(schoolId, startDate, endDate, actionType, cursor, size)
+                    : mealPlanService.getHistories(schoolId, startDate, endDate, actionType, page, size);
 
             if (response.getItems().isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
@@ -479,6 +534,10 @@ public class MealPlanController {
 
             return ResponseEntity.ok(ApiResponse.success("식단표 수정 히스토리 조회 성공", response));
 
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+
         } catch (Exception e) {
             log.error("❌ 히스토리 조회 중 오류 발생: ", e);
             String errorId = "err-" + UUID.randomUUID().toString().substring(0, 6);
@@ -559,6 +618,40 @@ public class MealPlanController {
         }
     }
 
+    // =========================================================================
+    // 조건부 조회 (ETag / If-None-Match)
+    // =========================================================================
+
+    // 학교별 데이터이므로 공유 캐시 금지, 클라이언트는 매번 If-None-Match 로 재검증
+    private static final CacheControl MEAL_PLAN_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    /**
+     * If-None-Match 비교 (쉼표 구분 목록, W/ 약한 비교, * 지원)
+     * 리소스가 있을 때만 호출 (없으면 * 이어도 304가 아니라 404)
+     */
+    private static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(MEAL_PLAN_CACHE_CONTROL)
+                .build();
+    }
+
     /**
      * Validation 예외 처리
      */
@@ -0,0 +1,143 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월간 식단 생성 작업
+ *
+ * POST /mealplan 요청은 이 작업을 QUEUED 상태로 등록하고 바로 job_id를 반환합니다.
+ * 실제 FastAPI 호출과 DB 저장은 작업 워커 풀에서 진행되며,
+ * GET /mealplan/jobs/{id} 로 진행 상태를 조회합니다.
+ *
+ * 상태 흐름: QUEUED → RUNNING(FastAPI 생성) → SAVING(DB 저장) → DONE
+ *            (어느 단계에서든 실패 시 FAILED)
+ *
+ * 다중 인스턴스:
+ * - owner: 작업을 등록하고 실행하는 인스턴스, heartbeat_at: 마지막 단계 전환 시각
+ *   → heartbeat가 만료된 작업만 다른 인스턴스가 FAILED로 정리 (MealPlanGenerationJobRepository.failStale*)
+ * - active_key: 진행 중일 때만 "학교:연-월" 값을 갖고 끝나면 NULL
+ *   → 유일 키로 같은 학교/연월 진행 중 작업을 1건으로 제한 (NULL은 중복 허용)
+ */
+@Entity
+@Table(
+        name = "meal_plan_generation_job",
+        indexes = {
+                @Index(name = "idx_mp_gen_job_school_ym_status", columnList = "school_id,year,month,status"),
+                @Index(name = "idx_mp_gen_job_status", columnList = "status")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_mp_gen_job_active_key", columnNames = "active_key")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MealPlanGenerationJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SAVING,
+        DONE,
+        FAILED;
+
+        public boolean isActive() {
+            return this == QUEUED || this == RUNNING || this == SAVING;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "school_id", nullable = false)
+    private Long schoolId;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // 완료 시 저장된 식단표 ID
+    @Column(name = "meal_plan_id")
+    private Long mealPlanId;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    // 진행 중인 작업의 학교/연월 키 (끝나면 NULL)
+    @Column(name = "active_key", length = 64)
+    private String activeKey;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public MealPlanGenerationJob(Long schoolId, Integer year, Integer month, String owner) {
+        this.schoolId = schoolId;
+        this.year = year;
+        this.month = month;
+        this.status = Status.QUEUED;
+        this.activeKey = activeKey(schoolId, year, month);
+        this.owner = owner;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    public static String activeKey(Long schoolId, Integer year, Integer month) {
+        return schoolId + ":" + year + "-" + month;
+    }
+
+    public void markRunning() {
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.heartbeatAt = this.startedAt;
+    }
+
+    public void markSaving() {
+        this.status = Status.SAVING;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    public void markDone(Long mealPlanId) {
+        this.status = Status.DONE;
+        this.mealPlanId = mealPlanId;
+        this.finishedAt = LocalDateTime.now();
+        this.activeKey = null;
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = Status.FAILED;
+        this.activeKey = null;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -8,6 +8,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -95,9 +99,52 @@ public class MealPlanMenu {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 저장 시점에 파싱/매칭된 메뉴 칸 (meal_plan_menu_item)
+    @Builder.Default
+    @OneToMany(
+            mappedBy = "menu",
+            cascade = CascadeType.ALL,
+            orphanRemoval = true
+    )
+    @OrderBy("slot ASC")
+    private List<MealPlanMenuItem> items = new ArrayList<>();
+
     // 기존 서비스 코드와의 호환성을 위한 생성자
     public MealPlanMenu(LocalDate menuDate, MealType mealType) {
         this.menuDate = menuDate;
         this.mealType = mealType;
     }
-}
\ No newline at end of file
+
+    /**
+     * 메뉴 칸에 해당하는 표시 문자열 반환
+     */
+    public String getDisplay(MenuSlot slot) {
+        return switch (slot) {
+            case RICE -> riceDisplay;
+            case SOUP -> soupDisplay;
+            case MAIN1 -> main1Display;
+            case MAIN2 -> main2Display;
+            case SIDE -> sideDisplay;
+            case KIMCHI -> kimchiDisplay;
+            case DESSERT -> dessertDisplay;
+        };
+    }
+
+    public Map<MenuSlot, MealPlanMenuItem> getItemsBySlot() {
+        Map<MenuSlot, MealPlanMenuItem> bySlot = new EnumMap<>(MenuSlot.class);
+        for (MealPlanMenuItem item : items) {
+            bySlot.put(item.getSlot(), item);
+        }
+        return bySlot;
+    }
+
+    public void addItem(MealPlanMenuItem item) {
+        items.add(item);
+        item.setMenu(this);
+    }
+
+    public void removeItem(MealPlanMenuItem item) {
+        items.remove(item);
+        item.setMenu(null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.entity;
+
+import com.nutriassistant.nutriassistant_back.domain.Auth.entity.Allergen;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 식단 메뉴 칸 (meal_plan_menu 1행 = 최대 7행)
+ *
+ * MealPlanMenu의 표시 문자열("된장국(5,6)")을 저장 시점에 한 번만 파싱/매칭하여 보관합니다.
+ * 조회 시에는 정규식 파싱이나 음식 DB 매칭 없이 이 테이블만 읽습니다.
+ */
+@Entity
+@Table(
+        name = "meal_plan_menu_item",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_meal_plan_menu_item_menu_slot",
+                        columnNames = {"meal_plan_menu_id", "slot"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_meal_plan_menu_item_food_code", columnList = "food_code"),
+                @Index(name = "idx_meal_plan_menu_item_new_food_code", columnList = "new_food_code")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class MealPlanMenuItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "meal_plan_menu_id", nullable = false)
+    private MealPlanMenu menu;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "slot", nullable = false, length = 16)
+    private MenuSlot slot;
+
+    // 알레르기 표기를 제거한 순수 메뉴명
+    @Column(name = "food_name", nullable = false, length = 255)
+    private String foodName;
+
+    // 원본 표시 문자열 (예: "된장국(5,6)")
+    @Column(name = "display", nullable = false, length = 255)
+    private String display;
+
+    // 매칭된 food_info.id / food_code (없으면 null)
+    @Column(name = "food_id")
+    private Long foodId;
+
+    @Column(name = "food_code", length = 64)
+    private String foodCode;
+
+    // food_info에 없을 때 매칭된 new_food_info.food_code (없으면 null)
+    @Column(name = "new_food_code", length = 64)
+    private String newFoodCode;
+
+    // 알레르기 코드 CSV (예: "5,6")
+    @Column(name = "allergen_codes", length = 64)
+    private String allergenCodes;
+
+    public MealPlanMenuItem(MenuSlot slot) {
+        this.slot = slot;
+    }
+
+    public List<Integer> getAllergenList() {
+        return Allergen.parseCodes(allergenCodes);
+    }
+}
@@ -10,7 +10,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "menu_history_log") // 테이블 이름 지정
+@Table(
+        name = "menu_history_log", // 테이블 이름 지정
+        indexes = {
+                // 학교별 최신순 목록 (커서 페이지: id 역순으로 이어서 조회)
+                @Index(name = "idx_menu_history_school_id", columnList = "school_id,id")
+        }
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,24 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.entity;
+
+import lombok.Getter;
+
+/**
+ * 한 끼 식단의 메뉴 칸 (MealPlanMenu의 *_display 컬럼과 1:1 대응)
+ */
+@Getter
+public enum MenuSlot {
+    RICE("밥"),
+    SOUP("국"),
+    MAIN1("주찬1"),
+    MAIN2("주찬2"),
+    SIDE("부찬"),
+    KIMCHI("김치"),
+    DESSERT("후식");
+
+    private final String description;
+
+    MenuSlot(String description) {
+        this.description = description;
+    }
+
+}
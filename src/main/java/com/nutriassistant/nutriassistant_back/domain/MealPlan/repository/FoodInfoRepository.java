@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface FoodInfoRepository extends JpaRepository<FoodInfo, Long> {
@@ -16,6 +17,10 @@ public interface FoodInfoRepository extends JpaRepository<FoodInfo, Long> {
     Page<FoodInfo> findByUpdatedAtAfter(Instant since, Pageable pageable);
     Page<FoodInfo> findAll(Pageable pageable);
 
+    // 커서 페이지 조회 (id ASC / 커서 id 이후 행만, COUNT 없음)
+    List<FoodInfo> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<FoodInfo> findByUpdatedAtAfterAndIdGreaterThanOrderByIdAsc(Instant since, Long id, Pageable pageable);
+
     // =========================================================================
     // [추가됨] 수동 수정 시 메뉴 매칭을 위한 핵심 메서드
     // =========================================================================
@@ -0,0 +1,59 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.repository;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanGenerationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface MealPlanGenerationJobRepository extends JpaRepository<MealPlanGenerationJob, Long> {
+
+    /**
+     * 학교 소유 작업 단건 조회 (다른 학교 작업 조회 방지)
+     */
+    Optional<MealPlanGenerationJob> findByIdAndSchoolId(Long id, Long schoolId);
+
+    /**
+     * 같은 학교/연월에 진행 중인 작업 조회 (중복 생성 방지)
+     */
+    Optional<MealPlanGenerationJob> findByActiveKey(String activeKey);
+
+    /**
+     * 같은 학교/연월의 heartbeat가 만료된 진행 중 작업 정리 (새 작업 등록 전)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MealPlanGenerationJob j SET j.status = :failed, j.activeKey = NULL, " +
+            "j.errorMessage = :message, j.finishedAt = :now " +
+            "WHERE j.activeKey = :activeKey AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int failStaleByActiveKey(@Param("activeKey") String activeKey,
+                             @Param("staleBefore") LocalDateTime staleBefore,
+                             @Param("now") LocalDateTime now,
+                             @Param("failed") MealPlanGenerationJob.Status failed,
+                             @Param("message") String message);
+
+    /**
+     * 중단된 진행 중 작업 정리 (재기동 시)
+     * - 같은 호스트의 이전 프로세스가 남긴 작업 (ownerPrefix로 시작하고 현재 owner가 아닌 것)
+     * - 어느 인스턴스 것이든 heartbeat가 만료된 작업
+     * 다른 인스턴스가 실행 중인 작업은 건드리지 않음
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MealPlanGenerationJob j SET j.status = :failed, j.activeKey = NULL, " +
+            "j.errorMessage = :message, j.finishedAt = :now " +
+            "WHERE j.status IN :active AND ((j.owner LIKE :ownerPrefix ESCAPE '!' AND j.owner <> :owner) " +
+            "OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int failStale(@Param("active") Collection<MealPlanGenerationJob.Status> active,
+                  @Param("owner") String owner,
+                  @Param("ownerPrefix") String ownerPrefix,
+                  @Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("now") LocalDateTime now,
+                  @Param("failed") MealPlanGenerationJob.Status failed,
+                  @Param("message") String message);
+}
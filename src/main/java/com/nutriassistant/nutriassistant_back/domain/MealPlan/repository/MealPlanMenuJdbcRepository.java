@@ -0,0 +1,147 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.repository;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenu;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenuItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월간 식단 일괄 저장용 JDBC 저장소
+ *
+ * meal_plan_menu / meal_plan_menu_item 은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못합니다.
+ * 한 달치(약 40~60끼, 메뉴 칸 최대 7배) 저장 시 JdbcTemplate.batchUpdate로 테이블당 한 번에 전송하며,
+ * 드라이버 옵션 rewriteBatchedStatements=true 와 함께 사용하면 다건 INSERT 한 문장으로 재작성됩니다.
+ *
+ * 주의:
+ * - 영속성 컨텍스트를 거치지 않으므로 호출 측에서 flush/clear 를 처리해야 합니다.
+ * - created_at / updated_at 은 @CreationTimestamp 대신 직접 채웁니다.
+ */
+@Repository
+public class MealPlanMenuJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String DELETE_ITEMS_SQL =
+            "DELETE i FROM meal_plan_menu_item i " +
+            "JOIN meal_plan_menu m ON i.meal_plan_menu_id = m.id " +
+            "WHERE m.meal_plan_id = ?";
+
+    private static final String DELETE_MENUS_SQL =
+            "DELETE FROM meal_plan_menu WHERE meal_plan_id = ?";
+
+    private static final String INSERT_MENU_SQL =
+            "INSERT INTO meal_plan_menu (meal_plan_id, menu_date, meal_type, " +
+            "rice_display, soup_display, main1_display, main2_display, side_display, kimchi_display, dessert_display, " +
+            "kcal, carb, prot, fat, cost, ai_comment, raw_menus_json, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_MENU_IDS_SQL =
+            "SELECT id, menu_date, meal_type FROM meal_plan_menu " +
+            "WHERE meal_plan_id = ? AND menu_date BETWEEN ? AND ?";
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO meal_plan_menu_item (meal_plan_menu_id, slot, food_name, display, " +
+            "food_id, food_code, new_food_code, allergen_codes) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MealPlanMenuJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 식단표의 메뉴 칸 → 메뉴 순서로 삭제 (각 1문장)
+     */
+    public void deleteByMealPlanId(Long mealPlanId) {
+        jdbcTemplate.update(DELETE_ITEMS_SQL, mealPlanId);
+        jdbcTemplate.update(DELETE_MENUS_SQL, mealPlanId);
+    }
+
+    /**
+     * 메뉴와 메뉴 칸을 배치 INSERT 합니다.
+     * 메뉴 INSERT 후 (menu_date, meal_type) 유니크 키로 생성된 ID를 한 번에 조회해 메뉴 칸에 연결합니다.
+     * 스트리밍 저장에서는 배치마다 여러 번 호출됩니다.
+     *
+     * @return 저장된 메뉴 수
+     */
+    public int insertAll(Long mealPlanId, List<MealPlanMenu> menus) {
+        if (menus.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. 메뉴 배치 INSERT
+        jdbcTemplate.batchUpdate(INSERT_MENU_SQL, menus, BATCH_SIZE, (ps, menu) -> {
+            ps.setLong(1, mealPlanId);
+            ps.setObject(2, menu.getMenuDate());
+            ps.setString(3, menu.getMealType().name());
+            ps.setString(4, menu.getRiceDisplay());
+            ps.setString(5, menu.getSoupDisplay());
+            ps.setString(6, menu.getMain1Display());
+            ps.setString(7, menu.getMain2Display());
+            ps.setString(8, menu.getSideDisplay());
+            ps.setString(9, menu.getKimchiDisplay());
+            ps.setString(10, menu.getDessertDisplay());
+            ps.setBigDecimal(11, menu.getKcal());
+            ps.setBigDecimal(12, menu.getCarb());
+            ps.setBigDecimal(13, menu.getProt());
+            ps.setBigDecimal(14, menu.getFat());
+            ps.setObject(15, menu.getCost());
+            ps.setString(16, menu.getAiComment());
+            ps.setString(17, menu.getRawMenusJson());
+            ps.setTimestamp(18, now);
+            ps.setTimestamp(19, now);
+        });
+
+        // 2. 생성된 메뉴 ID 조회 (1회, 이번 배치의 날짜 범위만)
+        LocalDate from = menus.get(0).getMenuDate();
+        LocalDate to = from;
+        for (MealPlanMenu menu : menus) {
+            if (menu.getMenuDate().isBefore(from)) from = menu.getMenuDate();
+            if (menu.getMenuDate().isAfter(to)) to = menu.getMenuDate();
+        }
+
+        Map<String, Long> idByKey = new HashMap<>();
+        jdbcTemplate.query(SELECT_MENU_IDS_SQL, rs -> {
+            idByKey.put(key(rs.getObject("menu_date", LocalDate.class), rs.getString("meal_type")),
+                    rs.getLong("id"));
+        }, mealPlanId, from, to);
+
+        // 3. 메뉴 칸 배치 INSERT
+        List<MealPlanMenuItem> items = new ArrayList<>();
+        for (MealPlanMenu menu : menus) {
+            Long menuId = idByKey.get(key(menu.getMenuDate(), menu.getMealType().name()));
+            if (menuId == null) {
+                throw new IllegalStateException("저장된 메뉴 ID를 찾을 수 없습니다: "
+                        + menu.getMenuDate() + " " + menu.getMealType());
+            }
+            menu.setId(menuId);
+            items.addAll(menu.getItems());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, BATCH_SIZE, (ps, item) -> {
+            ps.setLong(1, item.getMenu().getId());
+            ps.setString(2, item.getSlot().name());
+            ps.setString(3, item.getFoodName());
+            ps.setString(4, item.getDisplay());
+            ps.setObject(5, item.getFoodId());
+            ps.setString(6, item.getFoodCode());
+            ps.setString(7, item.getNewFoodCode());
+            ps.setString(8, item.getAllergenCodes());
+        });
+
+        return menus.size();
+    }
+
+    private static String key(LocalDate date, String mealType) {
+        return date + "|" + mealType;
+    }
+}
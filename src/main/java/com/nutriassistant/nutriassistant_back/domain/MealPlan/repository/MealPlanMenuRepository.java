@@ -2,12 +2,23 @@ package com.nutriassistant.nutriassistant_back.domain.MealPlan.repository;
 
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenu;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface MealPlanMenuRepository extends JpaRepository<MealPlanMenu, Long> {
@@ -15,11 +26,13 @@ public interface MealPlanMenuRepository extends JpaRepository<MealPlanMenu, Long
     /**
      * 특정 식단표의 모든 메뉴 조회 (날짜, 식사유형 순 정렬)
      */
+    @EntityGraph(attributePaths = "items")
     List<MealPlanMenu> findByMealPlanIdOrderByMenuDateAscMealTypeAsc(Long mealPlanId);
 
     /**
      * 특정 식단표의 모든 메뉴 조회 (alias, 날짜, 식사유형 순 정렬)
      */
+    @EntityGraph(attributePaths = "items")
     List<MealPlanMenu> findAllByMealPlanIdOrderByMenuDateAscMealTypeAsc(Long mealPlanId);
 
     /**
@@ -30,10 +43,19 @@ public interface MealPlanMenuRepository extends JpaRepository<MealPlanMenu, Long
     /**
      * [단건 조회] 학교 ID, 날짜, 식사 유형으로 메뉴 조회 (예: 특정 날짜의 점심만)
      */
+    @EntityGraph(attributePaths = "items")
     Optional<MealPlanMenu> findByMealPlan_SchoolIdAndMenuDateAndMealType(
             Long schoolId, LocalDate menuDate, MealType mealType
     );
 
+    /**
+     * 특정 날짜/식사 유형의 메뉴가 등록된 학교 ID 목록 (오늘의 식단 사전 적재 대상)
+     */
+    @Query("SELECT DISTINCT mp.schoolId FROM MealPlanMenu m JOIN m.mealPlan mp " +
+            "WHERE m.menuDate = :menuDate AND m.mealType = :mealType")
+    List<Long> findSchoolIdsByMenuDateAndMealType(@Param("menuDate") LocalDate menuDate,
+                                                  @Param("mealType") MealType mealType);
+
     /**
      * [다건 조회/추가됨] 학교 ID와 날짜로 모든 끼니 조회 (조식, 중식, 석식 모두 포함)
      * 용도: 오늘의 식단 전체 리스트 조회
@@ -45,7 +67,74 @@ public interface MealPlanMenuRepository extends JpaRepository<MealPlanMenu, Long
     /**
      * 학교 ID와 날짜 범위로 메뉴 조회 (주간 식단표 등)
      */
+    @EntityGraph(attributePaths = "items")
     List<MealPlanMenu> findByMealPlan_SchoolIdAndMenuDateBetweenOrderByMenuDateAscMealTypeAsc(
             Long schoolId, LocalDate startDate, LocalDate endDate
     );
-}
\ No newline at end of file
+
+    /**
+     * 학교/기간 메뉴 표시명 스트리밍 (날짜, 식사유형 순 / 엔티티 로딩 없이, 월간 운영자료 요청 본문용)
+     * - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m.menuDate AS menuDate, m.mealType AS mealType, m.riceDisplay AS riceDisplay, " +
+            "m.soupDisplay AS soupDisplay, m.main1Display AS main1Display, m.main2Display AS main2Display, " +
+            "m.sideDisplay AS sideDisplay, m.kimchiDisplay AS kimchiDisplay, m.dessertDisplay AS dessertDisplay " +
+            "FROM MealPlanMenu m JOIN m.mealPlan mp " +
+            "WHERE mp.schoolId = :schoolId AND m.menuDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY m.menuDate ASC, m.mealType ASC")
+    Stream<MenuDisplayRow> streamDisplayRows(@Param("schoolId") Long schoolId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 메뉴 칸(meal_plan_menu_item)이 없는 메뉴 조회 (백필용, ID 오름차순)
+     */
+    @Query("SELECT m FROM MealPlanMenu m WHERE m.id > :afterId AND m.items IS EMPTY ORDER BY m.id ASC")
+    List<MealPlanMenu> findWithoutItemsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 조건부 조회(ETag)용 버전 스탬프 (집계 1회, 엔티티 로딩 없음)
+     * 기간 내 메뉴의 최신 수정 시각 / 메뉴 수(삭제 감지) / 식단표 수정 시각 / 최신 변경 이력 ID
+     */
+    @Query("SELECT MAX(m.updatedAt) AS menuUpdatedAt, COUNT(m) AS menuCount, MAX(mp.updatedAt) AS planUpdatedAt, " +
+            "(SELECT MAX(h.id) FROM MenuHistory h WHERE h.schoolId = :schoolId " +
+            "AND h.mealDate BETWEEN :fromText AND :toText) AS historyMaxId " +
+            "FROM MealPlanMenu m JOIN m.mealPlan mp " +
+            "WHERE mp.schoolId = :schoolId AND m.menuDate BETWEEN :from AND :to")
+    VersionStamp findVersionStamp(@Param("schoolId") Long schoolId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to,
+                                  @Param("fromText") String fromText,
+                                  @Param("toText") String toText);
+
+    interface MenuDisplayRow {
+        LocalDate getMenuDate();
+
+        MealType getMealType();
+
+        String getRiceDisplay();
+
+        String getSoupDisplay();
+
+        String getMain1Display();
+
+        String getMain2Display();
+
+        String getSideDisplay();
+
+        String getKimchiDisplay();
+
+        String getDessertDisplay();
+    }
+
+    interface VersionStamp {
+        LocalDateTime getMenuUpdatedAt();
+        Long getMenuCount();
+        LocalDateTime getPlanUpdatedAt();
+        Long getHistoryMaxId();
+    }
+}
@@ -2,6 +2,10 @@ package com.nutriassistant.nutriassistant_back.domain.MealPlan.repository;
 
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -22,4 +26,14 @@ public interface MealPlanRepository extends JpaRepository<MealPlan, Long> {
      * 해당 학교의 연도/월 식단표 존재 여부 확인
      */
     boolean existsBySchoolIdAndYearAndMonth(Long schoolId, Integer year, Integer month);
-}
\ No newline at end of file
+
+    /**
+     * 식단 이미지 URL 저장 (비어 있을 때만)
+     * 백그라운드 이미지 생성 워커가 사용하며, 이미 저장된 URL은 덮어쓰지 않습니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MealPlan mp SET mp.imageUrl = :imageUrl, mp.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE mp.id = :id AND (mp.imageUrl IS NULL OR mp.imageUrl = '')")
+    int updateImageUrlIfEmpty(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+}
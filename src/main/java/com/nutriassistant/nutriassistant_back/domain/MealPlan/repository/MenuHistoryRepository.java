@@ -4,6 +4,8 @@ import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MenuHistory
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -26,6 +28,22 @@ public interface MenuHistoryRepository extends JpaRepository<MenuHistory, Long>
     // 학교별 전체 조회 (페이징)
     Page<MenuHistory> findBySchoolIdOrderByIdDesc(Long schoolId, Pageable pageable);
 
+    // 학교별 커서 페이지 조회 (id DESC / 커서 이후 행만, COUNT 없음)
+    // 날짜 범위(startDate, endDate)와 액션타입은 null이면 조건에서 제외
+    @Query("SELECT h FROM MenuHistory h WHERE " +
+            "h.schoolId = :schoolId AND " +
+            "(:startDate IS NULL OR h.mealDate BETWEEN :startDate AND :endDate) AND " +
+            "(:actionType IS NULL OR h.actionType = :actionType) AND " +
+            "(:cursorId IS NULL OR h.id < :cursorId) " +
+            "ORDER BY h.id DESC")
+    List<MenuHistory> findBySchoolIdAfter(
+            @Param("schoolId") Long schoolId,
+            @Param("startDate") String startDate,
+            @Param("endDate") String endDate,
+            @Param("actionType") MenuHistory.ActionType actionType,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     // 학교별 날짜 범위 전체 조회 (월간 응답용)
     List<MenuHistory> findBySchoolIdAndMealDateBetweenOrderByIdDesc(
             Long schoolId, String startDate, String endDate);
@@ -0,0 +1,58 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.scheduler;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.MealPlanMenuService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * meal_plan_menu_item 백필 작업
+ *
+ * 메뉴 칸 테이블 도입 이전에 저장된 meal_plan_menu 행을 애플리케이션 기동 후
+ * 백그라운드에서 배치 단위로 변환합니다. (이미 변환된 행은 건너뜀)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuItemBackfillJob {
+
+    private final MealPlanMenuService mealPlanMenuService;
+
+    @Value("${mealplan.menu-item-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mealplan.menu-item-backfill.batch-size:200}")
+    private int batchSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        long lastId = 0L;
+        int batches = 0;
+
+        try {
+            Long processedUntil;
+            while ((processedUntil = mealPlanMenuService.backfillItems(lastId, batchSize)) != null) {
+                lastId = processedUntil;
+                batches++;
+            }
+        } catch (Exception e) {
+            log.error("❌ 메뉴 칸 백필 실패 (lastId={}): ", lastId, e);
+            return;
+        }
+
+        if (batches > 0) {
+            log.info("✅ 메뉴 칸 백필 완료: {}개 배치, 마지막 메뉴 ID={} ({}ms)",
+                    batches, lastId, System.currentTimeMillis() - start);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.scheduler;
+
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.MealPlanService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오늘의 식단 사전 적재 (warm-up)
+ *
+ * GET /mealplan/today 는 점심 전후 짧은 구간에 요청이 몰리므로,
+ * 서비스 시간 전부터 주기적으로 학교별 공통 응답(메뉴/알레르기 요약/이미지 URL)을 캐시에 채워 둡니다.
+ * - 기본 주기: 평일 10~13시 5분 간격 (캐시 TTL보다 짧게 → 만료되거나 제거된 학교를 다음 주기에 다시 채움)
+ * - 학교 단위 병렬 처리 (AsyncConfig todayWarmupExecutor, 동시 실행 수는 mealplan.today-warmup.concurrency)
+ * - 캐시에 없는 학교만 적재 (이미 있는 응답은 덮어쓰지 않음 → 변경 시 커밋 후 제거 규칙과 충돌하지 않음)
+ * - 한 학교가 실패해도 다른 학교는 계속 진행
+ *
+ * 지표: nutri.mealplan.today.warmup (1회 적재 소요 시간)
+ */
+@Slf4j
+@Component
+public class TodayMealPlanWarmer {
+
+    private final MealPlanService mealPlanService;
+    private final TaskExecutor executor;
+    private final Timer warmupTimer;
+
+    public TodayMealPlanWarmer(MealPlanService mealPlanService,
+                               MeterRegistry meterRegistry,
+                               @Qualifier(AsyncConfig.TODAY_WARMUP_EXECUTOR) TaskExecutor executor) {
+        this.mealPlanService = mealPlanService;
+        this.executor = executor;
+        this.warmupTimer = Timer.builder("nutri.mealplan.today.warmup")
+                .description("오늘의 식단 사전 적재 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${mealplan.today-warmup.cron:0 */5 10-13 * * MON-FRI}")
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        long start = System.currentTimeMillis();
+
+        List<Long> schoolIds;
+        try {
+            schoolIds = mealPlanService.findSchoolIdsWithLunch(today);
+        } catch (Exception e) {
+            log.error("❌ 오늘의 식단 사전 적재 대상 조회 실패: date={}", today, e);
+            return;
+        }
+        if (schoolIds.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger warmed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(schoolIds.size());
+        for (Long schoolId : schoolIds) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    if (mealPlanService.warmTodayMealPlan(schoolId, today)) {
+                        warmed.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    log.warn("⚠️ 오늘의 식단 사전 적재 실패: schoolId={}, {}", schoolId, e.getMessage());
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsed = System.currentTimeMillis() - start;
+        warmupTimer.record(Duration.ofMillis(elapsed));
+        log.info("🔥 오늘의 식단 사전 적재 완료: date={}, 대상 {}개 학교, 새로 적재 {}, 실패 {} ({}ms)",
+                today, schoolIds.size(), warmed.get(), failed.get(), elapsed);
+    }
+}
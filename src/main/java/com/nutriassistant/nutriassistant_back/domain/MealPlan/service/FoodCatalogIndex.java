@@ -0,0 +1,248 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.FoodInfo;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.FoodInfoRepository;
+import com.nutriassistant.nutriassistant_back.domain.NewMenu.entity.NewFoodInfo;
+import com.nutriassistant.nutriassistant_back.domain.NewMenu.repository.NewFoodInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 음식 카탈로그 인메모리 인덱스
+ *
+ * 역할:
+ * - FoodInfo, 삭제되지 않은 NewFoodInfo를 "공백 제거한 음식명" 기준으로 메모리에 보관합니다.
+ * - 식단 응답(월간/주간/상세) 생성 시 메뉴마다 DB를 조회하던
+ *   REPLACE(food_name, ' ', '') 네이티브 쿼리를 대체합니다.
+ *
+ * 갱신 방식:
+ * - 최초 조회 시 전체 적재
+ * - 이후 refresh-interval 마다 updated_at 기준 증분 갱신 (findByUpdatedAtAfter)
+ * - 신메뉴 등록/수정/삭제 시 markStale()로 다음 조회에서 즉시 갱신
+ */
+@Slf4j
+@Component
+public class FoodCatalogIndex {
+
+    private static final int PAGE_SIZE = 1000;
+
+    // 같은 시각(초 단위)에 커밋된 행을 놓치지 않도록 워터마크를 약간 겹쳐서 조회
+    private static final long WATERMARK_OVERLAP_SECONDS = 1;
+
+    private final FoodInfoRepository foodInfoRepository;
+    private final NewFoodInfoRepository newFoodInfoRepository;
+
+    // 정규화된 이름 → 엔티티
+    private final Map<String, FoodInfo> foodByName = new ConcurrentHashMap<>();
+    private final Map<String, NewFoodInfo> newFoodByName = new ConcurrentHashMap<>();
+
+    // id → 정규화된 이름 (이름 변경/삭제 시 이전 키 제거용)
+    private final Map<Long, String> foodKeyById = new ConcurrentHashMap<>();
+    private final Map<Long, String> newFoodKeyById = new ConcurrentHashMap<>();
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile boolean loaded = false;
+    private volatile boolean stale = false;
+    private volatile long lastRefreshMillis = 0L;
+    private volatile Instant foodWatermark;
+    private volatile LocalDateTime newFoodWatermark;
+
+    @Value("${food-catalog.refresh-interval-seconds:60}")
+    private long refreshIntervalSeconds;
+
+    public FoodCatalogIndex(FoodInfoRepository foodInfoRepository,
+                            NewFoodInfoRepository newFoodInfoRepository) {
+        this.foodInfoRepository = foodInfoRepository;
+        this.newFoodInfoRepository = newFoodInfoRepository;
+    }
+
+    // =========================================================================
+    // 조회
+    // =========================================================================
+
+    /**
+     * 음식명으로 FoodInfo 조회 (공백 무시)
+     */
+    public Optional<FoodInfo> findFood(String foodName) {
+        String key = normalize(foodName);
+        if (key == null) return Optional.empty();
+        ensureFresh();
+        return Optional.ofNullable(foodByName.get(key));
+    }
+
+    /**
+     * 음식명으로 삭제되지 않은 NewFoodInfo(신메뉴) 조회 (공백 무시)
+     */
+    public Optional<NewFoodInfo> findNewFood(String foodName) {
+        String key = normalize(foodName);
+        if (key == null) return Optional.empty();
+        ensureFresh();
+        return Optional.ofNullable(newFoodByName.get(key));
+    }
+
+    /**
+     * FoodInfo → NewFoodInfo 순서로 알레르기 정보 조회
+     * 둘 다 없으면 null
+     */
+    public String findAllergyInfo(String foodName) {
+        Optional<FoodInfo> foodOpt = findFood(foodName);
+        if (foodOpt.isPresent()) {
+            return foodOpt.get().getAllergyInfo();
+        }
+        return findNewFood(foodName).map(NewFoodInfo::getAllergyInfo).orElse(null);
+    }
+
+    /**
+     * 다음 조회 시 증분 갱신을 강제합니다. (신메뉴 변경 직후 호출)
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    public static String normalize(String foodName) {
+        if (foodName == null) return null;
+        String key = foodName.replace(" ", "");
+        return key.isEmpty() ? null : key;
+    }
+
+    // =========================================================================
+    // 갱신
+    // =========================================================================
+
+    private void ensureFresh() {
+        if (loaded && !stale
+                && System.currentTimeMillis() - lastRefreshMillis < refreshIntervalSeconds * 1000) {
+            return;
+        }
+
+        // 최초 적재는 모든 스레드가 완료를 기다리고, 이후 갱신은 한 스레드만 수행
+        if (!loaded) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (!loaded) {
+                fullLoad();
+            } else {
+                incrementalRefresh();
+            }
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 인덱스로 계속 응답 (다음 주기에 재시도)
+            log.warn("⚠️ 음식 카탈로그 갱신 실패: {}", e.getMessage());
+        } finally {
+            lastRefreshMillis = System.currentTimeMillis();
+            refreshLock.unlock();
+        }
+    }
+
+    private void fullLoad() {
+        long start = System.currentTimeMillis();
+
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id").ascending());
+        Page<FoodInfo> page;
+        do {
+            page = foodInfoRepository.findAll(pageable);
+            page.forEach(this::putFood);
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        for (NewFoodInfo newFood : newFoodInfoRepository.findByDeletedFalse()) {
+            putNewFood(newFood);
+        }
+
+        loaded = true;
+        stale = false;
+        log.info("📚 음식 카탈로그 적재 완료: FoodInfo {}건, NewFoodInfo {}건 ({}ms)",
+                foodByName.size(), newFoodByName.size(), System.currentTimeMillis() - start);
+    }
+
+    private void incrementalRefresh() {
+        stale = false;
+        int foodCount = 0;
+
+        Instant since = foodWatermark != null
+                ? foodWatermark.minusSeconds(WATERMARK_OVERLAP_SECONDS)
+                : Instant.EPOCH;
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id").ascending());
+        Page<FoodInfo> page;
+        do {
+            page = foodInfoRepository.findByUpdatedAtAfter(since, pageable);
+            page.forEach(this::putFood);
+            foodCount += page.getNumberOfElements();
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        int newFoodCount = 0;
+        LocalDateTime newSince = newFoodWatermark != null
+                ? newFoodWatermark.minusSeconds(WATERMARK_OVERLAP_SECONDS)
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+        for (NewFoodInfo newFood : newFoodInfoRepository.findByUpdatedAtAfter(newSince)) {
+            putNewFood(newFood);
+            newFoodCount++;
+        }
+
+        if (foodCount > 0 || newFoodCount > 0) {
+            log.debug("음식 카탈로그 증분 갱신: FoodInfo {}건, NewFoodInfo {}건", foodCount, newFoodCount);
+        }
+    }
+
+    private void putFood(FoodInfo food) {
+        String previousKey = foodKeyById.remove(food.getId());
+        if (previousKey != null) {
+            FoodInfo current = foodByName.get(previousKey);
+            if (current != null && current.getId().equals(food.getId())) {
+                foodByName.remove(previousKey);
+            }
+        }
+
+        String key = normalize(food.getFoodName());
+        if (key != null) {
+            // 같은 이름이 여러 건이면 id가 가장 작은 행을 유지 (기존 LIMIT 1 동작과 동일)
+            foodByName.merge(key, food, (current, incoming) ->
+                    current.getId() < incoming.getId() ? current : incoming);
+            foodKeyById.put(food.getId(), key);
+        }
+
+        if (food.getUpdatedAt() != null
+                && (foodWatermark == null || food.getUpdatedAt().isAfter(foodWatermark))) {
+            foodWatermark = food.getUpdatedAt();
+        }
+    }
+
+    private void putNewFood(NewFoodInfo newFood) {
+        String previousKey = newFoodKeyById.remove(newFood.getId());
+        if (previousKey != null) {
+            NewFoodInfo current = newFoodByName.get(previousKey);
+            if (current != null && current.getId().equals(newFood.getId())) {
+                newFoodByName.remove(previousKey);
+            }
+        }
+
+        String key = normalize(newFood.getFoodName());
+        if (key != null && !Boolean.TRUE.equals(newFood.getDeleted())) {
+            newFoodByName.merge(key, newFood, (current, incoming) ->
+                    current.getId() < incoming.getId() ? current : incoming);
+            newFoodKeyById.put(newFood.getId(), key);
+        }
+
+        if (newFood.getUpdatedAt() != null
+                && (newFoodWatermark == null || newFood.getUpdatedAt().isAfter(newFoodWatermark))) {
+            newFoodWatermark = newFood.getUpdatedAt();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanRepository;
+import com.nutriassistant.nutriassistant_back.domain.ai.service.ImageGenerationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 식단 이미지 백그라운드 생성 워커
+ *
+ * 역할:
+ * - 오늘의 식단 조회 요청 스레드에서 Vertex AI 이미지 생성 + S3 업로드를 분리합니다.
+ * - MealPlan 단위 single-flight: 같은 식단에 대한 생성 작업은 동시에 하나만 실행
+ * - 실패 시 지수 백오프: 다음 시도 가능 시각 전까지는 재요청해도 작업을 만들지 않음
+ * - 상태는 크기 제한 + 만료가 있는 캐시에 보관 (계속 실패하는 식단도 마지막 기록 후
+ *   retry-max-seconds × 2 가 지나면 제거되고, 다음 요청은 실패 횟수 0부터 다시 시도)
+ *
+ * 상태 조회:
+ * - 조회 API는 requestImage()의 반환값(PENDING/FAILED)을 그대로 응답에 담고,
+ *   작업 완료 후 다음 조회에서 저장된 image_url을 받아갑니다.
+ */
+@Slf4j
+@Component
+public class MealImageGenerationWorker {
+
+    public enum ImageStatus {
+        READY,      // image_url 저장 완료
+        PENDING,    // 생성 중
+        FAILED,     // 최근 시도 실패 (백오프 대기 중)
+        NONE        // 생성할 메뉴 없음
+    }
+
+    private final ImageGenerationService imageGenerationService;
+    private final MealPlanRepository mealPlanRepository;
+    private final MealPlanResponseCache mealPlanResponseCache;
+    private final TaskExecutor taskExecutor;
+
+    private final long retryBaseSeconds;
+    private final long retryMaxSeconds;
+
+    // mealPlanId → 생성 상태
+    private final Map<Long, Attempt> attempts;
+
+    public MealImageGenerationWorker(ImageGenerationService imageGenerationService,
+                                     MealPlanRepository mealPlanRepository,
+                                     MealPlanResponseCache mealPlanResponseCache,
+                                     @Qualifier(AsyncConfig.IMAGE_GENERATION_EXECUTOR) TaskExecutor taskExecutor,
+                                     @Value("${mealplan.image.retry-base-seconds:30}") long retryBaseSeconds,
+                                     @Value("${mealplan.image.retry-max-seconds:1800}") long retryMaxSeconds,
+                                     @Value("${mealplan.image.max-tracked:10000}") long maxTracked,
+                                     MeterRegistry meterRegistry) {
+        this.imageGenerationService = imageGenerationService;
+        this.mealPlanRepository = mealPlanRepository;
+        this.mealPlanResponseCache = mealPlanResponseCache;
+        this.taskExecutor = taskExecutor;
+        this.retryBaseSeconds = retryBaseSeconds;
+        this.retryMaxSeconds = retryMaxSeconds;
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterWrite(Duration.ofSeconds(retryMaxSeconds * 2))
+                .<Long, Attempt>build()
+                .asMap();
+
+        Gauge.builder("nutri.mealplan.image.in_flight", attempts,
+                        map -> map.values().stream().filter(Attempt::running).count())
+                .description("생성 중인 식단 이미지 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("nutri.mealplan.image.backoff", attempts,
+                        map -> map.values().stream().filter(a -> !a.running()).count())
+                .description("실패 후 백오프 대기 중인 식단 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지 생성 작업을 요청하고 즉시 현재 상태를 반환합니다.
+     * - 이미 생성 중이면 PENDING (새 작업 생성 안 함)
+     * - 백오프 대기 중이면 FAILED (새 작업 생성 안 함)
+     * - 그 외에는 작업을 등록하고 PENDING
+     */
+    public ImageStatus requestImage(Long mealPlanId, List<String> menuNames) {
+        if (mealPlanId == null || menuNames == null || menuNames.isEmpty()) {
+            return ImageStatus.NONE;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] started = {false};
+
+        Attempt attempt = attempts.compute(mealPlanId, (id, current) -> {
+            if (current == null) {
+                started[0] = true;
+                return new Attempt(true, 0, 0L);
+            }
+            if (current.running() || now < current.nextAttemptAt()) {
+                return current;
+            }
+            started[0] = true;
+            return new Attempt(true, current.failures(), 0L);
+        });
+
+        if (!started[0]) {
+            return attempt.running() ? ImageStatus.PENDING : ImageStatus.FAILED;
+        }
+
+        List<String> names = List.copyOf(menuNames);
+        try {
+            taskExecutor.execute(() -> generate(mealPlanId, names));
+        } catch (Exception e) {
+            // 실행기 포화 등으로 등록 실패 시 백오프로 처리
+            log.warn("⚠️ 식단 이미지 작업 등록 실패: mealPlanId={}, {}", mealPlanId, e.getMessage());
+            recordFailure(mealPlanId);
+            return ImageStatus.FAILED;
+        }
+        return ImageStatus.PENDING;
+    }
+
+    private void generate(Long mealPlanId, List<String> menuNames) {
+        long start = System.currentTimeMillis();
+        try {
+            log.info("🎨 식단 이미지 생성 시작: mealPlanId={}, menus={}", mealPlanId, menuNames);
+            String s3Url = imageGenerationService.generateAndSaveMealImage(menuNames);
+
+            int updated = mealPlanRepository.updateImageUrlIfEmpty(mealPlanId, s3Url);
+            if (updated == 0) {
+                log.info("식단 이미지가 이미 저장되어 있어 생성 결과를 반영하지 않음: mealPlanId={}", mealPlanId);
+            }
+            // 이미지 없이 캐시된 오늘의 식단 응답 제거
+            mealPlanResponseCache.evictTodayByMealPlan(mealPlanId);
+
+            attempts.remove(mealPlanId);
+            log.info("✅ 식단 이미지 생성 및 S3 업로드 완료: mealPlanId={}, url={} ({}ms)",
+                    mealPlanId, s3Url, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            Attempt failed = recordFailure(mealPlanId);
+            log.error("❌ 식단 이미지 생성 실패: mealPlanId={}, 연속 실패 {}회, {}초 후 재시도 가능",
+                    mealPlanId, failed.failures(),
+                    (failed.nextAttemptAt() - System.currentTimeMillis()) / 1000, e);
+        }
+    }
+
+    private Attempt recordFailure(Long mealPlanId) {
+        return attempts.compute(mealPlanId, (id, current) -> {
+            int failures = (current != null ? current.failures() : 0) + 1;
+            return new Attempt(false, failures, System.currentTimeMillis() + backoffMillis(failures));
+        });
+    }
+
+    /**
+     * base * 2^(failures-1), 최대 retry-max-seconds
+     */
+    private long backoffMillis(int failures) {
+        int shift = Math.min(failures - 1, 20);
+        long seconds = Math.min(retryBaseSeconds << shift, retryMaxSeconds);
+        return seconds * 1000;
+    }
+
+    private record Attempt(boolean running, int failures, long nextAttemptAt) {}
+}
@@ -0,0 +1,245 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.MealPlanGenerateRequest;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.MealPlanGenerateResponse;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.MealPlanGenerationJobResponse;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlan;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanGenerationJob;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanGenerationJobRepository;
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
+import com.nutriassistant.nutriassistant_back.global.instance.InstanceId;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 월간 식단 생성 작업 서비스
+ *
+ * 역할:
+ * - POST /mealplan 요청을 작업으로 등록하고 즉시 반환 (Tomcat 스레드/DB 커넥션이 AI 응답을 기다리지 않음)
+ * - 크기가 제한된 전용 워커 풀에서 FastAPI 생성 → 응답 스트리밍 저장을 순서대로 실행
+ * - 같은 학교/연월에 진행 중인 작업이 있으면 새로 만들지 않고 기존 작업을 반환
+ *   (진행 중 작업 유일 키 active_key로 판단 → 여러 인스턴스가 동시에 등록해도 1건)
+ *
+ * 다중 인스턴스:
+ * - 작업에 등록한 인스턴스(owner)와 heartbeat(단계 전환 시각)를 기록
+ * - 재기동 시 같은 호스트의 이전 프로세스 작업과 heartbeat가 만료된 작업만 FAILED로 정리
+ *   (다른 인스턴스가 실행 중인 작업은 그대로 둠)
+ * - heartbeat 만료 시간 mealplan.generation.lease-minutes 는 대기열 대기 + 생성 타임아웃 + 저장 시간보다 길어야 함
+ *   (기본 60분 ≥ 대기열 20건 / 워커 2개 × 생성 타임아웃 180초)
+ *
+ * 트랜잭션:
+ * - 작업 상태 변경은 단계마다 짧은 트랜잭션으로 저장
+ * - FastAPI 호출 구간에는 트랜잭션 없음, 응답 저장(importStreaming)만 하나의 트랜잭션
+ *
+ * 지표: executor.queued / executor.active / executor.pool.* {name=mealplan.generation},
+ *       nutri.mealplan.generation.jobs{result=done|failed|rejected}
+ */
+@Slf4j
+@Service
+public class MealPlanGenerationJobService {
+
+    private static final Set<MealPlanGenerationJob.Status> ACTIVE_STATUSES = EnumSet.of(
+            MealPlanGenerationJob.Status.QUEUED,
+            MealPlanGenerationJob.Status.RUNNING,
+            MealPlanGenerationJob.Status.SAVING
+    );
+
+    private final MealPlanGenerationJobRepository jobRepository;
+    private final MealPlanService mealPlanService;
+    private final TaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final InstanceId instanceId;
+    private final Duration lease;
+
+    public MealPlanGenerationJobService(MealPlanGenerationJobRepository jobRepository,
+                                        MealPlanService mealPlanService,
+                                        MeterRegistry meterRegistry,
+                                        InstanceId instanceId,
+                                        @Qualifier(AsyncConfig.MEAL_PLAN_GENERATION_EXECUTOR) TaskExecutor executor,
+                                        @Value("${mealplan.generation.lease-minutes:60}") long leaseMinutes) {
+        this.jobRepository = jobRepository;
+        this.mealPlanService = mealPlanService;
+        this.meterRegistry = meterRegistry;
+        this.instanceId = instanceId;
+        this.lease = Duration.ofMinutes(leaseMinutes);
+
+        // 동시에 실행되는 AI 생성 수를 제한하고, 대기열이 가득 차면 등록을 거절 (AsyncConfig, ABORT 정책)
+        this.executor = executor;
+    }
+
+    // =========================================================================
+    // 작업 등록 / 조회
+    // =========================================================================
+
+    /**
+     * 생성 작업 등록 (즉시 반환)
+     *
+     * @throws IllegalArgumentException 연도/월 형식 오류
+     * @throws IllegalStateException    워커 대기열이 가득 찬 경우
+     */
+    public MealPlanGenerationJob submit(Long schoolId, MealPlanGenerateRequest request) {
+        int year;
+        int month;
+        try {
+            year = Integer.parseInt(request.getYear());
+            month = Integer.parseInt(request.getMonth());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("연도/월 형식이 올바르지 않습니다.");
+        }
+
+        String activeKey = MealPlanGenerationJob.activeKey(schoolId, year, month);
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.failStaleByActiveKey(activeKey, now.minus(lease), now,
+                MealPlanGenerationJob.Status.FAILED, "작업이 응답 없이 중단되었습니다. 다시 요청해주세요.") > 0) {
+            log.warn("⚠️ heartbeat가 만료된 식단 생성 작업을 FAILED로 정리: 학교 ID={}, {}/{}", schoolId, year, month);
+        }
+
+        Optional<MealPlanGenerationJob> active = jobRepository.findByActiveKey(activeKey);
+        if (active.isPresent()) {
+            return reuse(active.get());
+        }
+
+        MealPlanGenerationJob job;
+        try {
+            job = jobRepository.saveAndFlush(new MealPlanGenerationJob(schoolId, year, month, instanceId.value()));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 학교/연월을 다른 요청(인스턴스)이 먼저 등록 → 그 작업 반환
+            return reuse(jobRepository.findByActiveKey(activeKey).orElseThrow(() -> e));
+        }
+        Long jobId = job.getId();
+
+        try {
+            executor.execute(() -> run(jobId, schoolId, request));
+        } catch (TaskRejectedException e) {
+            log.warn("⚠️ 식단 생성 대기열 포화: jobId={}", jobId);
+            countJob("rejected");
+            job.markFailed("생성 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            jobRepository.save(job);
+            throw new IllegalStateException("식단 생성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("📥 식단 생성 작업 등록: jobId={}, 학교 ID={}, {}/{}", jobId, schoolId, year, month);
+        return job;
+    }
+
+    private MealPlanGenerationJob reuse(MealPlanGenerationJob active) {
+        log.info("ℹ️ 진행 중인 식단 생성 작업 재사용: jobId={}, 학교 ID={}, {}/{}, owner={}",
+                active.getId(), active.getSchoolId(), active.getYear(), active.getMonth(), active.getOwner());
+        return active;
+    }
+
+    /**
+     * 작업 상태 조회 (DONE이면 생성된 식단 포함)
+     */
+    @Transactional(readOnly = true)
+    public MealPlanGenerationJobResponse getJob(Long schoolId, Long jobId) {
+        MealPlanGenerationJob job = jobRepository.findByIdAndSchoolId(jobId, schoolId)
+                .orElseThrow(() -> new IllegalArgumentException("식단 생성 작업을 찾을 수 없습니다: " + jobId));
+        return toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public MealPlanGenerationJobResponse toResponse(MealPlanGenerationJob job) {
+        List<MealPlanGenerateResponse> meals = null;
+        if (job.getStatus() == MealPlanGenerationJob.Status.DONE && job.getMealPlanId() != null) {
+            meals = mealPlanService.findById(job.getMealPlanId())
+                    .map(mealPlanService::toResponseList)
+                    .orElse(null);
+        }
+        return MealPlanGenerationJobResponse.from(job, meals);
+    }
+
+    // =========================================================================
+    // 작업 실행 (워커 스레드)
+    // =========================================================================
+
+    private void run(Long jobId, Long schoolId, MealPlanGenerateRequest request) {
+        MealPlanGenerationJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        job.markRunning();
+        MealPlanGenerationJob running = jobRepository.save(job);
+        try {
+            // 1. FastAPI 생성 (트랜잭션 없음) → 2. 응답 수신 시 SAVING 전환 후 스트리밍 저장 (단일 트랜잭션)
+            MealPlan savedPlan = mealPlanService.generateAndSaveStreaming(schoolId, request, () -> {
+                running.markSaving();
+                jobRepository.save(running);
+            });
+
+            running.markDone(savedPlan.getId());
+            jobRepository.save(running);
+            countJob("done");
+            log.info("✅ 식단 생성 작업 완료: jobId={}, MealPlan ID={} ({}ms)",
+                    jobId, savedPlan.getId(), System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.error("❌ 식단 생성 작업 실패: jobId={}", jobId, e);
+            running.markFailed(toErrorMessage(e));
+            jobRepository.save(running);
+            countJob("failed");
+        }
+    }
+
+    private void countJob(String result) {
+        meterRegistry.counter("nutri.mealplan.generation.jobs", "result", result).increment();
+    }
+
+    /**
+     * 사용자에게 보여줄 실패 사유 (MealPlanService 가 감싼 예외도 원인을 따라가며 확인)
+     */
+    private String toErrorMessage(Exception e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IllegalArgumentException) {
+                return "요청값이 올바르지 않습니다: " + cause.getMessage();
+            }
+            if (cause instanceof HttpClientErrorException || cause instanceof HttpServerErrorException) {
+                return "외부 서비스 요청이 실패했습니다: " + cause.getMessage();
+            }
+            if (cause instanceof ResourceAccessException) {
+                return "외부 서비스에 연결할 수 없습니다.";
+            }
+        }
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    // =========================================================================
+    // 기동 / 종료
+    // =========================================================================
+
+    /**
+     * 서버 재시작으로 중단된 작업은 워커가 이어받지 않으므로 FAILED로 정리
+     * (같은 호스트의 이전 프로세스 작업 + heartbeat가 만료된 작업만, 다른 인스턴스가 실행 중인 작업은 제외)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = jobRepository.failStale(ACTIVE_STATUSES, instanceId.value(), instanceId.sameHostPattern(),
+                now.minus(lease), now, MealPlanGenerationJob.Status.FAILED,
+                "서버 재시작으로 작업이 중단되었습니다. 다시 요청해주세요.");
+        if (failed > 0) {
+            log.warn("⚠️ 중단된 식단 생성 작업 {}건을 FAILED로 정리", failed);
+        }
+    }
+}
@@ -1,43 +1,69 @@
 package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nutriassistant.nutriassistant_back.domain.Auth.entity.Allergen;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.FoodInfo;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlan;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenu;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenuItem;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
-import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.FoodInfoRepository;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MenuSlot;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanMenuJdbcRepository;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanMenuRepository;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanRepository;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.entity.NewFoodInfo;
-import com.nutriassistant.nutriassistant_back.domain.NewMenu.repository.NewFoodInfoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 public class MealPlanMenuService {
 
     private final MealPlanMenuRepository mealPlanMenuRepository;
+    private final MealPlanMenuJdbcRepository mealPlanMenuJdbcRepository;
     private final MealPlanRepository mealPlanRepository;
-    private final FoodInfoRepository foodInfoRepository;
-    private final NewFoodInfoRepository newFoodInfoRepository;
+    private final FoodCatalogIndex foodCatalogIndex;
     private final ObjectMapper objectMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // true: JDBC 배치 INSERT, false: 기존 방식 (메뉴마다 save)
+    @Value("${mealplan.import.bulk-insert:true}")
+    private boolean bulkInsertEnabled;
+
+    // 스트리밍 저장 시 한 번에 INSERT 하는 끼니 수
+    @Value("${mealplan.import.stream-batch-size:50}")
+    private int streamBatchSize;
+
     public MealPlanMenuService(MealPlanMenuRepository mealPlanMenuRepository,
+                               MealPlanMenuJdbcRepository mealPlanMenuJdbcRepository,
                                MealPlanRepository mealPlanRepository,
-                               FoodInfoRepository foodInfoRepository,
-                               NewFoodInfoRepository newFoodInfoRepository,
+                               FoodCatalogIndex foodCatalogIndex,
                                ObjectMapper objectMapper) {
         this.mealPlanMenuRepository = mealPlanMenuRepository;
+        this.mealPlanMenuJdbcRepository = mealPlanMenuJdbcRepository;
         this.mealPlanRepository = mealPlanRepository;
-        this.foodInfoRepository = foodInfoRepository;
-        this.newFoodInfoRepository = newFoodInfoRepository;
+        this.foodCatalogIndex = foodCatalogIndex;
         this.objectMapper = objectMapper;
     }
 
@@ -69,9 +95,6 @@ public class MealPlanMenuService {
         MealPlan mealPlan = mealPlanRepository.findById(mealPlanId)
                 .orElseThrow(() -> new IllegalArgumentException("MealPlan not found: " + mealPlanId));
 
-        mealPlanMenuRepository.deleteByMealPlan_Id(mealPlanId);
-        mealPlanMenuRepository.flush();  // 삭제 쿼리를 즉시 실행하여 중복 키 에러 방지
-
         // 정렬: 날짜 오름차순 → 타입 오름차순
         List<JsonNode> sortedList = new ArrayList<>();
         list.forEach(sortedList::add);
@@ -94,43 +117,169 @@ public class MealPlanMenuService {
             return 0;
         });
 
+        // 한 달치 메뉴에서 반복되는 음식명(밥, 김치 등)은 한 번만 매칭
+        Map<String, FoodMatch> matches = new HashMap<>();
+        List<MealPlanMenu> menus = new ArrayList<>(sortedList.size());
+
         for (JsonNode m : sortedList) {
-            String dateStr = m.hasNonNull("Date") ? m.get("Date").asText() : null;
-            String typeStr = m.hasNonNull("Type") ? m.get("Type").asText() : null;
-            if (dateStr == null || typeStr == null) continue;
-
-            LocalDate date = LocalDate.parse(dateStr);
-            MealType mealType = toMealType(typeStr);
-            if (mealType == null) continue;
-
-            MealPlanMenu menu = new MealPlanMenu();
-            menu.setMealPlan(mealPlan);
-            menu.setMenuDate(date);
-            menu.setMealType(mealType);
-
-            menu.setRiceDisplay(enrichWithAllergen(m.path("Rice").isNull() ? null : m.path("Rice").asText(null)));
-            menu.setSoupDisplay(enrichWithAllergen(m.path("Soup").isNull() ? null : m.path("Soup").asText(null)));
-            menu.setMain1Display(enrichWithAllergen(m.path("Main1").isNull() ? null : m.path("Main1").asText(null)));
-            menu.setMain2Display(enrichWithAllergen(m.path("Main2").isNull() ? null : m.path("Main2").asText(null)));
-            menu.setSideDisplay(enrichWithAllergen(m.path("Side").isNull() ? null : m.path("Side").asText(null)));
-            menu.setKimchiDisplay(enrichWithAllergen(m.path("Kimchi").isNull() ? null : m.path("Kimchi").asText(null)));
-            menu.setDessertDisplay(enrichWithAllergen(m.path("Dessert").isNull() ? null : m.path("Dessert").asText(null)));
-
-            if (m.hasNonNull("Kcal")) menu.setKcal(BigDecimal.valueOf(Math.round(m.get("Kcal").asDouble())));
-            if (m.hasNonNull("Carb")) menu.setCarb(BigDecimal.valueOf(Math.round(m.get("Carb").asDouble())));
-            if (m.hasNonNull("Prot")) menu.setProt(BigDecimal.valueOf(Math.round(m.get("Prot").asDouble())));
-            if (m.hasNonNull("Fat")) menu.setFat(BigDecimal.valueOf(Math.round(m.get("Fat").asDouble())));
-            if (m.hasNonNull("Cost")) menu.setCost((int) Math.round(m.get("Cost").asDouble()));
-
-            if (m.has("RawMenus") && m.get("RawMenus").isArray()) {
-                menu.setRawMenusJson(m.get("RawMenus").toString());
+            MealPlanMenu menu = toMenu(mealPlan, m, matches);
+            if (menu != null) {
+                menus.add(menu);
             }
+        }
+
+        long start = System.currentTimeMillis();
+        if (bulkInsertEnabled) {
+            saveAllBatched(mealPlan.getId(), menus);
+        } else {
+            saveAllPerEntity(mealPlan.getId(), menus);
+        }
+        log.info("💾 식단 메뉴 {}건 저장 ({}, {}ms)", menus.size(),
+                bulkInsertEnabled ? "JDBC 배치" : "엔티티 단건", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * FastAPI meals 배열의 한 원소를 메뉴 엔티티로 변환 (저장하지 않음)
+     * 날짜/식사 유형이 없으면 null
+     */
+    private MealPlanMenu toMenu(MealPlan mealPlan, JsonNode m, Map<String, FoodMatch> matches) {
+        String dateStr = m.hasNonNull("Date") ? m.get("Date").asText() : null;
+        String typeStr = m.hasNonNull("Type") ? m.get("Type").asText() : null;
+        if (dateStr == null || typeStr == null) return null;
+
+        LocalDate date = LocalDate.parse(dateStr);
+        MealType mealType = toMealType(typeStr);
+        if (mealType == null) return null;
+
+        MealPlanMenu menu = new MealPlanMenu();
+        menu.setMealPlan(mealPlan);
+        menu.setMenuDate(date);
+        menu.setMealType(mealType);
+
+        menu.setRiceDisplay(enrichWithAllergen(m.path("Rice").isNull() ? null : m.path("Rice").asText(null), matches));
+        menu.setSoupDisplay(enrichWithAllergen(m.path("Soup").isNull() ? null : m.path("Soup").asText(null), matches));
+        menu.setMain1Display(enrichWithAllergen(m.path("Main1").isNull() ? null : m.path("Main1").asText(null), matches));
+        menu.setMain2Display(enrichWithAllergen(m.path("Main2").isNull() ? null : m.path("Main2").asText(null), matches));
+        menu.setSideDisplay(enrichWithAllergen(m.path("Side").isNull() ? null : m.path("Side").asText(null), matches));
+        menu.setKimchiDisplay(enrichWithAllergen(m.path("Kimchi").isNull() ? null : m.path("Kimchi").asText(null), matches));
+        menu.setDessertDisplay(enrichWithAllergen(m.path("Dessert").isNull() ? null : m.path("Dessert").asText(null), matches));
+
+        if (m.hasNonNull("Kcal")) menu.setKcal(BigDecimal.valueOf(Math.round(m.get("Kcal").asDouble())));
+        if (m.hasNonNull("Carb")) menu.setCarb(BigDecimal.valueOf(Math.round(m.get("Carb").asDouble())));
+        if (m.hasNonNull("Prot")) menu.setProt(BigDecimal.valueOf(Math.round(m.get("Prot").asDouble())));
+        if (m.hasNonNull("Fat")) menu.setFat(BigDecimal.valueOf(Math.round(m.get("Fat").asDouble())));
+        if (m.hasNonNull("Cost")) menu.setCost((int) Math.round(m.get("Cost").asDouble()));
+
+        if (m.has("RawMenus") && m.get("RawMenus").isArray()) {
+            menu.setRawMenusJson(m.get("RawMenus").toString());
+        }
+
+        syncItems(menu, matches);
+        return menu;
+    }
+
+    /**
+     * JDBC 배치 저장: 삭제 2문장 + 메뉴 INSERT 배치 + ID 조회 1회 + 메뉴 칸 INSERT 배치
+     */
+    private void saveAllBatched(Long mealPlanId, List<MealPlanMenu> menus) {
+        // 앞서 저장된 MealPlan 등 대기 중인 변경을 먼저 반영
+        entityManager.flush();
+
+        mealPlanMenuJdbcRepository.deleteByMealPlanId(mealPlanId);
+        mealPlanMenuJdbcRepository.insertAll(mealPlanId, menus);
 
+        // JDBC로 변경한 행과 영속성 컨텍스트가 어긋나지 않도록 비움
+        entityManager.clear();
+    }
+
+    /**
+     * 기존 방식: 엔티티 삭제 후 메뉴마다 save (IDENTITY 전략이라 INSERT 배치 불가)
+     */
+    private void saveAllPerEntity(Long mealPlanId, List<MealPlanMenu> menus) {
+        mealPlanMenuRepository.deleteByMealPlan_Id(mealPlanId);
+        mealPlanMenuRepository.flush();  // 삭제 쿼리를 즉시 실행하여 중복 키 에러 방지
+
+        for (MealPlanMenu menu : menus) {
             mealPlanMenuRepository.save(menu);
         }
     }
 
-    private String enrichWithAllergen(String menuName) {
+    /**
+     * 스트리밍 저장: FastAPI 응답의 meals(또는 menus) 배열을 JsonParser로 한 끼씩 읽어
+     * batch-size 단위로 JDBC 배치 INSERT 합니다.
+     * 응답 전체를 트리로 만들거나 정렬하지 않으므로 메모리 사용량은 배치 크기에 비례합니다.
+     * (조회는 menu_date, meal_type 정렬로 하므로 저장 순서는 무관)
+     *
+     * @return 저장(또는 갱신)된 식단표
+     */
+    @Transactional
+    public MealPlan importStreaming(Long schoolId, Integer year, Integer month, JsonParser parser) throws IOException {
+        MealPlan mealPlan = mealPlanRepository.findBySchoolIdAndYearAndMonth(schoolId, year, month)
+                .orElseGet(() -> mealPlanRepository.save(new MealPlan(schoolId, year, month)));
+        entityManager.flush();
+
+        mealPlanMenuJdbcRepository.deleteByMealPlanId(mealPlan.getId());
+
+        long start = System.currentTimeMillis();
+        int total = 0;
+
+        if (moveToMealsArray(parser)) {
+            Map<String, FoodMatch> matches = new HashMap<>();
+            List<MealPlanMenu> batch = new ArrayList<>(streamBatchSize);
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                JsonNode m = objectMapper.readTree(parser);
+                MealPlanMenu menu = toMenu(mealPlan, m, matches);
+                if (menu == null) continue;
+
+                batch.add(menu);
+                if (batch.size() >= streamBatchSize) {
+                    total += mealPlanMenuJdbcRepository.insertAll(mealPlan.getId(), batch);
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                total += mealPlanMenuJdbcRepository.insertAll(mealPlan.getId(), batch);
+            }
+        } else {
+            log.warn("⚠️ FastAPI 응답에 meals 배열이 없습니다: MealPlan ID={}", mealPlan.getId());
+        }
+
+        entityManager.clear();
+        log.info("💾 식단 메뉴 {}건 스트리밍 저장 (배치 {}건, {}ms)",
+                total, streamBatchSize, System.currentTimeMillis() - start);
+        return mealPlan;
+    }
+
+    /**
+     * 최상위 객체에서 meals(없으면 menus) 배열 시작 위치로 이동
+     * 그 외 필드는 내용 파싱 없이 건너뜀
+     */
+    private boolean moveToMealsArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (("meals".equals(field) || "menus".equals(field)) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private String enrichWithAllergen(String menuName, Map<String, FoodMatch> matches) {
         if (menuName == null || menuName.isBlank()) {
             return null;
         }
@@ -142,25 +291,138 @@ public class MealPlanMenuService {
 
         String pureName = menuName.replaceAll("\\s*\\([^)]*\\)", "").trim();
 
-        // FoodInfo에서 조회
-        Optional<FoodInfo> foodOpt = foodInfoRepository.findByFoodNameIgnoreSpace(pureName);
+        // FoodInfo → NewFoodInfo(신메뉴) 순서로 조회
+        FoodMatch match = matchFood(pureName, matches);
+        if (match.allergyInfo() != null && !match.allergyInfo().isEmpty()) {
+            return pureName + "(" + match.allergyInfo() + ")";
+        }
+        return pureName;
+    }
+
+    // =========================================================================
+    // 음식 매칭 (FoodInfo → NewFoodInfo)
+    // =========================================================================
+
+    /**
+     * 음식명 매칭 결과 (매칭 실패 시 모든 값 null)
+     */
+    private record FoodMatch(Long foodId, String foodCode, String newFoodCode, String allergyInfo) {
+        static final FoodMatch NONE = new FoodMatch(null, null, null, null);
+    }
+
+    private FoodMatch matchFood(String name, Map<String, FoodMatch> matches) {
+        return matches.computeIfAbsent(name, this::matchFood);
+    }
+
+    private FoodMatch matchFood(String name) {
+        Optional<FoodInfo> foodOpt = foodCatalogIndex.findFood(name);
         if (foodOpt.isPresent()) {
             FoodInfo food = foodOpt.get();
-            if (food.getAllergyInfo() != null && !food.getAllergyInfo().isEmpty()) {
-                return pureName + "(" + food.getAllergyInfo() + ")";
-            }
-            return pureName;
+            return new FoodMatch(food.getId(), food.getFoodCode(), null, food.getAllergyInfo());
         }
 
-        // FoodInfo에 없으면 NewFoodInfo(신메뉴)에서 조회
-        Optional<NewFoodInfo> newFoodOpt = newFoodInfoRepository.findByFoodNameAndDeletedFalse(pureName);
+        Optional<NewFoodInfo> newFoodOpt = foodCatalogIndex.findNewFood(name);
         if (newFoodOpt.isPresent()) {
             NewFoodInfo newFood = newFoodOpt.get();
-            if (newFood.getAllergyInfo() != null && !newFood.getAllergyInfo().isEmpty()) {
-                return pureName + "(" + newFood.getAllergyInfo() + ")";
+            return new FoodMatch(null, null, newFood.getFoodCode(), newFood.getAllergyInfo());
+        }
+        return FoodMatch.NONE;
+    }
+
+    // =========================================================================
+    // 메뉴 칸(meal_plan_menu_item) 동기화
+    // =========================================================================
+
+    private static final Pattern ALLERGEN_PATTERN = Pattern.compile("(.+?)\\(([\\d,\\s]+)\\)$");
+
+    /**
+     * MealPlanMenu의 *_display 값을 기준으로 메뉴 칸 행을 갱신합니다.
+     * 저장 경로(import / 수동 수정 / AI 대체)에서 save 직전에 호출합니다.
+     *
+     * 기존 행은 칸 단위로 값을 갱신(UPDATE)하고, 비어진 칸만 삭제합니다.
+     * (전체 삭제 후 재삽입 시 INSERT가 DELETE보다 먼저 실행되어 유니크 키 충돌 발생)
+     */
+    public void syncItems(MealPlanMenu menu) {
+        syncItems(menu, new HashMap<>());
+    }
+
+    private void syncItems(MealPlanMenu menu, Map<String, FoodMatch> matches) {
+        Map<MenuSlot, MealPlanMenuItem> existing = menu.getItemsBySlot();
+
+        for (MenuSlot slot : MenuSlot.values()) {
+            String display = menu.getDisplay(slot);
+            MealPlanMenuItem item = existing.get(slot);
+
+            if (display == null || display.isBlank()) {
+                if (item != null) menu.removeItem(item);
+                continue;
             }
+
+            if (item == null) {
+                item = new MealPlanMenuItem(slot);
+                menu.addItem(item);
+            }
+            resolveInto(item, display, matches);
         }
+    }
 
-        return pureName;
+    /**
+     * 메뉴 칸 행이 아직 없는 메뉴(백필 이전 데이터)를 위한 임시 변환 (저장하지 않음)
+     */
+    public List<MealPlanMenuItem> resolveTransientItems(MealPlanMenu menu) {
+        Map<String, FoodMatch> matches = new HashMap<>();
+        List<MealPlanMenuItem> items = new ArrayList<>();
+        for (MenuSlot slot : MenuSlot.values()) {
+            String display = menu.getDisplay(slot);
+            if (display == null || display.isBlank()) continue;
+
+            MealPlanMenuItem item = new MealPlanMenuItem(slot);
+            resolveInto(item, display, matches);
+            items.add(item);
+        }
+        return items;
+    }
+
+    private void resolveInto(MealPlanMenuItem item, String display, Map<String, FoodMatch> matches) {
+        String name = display;
+        List<Integer> allergens = new ArrayList<>();
+
+        Matcher matcher = ALLERGEN_PATTERN.matcher(display.trim());
+        if (matcher.matches()) {
+            name = matcher.group(1).trim();
+            for (String s : matcher.group(2).split(",")) {
+                try {
+                    allergens.add(Integer.parseInt(s.trim()));
+                } catch (NumberFormatException ignored) {}
+            }
+        }
+
+        item.setDisplay(display);
+        item.setFoodName(name);
+        item.setAllergenCodes(Allergen.toCsv(allergens));
+
+        FoodMatch match = matchFood(name, matches);
+        item.setFoodId(match.foodId());
+        item.setFoodCode(match.foodCode());
+        item.setNewFoodCode(match.newFoodCode());
+    }
+
+    /**
+     * 메뉴 칸 행이 없는 기존 데이터 백필 (한 배치 = 한 트랜잭션)
+     *
+     * @param afterId 이 ID 이후의 메뉴부터 처리
+     * @return 이번 배치에서 마지막으로 처리한 메뉴 ID (처리할 메뉴가 없으면 null)
+     */
+    @Transactional
+    public Long backfillItems(Long afterId, int batchSize) {
+        List<MealPlanMenu> menus = mealPlanMenuRepository.findWithoutItemsAfter(
+                afterId, PageRequest.of(0, batchSize));
+        if (menus.isEmpty()) return null;
+
+        Map<String, FoodMatch> matches = new HashMap<>();
+        for (MealPlanMenu menu : menus) {
+            syncItems(menu, matches);
+        }
+        return menus.get(menus.size() - 1).getId();
     }
-}
\ No newline at end of file
+}
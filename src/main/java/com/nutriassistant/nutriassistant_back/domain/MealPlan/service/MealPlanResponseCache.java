@@ -0,0 +1,217 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.MealPlanDetailResponse;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.MealPlanMonthlyResponse;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.MealPlanWeeklyResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 월간/주간/오늘 식단 조회 응답 캐시
+ *
+ * 역할:
+ * - 점심시간에 같은 학교 학생들이 동시에 조회하는 월간/주간 식단표 응답을 재사용합니다.
+ * - 오늘의 식단은 학교 공통 부분(메뉴/알레르기 요약/이미지 URL)만 캐시하고,
+ *   학생별 리뷰 작성 여부는 조회 시점에 붙입니다. (TodayMealPlanWarmer가 점심 전에 미리 채움)
+ * - 크기 제한 + TTL 만료 (Caffeine)
+ * - 같은 키에 대한 동시 미스는 한 번만 로드 (single-flight, Caffeine get(key, loader))
+ * - 월간/주간 응답은 같은 읽기 트랜잭션에서 만든 ETag와 함께 저장 (Versioned)
+ *   → 조건부 조회(If-None-Match)도 캐시 항목의 ETag로 비교하므로, 본문과 ETag가 항상 같은 시점의 데이터
+ *
+ * 무효화:
+ * - 식단 저장/수정(createOrReplace, updateMenuManually, replaceMenuWithAi) 시
+ *   트랜잭션 커밋 직후 해당 학교의 관련 키를 제거합니다.
+ * - 식단 이미지 저장 완료 시 해당 식단의 오늘 캐시를 제거합니다. (다음 조회에서 image_url 반영)
+ *
+ * 지표: cache.gets{cache=mealplan.monthly|mealplan.weekly|mealplan.today, result=hit|miss}, cache.size, cache.evictions ...
+ */
+@Slf4j
+@Component
+public class MealPlanResponseCache {
+
+    public record MonthlyKey(Long schoolId, int year, int month) {}
+
+    public record WeeklyKey(Long schoolId, LocalDate weekStart) {}
+
+    public record TodayKey(Long schoolId, LocalDate date) {}
+
+    /**
+     * 응답 본문 + 본문을 만든 시점의 ETag
+     */
+    public record Versioned<T>(T body, String etag) {}
+
+    /**
+     * 오늘의 식단 학교 공통 응답 (is_reviewed=false 상태)
+     * menuNames: 이미지가 아직 없을 때 생성 요청에 사용할 메뉴 이름
+     */
+    public record TodayPayload(MealPlanDetailResponse shared, List<String> menuNames) {}
+
+    private final Cache<MonthlyKey, Optional<Versioned<MealPlanMonthlyResponse>>> monthlyCache;
+    private final Cache<WeeklyKey, Versioned<List<MealPlanWeeklyResponse.WeeklyMenu>>> weeklyCache;
+    private final Cache<TodayKey, Optional<TodayPayload>> todayCache;
+
+    public MealPlanResponseCache(
+            @Value("${mealplan.cache.max-size:2000}") long maxSize,
+            @Value("${mealplan.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${mealplan.cache.today-ttl-seconds:600}") long todayTtlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.monthlyCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.weeklyCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.todayCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(todayTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, monthlyCache, "mealplan.monthly");
+        CaffeineCacheMetrics.monitor(meterRegistry, weeklyCache, "mealplan.weekly");
+        CaffeineCacheMetrics.monitor(meterRegistry, todayCache, "mealplan.today");
+    }
+
+    // =========================================================================
+    // 조회 (미스 시 loader 1회 실행)
+    // =========================================================================
+
+    public Optional<Versioned<MealPlanMonthlyResponse>> getMonthly(
+            Long schoolId, int year, int month,
+            Supplier<Optional<Versioned<MealPlanMonthlyResponse>>> loader) {
+        return monthlyCache.get(new MonthlyKey(schoolId, year, month), key -> loader.get());
+    }
+
+    public Versioned<List<MealPlanWeeklyResponse.WeeklyMenu>> getWeekly(
+            Long schoolId, LocalDate weekStart,
+            Supplier<Versioned<List<MealPlanWeeklyResponse.WeeklyMenu>>> loader) {
+        return weeklyCache.get(new WeeklyKey(schoolId, weekStart), key -> loader.get());
+    }
+
+    public Optional<TodayPayload> getToday(Long schoolId, LocalDate date,
+                                           Supplier<Optional<TodayPayload>> loader) {
+        return todayCache.get(new TodayKey(schoolId, date), key -> loader.get());
+    }
+
+    // =========================================================================
+    // 무효화
+    // =========================================================================
+
+    /**
+     * 월 단위 식단 저장 시: 해당 월 + 해당 학교의 주간 캐시 전체 제거
+     * (월 경계에 걸친 주가 있으므로 학교 단위로 제거)
+     */
+    public void evictMonth(Long schoolId, int year, int month) {
+        runAfterCommit(() -> {
+            monthlyCache.invalidate(new MonthlyKey(schoolId, year, month));
+            weeklyCache.asMap().keySet().removeIf(key -> key.schoolId().equals(schoolId));
+            todayCache.asMap().keySet().removeIf(key -> key.schoolId().equals(schoolId)
+                    && key.date().getYear() == year && key.date().getMonthValue() == month);
+            log.debug("식단 응답 캐시 무효화: schoolId={}, {}-{}", schoolId, year, month);
+        });
+    }
+
+    /**
+     * 한 끼 수정 시: 해당 날짜가 속한 월/주 캐시 제거
+     */
+    public void evictDate(Long schoolId, LocalDate date) {
+        runAfterCommit(() -> {
+            monthlyCache.invalidate(new MonthlyKey(schoolId, date.getYear(), date.getMonthValue()));
+            weeklyCache.invalidate(new WeeklyKey(schoolId, date.with(DayOfWeek.MONDAY)));
+            todayCache.invalidate(new TodayKey(schoolId, date));
+            log.debug("식단 응답 캐시 무효화: schoolId={}, date={}", schoolId, date);
+        });
+    }
+
+    /**
+     * 식단 이미지 저장 시: 해당 식단(mealPlanId)의 오늘 캐시 제거
+     * (이미지 URL이 비어 있던 응답이 캐시에 남지 않도록)
+     */
+    public void evictTodayByMealPlan(Long mealPlanId) {
+        runAfterCommit(() -> todayCache.asMap().values().removeIf(payload -> payload.isPresent()
+                && mealPlanId.equals(payload.get().shared().getMealPlanId())));
+    }
+
+    /**
+     * 커밋 전에 제거하면 동시 조회가 이전 데이터를 다시 캐시할 수 있으므로 커밋 이후에 제거
+     */
+    private void runAfterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    // =========================================================================
+    // 통계
+    // =========================================================================
+
+    public CacheStats monthlyStats() {
+        return monthlyCache.stats();
+    }
+
+    public CacheStats weeklyStats() {
+        return weeklyCache.stats();
+    }
+
+    public long monthlySize() {
+        return monthlyCache.estimatedSize();
+    }
+
+    public long weeklySize() {
+        return weeklyCache.estimatedSize();
+    }
+
+    /**
+     * 캐시별 적중/미스/로드 시간 요약
+     */
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("monthly", toMap(monthlyCache.stats(), monthlyCache.estimatedSize()));
+        summary.put("weekly", toMap(weeklyCache.stats(), weeklyCache.estimatedSize()));
+        summary.put("today", toMap(todayCache.stats(), todayCache.estimatedSize()));
+        return summary;
+    }
+
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", size);
+        map.put("hit_count", stats.hitCount());
+        map.put("miss_count", stats.missCount());
+        map.put("hit_rate", stats.hitRate());
+        map.put("load_count", stats.loadCount());
+        map.put("load_failure_count", stats.loadFailureCount());
+        map.put("average_load_millis", stats.averageLoadPenalty() / 1_000_000.0);
+        map.put("total_load_millis", stats.totalLoadTime() / 1_000_000);
+        map.put("eviction_count", stats.evictionCount());
+        return map;
+    }
+}
@@ -1,39 +1,54 @@
 package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.DTO.*;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.*;
-import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.FoodInfoRepository;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanMenuRepository;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanRepository;
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MenuHistoryRepository;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.entity.NewFoodInfo;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.repository.NewFoodInfoRepository;
-import com.nutriassistant.nutriassistant_back.domain.ai.service.ImageGenerationService;
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.MonthlyOpsDoc;
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service.MonthlyOpsDocService;
 import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
 // [추가] S3 업로더 import
 import com.nutriassistant.nutriassistant_back.global.aws.S3Uploader;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiGateway;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiUnavailableException;
+import com.nutriassistant.nutriassistant_back.global.client.JsonBodyWriter;
+import com.nutriassistant.nutriassistant_back.global.pagination.CursorPage;
+import com.nutriassistant.nutriassistant_back.global.pagination.KeysetCursor;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -45,49 +60,51 @@ public class MealPlanService {
     private final MenuHistoryRepository menuHistoryRepository;
     private final MealPlanMenuService mealPlanMenuService;
 
-    private final RestClient restClient;
+    private final FastApiGateway fastApiGateway;
     private final ObjectMapper objectMapper;
-    private final FoodInfoRepository foodInfoRepository;
+    private final FoodCatalogIndex foodCatalogIndex;
+    private final MealPlanResponseCache mealPlanResponseCache;
     private final NewFoodInfoRepository newFoodInfoRepository;
     private final MonthlyOpsDocService monthlyOpsDocService;
-    private final ImageGenerationService imageGenerationService;
+    private final MealImageGenerationWorker mealImageGenerationWorker;
     private final ReviewRepository reviewRepository;
 
     // [추가] S3 업로더 주입
     private final S3Uploader s3Uploader;
 
-    // --- 환경 변수 ---
-    @Value("${fastapi.base-url:http://localhost:8001}")
-    private String fastApiBaseUrl;
-
-    @Value("${fastapi.internal-token:}")
-    private String internalToken;
+    // 요청 본문 스트리밍 중 DB 커서 조회용 (신메뉴)
+    private final TransactionTemplate readOnlyTx;
 
     public MealPlanService(MealPlanRepository mealPlanRepository,
                            MealPlanMenuRepository mealPlanMenuRepository,
                            MenuHistoryRepository menuHistoryRepository,
                            MealPlanMenuService mealPlanMenuService,
                            MonthlyOpsDocService monthlyOpsDocService,
-                           RestClient restClient,
+                           FastApiGateway fastApiGateway,
                            ObjectMapper objectMapper,
-                           FoodInfoRepository foodInfoRepository,
+                           FoodCatalogIndex foodCatalogIndex,
+                           MealPlanResponseCache mealPlanResponseCache,
                            NewFoodInfoRepository newFoodInfoRepository,
-                           ImageGenerationService imageGenerationService,
+                           MealImageGenerationWorker mealImageGenerationWorker,
                            ReviewRepository reviewRepository,
-                           S3Uploader s3Uploader // [추가] 생성자 주입
+                           S3Uploader s3Uploader, // [추가] 생성자 주입
+                           PlatformTransactionManager transactionManager
     ) {
         this.mealPlanRepository = mealPlanRepository;
         this.mealPlanMenuRepository = mealPlanMenuRepository;
         this.menuHistoryRepository = menuHistoryRepository;
         this.mealPlanMenuService = mealPlanMenuService;
         this.monthlyOpsDocService = monthlyOpsDocService;
-        this.restClient = restClient;
+        this.fastApiGateway = fastApiGateway;
         this.objectMapper = objectMapper;
-        this.foodInfoRepository = foodInfoRepository;
+        this.foodCatalogIndex = foodCatalogIndex;
+        this.mealPlanResponseCache = mealPlanResponseCache;
         this.newFoodInfoRepository = newFoodInfoRepository;
-        this.imageGenerationService = imageGenerationService;
+        this.mealImageGenerationWorker = mealImageGenerationWorker;
         this.reviewRepository = reviewRepository;
         this.s3Uploader = s3Uploader; // [할당]
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
     }
 
     @Transactional(readOnly = true)
@@ -101,55 +118,87 @@ public class MealPlanService {
     }
 
     // =========================================================================
-    // [수정] 메인 화면용: 오늘의 식단 조회 (이미지 생성 -> S3 업로드 -> URL 저장)
+    // [수정] 메인 화면용: 오늘의 식단 조회 (이미지는 백그라운드 워커에서 생성)
+    //    학교 공통 부분(메뉴/알레르기 요약/이미지 URL)은 캐시에서 가져오고,
+    //    학생별 리뷰 작성 여부만 조회 시점에 확인합니다.
     // =========================================================================
-    @Transactional
+    @Transactional(readOnly = true)
     public MealPlanDetailResponse getTodayMealPlan(Long schoolId, Long studentId) {
         LocalDate today = LocalDate.now();
 
-        /* 1. 오늘의 점심 식단 조회 (학교 ID, 날짜, 식사 타입을 기준으로 조회) */
-        MealPlanMenu menu = mealPlanMenuRepository.findByMealPlan_SchoolIdAndMenuDateAndMealType(
-                schoolId, today, MealType.LUNCH
-        ).orElseThrow(() -> new IllegalArgumentException("오늘의 중식 식단이 존재하지 않습니다."));
-
-        /* 2. 메뉴 엔티티와 연관된 부모 식단(MealPlan) 정보 획득 */
-        MealPlan mealPlan = menu.getMealPlan();
-
-        /* 3. 저장된 이미지 URL이 없는 경우 AI를 통해 이미지를 생성하고 S3에 저장함 */
-        if (mealPlan.getImageUrl() == null || mealPlan.getImageUrl().isBlank()) {
-            try {
-                /* 3-1. 현재 식단 메뉴에서 음식 이름 리스트만 추출함 */
-                List<String> menuNames = extractMenuNames(menu);
-
-                if (!menuNames.isEmpty()) {
-                    log.info("오늘의 식단 이미지 생성 시작: {}", menuNames);
-
-                    /* * 3-2. AI 이미지 생성 및 S3 업로드 통합 서비스 호출
-                     * ImageGenerationService 내부의 generateAndSaveMealImage 메서드가
-                     * 이미지 생성, Base64 디코딩, S3 업로드를 모두 처리하고 최종 URL을 반환함
-                     */
-                    String s3Url = imageGenerationService.generateAndSaveMealImage(menuNames);
-
-                    /* 3-3. 생성된 S3 URL을 식단 엔티티에 업데이트하여 DB에 반영함 */
-                    mealPlan.updateImageUrl(s3Url);
-                    log.info("식단 이미지 생성 및 S3 업로드 완료: {}", s3Url);
-                }
-            } catch (Exception e) {
-                /* AI 서비스 장애가 발생하더라도 사용자에게는 식단 텍스트 정보라도 보여주기 위해 예외를 로그로만 남김 */
-                log.error("AI 이미지 생성 또는 S3 업로드 실패 (상세 로그): ", e);
-            }
+        /* 1. 학교 공통 응답 (보통은 TodayMealPlanWarmer가 미리 적재, 미스 시에만 DB 조회 + 응답 변환) */
+        MealPlanResponseCache.TodayPayload payload = mealPlanResponseCache
+                .getToday(schoolId, today, () -> loadTodayPayload(schoolId, today))
+                .orElseThrow(() -> new IllegalArgumentException("오늘의 중식 식단이 존재하지 않습니다."));
+        MealPlanDetailResponse shared = payload.shared();
+
+        /*
+         * 2. 저장된 이미지 URL이 없으면 백그라운드 생성만 요청하고 바로 응답함
+         *    (같은 식단의 생성 작업은 하나만 실행되며, 완료 시 캐시가 제거되어 다음 조회에서 image_url이 채워짐)
+         */
+        MealImageGenerationWorker.ImageStatus imageStatus = MealImageGenerationWorker.ImageStatus.READY;
+        if (shared.getImageUrl() == null || shared.getImageUrl().isBlank()) {
+            imageStatus = mealImageGenerationWorker.requestImage(shared.getMealPlanId(), payload.menuNames());
         }
 
-        // 4. 리뷰 작성 여부 확인
+        // 3. 리뷰 작성 여부 확인 (학생별)
         boolean isReviewed = false;
         if (studentId != null) {
             isReviewed = reviewRepository.existsByStudentIdAndDateAndMealType(
-                    studentId, menu.getMenuDate(), MealType.valueOf(String.valueOf(menu.getMealType()))
+                    studentId, shared.getDate(), MealType.LUNCH
             );
         }
 
-        // 5. 응답 DTO 변환 (리뷰 여부 전달)
-        return toDetailResponse(menu, isReviewed);
+        // 4. 공통 응답을 복사해 학생별 값만 반영 (캐시된 객체는 수정하지 않음)
+        return shared.toBuilder()
+                .imageStatus(imageStatus.name())
+                .isReviewed(isReviewed)
+                .build();
+    }
+
+    /**
+     * 오늘의 식단 사전 적재 (TodayMealPlanWarmer에서 학교별로 호출)
+     * 캐시에 없을 때만 조회해 채웁니다. (이미 있는 응답은 덮어쓰지 않으므로,
+     * 식단 변경/이미지 완료 시 커밋 후 제거된 항목만 다시 채워짐 → 오래된 응답을 되살리지 않음)
+     * 새로 적재한 응답에 이미지가 없으면 점심 전에 생성이 끝나도록 이 시점에 생성을 요청합니다.
+     *
+     * @return 캐시에 없어 새로 적재했으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean warmTodayMealPlan(Long schoolId, LocalDate date) {
+        boolean[] loaded = {false};
+        Optional<MealPlanResponseCache.TodayPayload> payload = mealPlanResponseCache.getToday(schoolId, date, () -> {
+            loaded[0] = true;
+            return loadTodayPayload(schoolId, date);
+        });
+        if (!loaded[0]) {
+            return false;
+        }
+
+        payload.ifPresent(p -> {
+            String imageUrl = p.shared().getImageUrl();
+            if (imageUrl == null || imageUrl.isBlank()) {
+                mealImageGenerationWorker.requestImage(p.shared().getMealPlanId(), p.menuNames());
+            }
+        });
+        return payload.isPresent();
+    }
+
+    /**
+     * 해당 날짜에 중식이 등록된 학교 ID 목록 (사전 적재 대상)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findSchoolIdsWithLunch(LocalDate date) {
+        return mealPlanMenuRepository.findSchoolIdsByMenuDateAndMealType(date, MealType.LUNCH);
+    }
+
+    // [헬퍼] 오늘의 식단 학교 공통 응답 생성 (is_reviewed=false, 이미지 상태는 조회 시점에 결정)
+    private Optional<MealPlanResponseCache.TodayPayload> loadTodayPayload(Long schoolId, LocalDate date) {
+        return mealPlanMenuRepository.findByMealPlan_SchoolIdAndMenuDateAndMealType(schoolId, date, MealType.LUNCH)
+                .map(menu -> new MealPlanResponseCache.TodayPayload(
+                        toDetailResponse(menu, false, MealImageGenerationWorker.ImageStatus.READY),
+                        List.copyOf(extractMenuNames(menu))
+                ));
     }
 
     // [헬퍼] 메뉴 객체에서 음식 이름만 리스트로 추출
@@ -173,10 +222,16 @@ public class MealPlanService {
     }
 
     // =========================================================================
-    // 1. [생성] 월간 식단 생성 (FastAPI 호출 -> DB 저장)
+    // 1. [생성] 월간 식단 생성 (FastAPI 호출 -> 응답 스트리밍 저장)
+    //    요청 본문은 전송 스트림에 바로 쓰고(신메뉴는 DB 커서에서 한 행씩),
+    //    AI 응답 대기 중에는 트랜잭션/DB 커넥션을 점유하지 않으며,
+    //    응답 본문은 임시 파일로 받아 HTTP 커넥션을 먼저 반납한 뒤,
+    //    meals 배열을 JsonParser로 읽으면서 배치 단위로 저장합니다.
+    //    (전체 응답을 JsonNode 트리로 올리지 않으므로 메모리 사용량은 배치 크기에 비례)
+    //
+    //    onResponse: 응답 수신 직후(저장 시작 전) 호출 (생성 작업 상태 SAVING 전환용)
     // =========================================================================
-    @Transactional
-    public MealPlan generateAndSave(Long schoolId, MealPlanGenerateRequest req) {
+    public MealPlan generateAndSaveStreaming(Long schoolId, MealPlanGenerateRequest req, Runnable onResponse) {
         log.info("============================================================");
         log.info("📋 식단 생성 요청 시작");
         log.info("============================================================");
@@ -208,14 +263,10 @@ public class MealPlanService {
             log.info("ℹ️ 운영 일지 없음 → 기본 가중치로 식단 생성");
         }
 
-        // FastAPI 요청 Body 구성
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("year", year);
-        requestBody.put("month", month);
-        requestBody.put("school_id", schoolId);
-
+        // FastAPI 요청 옵션 구성
+        Map<String, Object> options = null;
         if (req.getOptions() != null) {
-            Map<String, Object> options = new HashMap<>();
+            options = new HashMap<>();
             options.put("numGenerations", req.getOptions().getNumGenerations());
 
             if (req.getOptions().getConstraints() != null) {
@@ -230,51 +281,69 @@ public class MealPlanService {
 
                 options.put("constraints", constraints);
             }
-            requestBody.put("options", options);
-        }
-
-        if (reportData != null) {
-            requestBody.put("report", objectMapper.convertValue(reportData, Map.class));
         }
 
-        // 신메뉴 추가
-        List<NewFoodInfo> newFoodInfoList = newFoodInfoRepository.findBySchoolIdAndDeletedFalse(schoolId);
-        if (!newFoodInfoList.isEmpty()) {
-            List<Map<String, Object>> newMenus = newFoodInfoList.stream()
-                    .map(this::convertNewFoodInfoToMap)
-                    .collect(Collectors.toList());
-            requestBody.put("new_menus", newMenus);
-            log.info("📋 신메뉴 {}개 추가", newMenus.size());
-        }
+        // FastAPI 요청 Body (전송 스트림에 바로 작성)
+        Map<String, Object> requestOptions = options;
+        JsonNode report = reportData;
+        JsonBodyWriter newMenus = JsonBodyWriter.inTransaction(readOnlyTx, generator -> {
+            int count = writeNewMenus(generator, schoolId);
+            if (count > 0) {
+                log.info("📋 신메뉴 {}개 추가", count);
+            }
+        });
+        JsonBodyWriter requestBody = generator -> {
+            generator.writeStartObject();
+            generator.writeNumberField("year", year);
+            generator.writeNumberField("month", month);
+            generator.writeNumberField("school_id", schoolId);
+            if (requestOptions != null) {
+                generator.writeObjectField("options", requestOptions);
+            }
+            if (report != null) {
+                generator.writeFieldName("report");
+                generator.writeTree(report);
+            }
+            newMenus.writeTo(generator);
+            generator.writeEndObject();
+        };
 
         // FastAPI 호출
         log.info("🚀 FastAPI 호출: /month/generate");
 
-        JsonNode fastPayload;
+        MealPlan savedPlan;
+        Path responseFile = null;
         try {
-            fastPayload = restClient.post()
-                    .uri("/month/generate")
-                    .headers(httpHeaders -> httpHeaders.addAll(createHeaders()))
-                    .body(requestBody)
-                    .retrieve()
-                    .body(JsonNode.class);
-        } catch (Exception e) {
-            log.error("FastAPI 호출 실패", e);
-            throw new RuntimeException("식단 생성 중 AI 서버 오류 발생: " + e.getMessage());
-        }
+            // 응답 본문 → 임시 파일 (DB 저장 중에 AI 서버 커넥션/동시 호출 한도를 잡고 있지 않도록)
+            responseFile = fastApiGateway.generateMonthly(requestBody, (request, response) -> {
+                if (response.getStatusCode().isError()) {
+                    throw toFastApiException(response);
+                }
+                Path file = Files.createTempFile("meal-plan-generate-", ".json");
+                try (InputStream body = response.getBody()) {
+                    Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    Files.deleteIfExists(file);
+                    throw e;
+                }
+                return file;
+            });
 
-        log.info("✅ FastAPI 응답 수신");
+            log.info("✅ FastAPI 응답 수신 ({} bytes) → 스트리밍 저장 시작", Files.size(responseFile));
+            onResponse.run();
 
-        // DB 저장
-        MealPlanCreateRequest saveReq = new MealPlanCreateRequest(
-                schoolId,
-                year,
-                month,
-                LocalDateTime.now(),
-                fastPayload.get("meals")
-        );
+            try (JsonParser parser = objectMapper.getFactory().createParser(responseFile.toFile())) {
+                savedPlan = mealPlanMenuService.importStreaming(schoolId, year, month, parser);
+            }
+        } catch (Exception e) {
+            log.error("FastAPI 호출 또는 식단 저장 실패", e);
+            throw new RuntimeException("식단 생성 중 AI 서버 오류 발생: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(responseFile);
+        }
 
-        MealPlan savedPlan = createOrReplace(saveReq);
+        // importStreaming 트랜잭션이 커밋된 뒤이므로 즉시 무효화
+        mealPlanResponseCache.evictMonth(schoolId, year, month);
 
         log.info("============================================================");
         log.info("✅ 식단 생성 완료: MealPlan ID={}", savedPlan.getId());
@@ -283,6 +352,26 @@ public class MealPlanService {
         return savedPlan;
     }
 
+    private void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("⚠️ 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private HttpStatusCodeException toFastApiException(ClientHttpResponse response) throws IOException {
+        HttpStatusCode status = response.getStatusCode();
+        byte[] body = response.getBody().readAllBytes();
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(status, response.getStatusText(),
+                    response.getHeaders(), body, StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(status, response.getStatusText(),
+                response.getHeaders(), body, StandardCharsets.UTF_8);
+    }
+
     // =========================================================================
     // 2. [저장 로직] 식단 데이터 저장 및 갱신
     // =========================================================================
@@ -312,6 +401,8 @@ public class MealPlanService {
         mealPlanMenuService.importFromFastApi(savedPlan.getId(), payload);
         log.info("✅ 메뉴 저장 완료");
 
+        mealPlanResponseCache.evictMonth(savedPlan.getSchoolId(), savedPlan.getYear(), savedPlan.getMonth());
+
         return savedPlan;
     }
 
@@ -333,13 +424,24 @@ public class MealPlanService {
         menuHistoryRepository.save(history);
     }
 
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        if (internalToken != null && !internalToken.isEmpty()) {
-            headers.set("X-Internal-API-Key", internalToken);
+    /**
+     * 신메뉴 목록 작성 (DB 커서에서 한 건씩, 신메뉴가 없으면 new_menus 필드 자체를 생략)
+     */
+    private int writeNewMenus(JsonGenerator generator, Long schoolId) throws IOException {
+        int count = 0;
+        try (Stream<NewFoodInfo> rows = newFoodInfoRepository.streamBySchoolId(schoolId)) {
+            for (NewFoodInfo info : (Iterable<NewFoodInfo>) rows::iterator) {
+                if (count == 0) {
+                    generator.writeArrayFieldStart("new_menus");
+                }
+                generator.writeObject(convertNewFoodInfoToMap(info));
+                count++;
+            }
+        }
+        if (count > 0) {
+            generator.writeEndArray();
         }
-        return headers;
+        return count;
     }
 
     private Map<String, Object> convertNewFoodInfoToMap(NewFoodInfo info) {
@@ -380,14 +482,16 @@ public class MealPlanService {
                 .collect(Collectors.toList());
     }
 
-    private MealPlanGenerateResponse toResponse(MealPlanMenu menu) {
-        MealPlanGenerateResponse.MenuItem riceItem = parseMenuItem(menu.getRiceDisplay());
-        MealPlanGenerateResponse.MenuItem soupItem = parseMenuItem(menu.getSoupDisplay());
-        MealPlanGenerateResponse.MenuItem main1Item = parseMenuItem(menu.getMain1Display());
-        MealPlanGenerateResponse.MenuItem main2Item = parseMenuItem(menu.getMain2Display());
-        MealPlanGenerateResponse.MenuItem sideItem = parseMenuItem(menu.getSideDisplay());
-        MealPlanGenerateResponse.MenuItem kimchiItem = parseMenuItem(menu.getKimchiDisplay());
-        MealPlanGenerateResponse.MenuItem dessertItem = parseMenuItem(menu.getDessertDisplay());
+    // 패키지 공개: JMH 벤치마크(src/jmh)에서 직접 호출
+    MealPlanGenerateResponse toResponse(MealPlanMenu menu) {
+        Map<MenuSlot, MealPlanMenuItem> items = itemsOf(menu);
+        MealPlanGenerateResponse.MenuItem riceItem = toGenerateMenuItem(items.get(MenuSlot.RICE));
+        MealPlanGenerateResponse.MenuItem soupItem = toGenerateMenuItem(items.get(MenuSlot.SOUP));
+        MealPlanGenerateResponse.MenuItem main1Item = toGenerateMenuItem(items.get(MenuSlot.MAIN1));
+        MealPlanGenerateResponse.MenuItem main2Item = toGenerateMenuItem(items.get(MenuSlot.MAIN2));
+        MealPlanGenerateResponse.MenuItem sideItem = toGenerateMenuItem(items.get(MenuSlot.SIDE));
+        MealPlanGenerateResponse.MenuItem kimchiItem = toGenerateMenuItem(items.get(MenuSlot.KIMCHI));
+        MealPlanGenerateResponse.MenuItem dessertItem = toGenerateMenuItem(items.get(MenuSlot.DESSERT));
 
         MealPlanGenerateResponse.MenuItems menuItems = MealPlanGenerateResponse.MenuItems.builder()
                 .rice(riceItem)
@@ -418,38 +522,32 @@ public class MealPlanService {
                 .build();
     }
 
-    private static final Pattern ALLERGEN_PATTERN = Pattern.compile("(.+?)\\(([\\d,\\s]+)\\)$");
-
-    private MealPlanGenerateResponse.MenuItem parseMenuItem(String display) {
-        if (display == null || display.isBlank()) {
-            return null;
+    /**
+     * 메뉴 칸 조회 (저장 시점에 파싱/매칭된 meal_plan_menu_item 사용)
+     * 백필 이전 데이터는 표시 문자열에서 임시로 변환
+     */
+    private Map<MenuSlot, MealPlanMenuItem> itemsOf(MealPlanMenu menu) {
+        if (!menu.getItems().isEmpty()) {
+            return menu.getItemsBySlot();
         }
 
-        String name = display;
-        List<Integer> allergens = new ArrayList<>();
-
-        Matcher matcher = ALLERGEN_PATTERN.matcher(display.trim());
-        if (matcher.matches()) {
-            name = matcher.group(1).trim();
-            String allergenStr = matcher.group(2);
-            for (String s : allergenStr.split(",")) {
-                try {
-                    allergens.add(Integer.parseInt(s.trim()));
-                } catch (NumberFormatException ignored) {}
-            }
+        Map<MenuSlot, MealPlanMenuItem> bySlot = new EnumMap<>(MenuSlot.class);
+        for (MealPlanMenuItem item : mealPlanMenuService.resolveTransientItems(menu)) {
+            bySlot.put(item.getSlot(), item);
         }
+        return bySlot;
+    }
 
-        Long menuId = null;
-        Optional<FoodInfo> foodOpt = foodInfoRepository.findByFoodNameIgnoreSpace(name);
-        if (foodOpt.isPresent()) {
-            menuId = foodOpt.get().getId();
+    private MealPlanGenerateResponse.MenuItem toGenerateMenuItem(MealPlanMenuItem item) {
+        if (item == null) {
+            return null;
         }
 
         return MealPlanGenerateResponse.MenuItem.builder()
-                .menuId(menuId)
-                .name(name)
-                .display(display)
-                .allergens(allergens)
+                .menuId(item.getFoodId())
+                .name(item.getFoodName())
+                .display(item.getDisplay())
+                .allergens(item.getAllergenList())
                 .build();
     }
 
@@ -475,6 +573,22 @@ public class MealPlanService {
     // =========================================================================
     // 5. [응답 변환] MealPlan -> MealPlanMonthlyResponse 변환
     // =========================================================================
+
+    /**
+     * 월간 식단표 응답 + ETag 조회 (응답 캐시 사용, 동시 미스 시 1회만 생성)
+     * 버전 스탬프와 응답을 같은 읽기 트랜잭션(스냅샷)에서 만들어 함께 캐시합니다.
+     */
+    public Optional<MealPlanResponseCache.Versioned<MealPlanMonthlyResponse>> getMonthlyResponse(
+            Long schoolId, Integer year, Integer month) {
+        return mealPlanResponseCache.getMonthly(schoolId, year, month, () -> readOnlyTx.execute(status -> {
+            LocalDate monthStart = LocalDate.of(year, month, 1);
+            String etag = getMenuVersionETag(schoolId, monthStart,
+                    monthStart.withDayOfMonth(monthStart.lengthOfMonth()), "monthly:" + year + "-" + month);
+            return mealPlanRepository.findBySchoolIdAndYearAndMonth(schoolId, year, month)
+                    .map(mealPlan -> new MealPlanResponseCache.Versioned<>(toMonthlyResponse(mealPlan), etag));
+        }));
+    }
+
     public MealPlanMonthlyResponse toMonthlyResponse(MealPlan mealPlan) {
         List<MealPlanMenu> menus = mealPlanMenuRepository.findByMealPlanIdOrderByMenuDateAscMealTypeAsc(mealPlan.getId());
 
@@ -510,14 +624,16 @@ public class MealPlanService {
                 .build();
     }
 
-    private MealPlanMonthlyResponse.MenuDetail toMenuDetail(MealPlanMenu menu, Map<String, String> actionTypeMap) {
-        MealPlanMonthlyResponse.MenuItem riceItem = parseMonthlyMenuItem(menu.getRiceDisplay());
-        MealPlanMonthlyResponse.MenuItem soupItem = parseMonthlyMenuItem(menu.getSoupDisplay());
-        MealPlanMonthlyResponse.MenuItem main1Item = parseMonthlyMenuItem(menu.getMain1Display());
-        MealPlanMonthlyResponse.MenuItem main2Item = parseMonthlyMenuItem(menu.getMain2Display());
-        MealPlanMonthlyResponse.MenuItem sideItem = parseMonthlyMenuItem(menu.getSideDisplay());
-        MealPlanMonthlyResponse.MenuItem kimchiItem = parseMonthlyMenuItem(menu.getKimchiDisplay());
-        MealPlanMonthlyResponse.MenuItem dessertItem = parseMonthlyMenuItem(menu.getDessertDisplay());
+    // 패키지 공개: JMH 벤치마크(src/jmh)에서 직접 호출
+    MealPlanMonthlyResponse.MenuDetail toMenuDetail(MealPlanMenu menu, Map<String, String> actionTypeMap) {
+        Map<MenuSlot, MealPlanMenuItem> items = itemsOf(menu);
+        MealPlanMonthlyResponse.MenuItem riceItem = toMonthlyMenuItem(items.get(MenuSlot.RICE));
+        MealPlanMonthlyResponse.MenuItem soupItem = toMonthlyMenuItem(items.get(MenuSlot.SOUP));
+        MealPlanMonthlyResponse.MenuItem main1Item = toMonthlyMenuItem(items.get(MenuSlot.MAIN1));
+        MealPlanMonthlyResponse.MenuItem main2Item = toMonthlyMenuItem(items.get(MenuSlot.MAIN2));
+        MealPlanMonthlyResponse.MenuItem sideItem = toMonthlyMenuItem(items.get(MenuSlot.SIDE));
+        MealPlanMonthlyResponse.MenuItem kimchiItem = toMonthlyMenuItem(items.get(MenuSlot.KIMCHI));
+        MealPlanMonthlyResponse.MenuItem dessertItem = toMonthlyMenuItem(items.get(MenuSlot.DESSERT));
 
         MealPlanMonthlyResponse.MenuItems menuItems = MealPlanMonthlyResponse.MenuItems.builder()
                 .rice(riceItem)
@@ -555,36 +671,16 @@ public class MealPlanService {
                 .build();
     }
 
-    private MealPlanMonthlyResponse.MenuItem parseMonthlyMenuItem(String display) {
-        if (display == null || display.isBlank()) {
+    private MealPlanMonthlyResponse.MenuItem toMonthlyMenuItem(MealPlanMenuItem item) {
+        if (item == null) {
             return null;
         }
 
-        String name = display;
-        List<Integer> allergens = new ArrayList<>();
-
-        Matcher matcher = ALLERGEN_PATTERN.matcher(display.trim());
-        if (matcher.matches()) {
-            name = matcher.group(1).trim();
-            String allergenStr = matcher.group(2);
-            for (String s : allergenStr.split(",")) {
-                try {
-                    allergens.add(Integer.parseInt(s.trim()));
-                } catch (NumberFormatException ignored) {}
-            }
-        }
-
-        String foodCode = null;
-        Optional<FoodInfo> foodOpt = foodInfoRepository.findByFoodNameIgnoreSpace(name);
-        if (foodOpt.isPresent()) {
-            foodCode = foodOpt.get().getFoodCode();
-        }
-
         return MealPlanMonthlyResponse.MenuItem.builder()
-                .id(foodCode)
-                .name(name)
-                .display(display)
-                .allergens(allergens)
+                .id(item.getFoodCode())
+                .name(item.getFoodName())
+                .display(item.getDisplay())
+                .allergens(item.getAllergenList())
                 .build();
     }
 
@@ -621,13 +717,23 @@ public class MealPlanService {
 
     // 2. 리뷰 여부 포함 버전
     public MealPlanDetailResponse toDetailResponse(MealPlanMenu menu, boolean isReviewed) {
-        MealPlanDetailResponse.MenuItem riceItem = parseDetailMenuItem(menu.getRiceDisplay());
-        MealPlanDetailResponse.MenuItem soupItem = parseDetailMenuItem(menu.getSoupDisplay());
-        MealPlanDetailResponse.MenuItem main1Item = parseDetailMenuItem(menu.getMain1Display());
-        MealPlanDetailResponse.MenuItem main2Item = parseDetailMenuItem(menu.getMain2Display());
-        MealPlanDetailResponse.MenuItem sideItem = parseDetailMenuItem(menu.getSideDisplay());
-        MealPlanDetailResponse.MenuItem kimchiItem = parseDetailMenuItem(menu.getKimchiDisplay());
-        MealPlanDetailResponse.MenuItem dessertItem = parseDetailMenuItem(menu.getDessertDisplay());
+        String imageUrl = menu.getMealPlan().getImageUrl();
+        return toDetailResponse(menu, isReviewed, imageUrl == null || imageUrl.isBlank()
+                ? MealImageGenerationWorker.ImageStatus.NONE
+                : MealImageGenerationWorker.ImageStatus.READY);
+    }
+
+    // 3. 리뷰 여부 + 이미지 생성 상태 포함 버전
+    private MealPlanDetailResponse toDetailResponse(MealPlanMenu menu, boolean isReviewed,
+                                                    MealImageGenerationWorker.ImageStatus imageStatus) {
+        Map<MenuSlot, MealPlanMenuItem> items = itemsOf(menu);
+        MealPlanDetailResponse.MenuItem riceItem = toDetailMenuItem(items.get(MenuSlot.RICE));
+        MealPlanDetailResponse.MenuItem soupItem = toDetailMenuItem(items.get(MenuSlot.SOUP));
+        MealPlanDetailResponse.MenuItem main1Item = toDetailMenuItem(items.get(MenuSlot.MAIN1));
+        MealPlanDetailResponse.MenuItem main2Item = toDetailMenuItem(items.get(MenuSlot.MAIN2));
+        MealPlanDetailResponse.MenuItem sideItem = toDetailMenuItem(items.get(MenuSlot.SIDE));
+        MealPlanDetailResponse.MenuItem kimchiItem = toDetailMenuItem(items.get(MenuSlot.KIMCHI));
+        MealPlanDetailResponse.MenuItem dessertItem = toDetailMenuItem(items.get(MenuSlot.DESSERT));
 
         MealPlanDetailResponse.MenuItems menuItems = MealPlanDetailResponse.MenuItems.builder()
                 .rice(riceItem)
@@ -659,6 +765,7 @@ public class MealPlanService {
 
                 // ▼▼▼ [추가] 이미지 URL 및 리뷰 여부 매핑 ▼▼▼
                 .imageUrl(menu.getMealPlan().getImageUrl())
+                .imageStatus(imageStatus.name())
                 .isReviewed(isReviewed)
 
                 .nutrition(nutrition)
@@ -671,53 +778,37 @@ public class MealPlanService {
                 .build();
     }
 
-    private MealPlanDetailResponse.MenuItem parseDetailMenuItem(String display) {
-        if (display == null || display.isBlank()) {
+    private MealPlanDetailResponse.MenuItem toDetailMenuItem(MealPlanMenuItem item) {
+        if (item == null) {
             return null;
         }
 
-        String name = display;
-        List<Integer> allergens = new ArrayList<>();
-
-        Matcher matcher = ALLERGEN_PATTERN.matcher(display.trim());
-        if (matcher.matches()) {
-            name = matcher.group(1).trim();
-            String allergenStr = matcher.group(2);
-            for (String s : allergenStr.split(",")) {
-                try {
-                    allergens.add(Integer.parseInt(s.trim()));
-                } catch (NumberFormatException ignored) {}
-            }
-        }
-
         String foodCode = null;
         String recipe = null;
         String ingredients = null;
 
-        Optional<FoodInfo> foodOpt = foodInfoRepository.findByFoodNameIgnoreSpace(name);
-        if (foodOpt.isPresent()) {
-            FoodInfo food = foodOpt.get();
-            foodCode = food.getFoodCode();
-            recipe = food.getRecipe();
-            ingredients = food.getIngredients();
-        }
-
-        // FoodInfo에 없으면 NewFoodInfo에서 조회
-        if (foodCode == null) {
-            Optional<NewFoodInfo> newFoodOpt = newFoodInfoRepository.findByFoodNameAndDeletedFalse(name);
+        // 레시피/재료는 크기가 커서 메뉴 칸에 복제하지 않고 음식 카탈로그(메모리)에서 가져옴
+        if (item.getFoodCode() != null) {
+            foodCode = item.getFoodCode();
+            Optional<FoodInfo> foodOpt = foodCatalogIndex.findFood(item.getFoodName());
+            if (foodOpt.isPresent()) {
+                recipe = foodOpt.get().getRecipe();
+                ingredients = foodOpt.get().getIngredients();
+            }
+        } else if (item.getNewFoodCode() != null) {
+            foodCode = item.getNewFoodCode();
+            Optional<NewFoodInfo> newFoodOpt = foodCatalogIndex.findNewFood(item.getFoodName());
             if (newFoodOpt.isPresent()) {
-                NewFoodInfo newFood = newFoodOpt.get();
-                foodCode = newFood.getFoodCode();
-                recipe = newFood.getRecipe();
-                ingredients = newFood.getIngredients();
+                recipe = newFoodOpt.get().getRecipe();
+                ingredients = newFoodOpt.get().getIngredients();
             }
         }
 
         return MealPlanDetailResponse.MenuItem.builder()
                 .id(foodCode)
-                .name(name)
-                .display(display)
-                .allergens(allergens)
+                .name(item.getFoodName())
+                .display(item.getDisplay())
+                .allergens(item.getAllergenList())
                 .recipe(recipe)
                 .ingredients(ingredients)
                 .build();
@@ -755,12 +846,33 @@ public class MealPlanService {
         return menus;
     }
 
+    /**
+     * 주간 메뉴 목록 + ETag 조회 (응답 캐시 사용, 동시 미스 시 1회만 생성)
+     * current_offset은 요청 시점 기준이므로 캐시하지 않고 buildWeeklyResponse / weeklyETag에서 반영
+     */
+    public MealPlanResponseCache.Versioned<List<MealPlanWeeklyResponse.WeeklyMenu>> getWeeklyMenus(
+            Long schoolId, LocalDate weekStart, LocalDate weekEnd) {
+        return mealPlanResponseCache.getWeekly(schoolId, weekStart, () -> readOnlyTx.execute(status -> {
+            String etag = getMenuVersionETag(schoolId, weekStart, weekEnd, "weekly:" + weekStart);
+            List<MealPlanWeeklyResponse.WeeklyMenu> menus = findWeeklyMenus(schoolId, weekStart, weekEnd).stream()
+                    .map(this::toWeeklyMenu)
+                    .collect(Collectors.toUnmodifiableList());
+            return new MealPlanResponseCache.Versioned<>(menus, etag);
+        }));
+    }
+
     public MealPlanWeeklyResponse toWeeklyResponse(Long schoolId, LocalDate weekStart, LocalDate weekEnd,
                                                    Integer currentOffset, List<MealPlanMenu> menus) {
         List<MealPlanWeeklyResponse.WeeklyMenu> weeklyMenus = menus.stream()
                 .map(this::toWeeklyMenu)
                 .collect(Collectors.toList());
 
+        return buildWeeklyResponse(schoolId, weekStart, weekEnd, currentOffset, weeklyMenus);
+    }
+
+    public MealPlanWeeklyResponse buildWeeklyResponse(Long schoolId, LocalDate weekStart, LocalDate weekEnd,
+                                                      Integer currentOffset,
+                                                      List<MealPlanWeeklyResponse.WeeklyMenu> weeklyMenus) {
         return MealPlanWeeklyResponse.builder()
                 .schoolId(schoolId)
                 .weekStart(weekStart)
@@ -772,18 +884,19 @@ public class MealPlanService {
                 .build();
     }
 
-    private MealPlanWeeklyResponse.WeeklyMenu toWeeklyMenu(MealPlanMenu menu) {
+    // 패키지 공개: JMH 벤치마크(src/jmh)에서 직접 호출
+    MealPlanWeeklyResponse.WeeklyMenu toWeeklyMenu(MealPlanMenu menu) {
         List<String> rawMenus = new ArrayList<>();
         Map<String, List<Integer>> byMenu = new LinkedHashMap<>();
         Set<Integer> uniqueAllergens = new TreeSet<>();
 
-        processMenuItemForWeekly(menu.getRiceDisplay(), rawMenus, byMenu, uniqueAllergens);
-        processMenuItemForWeekly(menu.getSoupDisplay(), rawMenus, byMenu, uniqueAllergens);
-        processMenuItemForWeekly(menu.getMain1Display(), rawMenus, byMenu, uniqueAllergens);
-        processMenuItemForWeekly(menu.getMain2Display(), rawMenus, byMenu, uniqueAllergens);
-        processMenuItemForWeekly(menu.getSideDisplay(), rawMenus, byMenu, uniqueAllergens);
-        processMenuItemForWeekly(menu.getKimchiDisplay(), rawMenus, byMenu, uniqueAllergens);
-        processMenuItemForWeekly(menu.getDessertDisplay(), rawMenus, byMenu, uniqueAllergens);
+        // EnumMap이므로 칸 순서(밥 → 후식)대로 순회
+        for (MealPlanMenuItem item : itemsOf(menu).values()) {
+            List<Integer> allergens = item.getAllergenList();
+            rawMenus.add(item.getFoodName());
+            byMenu.put(item.getFoodName(), allergens);
+            uniqueAllergens.addAll(allergens);
+        }
 
         MealPlanWeeklyResponse.AllergenSummary allergenSummary = MealPlanWeeklyResponse.AllergenSummary.builder()
                 .uniqueAllergens(new ArrayList<>(uniqueAllergens))
@@ -799,33 +912,59 @@ public class MealPlanService {
                 .build();
     }
 
-    private void processMenuItemForWeekly(String display, List<String> rawMenus,
-                                          Map<String, List<Integer>> byMenu, Set<Integer> uniqueAllergens) {
-        if (display == null || display.isBlank()) {
-            return;
-        }
+    // =========================================================================
+    // [조건부 조회] ETag 버전 스탬프
+    // =========================================================================
 
-        String name = display;
-        List<Integer> allergens = new ArrayList<>();
-
-        Matcher matcher = ALLERGEN_PATTERN.matcher(display.trim());
-        if (matcher.matches()) {
-            name = matcher.group(1).trim();
-            String allergenStr = matcher.group(2);
-            for (String s : allergenStr.split(",")) {
-                try {
-                    allergens.add(Integer.parseInt(s.trim()));
-                } catch (NumberFormatException ignored) {}
+    /**
+     * 일간 상세 응답 + ETag 조회 (캐시하지 않음, 버전 스탬프와 응답을 같은 읽기 트랜잭션에서 생성)
+     * ETag를 먼저 계산해 notModified 가 참이면 식단/알레르기/이미지 조회 없이 body=null 로 바로 반환
+     *
+     * @param notModified 클라이언트 ETag(If-None-Match)와 일치하는지 판별
+     */
+    public Optional<MealPlanResponseCache.Versioned<MealPlanDetailResponse>> getDetailResponse(
+            Long schoolId, LocalDate date, MealType mealType, Predicate<String> notModified) {
+        return readOnlyTx.execute(status -> {
+            String etag = getMenuVersionETag(schoolId, date, date, "detail:" + date + ":" + mealType);
+            if (notModified.test(etag)) {
+                return Optional.of(new MealPlanResponseCache.Versioned<MealPlanDetailResponse>(null, etag));
             }
-        }
+            return findByDateAndMealType(schoolId, date, mealType)
+                    .map(menu -> new MealPlanResponseCache.Versioned<>(toDetailResponse(menu), etag));
+        });
+    }
+
+    /**
+     * 주간 응답 ETag: 캐시 항목의 ETag + current_offset
+     * (current_offset 이 응답에 포함되지만 요청 시점 기준이라 캐시 밖에서 반영)
+     */
+    public String weeklyETag(String cachedETag, int currentOffset) {
+        return toETag(cachedETag + "|" + currentOffset);
+    }
+
+    /**
+     * 기간 내 식단 데이터의 강한 ETag (응답 DTO를 만들지 않고 집계 쿼리 1회로 계산)
+     * 응답을 만드는 읽기 트랜잭션 안에서, 응답보다 먼저 호출합니다.
+     *
+     * @param resourceKey 같은 기간이라도 응답 형태가 다른 엔드포인트를 구분하는 키 (예: "weekly:2026-03-02")
+     */
+    private String getMenuVersionETag(Long schoolId, LocalDate from, LocalDate to, String resourceKey) {
+        MealPlanMenuRepository.VersionStamp stamp = mealPlanMenuRepository.findVersionStamp(
+                schoolId, from, to, from.toString(), to.toString());
+
+        return toETag(schoolId + "|" + resourceKey
+                + "|" + stamp.getMenuUpdatedAt()
+                + "|" + stamp.getMenuCount()
+                + "|" + stamp.getPlanUpdatedAt()
+                + "|" + stamp.getHistoryMaxId());
+    }
 
-        rawMenus.add(name);
-        byMenu.put(name, allergens);
-        uniqueAllergens.addAll(allergens);
+    private static String toETag(String source) {
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
     // =========================================================================
-    // 8. [AI 대체] 1끼 AI 자동 대체 (RestClient 사용)
+    // 8. [AI 대체] 1끼 AI 자동 대체 (FastApiGateway 사용)
     // =========================================================================
     @Transactional
     public MealPlanAIReplaceResponse replaceMenuWithAi(Long schoolId, LocalDate date, MealType mealType) {
@@ -856,12 +995,10 @@ public class MealPlanService {
 
         JsonNode result;
         try {
-            result = restClient.post()
-                    .uri("/v1/menus/single:generate")
-                    .headers(httpHeaders -> httpHeaders.addAll(createHeaders()))
-                    .body(requestBody)
-                    .retrieve()
-                    .body(JsonNode.class);
+            result = fastApiGateway.replaceSingleMeal(requestBody);
+        } catch (FastApiUnavailableException e) {
+            log.warn("⚠️ FastAPI AI 대체 호출 차단: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("FastAPI AI 대체 호출 실패", e);
             throw new RuntimeException("AI 대체 서비스 오류");
@@ -898,8 +1035,10 @@ public class MealPlanService {
         String aiComment = result.has("reason") ? result.get("reason").asText() : "AI 자동 대체";
         menu.setAiComment(aiComment);
 
+        mealPlanMenuService.syncItems(menu);
         MealPlanMenu savedMenu = mealPlanMenuRepository.save(menu);
         log.info("✅ AI 대체 완료: menuId={}", savedMenu.getId());
+        mealPlanResponseCache.evictDate(schoolId, savedMenu.getMenuDate());
 
         String newMenus = buildMenuString(savedMenu);
 
@@ -963,7 +1102,7 @@ public class MealPlanService {
 
             rawMenus.add(pureName);
 
-            Optional<FoodInfo> foodOpt = foodInfoRepository.findByFoodNameIgnoreSpace(pureName);
+            Optional<FoodInfo> foodOpt = foodCatalogIndex.findFood(pureName);
 
             if (foodOpt.isPresent()) {
                 FoodInfo food = foodOpt.get();
@@ -989,7 +1128,7 @@ public class MealPlanService {
                 if (food.getFat() != null) totalFat = totalFat.add(food.getFat());
             } else {
                 // FoodInfo에 없으면 NewFoodInfo(신메뉴)에서 조회
-                Optional<NewFoodInfo> newFoodOpt = newFoodInfoRepository.findByFoodNameAndDeletedFalse(pureName);
+                Optional<NewFoodInfo> newFoodOpt = foodCatalogIndex.findNewFood(pureName);
                 if (newFoodOpt.isPresent()) {
                     NewFoodInfo newFood = newFoodOpt.get();
 
@@ -1041,8 +1180,10 @@ public class MealPlanService {
 
         menu.setAiComment(reason);
 
+        mealPlanMenuService.syncItems(menu);
         MealPlanMenu savedMenu = mealPlanMenuRepository.save(menu);
         log.info("✅ 수동 수정 완료: menuId={}", savedMenu.getId());
+        mealPlanResponseCache.evictDate(schoolId, savedMenu.getMenuDate());
 
         saveHistory(
                 schoolId,
@@ -1086,7 +1227,7 @@ public class MealPlanService {
         String pureName = menuName.replaceAll("\\s*\\([^)]*\\)", "").trim();
 
         // FoodInfo에서 조회
-        Optional<FoodInfo> foodOpt = foodInfoRepository.findByFoodNameIgnoreSpace(pureName);
+        Optional<FoodInfo> foodOpt = foodCatalogIndex.findFood(pureName);
         if (foodOpt.isPresent()) {
             FoodInfo food = foodOpt.get();
             if (food.getAllergyInfo() != null && !food.getAllergyInfo().isEmpty()) {
@@ -1096,7 +1237,7 @@ public class MealPlanService {
         }
 
         // FoodInfo에 없으면 NewFoodInfo(신메뉴)에서 조회
-        Optional<NewFoodInfo> newFoodOpt = newFoodInfoRepository.findByFoodNameAndDeletedFalse(pureName);
+        Optional<NewFoodInfo> newFoodOpt = foodCatalogIndex.findNewFood(pureName);
         if (newFoodOpt.isPresent()) {
             NewFoodInfo newFood = newFoodOpt.get();
             if (newFood.getAllergyInfo() != null && !newFood.getAllergyInfo().isEmpty()) {
@@ -1127,24 +1268,10 @@ public class MealPlanService {
         PageRequest pageRequest = PageRequest.of(page, size);
         Page<MenuHistory> historyPage;
 
-        MenuHistory.ActionType actionTypeEnum = null;
-        boolean isAllActionType = false;
+        MenuHistory.ActionType actionTypeEnum = parseHistoryActionType(actionType);
 
-        if (actionType != null && !actionType.isBlank()) {
-            String upperActionType = actionType.toUpperCase();
-            if ("ALL".equals(upperActionType)) {
-                isAllActionType = true;
-            } else {
-                try {
-                    actionTypeEnum = MenuHistory.ActionType.valueOf(upperActionType);
-                } catch (IllegalArgumentException e) {
-                    log.warn("⚠️ 유효하지 않은 actionType: {}", actionType);
-                }
-            }
-        }
-
-        boolean hasDateRange = startDate != null && !startDate.isBlank() && endDate != null && !endDate.isBlank();
-        boolean hasActionType = actionTypeEnum != null && !isAllActionType;
+        boolean hasDateRange = hasHistoryDateRange(startDate, endDate);
+        boolean hasActionType = actionTypeEnum != null;
 
         if (hasDateRange && hasActionType) {
             historyPage = menuHistoryRepository.findBySchoolIdAndMealDateBetweenAndActionTypeOrderByIdDesc(
@@ -1171,6 +1298,57 @@ public class MealPlanService {
                 .build();
     }
 
+    /**
+     * 식단표 수정 히스토리 조회 (커서 모드)
+     * - 최신순(id DESC)으로 cursor 다음 히스토리부터 size건 조회
+     * - 전체 건수를 세지 않고 size + 1건 조회로 다음 페이지 여부만 확인
+     *
+     * @param cursor 이전 응답의 next_cursor (null/빈 문자열이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public MealPlanHistoryResponse getHistoriesByCursor(Long schoolId, String startDate, String endDate, String actionType, String cursor, int size) {
+        log.info("📜 히스토리 조회(커서): schoolId={}, startDate={}, endDate={}, actionType={}, cursor={}, size={}",
+                schoolId, startDate, endDate, actionType, cursor, size);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        boolean hasDateRange = hasHistoryDateRange(startDate, endDate);
+
+        List<MenuHistory> rows = menuHistoryRepository.findBySchoolIdAfter(
+                schoolId,
+                hasDateRange ? startDate : null,
+                hasDateRange ? endDate : null,
+                parseHistoryActionType(actionType),
+                after != null ? after.id() : null,
+                CursorPage.probe(size));
+
+        CursorPage<MealPlanHistoryResponse.HistoryItem> result = CursorPage.of(
+                rows, size, h -> KeysetCursor.ofId(h.getId()), this::toHistoryItem);
+
+        return MealPlanHistoryResponse.builder()
+                .pageSize(size)
+                .hasNext(result.hasNext())
+                .nextCursor(result.nextCursor())
+                .items(result.items())
+                .build();
+    }
+
+    // 액션타입 필터 (비어 있거나 ALL이면 전체, 알 수 없는 값은 무시)
+    private MenuHistory.ActionType parseHistoryActionType(String actionType) {
+        if (actionType == null || actionType.isBlank() || "ALL".equalsIgnoreCase(actionType)) {
+            return null;
+        }
+        try {
+            return MenuHistory.ActionType.valueOf(actionType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ 유효하지 않은 actionType: {}", actionType);
+            return null;
+        }
+    }
+
+    private boolean hasHistoryDateRange(String startDate, String endDate) {
+        return startDate != null && !startDate.isBlank() && endDate != null && !endDate.isBlank();
+    }
+
     private MealPlanHistoryResponse.HistoryItem toHistoryItem(MenuHistory history) {
         return MealPlanHistoryResponse.HistoryItem.builder()
                 .id(history.getId())
@@ -1185,7 +1363,8 @@ public class MealPlanService {
                 .build();
     }
 
-    private List<String> parseMenuString(String menuString) {
+    // 패키지 공개: JMH 벤치마크(src/jmh)에서 직접 호출
+    List<String> parseMenuString(String menuString) {
         if (menuString == null || menuString.isBlank()) {
             return new ArrayList<>();
         }
@@ -13,6 +13,7 @@ import com.nutriassistant.nutriassistant_back.global.ApiResponse;
 import com.nutriassistant.nutriassistant_back.global.auth.CurrentUser;
 import com.nutriassistant.nutriassistant_back.global.auth.UserContext;
 import com.nutriassistant.nutriassistant_back.global.exception.ErrorResponse;
+import com.nutriassistant.nutriassistant_back.global.pagination.CursorPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -111,18 +112,29 @@ public class NewMenuController {
      * @param category 카테고리 필터 (예: 밥, 국, 반찬 등)
      * @param sort     정렬 기준 (id: 번호, name: 메뉴명, kcal: 열량). 기본값: id
      * @param order    정렬 방향 (asc, desc). 기본값: desc
+     * @param cursor   커서 모드: 이전 응답의 next_cursor (첫 페이지는 빈 값, sort=id 전용).
+     *                 지정하면 page는 무시하고 전체 건수 대신 has_next / next_cursor를 반환
      */
     @GetMapping("/newfoodinfo")
-    public ResponseEntity<ApiResponse<Page<NewFoodInfoResponse>>> getNewFoodInfoList(
+    public ResponseEntity<ApiResponse<?>> getNewFoodInfoList(
             @CurrentUser UserContext user,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String category,
             @RequestParam(defaultValue = "id") String sort,
-            @RequestParam(defaultValue = "desc") String order
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) String cursor
     ) {
-        log.info("📋 신메뉴 목록 조회: schoolId={}, page={}, size={}, category={}, sort={}, order={}",
-                user.getSchoolId(), page, size, category, sort, order);
+        log.info("📋 신메뉴 목록 조회: schoolId={}, page={}, size={}, category={}, sort={}, order={}, cursor={}",
+                user.getSchoolId(), page, size, category, sort, order, cursor);
+
+        if (cursor != null) {
+            CursorPage<NewFoodInfoResponse> result = newMenuService.getNewFoodInfoListByCursor(
+                    user.getSchoolId(), category, sort, order, cursor, size);
+            return ResponseEntity.ok(
+                    ApiResponse.success("신메뉴 목록 조회 성공", result)
+            );
+        }
 
         Page<NewFoodInfoResponse> result = newMenuService.getNewFoodInfoList(
                 user.getSchoolId(), category, sort, order, Math.max(0, page - 1), size);
@@ -1,14 +1,22 @@
 package com.nutriassistant.nutriassistant_back.domain.NewMenu.repository;
 
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.entity.NewFoodInfo;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface NewFoodInfoRepository extends JpaRepository<NewFoodInfo, Long> {
@@ -28,11 +36,20 @@ public interface NewFoodInfoRepository extends JpaRepository<NewFoodInfo, Long>
     @Query(value = "SELECT MAX(CAST(SUBSTRING(food_code, 9) AS UNSIGNED)) FROM new_food_info WHERE food_code LIKE 'NEWFOOD-%'", nativeQuery = true)
     Integer findMaxFoodCodeNumber();
 
-    // 학교별 삭제되지 않은 신메뉴 목록 (식단 생성용)
-    List<NewFoodInfo> findBySchoolIdAndDeletedFalse(Long schoolId);
+    // 학교별 삭제되지 않은 신메뉴 스트리밍 (식단 생성 요청 본문용, ID 순)
+    // - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT n FROM NewFoodInfo n WHERE n.schoolId = :schoolId AND n.deleted = false ORDER BY n.id ASC")
+    Stream<NewFoodInfo> streamBySchoolId(@Param("schoolId") Long schoolId);
 
     List<NewFoodInfo> findByDeletedFalse();
 
+    // 변경분 조회 (삭제 포함, 음식 카탈로그 증분 갱신용)
+    List<NewFoodInfo> findByUpdatedAtAfter(LocalDateTime since);
+
     // 음식명으로 삭제되지 않은 신메뉴 조회
     Optional<NewFoodInfo> findByFoodNameAndDeletedFalse(String foodName);
 
@@ -46,4 +63,23 @@ public interface NewFoodInfoRepository extends JpaRepository<NewFoodInfo, Long>
     Page<NewFoodInfo> findBySchoolIdAndCategoryAndDeletedFalse(Long schoolId, String category, Pageable pageable);
 
     Page<NewFoodInfo> findByDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
+
+    // 학교별 신메뉴 커서 페이지 (id 정렬 / 커서 id 이후 행만, COUNT 없음, category는 null이면 전체)
+    @Query("SELECT n FROM NewFoodInfo n WHERE n.schoolId = :schoolId AND n.deleted = false " +
+            "AND (:category IS NULL OR n.category = :category) " +
+            "AND (:cursorId IS NULL OR n.id < :cursorId) " +
+            "ORDER BY n.id DESC")
+    List<NewFoodInfo> findBySchoolIdBeforeIdDesc(@Param("schoolId") Long schoolId,
+                                                 @Param("category") String category,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    @Query("SELECT n FROM NewFoodInfo n WHERE n.schoolId = :schoolId AND n.deleted = false " +
+            "AND (:category IS NULL OR n.category = :category) " +
+            "AND (:cursorId IS NULL OR n.id > :cursorId) " +
+            "ORDER BY n.id ASC")
+    List<NewFoodInfo> findBySchoolIdAfterIdAsc(@Param("schoolId") Long schoolId,
+                                               @Param("category") String category,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
 }
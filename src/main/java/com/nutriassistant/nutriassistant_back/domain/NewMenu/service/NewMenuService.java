@@ -1,7 +1,9 @@
 package com.nutriassistant.nutriassistant_back.domain.NewMenu.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
 import com.nutriassistant.nutriassistant_back.domain.Board.entity.Board;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.service.FoodCatalogIndex;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.DTO.NewFoodInfoCreateRequest;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.DTO.NewFoodInfoDeleteResponse;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.DTO.NewFoodInfoResponse;
@@ -9,16 +11,16 @@ import com.nutriassistant.nutriassistant_back.domain.NewMenu.DTO.NewFoodInfoUpda
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.DTO.NewMenuAnalysisResponse;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.entity.NewFoodInfo;
 import com.nutriassistant.nutriassistant_back.domain.NewMenu.repository.NewFoodInfoRepository;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiGateway;
+import com.nutriassistant.nutriassistant_back.global.pagination.CursorPage;
+import com.nutriassistant.nutriassistant_back.global.pagination.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.*;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,24 +33,22 @@ import java.util.Map;
 @Slf4j
 public class NewMenuService {
 
-    private final RestTemplate restTemplate;
+    private final FastApiGateway fastApiGateway;
     private final NewFoodInfoRepository newFoodInfoRepository;
+    private final FoodCatalogIndex foodCatalogIndex;
 
-    @Value("${fastapi.base-url:http://localhost:8001}")
-    private String fastApiBaseUrl;
-
-    @Value("${fastapi.internal-token:}")
-    private String internalToken;
-
-    public NewMenuService(RestTemplate restTemplate, NewFoodInfoRepository newFoodInfoRepository) {
-        this.restTemplate = restTemplate;
+    public NewMenuService(FastApiGateway fastApiGateway, NewFoodInfoRepository newFoodInfoRepository,
+                          FoodCatalogIndex foodCatalogIndex) {
+        this.fastApiGateway = fastApiGateway;
         this.newFoodInfoRepository = newFoodInfoRepository;
+        this.foodCatalogIndex = foodCatalogIndex;
     }
 
     /**
      * 신메뉴 분석 비동기 요청 (게시글 등록 후 백그라운드 실행)
+     * 전용 실행기(aiAnalysisExecutor)에서 실행되므로 동시 분석 수가 제한됨
      */
-    @Async
+    @Async(AsyncConfig.AI_ANALYSIS_EXECUTOR)
     public void requestAnalysisAsync(Board board) {
         log.info("🔄 비동기 신메뉴 분석 시작: boardId={}", board.getId());
         requestAnalysis(board);
@@ -61,14 +61,6 @@ public class NewMenuService {
         log.info("🤖 신메뉴 분석 요청 시작: boardId={}", board.getId());
 
         try {
-            String url = String.format("%s/v1/menus/new-menu:generate", fastApiBaseUrl);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            if (internalToken != null && !internalToken.isBlank()) {
-                headers.set("X-Internal-API-Key", internalToken);
-            }
-
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("board_id", board.getId());
             requestBody.put("school_id", board.getSchoolId());
@@ -76,18 +68,9 @@ public class NewMenuService {
             requestBody.put("content", board.getContent());
             requestBody.put("author_type", board.getAuthorType().name());
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            log.info("🚀 FastAPI 신메뉴 분석 호출: {}", url);
+            log.info("🚀 FastAPI 신메뉴 분석 호출: /v1/menus/new-menu:generate");
 
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    JsonNode.class
-            );
-
-            JsonNode result = response.getBody();
+            JsonNode result = fastApiGateway.generateNewMenu(requestBody);
             log.info("✅ FastAPI 신메뉴 분석 응답 수신");
             log.info("📄 응답 내용: {}", result != null ? result.toString() : "null");
 
@@ -200,6 +183,7 @@ public class NewMenuService {
         newFoodInfo.setAllergyInfo(parseAllergens(data.get("allergens")));
 
         newFoodInfoRepository.save(newFoodInfo);
+        foodCatalogIndex.markStale();
         log.info("✅ 신메뉴 저장: {} ({})", menuName, getTextValue(data, "category"));
         return true;
     }
@@ -316,6 +300,7 @@ public class NewMenuService {
         }
 
         NewFoodInfo saved = newFoodInfoRepository.save(newFoodInfo);
+        foodCatalogIndex.markStale();
         log.info("✅ 신메뉴 등록 완료: {} ({})", saved.getFoodName(), saved.getFoodCode());
 
         return toNewFoodInfoResponse(saved);
@@ -337,6 +322,7 @@ public class NewMenuService {
         foodInfo.setDeleted(true);
         foodInfo.setDeletedAt(now);
         newFoodInfoRepository.save(foodInfo);
+        foodCatalogIndex.markStale();
 
         log.info("✅ 신메뉴 삭제 완료: {} ({})", foodInfo.getFoodName(), foodInfo.getFoodCode());
 
@@ -396,6 +382,7 @@ public class NewMenuService {
         }
 
         NewFoodInfo saved = newFoodInfoRepository.save(foodInfo);
+        foodCatalogIndex.markStale();
         log.info("✅ 신메뉴 수정 완료: {} ({})", saved.getFoodName(), saved.getFoodCode());
 
         return toNewFoodInfoResponse(saved);
@@ -429,6 +416,29 @@ public class NewMenuService {
         return result.map(this::toNewFoodInfoResponse);
     }
 
+    /**
+     * 신메뉴 목록 조회 (커서 모드, 카테고리 필터)
+     * - 번호(id) 순으로 cursor 다음 신메뉴부터 size건 조회
+     * - 전체 건수를 세지 않고 size + 1건 조회로 다음 페이지 여부만 확인
+     * - 정렬 키가 id가 아니면(name, kcal 등 중복/NULL 가능) 이어서 조회할 위치가 모호하므로 페이지 모드를 사용
+     *
+     * @param cursor 이전 응답의 next_cursor (null/빈 문자열이면 첫 페이지)
+     */
+    public CursorPage<NewFoodInfoResponse> getNewFoodInfoListByCursor(Long schoolId, String category, String sort, String order, String cursor, int size) {
+        if (sort != null && !"id".equalsIgnoreCase(sort)) {
+            throw new IllegalArgumentException("cursor 조회는 sort=id 만 지원합니다.");
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Long cursorId = after != null ? after.id() : null;
+        String categoryFilter = (category != null && !category.isBlank()) ? category : null;
+
+        List<NewFoodInfo> rows = "asc".equalsIgnoreCase(order)
+                ? newFoodInfoRepository.findBySchoolIdAfterIdAsc(schoolId, categoryFilter, cursorId, CursorPage.probe(size))
+                : newFoodInfoRepository.findBySchoolIdBeforeIdDesc(schoolId, categoryFilter, cursorId, CursorPage.probe(size));
+
+        return CursorPage.of(rows, size, f -> KeysetCursor.ofId(f.getId()), this::toNewFoodInfoResponse);
+    }
+
     /**
      * 신메뉴 상세 조회 - 학교별
      */
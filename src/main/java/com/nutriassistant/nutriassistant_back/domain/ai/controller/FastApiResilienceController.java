@@ -0,0 +1,32 @@
+package com.nutriassistant.nutriassistant_back.domain.ai.controller;
+
+import com.nutriassistant.nutriassistant_back.global.ApiResponse;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiResilience;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * FastAPI 호출 보호 상태 조회 (내부 운영용, X-Internal-API-Key 필요)
+ * 작업별 서킷 상태, 진행 중 호출 수, 거절/재시도 횟수
+ */
+@RestController
+@RequestMapping("/internal/fastapi/resilience")
+public class FastApiResilienceController {
+
+    private final FastApiResilience fastApiResilience;
+
+    public FastApiResilienceController(FastApiResilience fastApiResilience) {
+        this.fastApiResilience = fastApiResilience;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success("FastAPI 호출 보호 상태 조회 성공", fastApiResilience.statsSummary())
+        );
+    }
+}
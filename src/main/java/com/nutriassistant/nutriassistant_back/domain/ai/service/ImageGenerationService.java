@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.nutriassistant.nutriassistant_back.global.aws.S3Uploader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,6 +41,9 @@ public class ImageGenerationService {
     /* [v2 적용] S3Config에서 등록한 S3Client Bean을 주입받습니다. */
     private final S3Client s3Client;
 
+    // Vertex AI / S3 호출 시간 지표
+    private final MeterRegistry meterRegistry;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
@@ -86,9 +92,15 @@ public class ImageGenerationService {
         requestBody.put("parameters", parameters);
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        ResponseEntity<String> response = restTemplate.exchange(API_URL, HttpMethod.POST, entity, String.class);
-
-        return extractBase64FromJson(response.getBody());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(API_URL, HttpMethod.POST, entity, String.class);
+            outcome = "success";
+            return extractBase64FromJson(response.getBody());
+        } finally {
+            sample.stop(meterRegistry.timer("nutri.vertex.requests", "model", MODEL_ID, "outcome", outcome));
+        }
     }
 
     /*
@@ -99,6 +111,7 @@ public class ImageGenerationService {
         byte[] imageBytes = Base64.getDecoder().decode(base64Image);
         String fileName = "meal-plans/" + UUID.randomUUID() + ".png";
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             /* 2. v2 방식의 PutObjectRequest를 빌더를 통해 생성합니다. */
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -110,10 +123,12 @@ public class ImageGenerationService {
 
             /* 3. RequestBody.fromBytes를 사용하여 바이너리 데이터를 직접 전송합니다. */
             s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
+            sample.stop(meterRegistry.timer(S3Uploader.METRIC_NAME, "operation", "put", "outcome", "success"));
 
             /* 4. 업로드된 파일의 Public URL을 형식에 맞춰 생성합니다. */
             return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, fileName);
         } catch (Exception e) {
+            sample.stop(meterRegistry.timer(S3Uploader.METRIC_NAME, "operation", "put", "outcome", "error"));
             log.error("S3 업로드 에러 발생: {}", e.getMessage());
             throw new IOException("S3 이미지 저장에 실패하였습니다.");
         }
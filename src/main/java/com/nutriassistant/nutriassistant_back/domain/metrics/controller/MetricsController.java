@@ -191,7 +191,12 @@ public class MetricsController {
             @RequestParam(value = "end_date", required = false) LocalDate endDate,
             @RequestParam(value = "sentiment", required = false) String sentiment,
             @RequestParam(value = "page", defaultValue = "1") int page,
-            @RequestParam(value = "size", defaultValue = "20") int size) {
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        // cursor 지정 시 커서 모드 (page 무시, 전체 건수 대신 has_next / next_cursor 반환)
+        if (cursor != null) {
+            return ApiResponse.success("성공", metricsService.getSatisfactionReviewsByCursor(user.getSchoolId(), batchId, startDate, endDate, cursor, size));
+        }
         return ApiResponse.success("성공", metricsService.getSatisfactionReviews(user.getSchoolId(), batchId, startDate, endDate, sentiment, page, size));
     }
 }
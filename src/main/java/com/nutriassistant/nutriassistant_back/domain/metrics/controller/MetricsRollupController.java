@@ -0,0 +1,34 @@
+package com.nutriassistant.nutriassistant_back.domain.metrics.controller;
+
+import com.nutriassistant.nutriassistant_back.domain.metrics.service.MetricsRollupService;
+import com.nutriassistant.nutriassistant_back.global.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 결식/잔반 월간 집계 재구성 (내부 운영용, X-Internal-API-Key 필요)
+ * 원본 데이터를 직접 수정/이관한 뒤 집계 테이블을 다시 맞출 때 사용
+ */
+@RestController
+@RequestMapping("/internal/metrics/rollups")
+public class MetricsRollupController {
+
+    private final MetricsRollupService metricsRollupService;
+
+    public MetricsRollupController(MetricsRollupService metricsRollupService) {
+        this.metricsRollupService = metricsRollupService;
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<MetricsRollupService.RebuildResult>> rebuild() {
+        MetricsRollupService.RebuildResult result = metricsRollupService.rebuildAll();
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("월간 집계 재구성이 이미 실행 중입니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success("월간 집계 재구성 완료", result));
+    }
+}
@@ -0,0 +1,14 @@
+package com.nutriassistant.nutriassistant_back.domain.metrics.dto;
+
+/**
+ * 잔반 일별 데이터 집계 결과 (학교 + 식사 구분 단위, JPQL 생성자 조회용)
+ */
+public record LeftoverAggregate(
+        Long schoolId,
+        String mealType,
+        Long dayCount,
+        Double amountSum,
+        Double amountMin,
+        Double amountMax
+) {
+}
@@ -42,6 +42,10 @@ public class LeftoverDto {
         private Long school_id;
         private String meal_type;
         private Double average_amount_kg;
+        private Double total_amount_kg;
+        private Double min_amount_kg;
+        private Double max_amount_kg;
+        private Integer days_recorded;
         private List<Response> daily_data;
     }
 
@@ -1,5 +1,6 @@
 package com.nutriassistant.nutriassistant_back.domain.metrics.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -19,13 +20,17 @@ public class SatisfactionDto {
     }
 
     // [공통] 페이징 객체
+    // 페이지 모드: current_page / total_pages / total_items, 커서 모드: has_next / next_cursor
     @Getter
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Pagination {
         private Integer current_page;
         private Integer total_pages;
         private Long total_items;
         private Integer page_size;
+        private Boolean has_next;
+        private String next_cursor;
     }
 
     // 1. [MetricSatisCountLast30Days] 최근 30일 만족도 건수 조회
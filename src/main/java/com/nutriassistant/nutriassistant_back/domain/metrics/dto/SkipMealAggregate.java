@@ -0,0 +1,18 @@
+package com.nutriassistant.nutriassistant_back.domain.metrics.dto;
+
+/**
+ * 결식 일별 데이터 집계 결과 (학교 + 식사 구분 단위, JPQL 생성자 조회용)
+ *
+ * 결식률(%)은 일별 skipped_count / total_students * 100 기준
+ */
+public record SkipMealAggregate(
+        Long schoolId,
+        String mealType,
+        Long dayCount,
+        Long skippedSum,
+        Long totalStudentsSum,
+        Double skipRateSum,
+        Double skipRateMin,
+        Double skipRateMax
+) {
+}
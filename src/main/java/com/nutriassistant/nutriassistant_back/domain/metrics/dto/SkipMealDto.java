@@ -44,6 +44,9 @@ public class SkipMealDto {
         private Long school_id;
         private String meal_type;
         private Double average_skip_rate;
+        private Double min_skip_rate;
+        private Double max_skip_rate;
+        private Integer days_recorded;
         private List<Response> daily_data;
     }
 
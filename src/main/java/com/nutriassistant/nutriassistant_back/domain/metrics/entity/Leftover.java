@@ -7,7 +7,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stats_leftover")
+@Table(
+        name = "stats_leftover",
+        indexes = {
+                // 학교별 기간 조회/집계
+                @Index(name = "idx_stats_leftover_school_meal_date", columnList = "school_id,meal_type,date"),
+                // 월간 집계 재구성 (전체 학교, 월 단위)
+                @Index(name = "idx_stats_leftover_date", columnList = "date")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
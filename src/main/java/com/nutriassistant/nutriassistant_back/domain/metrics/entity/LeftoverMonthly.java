@@ -0,0 +1,75 @@
+package com.nutriassistant.nutriassistant_back.domain.metrics.entity;
+
+import com.nutriassistant.nutriassistant_back.domain.metrics.dto.LeftoverAggregate;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔반 월간 집계 (학교 + 식사 구분 + 연월당 1건)
+ *
+ * 잔반 데이터 등록/수정 시 해당 월 전체를 다시 집계해 갱신합니다. (MetricsRollupService)
+ * 기존 데이터는 MetricsRollupService.rebuildAll 로 채웁니다.
+ */
+@Entity
+@Table(
+        name = "stats_leftover_monthly",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_stats_leftover_monthly",
+                columnNames = {"school_id", "meal_type", "target_ym"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LeftoverMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "school_id", nullable = false)
+    private Long schoolId;
+
+    @Column(name = "meal_type", nullable = false)
+    private String mealType;
+
+    // yyyy-MM
+    @Column(name = "target_ym", nullable = false, length = 7)
+    private String targetYm;
+
+    // 데이터가 등록된 일수
+    @Column(name = "day_count", nullable = false)
+    private int dayCount;
+
+    // 잔반량(kg) 합계 (평균 = amount_sum / day_count)
+    @Column(name = "amount_sum", nullable = false)
+    private double amountSum;
+
+    @Column(name = "amount_min")
+    private Double amountMin;
+
+    @Column(name = "amount_max")
+    private Double amountMax;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public LeftoverMonthly(Long schoolId, String mealType, String targetYm) {
+        this.schoolId = schoolId;
+        this.mealType = mealType;
+        this.targetYm = targetYm;
+    }
+
+    /**
+     * 월 전체 집계 결과로 덮어쓰기 (데이터가 없으면 0으로 초기화)
+     */
+    public void apply(LeftoverAggregate aggregate) {
+        this.dayCount = aggregate != null ? aggregate.dayCount().intValue() : 0;
+        this.amountSum = aggregate != null ? aggregate.amountSum() : 0.0;
+        this.amountMin = aggregate != null ? aggregate.amountMin() : null;
+        this.amountMax = aggregate != null ? aggregate.amountMax() : null;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,83 @@
+package com.nutriassistant.nutriassistant_back.domain.metrics.entity;
+
+import com.nutriassistant.nutriassistant_back.domain.metrics.dto.SkipMealAggregate;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결식 월간 집계 (학교 + 식사 구분 + 연월당 1건)
+ *
+ * 결식 데이터 등록/수정 시 해당 월 전체를 다시 집계해 갱신합니다. (MetricsRollupService)
+ * 기존 데이터는 MetricsRollupService.rebuildAll 로 채웁니다.
+ */
+@Entity
+@Table(
+        name = "stats_skipping_monthly",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_stats_skipping_monthly",
+                columnNames = {"school_id", "meal_type", "target_ym"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SkipMealMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "school_id", nullable = false)
+    private Long schoolId;
+
+    @Column(name = "meal_type", nullable = false)
+    private String mealType;
+
+    // yyyy-MM
+    @Column(name = "target_ym", nullable = false, length = 7)
+    private String targetYm;
+
+    // 데이터가 등록된 일수
+    @Column(name = "day_count", nullable = false)
+    private int dayCount;
+
+    @Column(name = "skipped_sum", nullable = false)
+    private long skippedSum;
+
+    @Column(name = "total_students_sum", nullable = false)
+    private long totalStudentsSum;
+
+    // 일별 결식률(%) 합계 (평균 = skip_rate_sum / day_count)
+    @Column(name = "skip_rate_sum", nullable = false)
+    private double skipRateSum;
+
+    @Column(name = "skip_rate_min")
+    private Double skipRateMin;
+
+    @Column(name = "skip_rate_max")
+    private Double skipRateMax;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public SkipMealMonthly(Long schoolId, String mealType, String targetYm) {
+        this.schoolId = schoolId;
+        this.mealType = mealType;
+        this.targetYm = targetYm;
+    }
+
+    /**
+     * 월 전체 집계 결과로 덮어쓰기 (데이터가 없으면 0으로 초기화)
+     */
+    public void apply(SkipMealAggregate aggregate) {
+        this.dayCount = aggregate != null ? aggregate.dayCount().intValue() : 0;
+        this.skippedSum = aggregate != null ? aggregate.skippedSum() : 0L;
+        this.totalStudentsSum = aggregate != null ? aggregate.totalStudentsSum() : 0L;
+        this.skipRateSum = aggregate != null ? aggregate.skipRateSum() : 0.0;
+        this.skipRateMin = aggregate != null ? aggregate.skipRateMin() : null;
+        this.skipRateMax = aggregate != null ? aggregate.skipRateMax() : null;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
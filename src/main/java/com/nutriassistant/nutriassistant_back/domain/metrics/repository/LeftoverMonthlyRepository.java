@@ -0,0 +1,29 @@
+package com.nutriassistant.nutriassistant_back.domain.metrics.repository;
+
+import com.nutriassistant.nutriassistant_back.domain.metrics.entity.LeftoverMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+public interface LeftoverMonthlyRepository extends JpaRepository<LeftoverMonthly, Long> {
+    // 등록/수정 시 갱신 1단계: 집계 행이 없으면 0으로 만들고, 있으면 그대로 둠 (어느 쪽이든 행 잠금)
+    // 같은 월의 첫 등록이 동시에 일어나도 유일 키 충돌 없이 한쪽이 잠금을 기다림
+    @Modifying
+    @Query(value = "INSERT INTO stats_leftover_monthly (school_id, meal_type, target_ym, day_count, amount_sum, updated_at) " +
+            "VALUES (:schoolId, :mealType, :targetYm, 0, 0, NOW()) " +
+            "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int insertIfAbsent(@Param("schoolId") Long schoolId, @Param("mealType") String mealType,
+                       @Param("targetYm") String targetYm);
+
+    // 등록/수정 시 갱신 2단계: 잠근 집계 행 조회 (이후 월 재집계)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<LeftoverMonthly> findBySchoolIdAndMealTypeAndTargetYm(Long schoolId, String mealType, String targetYm);
+    List<LeftoverMonthly> findBySchoolIdAndMealTypeAndTargetYmBetween(Long schoolId, String mealType, String startYm, String endYm);
+    List<LeftoverMonthly> findByTargetYm(String targetYm);
+}
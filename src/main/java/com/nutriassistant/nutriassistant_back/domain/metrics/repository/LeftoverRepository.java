@@ -1,7 +1,10 @@
 package com.nutriassistant.nutriassistant_back.domain.metrics.repository;
 
+import com.nutriassistant.nutriassistant_back.domain.metrics.dto.LeftoverAggregate;
 import com.nutriassistant.nutriassistant_back.domain.metrics.entity.Leftover;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,4 +14,27 @@ public interface LeftoverRepository extends JpaRepository<Leftover, Long> {
     boolean existsBySchoolIdAndDateAndMealType(Long schoolId, LocalDate date, String mealType);
     Optional<Leftover> findBySchoolIdAndDateAndMealType(Long schoolId, LocalDate date, String mealType);
     List<Leftover> findBySchoolIdAndMealTypeAndDateBetweenOrderByDateAsc(Long schoolId, String mealType, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+    List<Leftover> findBySchoolIdAndDateBetweenOrderByDateAsc(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    // 기간 집계 (학교 + 식사 구분 1건)
+    @Query("SELECT new com.nutriassistant.nutriassistant_back.domain.metrics.dto.LeftoverAggregate(" +
+            "l.schoolId, l.mealType, COUNT(l), " +
+            "CAST(SUM(l.amountKg) AS Double), CAST(MIN(l.amountKg) AS Double), CAST(MAX(l.amountKg) AS Double)) " +
+            "FROM Leftover l " +
+            "WHERE l.schoolId = :schoolId AND l.mealType = :mealType AND l.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY l.schoolId, l.mealType")
+    Optional<LeftoverAggregate> aggregate(@Param("schoolId") Long schoolId, @Param("mealType") String mealType,
+                                          @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 기간 집계 (전체 학교, 학교 + 식사 구분별 - 월간 집계 재구성용)
+    @Query("SELECT new com.nutriassistant.nutriassistant_back.domain.metrics.dto.LeftoverAggregate(" +
+            "l.schoolId, l.mealType, COUNT(l), " +
+            "CAST(SUM(l.amountKg) AS Double), CAST(MIN(l.amountKg) AS Double), CAST(MAX(l.amountKg) AS Double)) " +
+            "FROM Leftover l " +
+            "WHERE l.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY l.schoolId, l.mealType")
+    List<LeftoverAggregate> aggregateAll(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MIN(l.date) FROM Leftover l")
+    LocalDate findMinDate();
+}
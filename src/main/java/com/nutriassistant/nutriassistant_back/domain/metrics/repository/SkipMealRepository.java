@@ -1,7 +1,10 @@
 package com.nutriassistant.nutriassistant_back.domain.metrics.repository;
 
+import com.nutriassistant.nutriassistant_back.domain.metrics.dto.SkipMealAggregate;
 import com.nutriassistant.nutriassistant_back.domain.metrics.entity.SkipMeal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,4 +14,31 @@ public interface SkipMealRepository extends JpaRepository<SkipMeal, Long> {
     boolean existsBySchoolIdAndDateAndMealType(Long schoolId, LocalDate date, String mealType);
     Optional<SkipMeal> findBySchoolIdAndDateAndMealType(Long schoolId, LocalDate date, String mealType);
     List<SkipMeal> findBySchoolIdAndMealTypeAndDateBetweenOrderByDateAsc(Long schoolId, String mealType, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+    List<SkipMeal> findBySchoolIdAndDateBetweenOrderByDateAsc(Long schoolId, LocalDate startDate, LocalDate endDate);
+
+    // 기간 집계 (학교 + 식사 구분 1건)
+    @Query("SELECT new com.nutriassistant.nutriassistant_back.domain.metrics.dto.SkipMealAggregate(" +
+            "s.schoolId, s.mealType, COUNT(s), SUM(s.skippedCount), SUM(s.totalStudents), " +
+            "SUM(CASE WHEN s.totalStudents > 0 THEN s.skippedCount * 100.0 / s.totalStudents ELSE 0.0 END), " +
+            "MIN(CASE WHEN s.totalStudents > 0 THEN s.skippedCount * 100.0 / s.totalStudents ELSE 0.0 END), " +
+            "MAX(CASE WHEN s.totalStudents > 0 THEN s.skippedCount * 100.0 / s.totalStudents ELSE 0.0 END)) " +
+            "FROM SkipMeal s " +
+            "WHERE s.schoolId = :schoolId AND s.mealType = :mealType AND s.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.schoolId, s.mealType")
+    Optional<SkipMealAggregate> aggregate(@Param("schoolId") Long schoolId, @Param("mealType") String mealType,
+                                          @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 기간 집계 (전체 학교, 학교 + 식사 구분별 - 월간 집계 재구성용)
+    @Query("SELECT new com.nutriassistant.nutriassistant_back.domain.metrics.dto.SkipMealAggregate(" +
+            "s.schoolId, s.mealType, COUNT(s), SUM(s.skippedCount), SUM(s.totalStudents), " +
+            "SUM(CASE WHEN s.totalStudents > 0 THEN s.skippedCount * 100.0 / s.totalStudents ELSE 0.0 END), " +
+            "MIN(CASE WHEN s.totalStudents > 0 THEN s.skippedCount * 100.0 / s.totalStudents ELSE 0.0 END), " +
+            "MAX(CASE WHEN s.totalStudents > 0 THEN s.skippedCount * 100.0 / s.totalStudents ELSE 0.0 END)) " +
+            "FROM SkipMeal s " +
+            "WHERE s.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.schoolId, s.mealType")
+    List<SkipMealAggregate> aggregateAll(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MIN(s.date) FROM SkipMeal s")
+    LocalDate findMinDate();
+}
@@ -0,0 +1,327 @@
+package com.nutriassistant.nutriassistant_back.domain.metrics.service;
+
+import com.nutriassistant.nutriassistant_back.domain.metrics.dto.LeftoverAggregate;
+import com.nutriassistant.nutriassistant_back.domain.metrics.dto.SkipMealAggregate;
+import com.nutriassistant.nutriassistant_back.domain.metrics.entity.LeftoverMonthly;
+import com.nutriassistant.nutriassistant_back.domain.metrics.entity.SkipMealMonthly;
+import com.nutriassistant.nutriassistant_back.domain.metrics.repository.LeftoverMonthlyRepository;
+import com.nutriassistant.nutriassistant_back.domain.metrics.repository.LeftoverRepository;
+import com.nutriassistant.nutriassistant_back.domain.metrics.repository.SkipMealMonthlyRepository;
+import com.nutriassistant.nutriassistant_back.domain.metrics.repository.SkipMealRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결식/잔반 월간 집계 관리
+ *
+ * 역할:
+ * - 등록/수정 시 해당 (학교, 식사 구분, 연월) 집계를 월 전체 재집계로 갱신
+ *   (최소/최대값은 증분으로 되돌릴 수 없으므로 DB 집계 쿼리 1회로 다시 계산)
+ *   → 등록/수정 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 "집계 행 잠금 → 재집계" 순서로 실행
+ *     (동시 갱신은 잠금 순서대로 처리되고, 나중 갱신이 먼저 커밋된 데이터까지 모두 집계)
+ * - 기간 요약 조회: 달력 월 단위 기간은 월간 집계, 그 외(최근 7일/30일)는 일별 데이터 DB 집계
+ * - 기존 데이터 재구성 (rebuildAll): 가장 오래된 월부터 이번 달까지 월 단위로 다시 집계
+ *   → 집계 테이블이 비어 있으면 기동 시 자동 실행 (스케줄링이 꺼진 인스턴스는 제외)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MetricsRollupService {
+
+    /**
+     * 기간 요약 (결식: 일별 결식률(%) 기준, 잔반: 일별 잔반량(kg) 기준)
+     */
+    public record Summary(int dayCount, double sum, Double min, Double max) {
+
+        static final Summary EMPTY = new Summary(0, 0.0, null, null);
+
+        public double average() {
+            return dayCount == 0 ? 0.0 : sum / dayCount;
+        }
+    }
+
+    /**
+     * 재구성 결과
+     */
+    public record RebuildResult(int months, int skipMealRows, int leftoverRows, long durationMillis) {
+    }
+
+    private final SkipMealRepository skipMealRepository;
+    private final LeftoverRepository leftoverRepository;
+    private final SkipMealMonthlyRepository skipMealMonthlyRepository;
+    private final LeftoverMonthlyRepository leftoverMonthlyRepository;
+    private final TransactionTemplate txTemplate;
+    private final TransactionTemplate refreshTx;
+    private final boolean schedulingEnabled;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public MetricsRollupService(SkipMealRepository skipMealRepository,
+                                LeftoverRepository leftoverRepository,
+                                SkipMealMonthlyRepository skipMealMonthlyRepository,
+                                LeftoverMonthlyRepository leftoverMonthlyRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${scheduling.enabled:true}") boolean schedulingEnabled) {
+        this.skipMealRepository = skipMealRepository;
+        this.leftoverRepository = leftoverRepository;
+        this.skipMealMonthlyRepository = skipMealMonthlyRepository;
+        this.leftoverMonthlyRepository = leftoverMonthlyRepository;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        // 커밋 후 콜백에서 실행되므로 항상 새 트랜잭션
+        this.refreshTx = new TransactionTemplate(transactionManager);
+        this.refreshTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.schedulingEnabled = schedulingEnabled;
+    }
+
+    // =========================================================================
+    // 1. 등록/수정 시 갱신 (호출 측 트랜잭션 커밋 후 별도 트랜잭션에서 실행)
+    //
+    //    순서: 집계 행 upsert(행 잠금) → 잠근 행 조회 → 월 재집계 → 저장
+    //    - 원본 데이터가 모두 커밋된 뒤 잠금을 잡고 나서 처음 읽으므로, 재집계 스냅샷에
+    //      잠금을 먼저 잡았던 다른 갱신의 데이터까지 포함됨 (REPEATABLE READ에서도 갱신 유실 없음)
+    //    - 집계 갱신이 실패해도 이미 커밋된 등록/수정은 되돌리지 않음 (rebuildAll로 복구)
+    // =========================================================================
+    public void refreshSkipMeal(Long schoolId, String mealType, LocalDate date) {
+        YearMonth ym = YearMonth.from(date);
+        runAfterCommit("결식", schoolId, mealType, ym, () -> {
+            skipMealMonthlyRepository.insertIfAbsent(schoolId, mealType, ym.toString());
+            SkipMealMonthly rollup = skipMealMonthlyRepository
+                    .findBySchoolIdAndMealTypeAndTargetYm(schoolId, mealType, ym.toString())
+                    .orElseThrow();
+            rollup.apply(skipMealRepository
+                    .aggregate(schoolId, mealType, ym.atDay(1), ym.atEndOfMonth())
+                    .orElse(null));
+            skipMealMonthlyRepository.save(rollup);
+        });
+    }
+
+    public void refreshLeftover(Long schoolId, String mealType, LocalDate date) {
+        YearMonth ym = YearMonth.from(date);
+        runAfterCommit("잔반", schoolId, mealType, ym, () -> {
+            leftoverMonthlyRepository.insertIfAbsent(schoolId, mealType, ym.toString());
+            LeftoverMonthly rollup = leftoverMonthlyRepository
+                    .findBySchoolIdAndMealTypeAndTargetYm(schoolId, mealType, ym.toString())
+                    .orElseThrow();
+            rollup.apply(leftoverRepository
+                    .aggregate(schoolId, mealType, ym.atDay(1), ym.atEndOfMonth())
+                    .orElse(null));
+            leftoverMonthlyRepository.save(rollup);
+        });
+    }
+
+    private void runAfterCommit(String label, Long schoolId, String mealType, YearMonth ym, Runnable refresh) {
+        Runnable task = () -> {
+            try {
+                refreshTx.executeWithoutResult(status -> refresh.run());
+            } catch (RuntimeException e) {
+                log.error("❌ {} 월간 집계 갱신 실패: schoolId={}, mealType={}, {} (재구성으로 복구 필요)",
+                        label, schoolId, mealType, ym, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // =========================================================================
+    // 2. 기간 요약 조회
+    // =========================================================================
+    public Summary skipMealSummary(Long schoolId, String mealType, LocalDate start, LocalDate end) {
+        if (coversWholeMonths(start, end)) {
+            List<SkipMealMonthly> months = skipMealMonthlyRepository.findBySchoolIdAndMealTypeAndTargetYmBetween(
+                    schoolId, mealType, YearMonth.from(start).toString(), YearMonth.from(end).toString());
+            int days = 0;
+            double sum = 0.0;
+            Double min = null;
+            Double max = null;
+            for (SkipMealMonthly m : months) {
+                if (m.getDayCount() == 0) continue;
+                days += m.getDayCount();
+                sum += m.getSkipRateSum();
+                min = min == null ? m.getSkipRateMin() : Math.min(min, m.getSkipRateMin());
+                max = max == null ? m.getSkipRateMax() : Math.max(max, m.getSkipRateMax());
+            }
+            return new Summary(days, sum, min, max);
+        }
+
+        return skipMealRepository.aggregate(schoolId, mealType, start, end)
+                .map(a -> new Summary(a.dayCount().intValue(), a.skipRateSum(), a.skipRateMin(), a.skipRateMax()))
+                .orElse(Summary.EMPTY);
+    }
+
+    public Summary leftoverSummary(Long schoolId, String mealType, LocalDate start, LocalDate end) {
+        if (coversWholeMonths(start, end)) {
+            List<LeftoverMonthly> months = leftoverMonthlyRepository.findBySchoolIdAndMealTypeAndTargetYmBetween(
+                    schoolId, mealType, YearMonth.from(start).toString(), YearMonth.from(end).toString());
+            int days = 0;
+            double sum = 0.0;
+            Double min = null;
+            Double max = null;
+            for (LeftoverMonthly m : months) {
+                if (m.getDayCount() == 0) continue;
+                days += m.getDayCount();
+                sum += m.getAmountSum();
+                min = min == null ? m.getAmountMin() : Math.min(min, m.getAmountMin());
+                max = max == null ? m.getAmountMax() : Math.max(max, m.getAmountMax());
+            }
+            return new Summary(days, sum, min, max);
+        }
+
+        return leftoverRepository.aggregate(schoolId, mealType, start, end)
+                .map(a -> new Summary(a.dayCount().intValue(), a.amountSum(), a.amountMin(), a.amountMax()))
+                .orElse(Summary.EMPTY);
+    }
+
+    // 시작일이 1일이고 종료일이 말일이면 월간 집계로 응답 가능
+    private boolean coversWholeMonths(LocalDate start, LocalDate end) {
+        return start.getDayOfMonth() == 1
+                && end.equals(YearMonth.from(end).atEndOfMonth())
+                && !start.isAfter(end);
+    }
+
+    // =========================================================================
+    // 3. 기존 데이터 재구성
+    // =========================================================================
+
+    /**
+     * 가장 오래된 월부터 이번 달까지 월 단위로 다시 집계 (월마다 별도 트랜잭션)
+     *
+     * @return 재구성 결과 (이미 실행 중이면 null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RebuildResult rebuildAll() {
+        if (!rebuildLock.tryLock()) {
+            log.warn("⚠️ 결식/잔반 월간 집계 재구성이 이미 실행 중입니다.");
+            return null;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            LocalDate first = earliest(skipMealRepository.findMinDate(), leftoverRepository.findMinDate());
+            if (first == null) {
+                return new RebuildResult(0, 0, 0, 0);
+            }
+
+            YearMonth current = YearMonth.from(first);
+            YearMonth last = YearMonth.now();
+            int months = 0;
+            int skipRows = 0;
+            int leftoverRows = 0;
+            while (!current.isAfter(last)) {
+                YearMonth ym = current;
+                int[] rows = txTemplate.execute(status -> new int[]{rebuildSkipMealMonth(ym), rebuildLeftoverMonth(ym)});
+                skipRows += rows[0];
+                leftoverRows += rows[1];
+                months++;
+                current = current.plusMonths(1);
+            }
+
+            RebuildResult result = new RebuildResult(months, skipRows, leftoverRows, System.currentTimeMillis() - start);
+            log.info("📊 결식/잔반 월간 집계 재구성 완료: {}개월, 결식 {}건, 잔반 {}건 ({}ms)",
+                    result.months(), result.skipMealRows(), result.leftoverRows(), result.durationMillis());
+            return result;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 집계 테이블이 비어 있고 원본 데이터가 있으면 기동 시 한 번 재구성 (최초 배포 시 기존 데이터 채우기)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        if (!schedulingEnabled) {
+            return;
+        }
+        boolean rollupsEmpty = skipMealMonthlyRepository.count() == 0 && leftoverMonthlyRepository.count() == 0;
+        boolean hasData = skipMealRepository.count() > 0 || leftoverRepository.count() > 0;
+        if (rollupsEmpty && hasData) {
+            log.info("📊 결식/잔반 월간 집계가 비어 있어 재구성을 시작합니다.");
+            rebuildAll();
+        }
+    }
+
+    private int rebuildSkipMealMonth(YearMonth ym) {
+        List<SkipMealAggregate> aggregates = skipMealRepository.aggregateAll(ym.atDay(1), ym.atEndOfMonth());
+        Map<String, SkipMealMonthly> existing = skipMealMonthlyRepository.findByTargetYm(ym.toString()).stream()
+                .collect(Collectors.toMap(m -> key(m.getSchoolId(), m.getMealType()), Function.identity()));
+
+        List<SkipMealMonthly> rows = new ArrayList<>(aggregates.size());
+        for (SkipMealAggregate aggregate : aggregates) {
+            SkipMealMonthly rollup = existing.remove(key(aggregate.schoolId(), aggregate.mealType()));
+            if (rollup == null) {
+                rollup = new SkipMealMonthly(aggregate.schoolId(), aggregate.mealType(), ym.toString());
+            }
+            rollup.apply(aggregate);
+            rows.add(rollup);
+        }
+        // 원본이 없는 집계 행은 0으로 초기화
+        existing.values().forEach(m -> {
+            m.apply(null);
+            rows.add(m);
+        });
+        skipMealMonthlyRepository.saveAll(rows);
+        return aggregates.size();
+    }
+
+    private int rebuildLeftoverMonth(YearMonth ym) {
+        List<LeftoverAggregate> aggregates = leftoverRepository.aggregateAll(ym.atDay(1), ym.atEndOfMonth());
+        Map<String, LeftoverMonthly> existing = leftoverMonthlyRepository.findByTargetYm(ym.toString()).stream()
+                .collect(Collectors.toMap(m -> key(m.getSchoolId(), m.getMealType()), Function.identity()));
+
+        List<LeftoverMonthly> rows = new ArrayList<>(aggregates.size());
+        for (LeftoverAggregate aggregate : aggregates) {
+            LeftoverMonthly rollup = existing.remove(key(aggregate.schoolId(), aggregate.mealType()));
+            if (rollup == null) {
+                rollup = new LeftoverMonthly(aggregate.schoolId(), aggregate.mealType(), ym.toString());
+            }
+            rollup.apply(aggregate);
+            rows.add(rollup);
+        }
+        existing.values().forEach(m -> {
+            m.apply(null);
+            rows.add(m);
+        });
+        leftoverMonthlyRepository.saveAll(rows);
+        return aggregates.size();
+    }
+
+    private static String key(Long schoolId, String mealType) {
+        return schoolId + ":" + mealType;
+    }
+
+    private static LocalDate earliest(LocalDate a, LocalDate b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore(b) ? a : b;
+    }
+}
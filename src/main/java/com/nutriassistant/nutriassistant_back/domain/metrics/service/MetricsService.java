@@ -12,11 +12,13 @@ import com.nutriassistant.nutriassistant_back.domain.School.entity.School;
 import com.nutriassistant.nutriassistant_back.domain.School.repository.SchoolRepository;
 
 // [리뷰 & 분석 관련 Import]
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto.SentimentCountSum;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity.ReviewAnalysis;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository.ReviewAnalysisRepository;
-import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto.FastApiDto;
 import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
 import com.nutriassistant.nutriassistant_back.domain.review.entity.Review;
+import com.nutriassistant.nutriassistant_back.global.pagination.CursorPage;
+import com.nutriassistant.nutriassistant_back.global.pagination.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,13 +28,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -49,13 +47,15 @@ public class MetricsService {
     private final LeftoverRepository leftoverRepository;
     private final SchoolRepository schoolRepository;
 
+    // 결식/잔반 월간 집계 (등록/수정 시 갱신, 기간 요약 조회)
+    private final MetricsRollupService metricsRollupService;
+
     // [추가] 분석된 데이터(통계) 접근용
     private final ReviewAnalysisRepository reviewAnalysisRepository;
 
     // [추가] 원본 리뷰 데이터 접근용
     private final ReviewRepository reviewRepository;
 
-    private final RestClient restClient;
     private final ObjectMapper objectMapper;
 
     // =================================================================================
@@ -86,7 +86,9 @@ public class MetricsService {
                 .totalStudents(totalStudents)
                 .build();
 
-        return mapToSkipMealResponse(skipMealRepository.save(skipMeal));
+        SkipMeal saved = skipMealRepository.save(skipMeal);
+        metricsRollupService.refreshSkipMeal(schoolId, saved.getMealType(), saved.getDate());
+        return mapToSkipMealResponse(saved);
     }
 
     // 결식 데이터 수정
@@ -114,7 +116,9 @@ public class MetricsService {
                 .totalStudents(totalStudents)
                 .build();
 
-        return mapToSkipMealResponse(skipMealRepository.save(updated));
+        SkipMeal saved = skipMealRepository.save(updated);
+        metricsRollupService.refreshSkipMeal(schoolId, saved.getMealType(), saved.getDate());
+        return mapToSkipMealResponse(saved);
     }
 
     // 일별 결식 조회
@@ -135,15 +139,17 @@ public class MetricsService {
                 .map(this::mapToSkipMealResponse)
                 .collect(Collectors.toList());
 
-        double avgRate = dailyData.stream()
-                .mapToDouble(SkipMealDto.Response::getSkip_rate)
-                .average().orElse(0.0);
+        // 평균/최소/최대는 DB 집계 (달력 월 단위 기간은 월간 집계 테이블)
+        MetricsRollupService.Summary summary = metricsRollupService.skipMealSummary(schoolId, mealType, start, end);
 
         return SkipMealDto.PeriodResponse.builder()
                 .period(SkipMealDto.Period.builder().start_date(start).end_date(end).build())
                 .school_id(schoolId)
                 .meal_type(mealType)
-                .average_skip_rate(Math.round(avgRate * 10) / 10.0)
+                .average_skip_rate(round1(summary.average()))
+                .min_skip_rate(summary.min() != null ? round1(summary.min()) : null)
+                .max_skip_rate(summary.max() != null ? round1(summary.max()) : null)
+                .days_recorded(summary.dayCount())
                 .daily_data(dailyData)
                 .build();
     }
@@ -183,7 +189,9 @@ public class MetricsService {
                 .amountKg(request.getAmount_kg())
                 .build();
 
-        return mapToLeftoverResponse(leftoverRepository.save(leftover));
+        Leftover saved = leftoverRepository.save(leftover);
+        metricsRollupService.refreshLeftover(schoolId, saved.getMealType(), saved.getDate());
+        return mapToLeftoverResponse(saved);
     }
 
     // 잔반 데이터 수정
@@ -201,6 +209,7 @@ public class MetricsService {
         leftoverRepository.save(leftover)
         */
 
+        metricsRollupService.refreshLeftover(schoolId, leftover.getMealType(), leftover.getDate());
         return mapToLeftoverResponse(leftover);
     }
 
@@ -222,15 +231,18 @@ public class MetricsService {
                 .map(this::mapToLeftoverResponse)
                 .collect(Collectors.toList());
 
-        double avgAmount = dailyData.stream()
-                .mapToDouble(LeftoverDto.Response::getAmount_kg)
-                .average().orElse(0.0);
+        // 평균/합계/최소/최대는 DB 집계 (달력 월 단위 기간은 월간 집계 테이블)
+        MetricsRollupService.Summary summary = metricsRollupService.leftoverSummary(schoolId, mealType, start, end);
 
         return LeftoverDto.PeriodResponse.builder()
                 .period(LeftoverDto.Period.builder().start_date(start).end_date(end).build())
                 .school_id(schoolId)
                 .meal_type(mealType)
-                .average_amount_kg(Math.round(avgAmount * 10) / 10.0)
+                .average_amount_kg(round1(summary.average()))
+                .total_amount_kg(round1(summary.sum()))
+                .min_amount_kg(summary.min() != null ? round1(summary.min()) : null)
+                .max_amount_kg(summary.max() != null ? round1(summary.max()) : null)
+                .days_recorded(summary.dayCount())
                 .daily_data(dailyData)
                 .build();
     }
@@ -251,55 +263,44 @@ public class MetricsService {
     // =================================================================================
 
     // 3-1. 만족도 카운트 요약 (최근 N일)
-    // ReviewAnalysis 테이블에서 긍정/부정 횟수를 합산합니다.
+    // ReviewAnalysis 테이블에서 긍정/부정 횟수를 DB에서 합산합니다.
     public SatisfactionDto.CountResponse getSatisfactionCount(Long schoolId, int days) {
         LocalDate end = LocalDate.now();
         LocalDate start = end.minusDays(days);
 
-        List<ReviewAnalysis> list = getAnalysisListByPeriod(schoolId, start, end);
-
-        long pos = list.stream().mapToLong(a -> a.getPositiveCount() == null ? 0 : a.getPositiveCount()).sum();
-        long neg = list.stream().mapToLong(a -> a.getNegativeCount() == null ? 0 : a.getNegativeCount()).sum();
-        long total = pos + neg;
+        SentimentCountSum sum = reviewAnalysisRepository.sumSentimentCounts(schoolId, start, end);
 
         return SatisfactionDto.CountResponse.builder()
                 .period(SatisfactionDto.Period.builder().start_date(start).end_date(end).build())
                 .school_id(schoolId)
-                .total_count(total)
-                .positive_count(pos)
-                .negative_count(neg)
+                .total_count(sum.total())
+                .positive_count(sum.positive())
+                .negative_count(sum.negative())
                 .neutral_count(0L) // 중립은 현재 로직에서 사용 안 함
                 .build();
     }
 
     // 3-2. 분석 배포 목록 (최근 N일, 페이징 포함)
-    // 일별 분석 결과(ReviewAnalysis)를 리스트로 반환합니다.
+    // 일별 분석 결과(ReviewAnalysis)를 DB에서 기간 조회 + 페이징합니다.
     public SatisfactionDto.BatchListResponse getSatisfactionBatchList(Long schoolId, int days, int page, int size) {
         LocalDate end = LocalDate.now();
         LocalDate start = end.minusDays(days);
 
-        // 실제로는 Repository에서 Page로 가져오는 게 좋지만, 로직 유지를 위해 리스트 조회 후 메모리 페이징 처리
-        List<ReviewAnalysis> list = getAnalysisListByPeriod(schoolId, start, end);
-
-        int totalItems = list.size();
-        int totalPages = (int) Math.ceil((double) totalItems / size);
-        int fromIndex = (page - 1) * size;
-        int toIndex = Math.min(fromIndex + size, totalItems);
-
-        List<ReviewAnalysis> pagedList = Collections.emptyList();
-        if (fromIndex < totalItems && fromIndex >= 0) {
-            pagedList = list.subList(fromIndex, toIndex);
-        }
+        int pageSize = Math.max(1, size);
+        Pageable pageable = PageRequest.of(Math.max(0, page - 1), pageSize,
+                Sort.by("targetDate").ascending().and(Sort.by("id").ascending()));
+        Page<ReviewAnalysis> analysisPage = reviewAnalysisRepository.findBySchoolIdAndTargetDateBetween(
+                schoolId, start, end, pageable);
 
-        List<SatisfactionDto.BatchInfo> batches = pagedList.stream()
+        List<SatisfactionDto.BatchInfo> batches = analysisPage.getContent().stream()
                 .map(a -> SatisfactionDto.BatchInfo.builder()
                         .batch_id("batch-" + a.getId()) // ID를 배치 ID로 활용
-                        .date(parseTargetYmToLocalDate(a.getTargetYm()))
+                        .date(a.getTargetDate())
                         .generated_at(a.getCreatedAt())
                         .model_version("sent-v1.2.0-lightml") // 고정값 예시
-                        .total_reviews((int) (safeLong(Long.valueOf(a.getPositiveCount())) + safeLong(Long.valueOf(a.getNegativeCount()))))
-                        .positive_count(Math.toIntExact(safeLong(Long.valueOf(a.getPositiveCount()))))
-                        .negative_count(Math.toIntExact(safeLong(Long.valueOf(a.getNegativeCount()))))
+                        .total_reviews(safeInt(a.getPositiveCount()) + safeInt(a.getNegativeCount()))
+                        .positive_count(safeInt(a.getPositiveCount()))
+                        .negative_count(safeInt(a.getNegativeCount()))
                         .average_rating(4.2) // 평점은 별도 집계 필요 (현재는 더미 값)
                         .build())
                 .collect(Collectors.toList());
@@ -310,8 +311,8 @@ public class MetricsService {
                 .batches(batches)
                 .pagination(SatisfactionDto.Pagination.builder()
                         .current_page(page)
-                        .total_pages(totalPages)
-                        .total_items((long) totalItems)
+                        .total_pages(analysisPage.getTotalPages())
+                        .total_items(analysisPage.getTotalElements())
                         .page_size(size)
                         .build())
                 .build();
@@ -319,14 +320,8 @@ public class MetricsService {
 
     // 3-3 & 3-4. 감성별 카운트 (긍정/부정)
     public SatisfactionDto.LabelCountResponse getSentimentCount(Long schoolId, String sentiment, LocalDate start, LocalDate end) {
-        List<ReviewAnalysis> list = getAnalysisListByPeriod(schoolId, start, end);
-        long count = 0;
-
-        if ("POSITIVE".equalsIgnoreCase(sentiment)) {
-            count = list.stream().mapToLong(a -> safeLong(Long.valueOf(a.getPositiveCount()))).sum();
-        } else {
-            count = list.stream().mapToLong(a -> safeLong(Long.valueOf(a.getNegativeCount()))).sum();
-        }
+        SentimentCountSum sum = reviewAnalysisRepository.sumSentimentCounts(schoolId, start, end);
+        long count = "POSITIVE".equalsIgnoreCase(sentiment) ? sum.positive() : sum.negative();
 
         return SatisfactionDto.LabelCountResponse.builder()
                 .school_id(schoolId)
@@ -353,22 +348,7 @@ public class MetricsService {
 
         // 3. DTO 매핑
         List<SatisfactionDto.ReviewDetail> details = reviewPage.getContent().stream()
-                .map(r -> SatisfactionDto.ReviewDetail.builder()
-                        .review_id("R-" + r.getId())
-                        .batch_id(batchId != null ? batchId : "batch-latest")
-                        .school_id(r.getSchoolId())
-                        .meal_type(r.getMealType() != null ? r.getMealType().name() : "LUNCH")
-                        .date(r.getDate() != null ? r.getDate() : r.getCreatedAt().toLocalDate())
-                        .rating_5(r.getRating() != null ? r.getRating().doubleValue() : 0.0)
-
-                        // 현재 Review 엔티티에 감성분석 결과 컬럼이 없으므로, 기본값 또는 추후 조인 필요
-                        // 일단 원본 텍스트(content)를 evidence로 보여주는 것이 중요
-                        .sentiment_label("POSITIVE")
-                        .sentiment_score(0.85)
-                        .aspect_tags(Arrays.asList("맛", "양"))
-                        .evidence_phrases(Collections.singletonList(r.getContent())) // 실제 리뷰 내용
-                        .issue_flags(new ArrayList<>())
-                        .build())
+                .map(r -> toReviewDetail(r, batchId))
                 .collect(Collectors.toList());
 
         // 4. 응답 생성
@@ -383,104 +363,64 @@ public class MetricsService {
                 .build();
     }
 
-    // [Helper] 일간 만족도 분석 실행 (FastAPI 호출)
-    @Transactional
-    public void executeDailySatisfactionAnalysis(Long schoolId, LocalDate targetDate) {
-        log.info("일간 만족도 분석 시작 - 학교ID: {}, 날짜: {}", schoolId, targetDate);
-
-        // 1. 해당 날짜의 리뷰 데이터 조회
-        LocalDateTime startOfDay = targetDate.atStartOfDay();
-        LocalDateTime endOfDay = targetDate.plusDays(1).atStartOfDay();
-
-        List<Review> reviews = reviewRepository.findBySchoolIdAndCreatedAtBetween(schoolId, startOfDay, endOfDay);
+    /**
+     * 만족도 리뷰 목록 (커서 모드)
+     * - 최신순(createdAt DESC, id DESC)으로 cursor 다음 리뷰부터 size건 조회
+     * - 전체 건수를 세지 않고 size + 1건 조회로 다음 페이지 여부만 확인
+     *
+     * @param cursor 이전 응답의 next_cursor (null/빈 문자열이면 첫 페이지)
+     */
+    public SatisfactionDto.ReviewListResponse getSatisfactionReviewsByCursor(Long schoolId, String batchId, LocalDate start, LocalDate end, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        boolean hasRange = start != null && end != null;
+
+        List<Review> rows = reviewRepository.findBySchoolIdAfter(
+                schoolId,
+                hasRange ? start : null,
+                hasRange ? end : null,
+                after != null ? after.keyAsDateTime() : null,
+                after != null ? after.id() : null,
+                CursorPage.probe(size));
+
+        CursorPage<SatisfactionDto.ReviewDetail> result = CursorPage.of(
+                rows, size, r -> KeysetCursor.of(r.getCreatedAt(), r.getId()), r -> toReviewDetail(r, batchId));
 
-        if (reviews.isEmpty()) {
-            log.info("분석할 리뷰가 없습니다.");
-            return;
-        }
-
-        List<String> texts = reviews.stream()
-                .map(Review::getContent)
-                .collect(Collectors.toList());
-
-        // 2. FastAPI 요청 DTO 생성
-        FastApiDto.Request requestDto = FastApiDto.Request.builder()
-                .schoolId(schoolId)
-                .targetDate(targetDate.toString())
-                .reviewTexts(texts)
+        return SatisfactionDto.ReviewListResponse.builder()
+                .reviews(result.items())
+                .pagination(SatisfactionDto.Pagination.builder()
+                        .page_size(size)
+                        .has_next(result.hasNext())
+                        .next_cursor(result.nextCursor())
+                        .build())
                 .build();
-
-        try {
-            // 3. FastAPI 호출 (URL은 application.yml이나 RestClient 설정에 따름)
-            // 안전을 위해 전체 URL 명시 권장 (localhost:8001)
-            FastApiDto.Response response = restClient.post()
-                    .uri("http://localhost:8001/api/analyze/daily")
-                    .body(requestDto)
-                    .retrieve()
-                    .body(FastApiDto.Response.class);
-
-            if (response == null) {
-                log.error("FastAPI 응답이 비어있습니다.");
-                return;
-            }
-
-            // 4. 분석 결과 DB 저장 (ReviewAnalysis)
-            ReviewAnalysis analysis = ReviewAnalysis.builder()
-                    .schoolId(schoolId)
-                    .targetYm(targetDate.toString())
-                    .sentimentLabel(response.getSentimentLabel())
-                    .sentimentScore(response.getSentimentScore())
-                    .sentimentConf(response.getSentimentConf())
-                    .positiveCount(response.getPositiveCount())
-                    .negativeCount(response.getNegativeCount())
-                    .aspectTags(String.join(",", response.getAspectTags()))
-                    .evidencePhrases(String.join("|", response.getEvidencePhrases()))
-                    .issueFlags(response.getIssueFlags())
-                    .build();
-
-            reviewAnalysisRepository.save(analysis);
-            log.info("분석 완료 및 저장 성공. 긍정: {}, 부정: {}", response.getPositiveCount(), response.getNegativeCount());
-
-        } catch (Exception e) {
-            log.error("FastAPI 분석 요청 실패: {}", e.getMessage());
-        }
     }
 
-    // [Helper] 기간별 분석 데이터 조회
-    private List<ReviewAnalysis> getAnalysisListByPeriod(Long schoolId, LocalDate start, LocalDate end) {
-        // 성능 최적화를 위해 Repository에서 Between으로 가져오는 것이 좋으나, 현재 구조 유지를 위해 Stream 필터링 사용
-        List<ReviewAnalysis> all = reviewAnalysisRepository.findBySchoolId(schoolId);
-        String s = start.toString();
-        String e = end.toString();
-
-        return all.stream()
-                .filter(a -> a.getTargetYm().compareTo(s) >= 0 && a.getTargetYm().compareTo(e) <= 0)
-                .collect(Collectors.toList());
+    private SatisfactionDto.ReviewDetail toReviewDetail(Review r, String batchId) {
+        return SatisfactionDto.ReviewDetail.builder()
+                .review_id("R-" + r.getId())
+                .batch_id(batchId != null ? batchId : "batch-latest")
+                .school_id(r.getSchoolId())
+                .meal_type(r.getMealType() != null ? r.getMealType().name() : "LUNCH")
+                .date(r.getDate() != null ? r.getDate() : r.getCreatedAt().toLocalDate())
+                .rating_5(r.getRating() != null ? r.getRating().doubleValue() : 0.0)
+
+                // 현재 Review 엔티티에 감성분석 결과 컬럼이 없으므로, 기본값 또는 추후 조인 필요
+                // 일단 원본 텍스트(content)를 evidence로 보여주는 것이 중요
+                .sentiment_label("POSITIVE")
+                .sentiment_score(0.85)
+                .aspect_tags(Arrays.asList("맛", "양"))
+                .evidence_phrases(Collections.singletonList(r.getContent())) // 실제 리뷰 내용
+                .issue_flags(new ArrayList<>())
+                .build();
     }
 
-    // [Helper] Null-safe Long 변환
-    private long safeLong(Long val) {
-        return val == null ? 0L : val;
+    // [Helper] 소수점 첫째 자리 반올림
+    private double round1(double value) {
+        return Math.round(value * 10) / 10.0;
     }
 
-    // [Helper] targetYm을 LocalDate로 변환 (yyyy-MM 또는 yyyy-MM-dd 형식 지원)
-    private LocalDate parseTargetYmToLocalDate(String targetYm) {
-        if (targetYm == null || targetYm.isBlank()) {
-            return LocalDate.now();
-        }
-
-        try {
-            // 먼저 yyyy-MM-dd 형식 시도
-            return LocalDate.parse(targetYm);
-        } catch (DateTimeParseException e1) {
-            try {
-                // yyyy-MM 형식이면 해당 월의 첫째 날로 변환
-                YearMonth ym = YearMonth.parse(targetYm);
-                return ym.atDay(1);
-            } catch (DateTimeParseException e2) {
-                log.warn("날짜 파싱 실패: {}", targetYm);
-                return LocalDate.now();
-            }
-        }
+    // [Helper] Null-safe Integer 변환
+    private int safeInt(Integer val) {
+        return val == null ? 0 : val;
     }
-}
\ No newline at end of file
+}
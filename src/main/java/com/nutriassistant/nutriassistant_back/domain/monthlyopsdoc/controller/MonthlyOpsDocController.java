@@ -1,6 +1,8 @@
 package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.controller;
 
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.dto.MonthlyOpsDocDto;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.MonthlyOpsDoc;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service.MonthlyOpsDocPipeline;
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service.MonthlyOpsDocService;
 import com.nutriassistant.nutriassistant_back.global.ApiResponse;
 import com.nutriassistant.nutriassistant_back.global.auth.CurrentUser;
@@ -20,18 +22,48 @@ import org.springframework.web.bind.annotation.*;
 public class MonthlyOpsDocController {
 
     private final MonthlyOpsDocService monthlyOpsDocService;
+    private final MonthlyOpsDocPipeline monthlyOpsDocPipeline;
 
     /**
      * 1. 월간 운영 자료 생성
      * POST /reports/monthly
+     * 통계 수집 → AI 분석 → PDF 생성 → 업로드는 백그라운드에서 진행되며, 즉시 PENDING 상태로 반환합니다. (202 Accepted)
+     * 진행 상태(status, stage)는 GET /reports/monthly/{reportId} 로 조회합니다.
      */
     @PostMapping
-    public ApiResponse<MonthlyOpsDocDto.Response> createMonthlyOpsDoc(
+    public ResponseEntity<ApiResponse<MonthlyOpsDocDto.Response>> createMonthlyOpsDoc(
             @CurrentUser UserContext user,
             @RequestBody MonthlyOpsDocDto.CreateRequest request) {
 
-        MonthlyOpsDocDto.Response response = monthlyOpsDocService.createMonthlyOpsDoc(request, user.getSchoolId());
-        return ApiResponse.success("월간 운영 자료 생성이 시작되었습니다.", response);
+        MonthlyOpsDoc doc = monthlyOpsDocPipeline.submit(request, user.getSchoolId());
+        return accepted("월간 운영 자료 생성이 시작되었습니다.", doc, user);
+    }
+
+    /**
+     * 1-1. 실패한 월간 운영 자료 재시도 (실패한 단계부터 다시 실행)
+     * POST /reports/monthly/{reportId}/retry
+     */
+    @PostMapping("/{reportId}/retry")
+    public ResponseEntity<ApiResponse<MonthlyOpsDocDto.Response>> retryMonthlyOpsDoc(
+            @CurrentUser UserContext user,
+            @PathVariable Long reportId) {
+
+        MonthlyOpsDoc doc = monthlyOpsDocPipeline.retry(reportId, user.getSchoolId());
+        return accepted("월간 운영 자료 생성을 다시 시작했습니다.", doc, user);
+    }
+
+    private ResponseEntity<ApiResponse<MonthlyOpsDocDto.Response>> accepted(String message, MonthlyOpsDoc doc, UserContext user) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponse.success(message, monthlyOpsDocService.getMonthlyOpsDocDetail(doc.getId(), user.getSchoolId()))
+        );
+    }
+
+    /**
+     * 생성 대기열 포화
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRejected(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error(e.getMessage()));
     }
 
     /**
@@ -47,7 +47,20 @@ public class MonthlyOpsDocDto {
         private String title;
         private Integer year;
         private Integer month;
-        private String status; // "COMPLETED", "PENDING" 등
+        private String status; // "PENDING", "PROCESSING", "COMPLETED", "FAILED"
+
+        // 생성 단계 (STATS, AI, PDF, UPLOAD, DONE) - FAILED면 실패한 단계
+        private String stage;
+
+        @JsonProperty("error_message")
+        private String error_message;
+
+        // 실행 횟수 (재시도마다 +1)
+        private Integer attempts;
+
+        // 단계별 마지막 실행 소요 시간 (ms) 예: {"stats": 120, "ai": 45000}
+        @JsonProperty("stage_millis")
+        private Map<String, Long> stage_millis;
 
         // AI 분석 결과 JSON이 Map으로 변환되어 들어감
         @JsonProperty("report_content")
@@ -56,6 +69,9 @@ public class MonthlyOpsDocDto {
         @JsonProperty("created_at")
         private LocalDateTime created_at;
 
+        @JsonProperty("finished_at")
+        private LocalDateTime finished_at;
+
         // 첨부파일 리스트
         private List<FileResponse> files;
     }
@@ -78,6 +94,7 @@ public class MonthlyOpsDocDto {
         private Integer year;
         private Integer month;
         private String status;
+        private String stage;
 
         @JsonProperty("created_at")
         private LocalDateTime created_at;
@@ -3,13 +3,28 @@ package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Entity
-@Table(name = "monthly_ops_docs")
+@Table(
+        name = "monthly_ops_docs",
+        indexes = {
+                // 재기동 시 진행 중 문서 정리
+                @Index(name = "idx_monthly_ops_docs_status", columnList = "status")
+        },
+        uniqueConstraints = {
+                // 학교/연월당 문서 1건 (여러 인스턴스가 동시에 등록해도 중복 생성 방지)
+                @UniqueConstraint(name = "uk_monthly_ops_docs_school_ym", columnNames = {"school_id", "year", "month"})
+        }
+)
+// 단계마다 상태만 저장하므로 변경된 컬럼만 UPDATE (stats_data/report_data 재기록 방지)
+@DynamicUpdate
 @Getter // 이 어노테이션 덕분에 getReportData()가 자동으로 생성됩니다.
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -42,6 +57,47 @@ public class MonthlyOpsDoc {
     @Column(name = "report_data", columnDefinition = "LONGTEXT")
     private String reportData;
 
+    // ========== 생성 파이프라인 (STATS → AI → PDF → UPLOAD) ==========
+
+    // 다음에 실행할 단계 (FAILED면 실패한 단계, 완료 시 DONE)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ReportStage stage;
+
+    // STATS 단계 결과 (FastAPI 요청 데이터 JSON) - AI 단계 재시도 시 통계를 다시 조회하지 않음
+    @Column(name = "stats_data", columnDefinition = "LONGTEXT")
+    private String statsData;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    // 실행 횟수 (최초 1, 재시도마다 +1)
+    private Integer attempts;
+
+    // 단계별 마지막 실행 소요 시간 (ms)
+    @Column(name = "stats_millis")
+    private Long statsMillis;
+
+    @Column(name = "ai_millis")
+    private Long aiMillis;
+
+    @Column(name = "pdf_millis")
+    private Long pdfMillis;
+
+    @Column(name = "upload_millis")
+    private Long uploadMillis;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 생성 작업을 실행하는 인스턴스와 마지막 단계 전환 시각
+    // (heartbeat가 만료된 진행 중 문서만 다른 인스턴스가 정리/재시도 - MonthlyOpsDocRepository)
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -53,7 +109,13 @@ public class MonthlyOpsDoc {
             this.createdAt = LocalDateTime.now();
         }
         if (this.status == null) {
-            this.status = ReportStatus.PROCESSING;
+            this.status = ReportStatus.PENDING;
+        }
+        if (this.stage == null) {
+            this.stage = ReportStage.STATS;
+        }
+        if (this.attempts == null) {
+            this.attempts = 1;
         }
     }
 
@@ -62,8 +124,71 @@ public class MonthlyOpsDoc {
         this.reportData = jsonContent;
     }
 
-    public void complete() {
+    public void updateStatsData(String jsonContent) {
+        this.statsData = jsonContent;
+    }
+
+    /**
+     * 단계 실행 시작
+     */
+    public void markProcessing(ReportStage stage) {
+        this.status = ReportStatus.PROCESSING;
+        this.stage = stage;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    /**
+     * 단계 완료 → 다음 단계로 이동
+     */
+    public void completeStage(ReportStage stage, long millis) {
+        recordMillis(stage, millis);
+        this.stage = stage.next();
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    public void markCompleted() {
         this.status = ReportStatus.COMPLETED;
+        this.stage = ReportStage.DONE;
+        this.errorMessage = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 단계 실패 (stage는 실패한 단계로 유지 → 재시도 시 여기서부터 실행)
+     */
+    public void markFailed(ReportStage stage, Long millis, String errorMessage) {
+        if (millis != null) {
+            recordMillis(stage, millis);
+        }
+        this.status = ReportStatus.FAILED;
+        this.stage = stage;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 단계별 소요 시간 (실행된 단계만)
+     */
+    public Map<String, Long> getStageMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        if (statsMillis != null) millis.put("stats", statsMillis);
+        if (aiMillis != null) millis.put("ai", aiMillis);
+        if (pdfMillis != null) millis.put("pdf", pdfMillis);
+        if (uploadMillis != null) millis.put("upload", uploadMillis);
+        return millis;
+    }
+
+    private void recordMillis(ReportStage stage, long millis) {
+        switch (stage) {
+            case STATS -> this.statsMillis = millis;
+            case AI -> this.aiMillis = millis;
+            case PDF -> this.pdfMillis = millis;
+            case UPLOAD -> this.uploadMillis = millis;
+            default -> {
+            }
+        }
     }
 
     // [삭제] public String getReportData() {}
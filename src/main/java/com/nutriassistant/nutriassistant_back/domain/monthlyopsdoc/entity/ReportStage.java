@@ -0,0 +1,24 @@
+package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity;
+
+/**
+ * 월간 운영자료 생성 단계 (순서대로 실행)
+ *
+ * - STATS  : 결식/잔반/리뷰/식단 통계 수집 → AI 요청 데이터 저장 (stats_data)
+ * - AI     : FastAPI /api/reports/monthly 분석 → 결과 저장 (report_data)
+ * - PDF    : 분석 결과로 PDF 생성 → 임시 파일
+ * - UPLOAD : PDF를 S3에 업로드하고 첨부파일 등록
+ * - DONE   : 모든 단계 완료
+ *
+ * 각 단계의 결과는 저장되므로, 실패한 단계만 다시 실행할 수 있습니다.
+ */
+public enum ReportStage {
+    STATS,
+    AI,
+    PDF,
+    UPLOAD,
+    DONE;
+
+    public ReportStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
@@ -1,7 +1,18 @@
 package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity;
 
+/**
+ * 월간 운영자료 생성 상태
+ *
+ * PENDING(등록, 워커 대기) → PROCESSING(단계 실행 중) → COMPLETED
+ * (어느 단계에서든 실패 시 FAILED, 재시도하면 실패한 단계부터 다시 PENDING)
+ */
 public enum ReportStatus {
+    PENDING,
     PROCESSING,
     COMPLETED,
-    FAILED
-}
\ No newline at end of file
+    FAILED;
+
+    public boolean isActive() {
+        return this == PENDING || this == PROCESSING;
+    }
+}
@@ -1,10 +1,17 @@
 package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.repository;
 
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.MonthlyOpsDoc;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.ReportStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 public interface MonthlyOpsDocRepository extends JpaRepository<MonthlyOpsDoc, Long> {
@@ -12,6 +19,48 @@ public interface MonthlyOpsDocRepository extends JpaRepository<MonthlyOpsDoc, Lo
     // 중복 생성 방지 체크용
     boolean existsBySchoolIdAndYearAndMonth(Long schoolId, Integer year, Integer month);
 
+    // 학교 소유 문서 단건 조회 (재시도)
+    Optional<MonthlyOpsDoc> findByIdAndSchoolId(Long id, Long schoolId);
+
+    /**
+     * 재시도 등록 (조건부 UPDATE, 여러 인스턴스가 동시에 눌러도 한 곳만 1을 받음)
+     * - FAILED 문서
+     * - 진행 중이지만 heartbeat가 만료된 문서 (실행하던 인스턴스가 중단된 경우)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MonthlyOpsDoc d SET d.status = :pending, d.errorMessage = NULL, d.finishedAt = NULL, " +
+            "d.attempts = COALESCE(d.attempts, 1) + 1, d.owner = :owner, d.heartbeatAt = :now " +
+            "WHERE d.id = :id AND d.schoolId = :schoolId AND (d.status = :failed " +
+            "OR (d.status IN :active AND (d.heartbeatAt IS NULL OR d.heartbeatAt < :staleBefore)))")
+    int claimRetry(@Param("id") Long id,
+                   @Param("schoolId") Long schoolId,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("staleBefore") LocalDateTime staleBefore,
+                   @Param("pending") ReportStatus pending,
+                   @Param("failed") ReportStatus failed,
+                   @Param("active") Collection<ReportStatus> active);
+
+    /**
+     * 중단된 생성 작업 정리 (재기동 시, 완료된 단계 결과는 그대로 두므로 재시도하면 중단된 단계부터 실행)
+     * - 같은 호스트의 이전 프로세스가 남긴 문서 (ownerPattern과 일치하고 현재 owner가 아닌 것)
+     * - 어느 인스턴스 것이든 heartbeat가 만료된 문서
+     * 다른 인스턴스가 실행 중인 문서는 건드리지 않음
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MonthlyOpsDoc d SET d.status = :failed, d.errorMessage = :message, d.finishedAt = :now " +
+            "WHERE d.status IN :active AND ((d.owner LIKE :ownerPattern ESCAPE '!' AND d.owner <> :owner) " +
+            "OR d.heartbeatAt IS NULL OR d.heartbeatAt < :staleBefore)")
+    int failStale(@Param("active") Collection<ReportStatus> active,
+                  @Param("owner") String owner,
+                  @Param("ownerPattern") String ownerPattern,
+                  @Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("now") LocalDateTime now,
+                  @Param("failed") ReportStatus failed,
+                  @Param("message") String message);
+
     // 학교별 목록 조회 (페이징)
     Page<MonthlyOpsDoc> findAllBySchoolId(Long schoolId, Pageable pageable);
 
@@ -0,0 +1,224 @@
+package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanMenuRepository;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.MonthlyOpsDoc;
+import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
+import com.nutriassistant.nutriassistant_back.global.client.JsonBodyWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 월간 운영 보고서 분석 요청 본문 (/api/reports/monthly) 스트리밍 작성
+ *
+ * 본문 구성:
+ * - STATS 단계 결과(statsData: 메타, dailyInfo, dailyAnalyses, monthlySummary 등)는 파서 → 생성기로 그대로 복사
+ * - reviews / reviewAnalyses / mealPlan 은 DB 커서에서 한 행씩 읽어 바로 씀
+ *   (리뷰는 두 목록을 위해 같은 순서(작성 시각, id)로 두 번 조회 - 메모리에 리뷰 목록을 올리지 않음)
+ *
+ * 읽기 전용 트랜잭션은 본문을 다 쓸 때까지만 유지하고, AI 응답 대기 중에는 DB 커넥션을 잡지 않습니다.
+ * 재시도 시 다시 호출되어 처음부터 다시 씁니다.
+ */
+@Slf4j
+@Component
+public class MonthlyOpsDocPayloadWriter {
+
+    // DB에서 바로 쓰는 필드 (이전 형식의 statsData에 들어 있어도 복사하지 않음)
+    private static final Set<String> STREAMED_FIELDS = Set.of("reviews", "reviewAnalyses", "mealPlan");
+
+    private final ReviewRepository reviewRepository;
+    private final MealPlanMenuRepository mealPlanMenuRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public MonthlyOpsDocPayloadWriter(ReviewRepository reviewRepository,
+                                      MealPlanMenuRepository mealPlanMenuRepository,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.mealPlanMenuRepository = mealPlanMenuRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * @throws IllegalStateException STATS 단계 결과가 없는 경우
+     */
+    public JsonBodyWriter writerFor(MonthlyOpsDoc doc) {
+        String statsData = doc.getStatsData();
+        if (statsData == null) {
+            throw new IllegalStateException("통계 데이터가 없습니다. (STATS 단계 미완료)");
+        }
+
+        Long schoolId = doc.getSchoolId();
+        int year = doc.getYear();
+        int month = doc.getMonth();
+        YearMonth yearMonth = YearMonth.of(year, month);
+
+        JsonBodyWriter rows = JsonBodyWriter.inTransaction(readOnlyTx, generator -> {
+            LocalDateTime start = yearMonth.atDay(1).atStartOfDay();
+            LocalDateTime end = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+            int reviewCount = writeReviews(generator, schoolId, start, end);
+            writeReviewAnalyses(generator, schoolId, start, end, year, month);
+            int menuCount = writeMealPlan(generator, schoolId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+            log.info("📊 보고서 요청 본문 전송: reviews/reviewAnalyses {}개, mealPlan {}개 (docId={})",
+                    reviewCount, menuCount, doc.getId());
+        });
+
+        return generator -> {
+            generator.writeStartObject();
+            copyStats(statsData, generator);
+            rows.writeTo(generator);
+            generator.writeEndObject();
+        };
+    }
+
+    /**
+     * STATS 결과 객체의 필드를 그대로 복사 (트리로 읽지 않음)
+     */
+    private void copyStats(String statsData, JsonGenerator generator) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(statsData)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("통계 데이터 형식이 올바르지 않습니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (STREAMED_FIELDS.contains(parser.currentName())) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                    continue;
+                }
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    // =========================================================================
+    // reviews (camelCase)
+    // =========================================================================
+    private int writeReviews(JsonGenerator generator, Long schoolId,
+                             LocalDateTime start, LocalDateTime end) throws IOException {
+        int idx = 0;
+        generator.writeArrayFieldStart("reviews");
+        try (Stream<ReviewRepository.ReviewPayloadRow> rows = reviewRepository.streamPayloadRows(schoolId, start, end)) {
+            for (ReviewRepository.ReviewPayloadRow r : (Iterable<ReviewRepository.ReviewPayloadRow>) rows::iterator) {
+                String dateStr = r.getCreatedAt() != null ? r.getCreatedAt().toLocalDate().toString() : "";
+
+                generator.writeStartObject();
+                generator.writeStringField("reviewId", String.format("R-%s-%04d", dateStr.replace("-", ""), ++idx));
+                generator.writeStringField("date", dateStr);
+                generator.writeStringField("mealType", "중식");
+                if (r.getRating() != null) {
+                    generator.writeNumberField("rating", r.getRating());
+                } else {
+                    generator.writeNumberField("rating", 0.0);
+                }
+                generator.writeStringField("content", r.getContent() != null ? r.getContent() : "");
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+        return idx;
+    }
+
+    // =========================================================================
+    // reviewAnalyses: reviews 기반으로 개별 리뷰 분석 결과 생성
+    // FastAPI는 개별 리뷰에 대한 분석 결과를 기대함 (review_id로 날짜 추출, reviews와 같은 순서/번호)
+    // =========================================================================
+    private void writeReviewAnalyses(JsonGenerator generator, Long schoolId,
+                                     LocalDateTime start, LocalDateTime end, int year, int month) throws IOException {
+        int idx = 0;
+        generator.writeArrayFieldStart("reviewAnalyses");
+        try (Stream<ReviewRepository.ReviewPayloadRow> rows = reviewRepository.streamPayloadRows(schoolId, start, end)) {
+            for (ReviewRepository.ReviewPayloadRow r : (Iterable<ReviewRepository.ReviewPayloadRow>) rows::iterator) {
+                // 날짜 문자열 생성 (R-YYYYMMDD-NNNN 형식)
+                String dateStr = r.getCreatedAt() != null
+                        ? r.getCreatedAt().toLocalDate().toString().replace("-", "")
+                        : String.format("%04d%02d01", year, month);
+
+                // 감정 분석 결과 (rating 기반으로 추정)
+                double rating = r.getRating() != null ? r.getRating().doubleValue() : 3.0;
+                String sentimentLabel;
+                double sentimentScore;
+                if (rating >= 4.0) {
+                    sentimentLabel = "POSITIVE";
+                    sentimentScore = 0.7 + (rating - 4.0) * 0.15;  // 4점: 0.7, 5점: 0.85
+                } else if (rating >= 3.0) {
+                    sentimentLabel = "NEUTRAL";
+                    sentimentScore = 0.4 + (rating - 3.0) * 0.3;  // 3점: 0.4, 4점: 0.7
+                } else {
+                    sentimentLabel = "NEGATIVE";
+                    sentimentScore = rating / 3.0 * 0.4;  // 1점: 0.13, 2점: 0.27
+                }
+
+                generator.writeStartObject();
+
+                // 필수 필드
+                generator.writeStringField("review_id", String.format("R-%s-%04d", dateStr, ++idx));
+                generator.writeStringField("meal_type", r.getMealType() != null ? r.getMealType().name() : "LUNCH");
+                generator.writeNumberField("rating_5", r.getRating() != null ? r.getRating().doubleValue() : 0.0);
+
+                generator.writeStringField("sentiment_label", sentimentLabel);
+                generator.writeNumberField("sentiment_score", sentimentScore);
+                generator.writeNumberField("sentiment_conf", 0.85);  // 기본 신뢰도
+
+                // 리스트 타입 필드들
+                generator.writeArrayFieldStart("aspect_tags");
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("evidence_phrases");
+                if (r.getContent() != null && !r.getContent().isBlank()) {
+                    generator.writeString(r.getContent());
+                }
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("issue_flags");
+                generator.writeEndArray();
+
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    // =========================================================================
+    // mealPlan: 해당 월의 식단 데이터
+    // =========================================================================
+    private int writeMealPlan(JsonGenerator generator, Long schoolId,
+                              LocalDate startDate, LocalDate endDate) throws IOException {
+        int count = 0;
+        generator.writeArrayFieldStart("mealPlan");
+        try (Stream<MealPlanMenuRepository.MenuDisplayRow> rows =
+                     mealPlanMenuRepository.streamDisplayRows(schoolId, startDate, endDate)) {
+            for (MealPlanMenuRepository.MenuDisplayRow menu : (Iterable<MealPlanMenuRepository.MenuDisplayRow>) rows::iterator) {
+                generator.writeStartObject();
+                generator.writeStringField("date", menu.getMenuDate().toString());
+                generator.writeStringField("mealType", menu.getMealType() != null ? menu.getMealType().name() : "LUNCH");
+                generator.writeStringField("rice", menu.getRiceDisplay());
+                generator.writeStringField("soup", menu.getSoupDisplay());
+                generator.writeStringField("main1", menu.getMain1Display());
+                generator.writeStringField("main2", menu.getMain2Display());
+                generator.writeStringField("side", menu.getSideDisplay());
+                generator.writeStringField("kimchi", menu.getKimchiDisplay());
+                generator.writeStringField("dessert", menu.getDessertDisplay());
+                generator.writeEndObject();
+                count++;
+            }
+        }
+        generator.writeEndArray();
+        return count;
+    }
+}
@@ -0,0 +1,273 @@
+package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service;
+
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.dto.MonthlyOpsDocDto;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.MonthlyOpsDoc;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.ReportStage;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.ReportStatus;
+import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.repository.MonthlyOpsDocRepository;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiUnavailableException;
+import com.nutriassistant.nutriassistant_back.global.instance.InstanceId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+/**
+ * 월간 운영자료 생성 파이프라인
+ *
+ * 역할:
+ * - POST /reports/monthly 요청은 문서를 PENDING으로 저장하고 즉시 반환
+ * - 전용 워커 풀(opsDocExecutor)에서 STATS → AI → PDF → UPLOAD 단계를 순서대로 실행
+ * - 단계가 끝날 때마다 결과와 소요 시간을 문서에 저장 (다음 단계로 이동)
+ * - 실패하면 FAILED + 실패한 단계/오류 메시지를 기록하고, 재시도 시 그 단계부터 다시 실행
+ *   (통계 재조회/AI 재분석 없이 PDF나 업로드만 다시 할 수 있음)
+ *
+ * 다중 인스턴스:
+ * - 학교/연월 유일 키로 중복 등록 방지, 재시도는 조건부 UPDATE로 한 곳만 등록
+ * - 문서에 실행 인스턴스(owner)와 heartbeat(단계 전환 시각)를 기록
+ * - 재기동 시 같은 호스트의 이전 프로세스 문서와 heartbeat가 만료된 문서만 FAILED로 정리
+ *   (heartbeat 만료 시간 report.ops-doc.lease-minutes 는 대기열 대기 + 가장 긴 단계보다 길어야 함)
+ *
+ * 업로드 대기 PDF:
+ * - 업로드에 성공하면 바로 삭제
+ * - 실패 후 재시도하지 않은 문서의 PDF는 report.pdf.spool-retention-hours 가 지나면
+ *   기동 시/생성 작업이 끝날 때마다 삭제 (나중에 재시도하면 PDF 단계부터 다시 생성)
+ *
+ * 트랜잭션:
+ * - 워커에는 트랜잭션이 없고, 상태 저장은 단계마다 짧은 트랜잭션으로 처리
+ * - AI/PDF/UPLOAD 단계는 DB 커넥션을 잡지 않음 (MonthlyOpsDocService)
+ *
+ * 지표: nutri.opsdoc.stage{stage, result=success|failure} (단계별 소요 시간),
+ *       nutri.opsdoc.jobs{result=completed|failed|rejected}
+ */
+@Slf4j
+@Service
+public class MonthlyOpsDocPipeline {
+
+    private static final EnumSet<ReportStatus> ACTIVE_STATUSES = EnumSet.of(ReportStatus.PENDING, ReportStatus.PROCESSING);
+
+    private final MonthlyOpsDocRepository docRepository;
+    private final MonthlyOpsDocService docService;
+    private final TaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final InstanceId instanceId;
+    private final Duration lease;
+    private final Duration spoolRetention;
+
+    public MonthlyOpsDocPipeline(MonthlyOpsDocRepository docRepository,
+                                 MonthlyOpsDocService docService,
+                                 MeterRegistry meterRegistry,
+                                 InstanceId instanceId,
+                                 @Qualifier(AsyncConfig.OPS_DOC_EXECUTOR) TaskExecutor executor,
+                                 @Value("${report.ops-doc.lease-minutes:60}") long leaseMinutes,
+                                 @Value("${report.pdf.spool-retention-hours:24}") long spoolRetentionHours) {
+        this.docRepository = docRepository;
+        this.docService = docService;
+        this.meterRegistry = meterRegistry;
+        this.instanceId = instanceId;
+        this.executor = executor;
+        this.lease = Duration.ofMinutes(leaseMinutes);
+        this.spoolRetention = Duration.ofHours(spoolRetentionHours);
+    }
+
+    // =========================================================================
+    // 등록 / 재시도
+    // =========================================================================
+
+    /**
+     * 운영자료 생성 등록 (PENDING 저장 후 즉시 반환)
+     *
+     * @throws IllegalArgumentException 연/월 누락, 이미 같은 월 문서가 있는 경우
+     * @throws IllegalStateException    워커 대기열이 가득 찬 경우
+     */
+    public MonthlyOpsDoc submit(MonthlyOpsDocDto.CreateRequest request, Long schoolId) {
+        if (request.getYear() == null || request.getMonth() == null
+                || request.getMonth() < 1 || request.getMonth() > 12) {
+            throw new IllegalArgumentException("연도/월 형식이 올바르지 않습니다.");
+        }
+
+        // Prevent Duplicate Creation (실패한 문서는 새로 만들지 않고 재시도)
+        if (docRepository.existsBySchoolIdAndYearAndMonth(schoolId, request.getYear(), request.getMonth())) {
+            throw new IllegalArgumentException("An operation document for this month already exists.");
+        }
+
+        MonthlyOpsDoc doc;
+        try {
+            doc = docRepository.saveAndFlush(MonthlyOpsDoc.builder()
+                    .schoolId(schoolId)
+                    .title(request.getTitle())
+                    .year(request.getYear())
+                    .month(request.getMonth())
+                    .status(ReportStatus.PENDING)
+                    .stage(ReportStage.STATS)
+                    .owner(instanceId.value())
+                    .heartbeatAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 학교/연월을 다른 요청(인스턴스)이 먼저 등록 (uk_monthly_ops_docs_school_ym)
+            throw new IllegalArgumentException("An operation document for this month already exists.");
+        }
+
+        enqueue(doc);
+        log.info("📥 운영자료 생성 등록: docId={}, 학교 ID={}, {}/{}",
+                doc.getId(), schoolId, doc.getYear(), doc.getMonth());
+        return doc;
+    }
+
+    /**
+     * 실패한 운영자료를 실패한 단계부터 다시 실행
+     * (heartbeat가 만료된 진행 중 문서도 실행하던 인스턴스가 중단된 것으로 보고 재시도)
+     *
+     * @throws IllegalArgumentException 문서가 없거나 재시도할 수 있는 상태가 아닌 경우
+     * @throws IllegalStateException    워커 대기열이 가득 찬 경우
+     */
+    public MonthlyOpsDoc retry(Long docId, Long schoolId) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = docRepository.claimRetry(docId, schoolId, instanceId.value(), now, now.minus(lease),
+                ReportStatus.PENDING, ReportStatus.FAILED, ACTIVE_STATUSES);
+
+        MonthlyOpsDoc doc = docRepository.findByIdAndSchoolId(docId, schoolId)
+                .orElseThrow(() -> new IllegalArgumentException("Operation document not found."));
+        if (claimed == 0) {
+            throw new IllegalArgumentException("실패한 운영 자료만 다시 시도할 수 있습니다. (현재 상태: " + doc.getStatus() + ")");
+        }
+
+        enqueue(doc);
+        log.info("🔁 운영자료 생성 재시도: docId={}, 단계={}, 시도={}", doc.getId(), doc.getStage(), doc.getAttempts());
+        return doc;
+    }
+
+    private void enqueue(MonthlyOpsDoc doc) {
+        Long docId = doc.getId();
+        try {
+            executor.execute(() -> run(docId));
+        } catch (TaskRejectedException e) {
+            log.warn("⚠️ 운영자료 생성 대기열 포화: docId={}", docId);
+            countJob("rejected");
+            doc.markFailed(doc.getStage(), null, "생성 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            docRepository.save(doc);
+            throw new IllegalStateException("운영 자료 생성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // =========================================================================
+    // 단계 실행 (워커 스레드)
+    // =========================================================================
+
+    private void run(Long docId) {
+        MonthlyOpsDoc doc = docRepository.findById(docId).orElse(null);
+        if (doc == null) {
+            return;
+        }
+
+        ReportStage stage = doc.getStage() != null ? doc.getStage() : ReportStage.STATS;
+        // 업로드할 PDF 파일이 없으면 (재기동 등) PDF 생성부터 다시
+        if (stage == ReportStage.UPLOAD && !docService.hasRenderedPdf(doc)) {
+            stage = ReportStage.PDF;
+        }
+
+        long runStart = System.currentTimeMillis();
+        while (stage != ReportStage.DONE) {
+            doc.markProcessing(stage);
+            doc = docRepository.save(doc);
+
+            long stageStart = System.currentTimeMillis();
+            try {
+                runStage(stage, doc);
+            } catch (Exception e) {
+                long elapsed = System.currentTimeMillis() - stageStart;
+                recordStage(stage, "failure", elapsed);
+                log.error("❌ 운영자료 생성 실패: docId={}, 단계={} ({}ms)", docId, stage, elapsed, e);
+                doc.markFailed(stage, elapsed, toErrorMessage(e));
+                docRepository.save(doc);
+                countJob("failed");
+                deleteExpiredPdfs();
+                return;
+            }
+
+            long elapsed = System.currentTimeMillis() - stageStart;
+            recordStage(stage, "success", elapsed);
+            log.info("⏱️ 운영자료 단계 완료: docId={}, 단계={} ({}ms)", docId, stage, elapsed);
+            doc.completeStage(stage, elapsed);
+            doc = docRepository.save(doc);
+            stage = doc.getStage();
+        }
+
+        doc.markCompleted();
+        docRepository.save(doc);
+        countJob("completed");
+        log.info("✅ 운영자료 생성 완료: docId={}, 단계별 {} (이번 실행 {}ms)",
+                docId, doc.getStageMillis(), System.currentTimeMillis() - runStart);
+        deleteExpiredPdfs();
+    }
+
+    private void deleteExpiredPdfs() {
+        int deleted = docService.deleteExpiredPdfs(spoolRetention);
+        if (deleted > 0) {
+            log.info("🧹 업로드되지 않은 오래된 운영자료 PDF {}개 삭제", deleted);
+        }
+    }
+
+    private void runStage(ReportStage stage, MonthlyOpsDoc doc) throws Exception {
+        switch (stage) {
+            case STATS -> doc.updateStatsData(docService.collectStats(doc));
+            case AI -> doc.updateReportData(docService.requestAnalysis(doc));
+            case PDF -> docService.renderPdf(doc);
+            case UPLOAD -> docService.uploadPdf(doc);
+            default -> {
+            }
+        }
+    }
+
+    private void recordStage(ReportStage stage, String result, long millis) {
+        Timer.builder("nutri.opsdoc.stage")
+                .description("월간 운영자료 생성 단계별 소요 시간")
+                .tag("stage", stage.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(millis));
+    }
+
+    private void countJob(String result) {
+        meterRegistry.counter("nutri.opsdoc.jobs", "result", result).increment();
+    }
+
+    private String toErrorMessage(Exception e) {
+        if (e instanceof FastApiUnavailableException) {
+            return "AI 분석 서버를 일시적으로 사용할 수 없습니다: " + e.getMessage();
+        }
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    // =========================================================================
+    // 기동
+    // =========================================================================
+
+    /**
+     * 서버 재시작으로 중단된 생성 작업은 워커가 이어받지 않으므로 FAILED로 정리
+     * (같은 호스트의 이전 프로세스 문서 + heartbeat가 만료된 문서만, 다른 인스턴스가 실행 중인 문서는 제외)
+     * (완료된 단계 결과는 남아 있으므로 재시도하면 중단된 단계부터 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedDocs() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = docRepository.failStale(ACTIVE_STATUSES, instanceId.value(), instanceId.sameHostPattern(),
+                now.minus(lease), now, ReportStatus.FAILED, "서버 재시작으로 작업이 중단되었습니다. 다시 시도해주세요.");
+        if (failed > 0) {
+            log.warn("⚠️ 중단된 운영자료 생성 작업 {}건을 FAILED로 정리", failed);
+        }
+        deleteExpiredPdfs();
+    }
+}
@@ -3,41 +3,49 @@ package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.nutriassistant.nutriassistant_back.domain.metrics.entity.Leftover;
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
 import com.nutriassistant.nutriassistant_back.domain.metrics.entity.SkipMeal;
-import com.nutriassistant.nutriassistant_back.domain.metrics.repository.LeftoverRepository;
-import com.nutriassistant.nutriassistant_back.domain.metrics.repository.SkipMealRepository;
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.dto.MonthlyOpsDocDto;
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.MonthlyOpsDoc;
-import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.entity.ReportStatus;
 import com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.repository.MonthlyOpsDocRepository;
 import com.nutriassistant.nutriassistant_back.domain.Attachment.entity.Attachment;
 import com.nutriassistant.nutriassistant_back.domain.Attachment.entity.RelatedType;
 import com.nutriassistant.nutriassistant_back.domain.Attachment.repository.AttachmentRepository;
 
-import com.nutriassistant.nutriassistant_back.domain.review.entity.Review;
-import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
-import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlanMenu;
-import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanMenuRepository;
+import com.nutriassistant.nutriassistant_back.domain.review.dto.ReviewDailyAggregate;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity.ReviewAnalysis;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository.ReviewAnalysisRepository;
 import com.nutriassistant.nutriassistant_back.global.aws.S3Uploader;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiGateway;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiUnavailableException;
+import com.nutriassistant.nutriassistant_back.global.client.JsonBodyWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.YearMonth;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -49,363 +57,225 @@ public class MonthlyOpsDocService {
     private final MonthlyOpsDocRepository monthlyOpsDocRepository;
     private final AttachmentRepository attachmentRepository;
     private final ObjectMapper objectMapper;
-    private final RestClient restClient;
-    private final SkipMealRepository skipMealRepository;
-    private final LeftoverRepository leftoverRepository;
-    private final ReviewRepository reviewRepository;
-    private final MealPlanMenuRepository mealPlanMenuRepository;
+    private final FastApiGateway fastApiGateway;
+    private final MonthlyOpsDocStatsCollector statsCollector;
+    private final MonthlyOpsDocPayloadWriter payloadWriter;
     private final ReviewAnalysisRepository reviewAnalysisRepository;
     private final ReportPdfGenerator reportPdfGenerator;
     private final S3Uploader s3Uploader;
 
-    // =========================================================================
-    // 1. [Create] Create Operation Document (Stats -> AI Analysis -> DB Save)
-    // =========================================================================
-    @Transactional
-    public MonthlyOpsDocDto.Response createMonthlyOpsDoc(MonthlyOpsDocDto.CreateRequest request, Long schoolId) {
-
-        // 1-1. Prevent Duplicate Creation
-        if (monthlyOpsDocRepository.existsBySchoolIdAndYearAndMonth(
-                schoolId, request.getYear(), request.getMonth())) {
-            throw new IllegalArgumentException("An operation document for this month already exists.");
-        }
-
-        // 1-2. Calculate Date Range
-        YearMonth yearMonth = YearMonth.of(request.getYear(), request.getMonth());
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
+    // PDF 생성 동시 실행 수 제한 (포화 시 호출 스레드에서 직접 생성)
+    @Qualifier(AsyncConfig.PDF_RENDER_EXECUTOR)
+    private final TaskExecutor pdfRenderExecutor;
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
+    // 생성된 PDF를 업로드 전까지 보관하는 디렉터리 (UPLOAD 단계만 재시도할 때 재사용)
+    @Value("${report.pdf.spool-dir:${java.io.tmpdir}/nutri-reports}")
+    private String pdfSpoolDir;
 
-        // 1-3. Fetch Statistics Data from DB
-        log.info("📊 Fetching statistics data: {}-{}, schoolId: {}", request.getYear(), request.getMonth(), schoolId);
-        log.info("   Date range: {} ~ {}", startDate, endDate);
-
-        List<SkipMeal> lunchSkips = skipMealRepository.findBySchoolIdAndMealTypeAndDateBetweenOrderByDateAsc(
-                schoolId, "LUNCH", startDate, endDate);
-        List<Leftover> lunchLeftovers = leftoverRepository.findBySchoolIdAndMealTypeAndDateBetweenOrderByDateAsc(
-                schoolId, "LUNCH", startDate, endDate);
+    // =========================================================================
+    // 1. [Create] 생성 파이프라인 단계 (MonthlyOpsDocPipeline 워커에서 순서대로 호출)
+    //    STATS → AI → PDF → UPLOAD, 각 단계는 앞 단계가 저장한 결과만 읽음
+    // =========================================================================
 
-        List<SkipMeal> dinnerSkips = skipMealRepository.findBySchoolIdAndMealTypeAndDateBetweenOrderByDateAsc(
-                schoolId, "DINNER", startDate, endDate);
-        List<Leftover> dinnerLeftovers = leftoverRepository.findBySchoolIdAndMealTypeAndDateBetweenOrderByDateAsc(
-                schoolId, "DINNER", startDate, endDate);
+    /**
+     * [STATS] 결식/잔반/일별 리뷰 통계 조회 → FastAPI 요청 데이터 중 요약 부분(JSON)
+     * (조회는 MonthlyOpsDocStatsCollector가 동시에 실행하므로 이 스레드는 트랜잭션/DB 커넥션 없이 대기)
+     * 리뷰/식단 목록은 저장하지 않고 AI 단계에서 DB 커서로 바로 전송 (MonthlyOpsDocPayloadWriter)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String collectStats(MonthlyOpsDoc doc) {
+        MonthlyOpsDocStatsCollector.MonthlyStats stats =
+                statsCollector.collect(doc.getSchoolId(), doc.getYear(), doc.getMonth());
 
-        List<Review> monthlyReviews = reviewRepository.findBySchoolIdAndCreatedAtBetween(
-                schoolId, startDateTime, endDateTime);
+        Map<String, Object> fastApiPayload = buildFastApiPayload(doc.getYear(), doc.getMonth(), doc.getSchoolId(), stats);
+        // 월 요약 지표는 월간 집계 테이블에서 조회 (일별 데이터 재계산 없이)
+        fastApiPayload.put("monthlySummary", stats.monthlySummary());
 
-        log.info("   Lunch Data: {}, Dinner Data: {}", lunchSkips.size(), dinnerSkips.size());
-        log.info("   Collected Reviews: {}", monthlyReviews.size());
+        try {
+            return objectMapper.writeValueAsString(fastApiPayload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON Conversion Error: " + e.getMessage(), e);
+        }
+    }
 
-        // 1-4. Construct Payload for FastAPI Request
-        Map<String, Object> fastApiPayload = buildFastApiPayload(
-                request, schoolId,
-                lunchSkips, lunchLeftovers,
-                dinnerSkips, dinnerLeftovers,
-                monthlyReviews
-        );
+    /**
+     * [AI] STATS 결과 + 리뷰/식단 목록으로 FastAPI 분석 요청 → 분석 결과(JSON)
+     * (요청 본문은 스트리밍 전송, 응답까지 수 분 걸릴 수 있으므로 응답 대기 중에는 트랜잭션/DB 커넥션 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String requestAnalysis(MonthlyOpsDoc doc) {
+        JsonBodyWriter payload = payloadWriter.writerFor(doc);
 
-        // 1-5. Call FastAPI (Request AI Analysis)
         Map<String, Object> analyzedResult;
         try {
-            log.info("🤖 Starting FastAPI Analysis Request: /api/reports/monthly");
-            analyzedResult = restClient.post()
-                    .uri("/api/reports/monthly")
-                    // [Fix] 실제 토큰 값이나 로직으로 교체 필요
-                    .header("Authorization", "Bearer temp_token_value")
-                    .body(fastApiPayload)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<Map<String, Object>>() {});
-            log.info("✅ AI Analysis Completed");
+            log.info("🤖 Starting FastAPI Analysis Request: /api/reports/monthly (docId={})", doc.getId());
+            analyzedResult = fastApiGateway.analyzeMonthlyReport(payload);
+            log.info("✅ AI Analysis Completed (docId={})", doc.getId());
+        } catch (FastApiUnavailableException e) {
+            log.warn("⚠️ FastAPI Analysis Request Rejected: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("❌ FastAPI Analysis Request Failed", e);
-            throw new RuntimeException("AI Analysis Server Error: " + e.getMessage());
+            throw new IllegalStateException("AI Analysis Server Error: " + e.getMessage(), e);
         }
 
-        // 1-6. Convert Result to JSON
-        String reportContentJson;
         try {
             Object dataObj = analyzedResult.get("data") != null ? analyzedResult.get("data") : analyzedResult;
-            reportContentJson = objectMapper.writeValueAsString(dataObj);
-        } catch (Exception e) {
-            log.error("❌ JSON Conversion Failed", e);
-            throw new RuntimeException("JSON Conversion Error: " + e.getMessage());
+            return objectMapper.writeValueAsString(dataObj);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON Conversion Error: " + e.getMessage(), e);
         }
+    }
 
-        // 1-7. Save to DB
-        MonthlyOpsDoc doc = MonthlyOpsDoc.builder()
-                .schoolId(schoolId)
-                .title(request.getTitle())
-                .year(request.getYear())
-                .month(request.getMonth())
-                .status(ReportStatus.COMPLETED)
-                .reportData(reportContentJson)
-                .build();
+    /**
+     * [PDF] 분석 결과로 PDF 생성 → 업로드 대기 파일에 바로 기록
+     * (PDF 전체를 byte[]로 만들지 않음, 다 쓴 뒤에만 업로드 대기 파일 이름으로 옮김)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void renderPdf(MonthlyOpsDoc doc) throws IOException {
+        if (doc.getReportData() == null) {
+            throw new IllegalStateException("분석 결과가 없습니다. (AI 단계 미완료)");
+        }
 
-        MonthlyOpsDoc savedDoc = monthlyOpsDocRepository.save(doc);
-        log.info("💾 Report saved to DB: ID={}", savedDoc.getId());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> reportDataMap = objectMapper.readValue(doc.getReportData(), Map.class);
+
+        Path pdfFile = pdfSpoolFile(doc);
+        Path partFile = pdfFile.resolveSibling(pdfFile.getFileName() + ".part");
+        Files.createDirectories(pdfFile.getParent());
 
-        // 1-8. Generate PDF and Upload to S3
         try {
-            Object dataObj = analyzedResult.get("data") != null ? analyzedResult.get("data") : analyzedResult;
-            @SuppressWarnings("unchecked")
-            Map<String, Object> reportDataMap = dataObj instanceof Map
-                    ? (Map<String, Object>) dataObj
-                    : objectMapper.readValue(reportContentJson, Map.class);
-
-            // PDF 생성
-            byte[] pdfBytes = reportPdfGenerator.generatePdf(
-                    reportDataMap,
-                    request.getYear(),
-                    request.getMonth(),
-                    request.getTitle()
-            );
-            log.info("📄 PDF Generated: {} bytes", pdfBytes.length);
+            // PDF 생성 (pdfRenderExecutor에서 실행하고 완료까지 대기)
+            CompletableFuture.runAsync(() -> {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partFile))) {
+                    reportPdfGenerator.writePdf(reportDataMap, doc.getYear(), doc.getMonth(), doc.getTitle(), out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, pdfRenderExecutor).join();
+
+            // 생성 도중 실패/중단된 파일은 UPLOAD 단계에서 보이지 않도록 완성된 뒤에만 이름 변경
+            Files.move(partFile, pdfFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partFile);
+        }
+        log.info("📄 PDF Generated: {} bytes (docId={})", Files.size(pdfFile), doc.getId());
+    }
 
-            // S3에 업로드 (schools/{schoolId}/reports/{reportId}/report_YYYY_MM.pdf)
-            String s3Key = String.format("schools/%d/reports/%d/report_%04d_%02d.pdf",
-                    schoolId, savedDoc.getId(), request.getYear(), request.getMonth());
-            String s3Url = s3Uploader.uploadBytes(pdfBytes, s3Key, "application/pdf");
-            log.info("☁️ PDF uploaded to S3: {}", s3Url);
+    /**
+     * UPLOAD 단계에 쓸 PDF 파일이 남아 있는지 (재기동 등으로 사라졌으면 PDF 단계부터 다시 실행)
+     */
+    public boolean hasRenderedPdf(MonthlyOpsDoc doc) {
+        return Files.exists(pdfSpoolFile(doc));
+    }
 
-            // Attachment 테이블에 저장
+    /**
+     * [UPLOAD] PDF를 S3에 업로드하고 첨부파일로 등록 → 업로드 대기 파일 삭제
+     * (파일에서 바로 읽어 전송, 큰 파일은 멀티파트 업로드 - S3Uploader.uploadFile)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void uploadPdf(MonthlyOpsDoc doc) throws IOException {
+        Path pdfFile = pdfSpoolFile(doc);
+        long pdfSize = Files.size(pdfFile);
+
+        // S3에 업로드 (schools/{schoolId}/reports/{reportId}/report_YYYY_MM.pdf) - 같은 키로 덮어쓰므로 재시도 안전
+        String fileName = String.format("report_%04d_%02d.pdf", doc.getYear(), doc.getMonth());
+        String s3Key = String.format("schools/%d/reports/%d/%s", doc.getSchoolId(), doc.getId(), fileName);
+        String s3Url = s3Uploader.uploadFile(pdfFile, s3Key, "application/pdf");
+        log.info("☁️ PDF uploaded to S3: {}", s3Url);
+
+        // Attachment 테이블에 저장 (이전 시도에서 이미 등록됐으면 건너뜀)
+        if (attachmentRepository.findByRelatedTypeAndRelatedId(RelatedType.REPORT, doc.getId()).isEmpty()) {
             Attachment attachment = new Attachment(
                     RelatedType.REPORT,
-                    savedDoc.getId(),
-                    String.format("report_%04d_%02d.pdf", request.getYear(), request.getMonth()),
+                    doc.getId(),
+                    fileName,
                     s3Key,
                     "application/pdf",
-                    (long) pdfBytes.length
+                    pdfSize
             );
             attachmentRepository.save(attachment);
             log.info("💾 Attachment saved: ID={}", attachment.getId());
+        }
 
-        } catch (Exception e) {
-            log.error("⚠️ PDF generation or S3 upload failed, but report is saved", e);
-            // PDF 생성/업로드 실패해도 리포트는 저장됨
+        Files.deleteIfExists(pdfFile);
+    }
+
+    private Path pdfSpoolFile(MonthlyOpsDoc doc) {
+        return Paths.get(pdfSpoolDir, "ops-doc-" + doc.getId() + ".pdf");
+    }
+
+    /**
+     * 업로드되지 않은 채 오래 남은 PDF 파일 삭제 (실패 후 재시도하지 않은 문서, 생성 도중 중단된 .part 파일)
+     * 지워진 문서를 나중에 재시도하면 PDF 단계부터 다시 생성하므로 안전 (hasRenderedPdf)
+     *
+     * @return 삭제한 파일 수
+     */
+    public int deleteExpiredPdfs(Duration retention) {
+        Path dir = Paths.get(pdfSpoolDir);
+        if (!Files.isDirectory(dir)) {
+            return 0;
         }
 
-        return getMonthlyOpsDocDetail(savedDoc.getId(), schoolId);
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "ops-doc-*.pdf*")) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < cutoff && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("⚠️ PDF 임시 파일 삭제 실패: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ PDF 임시 디렉터리 조회 실패: {}", dir, e);
+        }
+        return deleted;
     }
 
     /**
      * Constructs the data structure to send to FastAPI.
      * [Fix] Changed to camelCase to match FastAPI schema (MonthlyReportRequestPayload).
+     *
+     * 수집 결과가 식사 구분 → 날짜 기준으로 정리되어 있으므로 결식 목록을 한 번만 순회
+     * (잔반/일별 리뷰 집계는 날짜로 바로 조회)
+     * reviews / reviewAnalyses / mealPlan 은 여기서 만들지 않음 (AI 단계에서 스트리밍, MonthlyOpsDocPayloadWriter)
      */
     private Map<String, Object> buildFastApiPayload(
-            MonthlyOpsDocDto.CreateRequest request, Long schoolId,
-            List<SkipMeal> lunchSkips, List<Leftover> lunchLeftovers,
-            List<SkipMeal> dinnerSkips, List<Leftover> dinnerLeftovers,
-            List<Review> reviews) {
+            int year, int month, Long schoolId, MonthlyOpsDocStatsCollector.MonthlyStats stats) {
 
         Map<String, Object> payload = new HashMap<>();
 
         // Meta Information (camelCase for FastAPI)
         payload.put("userName", "Administrator");
-        payload.put("year", request.getYear());
-        payload.put("month", request.getMonth());
+        payload.put("year", year);
+        payload.put("month", month);
         payload.put("targetGroup", "STUDENT");
         payload.put("school_id", schoolId);
 
-        // Build leftover maps for lookup
-        Map<LocalDate, Double> lunchLeftoverMap = lunchLeftovers.stream()
-                .collect(Collectors.toMap(
-                        leftover -> leftover.getDate(),
-                        leftover -> leftover.getAmountKg() != null ? leftover.getAmountKg() : 0.0,
-                        (existing, replacement) -> replacement
-                ));
-
-        Map<LocalDate, Double> dinnerLeftoverMap = dinnerLeftovers.stream()
-                .collect(Collectors.toMap(
-                        leftover -> leftover.getDate(),
-                        leftover -> leftover.getAmountKg() != null ? leftover.getAmountKg() : 0.0,
-                        (existing, replacement) -> replacement
-                ));
-
-        // ========== dailyInfo (camelCase) ==========
+        // ========== dailyInfo + dailyAnalyses (camelCase with kpis structure) ==========
         List<Map<String, Object>> dailyInfoList = new ArrayList<>();
-
-        for (SkipMeal skip : lunchSkips) {
-            Map<String, Object> dailyInfo = new HashMap<>();
-            dailyInfo.put("date", skip.getDate().toString());
-            dailyInfo.put("mealType", "중식");
-            dailyInfo.put("servedProxy", skip.getTotalStudents() - skip.getSkippedCount());
-            dailyInfo.put("missedProxy", skip.getSkippedCount());
-            dailyInfo.put("leftoverKg", lunchLeftoverMap.getOrDefault(skip.getDate(), 0.0));
-            dailyInfoList.add(dailyInfo);
-        }
-
-        for (SkipMeal skip : dinnerSkips) {
-            Map<String, Object> dailyInfo = new HashMap<>();
-            dailyInfo.put("date", skip.getDate().toString());
-            dailyInfo.put("mealType", "석식");
-            dailyInfo.put("servedProxy", skip.getTotalStudents() - skip.getSkippedCount());
-            dailyInfo.put("missedProxy", skip.getSkippedCount());
-            dailyInfo.put("leftoverKg", dinnerLeftoverMap.getOrDefault(skip.getDate(), 0.0));
-            dailyInfoList.add(dailyInfo);
-        }
-        payload.put("dailyInfo", dailyInfoList);
-
-        // ========== dailyAnalyses (camelCase with kpis structure) ==========
         List<Map<String, Object>> dailyAnalysesList = new ArrayList<>();
-        int reviewIndex = 0;
-
-        for (SkipMeal skip : lunchSkips) {
-            Map<String, Object> analysis = new HashMap<>();
-            analysis.put("date", skip.getDate().toString());
-            analysis.put("mealType", "중식");
-
-            // kpis object
-            Map<String, Object> kpis = new HashMap<>();
-            kpis.put("review_count", reviews.size());
-            kpis.put("post_count", 0);
-            kpis.put("avg_rating_5", reviews.isEmpty() ? 0.0 :
-                    reviews.stream().mapToDouble(r -> r.getRating() != null ? r.getRating() : 0.0).average().orElse(0.0));
-            kpis.put("avg_review_sentiment", 0.5);
-            kpis.put("avg_post_sentiment", 0.0);
-            kpis.put("overall_sentiment", 0.5);
-            analysis.put("kpis", kpis);
-
-            // distributions object
-            Map<String, Object> distributions = new HashMap<>();
-            Map<String, Integer> reviewDist = new HashMap<>();
-            reviewDist.put("positive", 0);
-            reviewDist.put("neutral", reviews.size());
-            reviewDist.put("negative", 0);
-            distributions.put("reviews", reviewDist);
-            distributions.put("posts", new HashMap<>());
-            distributions.put("post_categories", new HashMap<>());
-            analysis.put("distributions", distributions);
-
-            analysis.put("top_aspects", new ArrayList<>());
-            analysis.put("top_negative_aspects", new ArrayList<>());
-            analysis.put("top_issues", new ArrayList<>());
-            analysis.put("alerts", new ArrayList<>());
-
-            dailyAnalysesList.add(analysis);
-        }
 
-        for (SkipMeal skip : dinnerSkips) {
-            Map<String, Object> analysis = new HashMap<>();
-            analysis.put("date", skip.getDate().toString());
-            analysis.put("mealType", "석식");
-
-            Map<String, Object> kpis = new HashMap<>();
-            kpis.put("review_count", 0);
-            kpis.put("post_count", 0);
-            kpis.put("avg_rating_5", 0.0);
-            kpis.put("avg_review_sentiment", 0.0);
-            kpis.put("avg_post_sentiment", 0.0);
-            kpis.put("overall_sentiment", 0.0);
-            analysis.put("kpis", kpis);
-
-            Map<String, Object> distributions = new HashMap<>();
-            distributions.put("reviews", new HashMap<>());
-            distributions.put("posts", new HashMap<>());
-            distributions.put("post_categories", new HashMap<>());
-            analysis.put("distributions", distributions);
-
-            analysis.put("top_aspects", new ArrayList<>());
-            analysis.put("top_negative_aspects", new ArrayList<>());
-            analysis.put("top_issues", new ArrayList<>());
-            analysis.put("alerts", new ArrayList<>());
-
-            dailyAnalysesList.add(analysis);
-        }
-        payload.put("dailyAnalyses", dailyAnalysesList);
-
-        // ========== reviews (camelCase) ==========
-        List<Map<String, Object>> reviewList = new ArrayList<>();
-        int idx = 0;
-        for (Review r : reviews) {
-            Map<String, Object> m = new HashMap<>();
-            String dateStr = r.getCreatedAt() != null ? r.getCreatedAt().toLocalDate().toString() : "";
-            m.put("reviewId", String.format("R-%s-%04d", dateStr.replace("-", ""), ++idx));
-            m.put("date", dateStr);
-            m.put("mealType", "중식");
-            m.put("rating", r.getRating() != null ? r.getRating() : 0.0);
-            m.put("content", r.getContent() != null ? r.getContent() : "");
-            reviewList.add(m);
-        }
-        payload.put("reviews", reviewList);
-
-        // ========== mealPlan: DB에서 해당 월의 식단 데이터 조회 ==========
-        YearMonth yearMonth = YearMonth.of(request.getYear(), request.getMonth());
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
-        List<MealPlanMenu> mealPlanMenus = mealPlanMenuRepository
-                .findByMealPlan_SchoolIdAndMenuDateBetweenOrderByMenuDateAscMealTypeAsc(schoolId, startDate, endDate);
-
-        List<Map<String, Object>> mealPlanList = new ArrayList<>();
-        for (MealPlanMenu menu : mealPlanMenus) {
-            Map<String, Object> m = new HashMap<>();
-            m.put("date", menu.getMenuDate().toString());
-            m.put("mealType", menu.getMealType() != null ? menu.getMealType().name() : "LUNCH");
-            m.put("rice", menu.getRiceDisplay());
-            m.put("soup", menu.getSoupDisplay());
-            m.put("main1", menu.getMain1Display());
-            m.put("main2", menu.getMain2Display());
-            m.put("side", menu.getSideDisplay());
-            m.put("kimchi", menu.getKimchiDisplay());
-            m.put("dessert", menu.getDessertDisplay());
-            mealPlanList.add(m);
-        }
-        payload.put("mealPlan", mealPlanList);
-        log.info("📋 mealPlan 데이터 {}개 로드됨", mealPlanList.size());
-
-        // ========== reviewAnalyses: reviews 기반으로 개별 리뷰 분석 결과 생성 ==========
-        // FastAPI는 개별 리뷰에 대한 분석 결과를 기대함 (review_id로 날짜 추출)
-        List<Map<String, Object>> reviewAnalysesPayload = new ArrayList<>();
-        int raIdx = 0;
-        for (Review r : reviews) {
-            Map<String, Object> m = new HashMap<>();
-
-            // 날짜 문자열 생성 (R-YYYYMMDD-NNNN 형식)
-            String dateStr = r.getCreatedAt() != null
-                    ? r.getCreatedAt().toLocalDate().toString().replace("-", "")
-                    : String.format("%04d%02d01", request.getYear(), request.getMonth());
-
-            // 필수 필드
-            m.put("review_id", String.format("R-%s-%04d", dateStr, ++raIdx));
-            m.put("meal_type", r.getMealType() != null ? r.getMealType() : "LUNCH");
-            m.put("rating_5", r.getRating() != null ? r.getRating().doubleValue() : 0.0);
-
-            // 감정 분석 결과 (rating 기반으로 추정)
-            double rating = r.getRating() != null ? r.getRating().doubleValue() : 3.0;
-            String sentimentLabel;
-            double sentimentScore;
-            if (rating >= 4.0) {
-                sentimentLabel = "POSITIVE";
-                sentimentScore = 0.7 + (rating - 4.0) * 0.15;  // 4점: 0.7, 5점: 0.85
-            } else if (rating >= 3.0) {
-                sentimentLabel = "NEUTRAL";
-                sentimentScore = 0.4 + (rating - 3.0) * 0.3;  // 3점: 0.4, 4점: 0.7
-            } else {
-                sentimentLabel = "NEGATIVE";
-                sentimentScore = rating / 3.0 * 0.4;  // 1점: 0.13, 2점: 0.27
-            }
+        for (MealType mealType : MealType.values()) {
+            MonthlyOpsDocStatsCollector.MealStats meal = stats.of(mealType);
+            for (SkipMeal skip : meal.skips()) {
+                String date = skip.getDate().toString();
 
-            m.put("sentiment_label", sentimentLabel);
-            m.put("sentiment_score", sentimentScore);
-            m.put("sentiment_conf", 0.85);  // 기본 신뢰도
+                Map<String, Object> dailyInfo = new HashMap<>();
+                dailyInfo.put("date", date);
+                dailyInfo.put("mealType", mealType.getDescription());
+                dailyInfo.put("servedProxy", skip.getTotalStudents() - skip.getSkippedCount());
+                dailyInfo.put("missedProxy", skip.getSkippedCount());
+                dailyInfo.put("leftoverKg", meal.leftoverKgByDate().getOrDefault(skip.getDate(), 0.0));
+                dailyInfoList.add(dailyInfo);
 
-            // 리스트 타입 필드들
-            m.put("aspect_tags", new ArrayList<String>());
-
-            List<String> evidencePhrases = new ArrayList<>();
-            if (r.getContent() != null && !r.getContent().isBlank()) {
-                evidencePhrases.add(r.getContent());
+                dailyAnalysesList.add(buildDailyAnalysis(date, mealType, meal.reviewsByDate().get(skip.getDate())));
             }
-            m.put("evidence_phrases", evidencePhrases);
-
-            m.put("issue_flags", new ArrayList<String>());
-
-            reviewAnalysesPayload.add(m);
         }
-        payload.put("reviewAnalyses", reviewAnalysesPayload);
-        log.info("📊 reviewAnalyses 데이터 {}개 생성됨 (reviews 기반)", reviewAnalysesPayload.size());
+        payload.put("dailyInfo", dailyInfoList);
+        payload.put("dailyAnalyses", dailyAnalysesList);
 
         // ========== posts, postAnalyses: 제외이므로 빈 배열 유지 ==========
         payload.put("posts", new ArrayList<>());
@@ -414,6 +284,48 @@ public class MonthlyOpsDocService {
         return payload;
     }
 
+    /**
+     * 하루 한 끼의 리뷰 KPI/분포 (해당 날짜 리뷰가 없으면 0)
+     */
+    private Map<String, Object> buildDailyAnalysis(String date, MealType mealType, ReviewDailyAggregate daily) {
+        long reviewCount = daily != null && daily.reviewCount() != null ? daily.reviewCount() : 0L;
+        double sentiment = reviewCount > 0 ? 0.5 : 0.0;
+
+        Map<String, Object> analysis = new HashMap<>();
+        analysis.put("date", date);
+        analysis.put("mealType", mealType.getDescription());
+
+        // kpis object
+        Map<String, Object> kpis = new HashMap<>();
+        kpis.put("review_count", reviewCount);
+        kpis.put("post_count", 0);
+        kpis.put("avg_rating_5", reviewCount > 0 && daily.avgRating() != null ? daily.avgRating() : 0.0);
+        kpis.put("avg_review_sentiment", sentiment);
+        kpis.put("avg_post_sentiment", 0.0);
+        kpis.put("overall_sentiment", sentiment);
+        analysis.put("kpis", kpis);
+
+        // distributions object (별점 기준 긍정 4~5 / 중립 3 / 부정 1~2)
+        Map<String, Object> distributions = new HashMap<>();
+        Map<String, Object> reviewDist = new HashMap<>();
+        if (reviewCount > 0) {
+            reviewDist.put("positive", daily.positiveCount());
+            reviewDist.put("neutral", daily.neutralCount());
+            reviewDist.put("negative", daily.negativeCount());
+            distributions.put("ratings", daily.ratingHistogram());
+        }
+        distributions.put("reviews", reviewDist);
+        distributions.put("posts", new HashMap<>());
+        distributions.put("post_categories", new HashMap<>());
+        analysis.put("distributions", distributions);
+
+        analysis.put("top_aspects", new ArrayList<>());
+        analysis.put("top_negative_aspects", new ArrayList<>());
+        analysis.put("top_issues", new ArrayList<>());
+        analysis.put("alerts", new ArrayList<>());
+        return analysis;
+    }
+
     // =========================================================================
     // 2. List Retrieval
     // =========================================================================
@@ -432,6 +344,7 @@ public class MonthlyOpsDocService {
                         .year(doc.getYear())
                         .month(doc.getMonth())
                         .status(doc.getStatus().toString())
+                        .stage(doc.getStage() != null ? doc.getStage().name() : null)
                         .created_at(doc.getCreatedAt())
                         .build())
                 .collect(Collectors.toList());
@@ -499,8 +412,13 @@ public class MonthlyOpsDocService {
                 .year(entity.getYear())
                 .month(entity.getMonth())
                 .status(entity.getStatus().toString())
+                .stage(entity.getStage() != null ? entity.getStage().name() : null)
+                .error_message(entity.getErrorMessage())
+                .attempts(entity.getAttempts())
+                .stage_millis(entity.getStageMillis())
                 .report_content(contentMap)
                 .created_at(entity.getCreatedAt())
+                .finished_at(entity.getFinishedAt())
                 .files(files != null ? files : Collections.emptyList())
                 .build();
     }
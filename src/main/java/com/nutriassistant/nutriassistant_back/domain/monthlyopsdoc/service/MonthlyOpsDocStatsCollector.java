@@ -0,0 +1,189 @@
+package com.nutriassistant.nutriassistant_back.domain.monthlyopsdoc.service;
+
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
+import com.nutriassistant.nutriassistant_back.domain.metrics.entity.Leftover;
+import com.nutriassistant.nutriassistant_back.domain.metrics.entity.SkipMeal;
+import com.nutriassistant.nutriassistant_back.domain.metrics.repository.LeftoverRepository;
+import com.nutriassistant.nutriassistant_back.domain.metrics.repository.SkipMealRepository;
+import com.nutriassistant.nutriassistant_back.domain.metrics.service.MetricsRollupService;
+import com.nutriassistant.nutriassistant_back.domain.review.dto.ReviewDailyAggregate;
+import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 월간 운영자료 STATS 단계 데이터 수집
+ *
+ * 역할:
+ * - 결식/잔반/일별 리뷰 집계/월 요약을 서로 기다리지 않고 동시에 조회
+ *   (각 조회는 전용 실행기(opsDocStatsExecutor)에서 자기 트랜잭션/커넥션으로 짧게 실행, 포화 시 호출 스레드에서 직접 실행)
+ * - 결식/잔반은 중식/석식을 한 번에 조회한 뒤 식사 구분별로 나눔
+ * - 일별 리뷰 건수/평균 별점/별점 분포는 DB에서 (작성일, 식사 구분) GROUP BY로 한 번에 집계 (리뷰 목록을 날짜마다 다시 훑지 않음)
+ *
+ * 결과(MonthlyStats)는 식사 구분 → 날짜 기준으로 바로 찾을 수 있게 정리되어 있어,
+ * 요청 데이터 조립은 결식 목록을 한 번만 순회합니다.
+ * (리뷰/식단 목록은 여기서 조회하지 않고 AI 단계에서 DB 커서로 바로 전송 - MonthlyOpsDocPayloadWriter)
+ */
+@Slf4j
+@Component
+public class MonthlyOpsDocStatsCollector {
+
+    private final SkipMealRepository skipMealRepository;
+    private final LeftoverRepository leftoverRepository;
+    private final ReviewRepository reviewRepository;
+    private final MetricsRollupService metricsRollupService;
+    private final TaskExecutor statsExecutor;
+
+    public MonthlyOpsDocStatsCollector(SkipMealRepository skipMealRepository,
+                                       LeftoverRepository leftoverRepository,
+                                       ReviewRepository reviewRepository,
+                                       MetricsRollupService metricsRollupService,
+                                       @Qualifier(AsyncConfig.OPS_DOC_STATS_EXECUTOR) TaskExecutor statsExecutor) {
+        this.skipMealRepository = skipMealRepository;
+        this.leftoverRepository = leftoverRepository;
+        this.reviewRepository = reviewRepository;
+        this.metricsRollupService = metricsRollupService;
+        this.statsExecutor = statsExecutor;
+    }
+
+    /**
+     * 식사 구분 하나의 일별 데이터 (날짜 오름차순 결식 목록 + 날짜별 잔반/리뷰 집계)
+     */
+    public record MealStats(
+            List<SkipMeal> skips,
+            Map<LocalDate, Double> leftoverKgByDate,
+            Map<LocalDate, ReviewDailyAggregate> reviewsByDate
+    ) {
+        static MealStats empty() {
+            return new MealStats(new ArrayList<>(), new HashMap<>(), new HashMap<>());
+        }
+    }
+
+    /**
+     * 월간 운영자료 요청 데이터(요약 부분) 조립에 필요한 수집 결과
+     */
+    public record MonthlyStats(
+            Map<MealType, MealStats> meals,
+            Map<String, Object> monthlySummary
+    ) {
+        public MealStats of(MealType mealType) {
+            return meals.get(mealType);
+        }
+    }
+
+    public MonthlyStats collect(Long schoolId, int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+
+        log.info("📊 Fetching statistics data: {}-{}, schoolId: {}", year, month, schoolId);
+        log.info("   Date range: {} ~ {}", startDate, endDate);
+
+        // 1. 동시 조회
+        CompletableFuture<List<SkipMeal>> skipsFuture = fetch(() ->
+                skipMealRepository.findBySchoolIdAndDateBetweenOrderByDateAsc(schoolId, startDate, endDate));
+        CompletableFuture<List<Leftover>> leftoversFuture = fetch(() ->
+                leftoverRepository.findBySchoolIdAndDateBetweenOrderByDateAsc(schoolId, startDate, endDate));
+        CompletableFuture<List<ReviewDailyAggregate>> reviewDailyFuture = fetch(() ->
+                reviewRepository.aggregateDaily(schoolId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()));
+        CompletableFuture<Map<String, Object>> summaryFuture = fetch(() ->
+                buildMonthlySummary(schoolId, startDate, endDate));
+
+        // 2. 식사 구분 → 날짜 기준으로 정리 (각 목록 한 번씩 순회)
+        Map<MealType, MealStats> meals = new EnumMap<>(MealType.class);
+        for (MealType mealType : MealType.values()) {
+            meals.put(mealType, MealStats.empty());
+        }
+
+        for (SkipMeal skip : await(skipsFuture)) {
+            MealStats meal = meals.get(toMealType(skip.getMealType()));
+            if (meal != null) {
+                meal.skips().add(skip);
+            }
+        }
+        for (Leftover leftover : await(leftoversFuture)) {
+            MealStats meal = meals.get(toMealType(leftover.getMealType()));
+            if (meal != null) {
+                meal.leftoverKgByDate().put(leftover.getDate(),
+                        leftover.getAmountKg() != null ? leftover.getAmountKg() : 0.0);
+            }
+        }
+        for (ReviewDailyAggregate daily : await(reviewDailyFuture)) {
+            MealStats meal = meals.get(daily.mealType());
+            if (meal != null) {
+                meal.reviewsByDate().put(daily.date(), daily);
+            }
+        }
+
+        MonthlyStats stats = new MonthlyStats(meals, await(summaryFuture));
+
+        log.info("   Lunch Data: {}, Dinner Data: {}",
+                stats.of(MealType.LUNCH).skips().size(), stats.of(MealType.DINNER).skips().size());
+        return stats;
+    }
+
+    /**
+     * 식사 구분별 월 요약 (결식률 평균/최소/최대, 잔반량 합계/평균/최소/최대)
+     * - 월간 집계 테이블에서 조회 (일별 데이터 재계산 없이)
+     */
+    private Map<String, Object> buildMonthlySummary(Long schoolId, LocalDate startDate, LocalDate endDate) {
+        Map<String, Object> summary = new HashMap<>();
+        for (String mealType : List.of("LUNCH", "DINNER")) {
+            MetricsRollupService.Summary skip = metricsRollupService.skipMealSummary(schoolId, mealType, startDate, endDate);
+            MetricsRollupService.Summary leftover = metricsRollupService.leftoverSummary(schoolId, mealType, startDate, endDate);
+
+            Map<String, Object> m = new HashMap<>();
+            m.put("skipDays", skip.dayCount());
+            m.put("avgSkipRate", skip.average());
+            m.put("minSkipRate", skip.min());
+            m.put("maxSkipRate", skip.max());
+            m.put("leftoverDays", leftover.dayCount());
+            m.put("totalLeftoverKg", leftover.sum());
+            m.put("avgLeftoverKg", leftover.average());
+            m.put("minLeftoverKg", leftover.min());
+            m.put("maxLeftoverKg", leftover.max());
+            summary.put(mealType.equals("LUNCH") ? "lunch" : "dinner", m);
+        }
+        return summary;
+    }
+
+    private <T> CompletableFuture<T> fetch(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, statsExecutor);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static MealType toMealType(String mealType) {
+        if (mealType == null) {
+            return null;
+        }
+        try {
+            return MealType.valueOf(mealType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
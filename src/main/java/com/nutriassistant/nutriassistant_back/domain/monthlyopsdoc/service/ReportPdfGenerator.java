@@ -10,9 +10,10 @@ import com.lowagie.text.pdf.PdfWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 월간 운영자료 JSON 데이터를 PDF로 변환하는 서비스
@@ -24,7 +25,11 @@ public class ReportPdfGenerator {
     private Font titleFont;
     private Font sectionFont;
     private Font normalFont;
-    private boolean fontsInitialized = false;
+    private volatile boolean fontsInitialized = false;
+
+    // synchronized 대신 ReentrantLock 사용:
+    // 폰트 로드(리소스 I/O) 동안 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 함
+    private final ReentrantLock fontLock = new ReentrantLock();
 
     // PDF에 포함할 필드와 한글 제목 매핑
     private static final LinkedHashMap<String, String> INCLUDE_FIELDS = new LinkedHashMap<>();
@@ -41,11 +46,23 @@ public class ReportPdfGenerator {
     /**
      * 폰트 초기화 (lazy initialization)
      */
-    private synchronized void initializeFonts() {
+    private void initializeFonts() {
         if (fontsInitialized) {
             return;
         }
 
+        fontLock.lock();
+        try {
+            if (!fontsInitialized) {
+                loadFonts();
+                fontsInitialized = true;
+            }
+        } finally {
+            fontLock.unlock();
+        }
+    }
+
+    private void loadFonts() {
         try {
             BaseFont koreanFont = BaseFont.createFont(
                     "HYGoThic-Medium",
@@ -62,20 +79,19 @@ public class ReportPdfGenerator {
             sectionFont = new Font(Font.HELVETICA, 14, Font.BOLD);
             normalFont = new Font(Font.HELVETICA, 11, Font.NORMAL);
         }
-
-        fontsInitialized = true;
     }
 
     /**
-     * 월간 운영자료 데이터를 PDF 바이트 배열로 변환
+     * 월간 운영자료 데이터를 PDF로 변환해 out에 바로 기록
+     * (완성된 페이지는 바로 out으로 내보내므로 PDF 전체를 메모리에 두지 않음, 완료 시 out도 닫힘)
      */
     @SuppressWarnings("unchecked")
-    public byte[] generatePdf(Map<String, Object> reportData, int year, int month, String title) {
+    public void writePdf(Map<String, Object> reportData, int year, int month, String title, OutputStream out) {
         initializeFonts();
 
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+        try {
             Document document = new Document(PageSize.A4, 50, 50, 50, 50);
-            PdfWriter.getInstance(document, baos);
+            PdfWriter.getInstance(document, out);
 
             document.open();
 
@@ -103,8 +119,6 @@ public class ReportPdfGenerator {
             document.close();
 
             log.info("PDF 생성 완료: {}년 {}월", year, month);
-            return baos.toByteArray();
-
         } catch (Exception e) {
             log.error("PDF 생성 실패", e);
             throw new RuntimeException("PDF 생성 중 오류가 발생했습니다.", e);
@@ -0,0 +1,55 @@
+package com.nutriassistant.nutriassistant_back.domain.review.dto;
+
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 리뷰 일별 집계 결과 (작성일 + 식사 구분 단위, JPQL 생성자 조회용)
+ *
+ * 별점 분포(rating1Count ~ rating5Count)는 별점 1~5점별 리뷰 수
+ * 긍정/중립/부정은 개별 리뷰 감정 추정과 같은 기준 (4점 이상 / 3점 / 2점 이하)
+ */
+public record ReviewDailyAggregate(
+        LocalDate date,
+        MealType mealType,
+        Long reviewCount,
+        Double avgRating,
+        Long rating1Count,
+        Long rating2Count,
+        Long rating3Count,
+        Long rating4Count,
+        Long rating5Count
+) {
+
+    public long positiveCount() {
+        return nz(rating4Count) + nz(rating5Count);
+    }
+
+    public long neutralCount() {
+        return nz(rating3Count);
+    }
+
+    public long negativeCount() {
+        return nz(rating1Count) + nz(rating2Count);
+    }
+
+    /**
+     * 별점 분포 ("1" ~ "5" → 리뷰 수)
+     */
+    public Map<String, Long> ratingHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        histogram.put("1", nz(rating1Count));
+        histogram.put("2", nz(rating2Count));
+        histogram.put("3", nz(rating3Count));
+        histogram.put("4", nz(rating4Count));
+        histogram.put("5", nz(rating5Count));
+        return histogram;
+    }
+
+    private static long nz(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -12,7 +12,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(
+        name = "reviews",
+        indexes = {
+                // 학교별 기간 조회 (일일 감성 분석)
+                @Index(name = "idx_reviews_school_created", columnList = "school_id,created_at"),
+                // 기간 내 리뷰가 있는 학교 목록 (일일 감성 분석 배치)
+                @Index(name = "idx_reviews_created_school", columnList = "created_at,school_id"),
+                // 학교별 식수 날짜 조회 (findAllBySchoolIdAndDate)
+                @Index(name = "idx_reviews_school_date", columnList = "school_id,date")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
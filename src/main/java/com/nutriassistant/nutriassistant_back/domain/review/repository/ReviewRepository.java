@@ -1,16 +1,26 @@
 package com.nutriassistant.nutriassistant_back.domain.review.repository;
 
+import com.nutriassistant.nutriassistant_back.domain.review.dto.ReviewDailyAggregate;
 import com.nutriassistant.nutriassistant_back.domain.review.entity.Review;
 // [중요] 식단 도메인의 MealType Enum을 꼭 import 해야 합니다!
 import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealType;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
@@ -29,9 +39,100 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // 5-1. 날짜 범위 필터 페이징 조회
     Page<Review> findBySchoolIdAndDateBetween(Long schoolId, LocalDate start, LocalDate end, Pageable pageable);
 
+    // 5-2. 커서 페이지 조회 (createdAt DESC, id DESC / 커서 이후 행만, COUNT 없음)
+    // 날짜 범위(start, end)는 null이면 조건에서 제외
+    @Query("SELECT r FROM Review r WHERE r.schoolId = :schoolId " +
+            "AND (:start IS NULL OR r.date BETWEEN :start AND :end) " +
+            "AND (:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt " +
+            " OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findBySchoolIdAfter(@Param("schoolId") Long schoolId,
+                                     @Param("start") LocalDate start,
+                                     @Param("end") LocalDate end,
+                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
     // =================================================================
     // 5. [수정됨] 중복 리뷰 방지용 존재 여부 확인
     // 중요: 파라미터 타입을 String -> MealType으로 변경했습니다.
     // =================================================================
     boolean existsByStudentIdAndDateAndMealType(Long studentId, LocalDate date, MealType mealType);
-}
\ No newline at end of file
+
+    // 6. 기간 내 리뷰가 있는 학교 ID (학교 ID 오름차순 키셋 페이징, 일일 감성 분석 배치용)
+    @Query("SELECT DISTINCT r.schoolId FROM Review r " +
+            "WHERE r.createdAt >= :start AND r.createdAt < :end AND r.schoolId > :afterSchoolId " +
+            "ORDER BY r.schoolId")
+    List<Long> findSchoolIdsWithReviews(@Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end,
+                                        @Param("afterSchoolId") Long afterSchoolId,
+                                        Pageable pageable);
+
+    // 7. 학교/기간 리뷰 본문만 조회 (엔티티 로딩 없이, 일일 감성 분석용)
+    @Query("SELECT r.content FROM Review r " +
+            "WHERE r.schoolId = :schoolId AND r.createdAt >= :start AND r.createdAt < :end")
+    List<String> findContentsBySchoolIdAndCreatedAtRange(@Param("schoolId") Long schoolId,
+                                                          @Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end);
+
+    // 8. 여러 학교의 기간 리뷰 본문 스트리밍 (학교 ID 순, 일일 감성 분석 묶음 전송용)
+    //    - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+    //    - fetch size Integer.MIN_VALUE: MySQL 드라이버가 결과를 한 행씩 받아옴 (이 조회에만 적용, 전역 useCursorFetch 없이)
+    //      스트림을 닫기 전까지 같은 커넥션에서 다른 쿼리를 실행할 수 없음
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.schoolId AS schoolId, r.content AS content FROM Review r " +
+            "WHERE r.schoolId IN :schoolIds AND r.createdAt >= :start AND r.createdAt < :end " +
+            "ORDER BY r.schoolId")
+    Stream<SchoolReviewText> streamContentsBySchoolIds(@Param("schoolIds") Collection<Long> schoolIds,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+
+    // 9. 학교/기간 리뷰 스트리밍 (작성 시각, id 순 / 엔티티 로딩 없이, 월간 운영자료 요청 본문용)
+    //    - 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 함 (try-with-resources)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.createdAt AS createdAt, r.mealType AS mealType, r.rating AS rating, r.content AS content " +
+            "FROM Review r " +
+            "WHERE r.schoolId = :schoolId AND r.createdAt >= :start AND r.createdAt < :end " +
+            "ORDER BY r.createdAt ASC, r.id ASC")
+    Stream<ReviewPayloadRow> streamPayloadRows(@Param("schoolId") Long schoolId,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    // 10. 학교/기간 일별 리뷰 집계 (작성일 + 식사 구분별 건수, 평균 별점, 별점 분포 - 월간 운영자료용)
+    //     작성일 기준 범위 조건은 idx_reviews_school_created 인덱스를 사용
+    @Query("SELECT new com.nutriassistant.nutriassistant_back.domain.review.dto.ReviewDailyAggregate(" +
+            "CAST(r.createdAt AS LocalDate), r.mealType, COUNT(r), AVG(r.rating), " +
+            "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END)) " +
+            "FROM Review r " +
+            "WHERE r.schoolId = :schoolId AND r.createdAt >= :start AND r.createdAt < :end " +
+            "GROUP BY CAST(r.createdAt AS LocalDate), r.mealType")
+    List<ReviewDailyAggregate> aggregateDaily(@Param("schoolId") Long schoolId,
+                                              @Param("start") LocalDateTime start,
+                                              @Param("end") LocalDateTime end);
+
+    interface SchoolReviewText {
+        Long getSchoolId();
+
+        String getContent();
+    }
+
+    interface ReviewPayloadRow {
+        LocalDateTime getCreatedAt();
+
+        MealType getMealType();
+
+        Integer getRating();
+
+        String getContent();
+    }
+}
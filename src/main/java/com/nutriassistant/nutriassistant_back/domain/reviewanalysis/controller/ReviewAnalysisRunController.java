@@ -0,0 +1,33 @@
+package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.controller;
+
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity.ReviewAnalysisRun;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository.ReviewAnalysisRunRepository;
+import com.nutriassistant.nutriassistant_back.global.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 일일 리뷰 분석 배치 실행 기록 조회 (내부 운영용, X-Internal-API-Key 필요)
+ * 최근 10일: 상태, 체크포인트, 처리/건너뜀/실패 학교 수, 보낸 리뷰 수, 소요 시간
+ */
+@RestController
+@RequestMapping("/internal/review-analysis")
+public class ReviewAnalysisRunController {
+
+    private final ReviewAnalysisRunRepository runRepository;
+
+    public ReviewAnalysisRunController(ReviewAnalysisRunRepository runRepository) {
+        this.runRepository = runRepository;
+    }
+
+    @GetMapping("/runs")
+    public ResponseEntity<ApiResponse<List<ReviewAnalysisRun>>> getRecentRuns() {
+        return ResponseEntity.ok(
+                ApiResponse.success("리뷰 분석 배치 실행 기록 조회 성공", runRepository.findTop10ByOrderByTargetDateDesc())
+        );
+    }
+}
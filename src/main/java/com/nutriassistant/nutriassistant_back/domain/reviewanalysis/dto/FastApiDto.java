@@ -38,4 +38,30 @@ public class FastApiDto {
         private List<String> evidencePhrases;
         private Boolean issueFlags;
     }
-}
\ No newline at end of file
+
+    // 여러 학교 묶음 요청 (Spring Boot -> FastAPI, 학교별 리뷰는 나누지 않음)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BatchRequest {
+        private String targetDate;
+        private List<Request> schools;
+    }
+
+    // 여러 학교 묶음 응답 (FastAPI -> Spring Boot, 학교별 분석 결과)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResponse {
+        private List<SchoolResult> results;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SchoolResult {
+        private Long schoolId;
+        private Response analysis;
+    }
+}
@@ -0,0 +1,11 @@
+package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto;
+
+/**
+ * 기간 내 긍정/부정 리뷰 개수 합계 (JPQL 생성자 조회용)
+ */
+public record SentimentCountSum(Long positive, Long negative) {
+
+    public long total() {
+        return positive + negative;
+    }
+}
@@ -4,10 +4,17 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review_analysis")
+@Table(
+        name = "review_analysis",
+        uniqueConstraints = {
+                // 학교/날짜당 분석 결과 1건 (배치 중복 저장 방지) + 학교별 기간 조회/집계/페이징
+                @UniqueConstraint(name = "uk_review_analysis_school_date", columnNames = {"school_id", "target_date"})
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -21,8 +28,9 @@ public class ReviewAnalysis {
     @Column(name = "school_id", nullable = false)
     private Long schoolId;
 
-    @Column(name = "target_ym", length = 10)
-    private String targetYm;
+    // 분석 대상 날짜 (기존 target_ym 문자열 컬럼은 배포 시 DB 마이그레이션이 옮겨 담음 - scripts/db/migration)
+    @Column(name = "target_date")
+    private LocalDate targetDate;
 
     @Column(name = "sentiment_label", length = 20)
     private String sentimentLabel;
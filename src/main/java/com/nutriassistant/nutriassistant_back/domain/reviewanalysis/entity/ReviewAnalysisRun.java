@@ -0,0 +1,173 @@
+package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일일 리뷰 감성 분석 배치 실행 기록 (대상 날짜당 1건)
+ *
+ * 학교 ID 오름차순으로 페이지 단위 처리하며, 페이지가 끝날 때마다
+ * 마지막 학교 ID(last_school_id)와 누적 건수, 실패한 학교 ID(failed_school_ids)를 체크포인트로 저장합니다.
+ * 서버가 재시작되면 RUNNING 상태 실행을 last_school_id 다음 학교부터 이어서 처리합니다.
+ *
+ * 상태 흐름: RUNNING → COMPLETED
+ *                    → INCOMPLETE (모든 페이지를 처리했지만 실패한 학교가 남음, 다음 실행에서 실패 학교만 재시도)
+ *
+ * 소유권: 실행 중인 인스턴스(owner)와 heartbeat_at 을 기록하고, 조건부 UPDATE로만 가져갑니다.
+ * (소유자가 없거나 heartbeat가 만료된 실행만 다른 인스턴스가 이어받음 - ReviewAnalysisRunRepository.claim)
+ */
+@Entity
+@Table(
+        name = "review_analysis_run",
+        uniqueConstraints = @UniqueConstraint(name = "uk_review_analysis_run_date", columnNames = "target_date"),
+        indexes = @Index(name = "idx_review_analysis_run_status", columnList = "status")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewAnalysisRun {
+
+    public enum Status {
+        RUNNING,
+        INCOMPLETE,
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // 체크포인트: 이 학교 ID까지 처리 완료
+    @Column(name = "last_school_id", nullable = false)
+    private Long lastSchoolId;
+
+    // 분석 결과를 저장한 학교 수
+    @Column(name = "schools_processed", nullable = false)
+    private int schoolsProcessed;
+
+    // 이미 분석된 학교 / 리뷰 없음
+    @Column(name = "schools_skipped", nullable = false)
+    private int schoolsSkipped;
+
+    // 현재 실패 상태인 학교 수 (= failed_school_ids 개수, 재시도로 성공하면 줄어듦)
+    @Column(name = "schools_failed", nullable = false)
+    private int schoolsFailed;
+
+    // 실패한 학교 ID (쉼표 구분), 체크포인트 이후에도 남아 재시도 대상이 됨
+    @Column(name = "failed_school_ids", columnDefinition = "TEXT")
+    private String failedSchoolIds;
+
+    // FastAPI로 보낸 리뷰 수
+    @Column(name = "reviews_sent", nullable = false)
+    private long reviewsSent;
+
+    // 실행 시간 합계 (재시작 구간 포함)
+    @Column(name = "duration_millis", nullable = false)
+    private long durationMillis;
+
+    // 실행 중인 인스턴스 (InstanceId), 실행이 끝나거나 중단되면 비움
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    // 소유 인스턴스가 마지막으로 진행을 기록한 시각 (만료되면 다른 인스턴스가 이어받을 수 있음)
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ReviewAnalysisRun(LocalDate targetDate) {
+        this.targetDate = targetDate;
+        this.status = Status.RUNNING;
+        this.lastSchoolId = 0L;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 페이지 처리 완료 시 체크포인트 저장 (실패한 학교는 실패 목록에 추가)
+     */
+    public void checkpoint(Long lastSchoolId, int processed, int skipped, Set<Long> failed,
+                           long reviewsSent, long elapsedMillis) {
+        this.lastSchoolId = lastSchoolId;
+        this.schoolsProcessed += processed;
+        this.schoolsSkipped += skipped;
+        this.reviewsSent += reviewsSent;
+        this.durationMillis += elapsedMillis;
+
+        Set<Long> ids = failedSchoolIdSet();
+        ids.addAll(failed);
+        setFailedSchoolIds(ids);
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 학교 재시도 결과 저장 (성공/건너뜀 처리된 학교는 실패 목록에서 제거)
+     */
+    public void recordRetry(Set<Long> retried, int processed, int skipped, Set<Long> stillFailed,
+                            long reviewsSent, long elapsedMillis) {
+        this.schoolsProcessed += processed;
+        this.schoolsSkipped += skipped;
+        this.reviewsSent += reviewsSent;
+        this.durationMillis += elapsedMillis;
+
+        Set<Long> ids = failedSchoolIdSet();
+        ids.removeAll(retried);
+        ids.addAll(stillFailed);
+        setFailedSchoolIds(ids);
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    /**
+     * 모든 페이지 처리 후 종료: 실패한 학교가 없으면 COMPLETED, 남아 있으면 INCOMPLETE (소유권 반납)
+     */
+    public void finish() {
+        this.status = failedSchoolIdSet().isEmpty() ? Status.COMPLETED : Status.INCOMPLETE;
+        this.finishedAt = LocalDateTime.now();
+        this.owner = null;
+    }
+
+    public Set<Long> failedSchoolIdSet() {
+        if (failedSchoolIds == null || failedSchoolIds.isBlank()) {
+            return new LinkedHashSet<>();
+        }
+        return Arrays.stream(failedSchoolIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void setFailedSchoolIds(Set<Long> ids) {
+        this.failedSchoolIds = ids.isEmpty() ? null
+                : ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.schoolsFailed = ids.size();
+    }
+}
@@ -1,12 +1,17 @@
 package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository;
 
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto.SentimentCountSum;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity.ReviewAnalysis;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,7 +21,7 @@ public interface ReviewAnalysisRepository extends JpaRepository<ReviewAnalysis,
     List<ReviewAnalysis> findBySchoolId(Long schoolId);
 
     // [2] 우리가 새로 만든 메서드 (가장 최근 데이터 1건 조회 - Controller용)
-    ReviewAnalysis findTopBySchoolIdOrderByTargetYmDesc(Long schoolId);
+    ReviewAnalysis findTopBySchoolIdOrderByTargetDateDesc(Long schoolId);
 
     // =========================================================================
     // [3] 기존 파일(metrics)에 있던 메서드들을 여기로 이사시켰습니다.
@@ -28,6 +33,22 @@ public interface ReviewAnalysisRepository extends JpaRepository<ReviewAnalysis,
     @Query("SELECT COUNT(r) FROM ReviewAnalysis r WHERE r.schoolId = :schoolId AND r.sentimentLabel = :label AND r.createdAt BETWEEN :startDate AND :endDate")
     long countBySchoolIdAndLabelAndDateRange(@Param("schoolId") Long schoolId, @Param("label") String label, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    // 학교별, 연월(targetYm)으로 리뷰 분석 조회
-    List<ReviewAnalysis> findBySchoolIdAndTargetYm(Long schoolId, String targetYm);
-}
\ No newline at end of file
+    // 같은 학교/날짜 분석 결과 존재 여부 (일일 분석 중복 방지)
+    boolean existsBySchoolIdAndTargetDate(Long schoolId, LocalDate targetDate);
+
+    // 이미 분석된 학교 ID (여러 학교 한 번에 확인, 일일 분석 묶음 전송용)
+    @Query("SELECT r.schoolId FROM ReviewAnalysis r WHERE r.schoolId IN :schoolIds AND r.targetDate = :targetDate")
+    List<Long> findAnalyzedSchoolIds(@Param("schoolIds") Collection<Long> schoolIds, @Param("targetDate") LocalDate targetDate);
+
+    // 학교별 기간 조회 (DB 페이징, idx_review_analysis_school_date)
+    Page<ReviewAnalysis> findBySchoolIdAndTargetDateBetween(Long schoolId, LocalDate start, LocalDate end, Pageable pageable);
+
+    // 학교별 기간 긍정/부정 개수 합계
+    @Query("SELECT new com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto.SentimentCountSum(" +
+            "COALESCE(SUM(r.positiveCount), 0L), COALESCE(SUM(r.negativeCount), 0L)) " +
+            "FROM ReviewAnalysis r " +
+            "WHERE r.schoolId = :schoolId AND r.targetDate BETWEEN :start AND :end")
+    SentimentCountSum sumSentimentCounts(@Param("schoolId") Long schoolId,
+                                         @Param("start") LocalDate start,
+                                         @Param("end") LocalDate end);
+}
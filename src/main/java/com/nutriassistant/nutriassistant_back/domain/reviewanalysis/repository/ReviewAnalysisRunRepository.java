@@ -0,0 +1,65 @@
+package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository;
+
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity.ReviewAnalysisRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReviewAnalysisRunRepository extends JpaRepository<ReviewAnalysisRun, Long> {
+
+    /**
+     * 대상 날짜의 실행 기록 (같은 날짜 중복 실행 방지)
+     */
+    Optional<ReviewAnalysisRun> findByTargetDate(LocalDate targetDate);
+
+    /**
+     * 끝나지 않은 실행 기록 (재기동/다음 자정 실행 시 이어서 처리, 오래된 날짜는 제외)
+     */
+    List<ReviewAnalysisRun> findByStatusInAndTargetDateGreaterThanEqualOrderByTargetDateAsc(
+            Collection<ReviewAnalysisRun.Status> statuses, LocalDate fromDate);
+
+    /**
+     * 최근 실행 기록 (운영 조회용)
+     */
+    List<ReviewAnalysisRun> findTop10ByOrderByTargetDateDesc();
+
+    /**
+     * 실행 소유권 획득 (완료되지 않았고, 소유자가 없거나 heartbeat가 만료된 경우에만)
+     * 여러 인스턴스가 동시에 시도해도 한 곳만 1을 받음
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReviewAnalysisRun r SET r.owner = :owner, r.heartbeatAt = :now, r.status = :running " +
+            "WHERE r.id = :id AND r.status <> :completed " +
+            "AND (r.owner IS NULL OR r.heartbeatAt IS NULL OR r.heartbeatAt < :staleBefore)")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("running") ReviewAnalysisRun.Status running,
+              @Param("completed") ReviewAnalysisRun.Status completed);
+
+    /**
+     * 소유권 연장 (체크포인트마다), 다른 인스턴스가 가져간 경우 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReviewAnalysisRun r SET r.heartbeatAt = :now WHERE r.id = :id AND r.owner = :owner")
+    int renew(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 소유권 반납 (실행 도중 오류로 중단된 경우, 다른 인스턴스가 바로 이어받을 수 있도록)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReviewAnalysisRun r SET r.owner = NULL WHERE r.id = :id AND r.owner = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+}
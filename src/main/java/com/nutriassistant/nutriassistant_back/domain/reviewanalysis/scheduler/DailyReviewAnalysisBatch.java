@@ -0,0 +1,339 @@
+package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.scheduler;
+
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
+import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity.ReviewAnalysisRun;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository.ReviewAnalysisRunRepository;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.service.ReviewAnalysisBatchService;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.service.ReviewAnalysisBatchService.PageResult;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.service.ReviewAnalysisService;
+import com.nutriassistant.nutriassistant_back.global.instance.InstanceId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 일일 리뷰 감성 분석 배치 (전체 학교, 매일 자정 전날 리뷰 대상)
+ *
+ * 처리 방식:
+ * - 전날 리뷰가 있는 학교만 학교 ID 오름차순으로 페이지 단위 조회 (keyset, review-analysis.batch.page-size)
+ * - 페이지 안의 학교는 reviewAnalysisExecutor에서 병렬 처리 (동시 실행 수 = async.review-analysis.pool-size)
+ *   · 기본: 학교마다 FastAPI 1회 호출 (ReviewAnalysisService.runDailyAnalysis)
+ *   · review-analysis.batch.chunked=true: 여러 학교를 묶어 전송 (ReviewAnalysisBatchService)
+ * - 한 학교가 실패해도 다른 학교는 계속 진행 (실패한 학교 ID는 실행 기록에 남김)
+ * - 이미 분석된 학교/날짜는 건너뜀 (review_analysis 의 (school_id, target_date) 유일 키로 중복 저장 방지)
+ *
+ * 체크포인트:
+ * - 페이지가 끝날 때마다 마지막 학교 ID, 누적 건수, 실패한 학교 ID를 review_analysis_run 에 저장
+ * - 모든 페이지를 처리해도 실패한 학교가 남으면 INCOMPLETE → 다음 실행(재기동/다음 자정)에서 실패 학교만 재시도
+ *   (review-analysis.batch.retry-days 이내 날짜만)
+ * - 서버 재시작 시 RUNNING 상태 실행을 마지막 체크포인트 다음 학교부터 이어서 처리
+ * - 완료된 날짜는 다시 실행하지 않음
+ *
+ * 다중 인스턴스:
+ * - 실행 기록의 소유권을 조건부 UPDATE로 획득 (소유자가 없거나 heartbeat가 만료된 경우만)
+ *   → 같은 날짜를 두 인스턴스가 동시에 처리하지 않음
+ * - 학교(묶음 전송이면 묶음) 하나가 끝날 때마다 heartbeat 갱신 (lease 의 1/3 간격으로만 UPDATE)
+ *   → 페이지가 review-analysis.batch.lease-minutes 보다 오래 걸려도 다른 인스턴스가 가져가지 않음
+ * - 체크포인트 저장 전 소유권 확인, 소유권을 잃으면 즉시 중단
+ *
+ * 인스턴스 내 실행:
+ * - 날짜가 달라도 한 번에 하나만 실행, 다른 실행이 끝나기를 review-analysis.batch.lock-wait-minutes 까지 기다림
+ * - 기다리기 전에 실행 기록을 먼저 만들어 두므로, 끝내 실행하지 못한 날짜도 다음 재개 대상이 됨
+ *
+ * 지표: nutri.review.analysis.batch (1회 실행 소요 시간)
+ */
+@Slf4j
+@Component
+public class DailyReviewAnalysisBatch {
+
+    private static final EnumSet<ReviewAnalysisRun.Status> UNFINISHED_STATUSES =
+            EnumSet.of(ReviewAnalysisRun.Status.RUNNING, ReviewAnalysisRun.Status.INCOMPLETE);
+
+    private final ReviewAnalysisService reviewAnalysisService;
+    private final ReviewAnalysisBatchService reviewAnalysisBatchService;
+    private final ReviewRepository reviewRepository;
+    private final ReviewAnalysisRunRepository runRepository;
+    private final TaskExecutor executor;
+    private final InstanceId instanceId;
+    private final Timer batchTimer;
+    private final int pageSize;
+    private final boolean chunked;
+    private final boolean schedulingEnabled;
+    private final Duration lease;
+    private final int retryDays;
+    private final Duration lockWait;
+
+    // 한 인스턴스 안에서는 날짜가 달라도 한 번에 하나만 실행 (인스턴스 간 중복은 실행 기록 소유권으로 방지)
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public DailyReviewAnalysisBatch(ReviewAnalysisService reviewAnalysisService,
+                                    ReviewAnalysisBatchService reviewAnalysisBatchService,
+                                    ReviewRepository reviewRepository,
+                                    ReviewAnalysisRunRepository runRepository,
+                                    @Qualifier(AsyncConfig.REVIEW_ANALYSIS_EXECUTOR) TaskExecutor executor,
+                                    InstanceId instanceId,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${review-analysis.batch.page-size:100}") int pageSize,
+                                    @Value("${review-analysis.batch.chunked:false}") boolean chunked,
+                                    @Value("${scheduling.enabled:true}") boolean schedulingEnabled,
+                                    @Value("${review-analysis.batch.lease-minutes:15}") long leaseMinutes,
+                                    @Value("${review-analysis.batch.retry-days:7}") int retryDays,
+                                    @Value("${review-analysis.batch.lock-wait-minutes:30}") long lockWaitMinutes) {
+        this.reviewAnalysisService = reviewAnalysisService;
+        this.reviewAnalysisBatchService = reviewAnalysisBatchService;
+        this.reviewRepository = reviewRepository;
+        this.runRepository = runRepository;
+        this.executor = executor;
+        this.instanceId = instanceId;
+        this.pageSize = pageSize;
+        this.chunked = chunked;
+        this.schedulingEnabled = schedulingEnabled;
+        this.lease = Duration.ofMinutes(leaseMinutes);
+        this.retryDays = retryDays;
+        this.lockWait = Duration.ofMinutes(lockWaitMinutes);
+        this.batchTimer = Timer.builder("nutri.review.analysis.batch")
+                .description("일일 리뷰 감성 분석 배치 소요 시간")
+                .register(meterRegistry);
+    }
+
+    // =========================================================================
+    // 매일 자정 전날 리뷰 분석 (+ 끝나지 않은 이전 날짜 재시도)
+    // =========================================================================
+    @Scheduled(cron = "${review-analysis.batch.cron:0 0 0 * * *}")
+    public void runNightly() {
+        run(LocalDate.now().minusDays(1));
+        resumeUnfinishedRuns();
+    }
+
+    // =========================================================================
+    // 재기동 시 중단/미완료 실행 이어서 처리 (스케줄링이 꺼진 인스턴스는 제외)
+    // =========================================================================
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        if (!schedulingEnabled) {
+            return;
+        }
+        resumeUnfinishedRuns();
+    }
+
+    private void resumeUnfinishedRuns() {
+        List<ReviewAnalysisRun> unfinished = runRepository.findByStatusInAndTargetDateGreaterThanEqualOrderByTargetDateAsc(
+                UNFINISHED_STATUSES, LocalDate.now().minusDays(retryDays));
+        for (ReviewAnalysisRun run : unfinished) {
+            log.info("🔁 리뷰 분석 배치 재개: date={}, 상태={}, lastSchoolId={}, 실패 학교 {}개",
+                    run.getTargetDate(), run.getStatus(), run.getLastSchoolId(), run.getSchoolsFailed());
+            run(run.getTargetDate());
+        }
+    }
+
+    /**
+     * 대상 날짜 배치 실행
+     * (이 인스턴스의 다른 실행이 lock-wait 안에 끝나지 않거나, 다른 인스턴스가 소유 중이면 건너뜀)
+     *
+     * @return 실행 기록 (건너뛰었거나 중단된 경우 null)
+     */
+    public ReviewAnalysisRun run(LocalDate targetDate) {
+        // 잠금을 기다리기 전에 실행 기록부터 확보 → 이번에 건너뛰어도 RUNNING 기록이 남아 resumeUnfinishedRuns 가 재개
+        ReviewAnalysisRun run = findOrCreateRun(targetDate);
+        if (run.getStatus() == ReviewAnalysisRun.Status.COMPLETED) {
+            log.info("이미 완료된 리뷰 분석 배치입니다. date={}", targetDate);
+            return run;
+        }
+
+        if (!acquireRunLock()) {
+            log.warn("⚠️ 리뷰 분석 배치가 이미 실행 중입니다. date={} (다음 재개 시 처리)", targetDate);
+            return null;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (runRepository.claim(run.getId(), instanceId.value(), now, now.minus(lease),
+                    ReviewAnalysisRun.Status.RUNNING, ReviewAnalysisRun.Status.COMPLETED) == 0) {
+                log.info("다른 인스턴스에서 실행 중인 리뷰 분석 배치입니다. date={}, owner={}", targetDate, run.getOwner());
+                return null;
+            }
+
+            try {
+                return runClaimed(run.getId(), targetDate);
+            } catch (RuntimeException e) {
+                runRepository.release(run.getId(), instanceId.value());
+                log.error("❌ 리뷰 분석 배치 중단: date={} (다음 실행에서 체크포인트부터 재개)", targetDate, e);
+                return null;
+            }
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private boolean acquireRunLock() {
+        try {
+            return runLock.tryLock(lockWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 같은 날짜 실행 기록을 두 인스턴스가 동시에 만들면 한쪽은 유일 키 충돌 → 만들어진 기록 사용
+    private ReviewAnalysisRun findOrCreateRun(LocalDate targetDate) {
+        return runRepository.findByTargetDate(targetDate).orElseGet(() -> {
+            try {
+                return runRepository.saveAndFlush(new ReviewAnalysisRun(targetDate));
+            } catch (DataIntegrityViolationException e) {
+                return runRepository.findByTargetDate(targetDate).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    private ReviewAnalysisRun runClaimed(Long runId, LocalDate targetDate) {
+        ReviewAnalysisRun run = runRepository.findById(runId).orElseThrow();
+
+        LocalDateTime start = targetDate.atStartOfDay();
+        LocalDateTime end = targetDate.plusDays(1).atStartOfDay();
+        long runStart = System.currentTimeMillis();
+
+        log.info("🚀 리뷰 분석 배치 시작: date={}, lastSchoolId={}, 실패 학교 {}개, chunked={}, owner={}",
+                targetDate, run.getLastSchoolId(), run.getSchoolsFailed(), chunked, instanceId);
+
+        Runnable heartbeat = heartbeat(runId);
+
+        // 1. 이전 실행에서 실패한 학교 재시도 (이번 실행에서 실패한 학교는 다음 실행에서 재시도)
+        List<Long> carriedOver = new ArrayList<>(run.failedSchoolIdSet());
+        for (int from = 0; from < carriedOver.size(); from += pageSize) {
+            long pageStart = System.currentTimeMillis();
+            List<Long> schoolIds = carriedOver.subList(from, Math.min(from + pageSize, carriedOver.size()));
+
+            PageResult result = analyze(schoolIds, targetDate, heartbeat);
+
+            renewLease(run);
+            run.recordRetry(new LinkedHashSet<>(schoolIds), result.processed(), result.skipped(),
+                    result.failedSchoolIds(), result.reviewsSent(), System.currentTimeMillis() - pageStart);
+            run = runRepository.save(run);
+        }
+
+        // 2. 체크포인트 다음 학교부터 페이지 단위 처리
+        while (true) {
+            long pageStart = System.currentTimeMillis();
+            List<Long> schoolIds = reviewRepository.findSchoolIdsWithReviews(
+                    start, end, run.getLastSchoolId(), PageRequest.of(0, pageSize));
+            if (schoolIds.isEmpty()) {
+                break;
+            }
+
+            PageResult result = analyze(schoolIds, targetDate, heartbeat);
+
+            renewLease(run);
+            run.checkpoint(schoolIds.get(schoolIds.size() - 1), result.processed(), result.skipped(),
+                    result.failedSchoolIds(), result.reviewsSent(), System.currentTimeMillis() - pageStart);
+            run = runRepository.save(run);
+        }
+
+        // 3. 실패한 학교가 없으면 COMPLETED, 남아 있으면 INCOMPLETE (소유권 반납)
+        long elapsed = System.currentTimeMillis() - runStart;
+        renewLease(run);
+        run.finish();
+        run = runRepository.save(run);
+        batchTimer.record(Duration.ofMillis(elapsed));
+
+        log.info("✅ 리뷰 분석 배치 종료: date={}, 상태={}, 처리 {}개 학교, 건너뜀 {}, 실패 {}, 리뷰 {}건, 소요 {}ms (누적 {}ms)",
+                targetDate, run.getStatus(), run.getSchoolsProcessed(), run.getSchoolsSkipped(), run.getSchoolsFailed(),
+                run.getReviewsSent(), elapsed, run.getDurationMillis());
+        return run;
+    }
+
+    private PageResult analyze(List<Long> schoolIds, LocalDate targetDate, Runnable heartbeat) {
+        return chunked
+                ? reviewAnalysisBatchService.analyzeSchools(schoolIds, targetDate, heartbeat)
+                : analyzeEachSchool(schoolIds, targetDate, heartbeat);
+    }
+
+    /**
+     * 페이지 처리 중 heartbeat 갱신 (학교/묶음이 끝날 때마다 호출, lease 의 1/3 간격으로만 UPDATE)
+     * 소유권을 잃었는지는 체크포인트에서 확인하므로 여기서는 갱신만 시도
+     */
+    private Runnable heartbeat(Long runId) {
+        long intervalMillis = Math.max(lease.toMillis() / 3, 1000L);
+        AtomicLong lastRenewed = new AtomicLong(System.currentTimeMillis());
+        return () -> {
+            long now = System.currentTimeMillis();
+            long last = lastRenewed.get();
+            if (now - last < intervalMillis || !lastRenewed.compareAndSet(last, now)) {
+                return;
+            }
+            try {
+                runRepository.renew(runId, instanceId.value(), LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 리뷰 분석 배치 heartbeat 갱신 실패: runId={}, {}", runId, e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * 체크포인트 저장 전 소유권 확인 + heartbeat 갱신
+     * (heartbeat 만료로 다른 인스턴스가 가져갔으면 진행 내용을 덮어쓰지 않고 중단)
+     */
+    private void renewLease(ReviewAnalysisRun run) {
+        if (runRepository.renew(run.getId(), instanceId.value(), LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("리뷰 분석 배치 소유권을 잃었습니다. date=" + run.getTargetDate());
+        }
+    }
+
+    /**
+     * 학교마다 FastAPI 1회 호출 (학교 단위 병렬, 실패 격리)
+     */
+    private PageResult analyzeEachSchool(List<Long> schoolIds, LocalDate targetDate, Runnable heartbeat) {
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        Set<Long> failed = ConcurrentHashMap.newKeySet();
+        AtomicLong reviewsSent = new AtomicLong();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(schoolIds.size());
+        for (Long schoolId : schoolIds) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    int sent = reviewAnalysisService.runDailyAnalysis(schoolId, targetDate);
+                    if (sent > 0) {
+                        processed.incrementAndGet();
+                        reviewsSent.addAndGet(sent);
+                    } else {
+                        skipped.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failed.add(schoolId);
+                    log.warn("⚠️ 리뷰 분석 실패: schoolId={}, date={}, {}", schoolId, targetDate, e.getMessage());
+                } finally {
+                    heartbeat.run();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        return new PageResult(processed.get(), skipped.get(), new LinkedHashSet<>(failed), reviewsSent.get());
+    }
+}
@@ -0,0 +1,256 @@
+package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.service;
+
+import com.nutriassistant.nutriassistant_back.config.AsyncConfig;
+import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto.FastApiDto;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository.ReviewAnalysisRepository;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * 일일 리뷰 감성 분석 묶음 전송 (review-analysis.batch.chunked=true)
+ *
+ * 학교마다 FastAPI를 한 번씩 호출하는 대신, 여러 학교의 리뷰를 크기 제한이 있는 묶음(chunk)으로 모아
+ * /api/analyze/daily/batch 로 병렬 전송하고, 학교별 결과를 ReviewAnalysis로 학교마다 따로 저장합니다.
+ * (한 학교가 이미 저장되어 유일 키가 충돌해도 같은 묶음의 다른 학교는 저장됨 - 충돌한 학교는 건너뜀으로 집계)
+ *
+ * 묶음 기준:
+ * - review-analysis.chunk.max-reviews : 묶음당 최대 리뷰 수 (기본 500)
+ * - review-analysis.chunk.max-bytes   : 묶음당 최대 본문 크기, UTF-8 기준 (기본 256KB)
+ * - 한 학교의 리뷰는 나누지 않음 (학교 단위로 분석 결과가 나오므로)
+ *   → 한 학교가 기준을 넘으면 그 학교만 단독 묶음으로 전송
+ *
+ * 리뷰 본문은 엔티티 없이 (학교 ID, 본문)만 스트리밍 조회합니다.
+ * 묶음 하나가 실패하면 그 묶음의 학교 ID만 실패로 돌려주고 나머지는 계속 진행합니다.
+ * (실패한 학교는 배치 실행 기록에 남아 다음 실행에서 재시도, 이미 저장된 학교는 그때 건너뜀)
+ */
+@Slf4j
+@Service
+public class ReviewAnalysisBatchService {
+
+    /**
+     * 페이지(학교 목록) 처리 결과 (실패한 학교 ID는 실행 기록에 남겨 재시도)
+     */
+    public record PageResult(int processed, int skipped, Set<Long> failedSchoolIds, long reviewsSent) {
+
+        public int failed() {
+            return failedSchoolIds.size();
+        }
+    }
+
+    private record Chunk(List<FastApiDto.Request> schools, int reviewCount) {
+    }
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewAnalysisRepository reviewAnalysisRepository;
+    private final FastApiGateway fastApiGateway;
+    private final TransactionTemplate readOnlyTx;
+    private final TaskExecutor executor;
+    private final int maxReviews;
+    private final long maxBytes;
+
+    public ReviewAnalysisBatchService(ReviewRepository reviewRepository,
+                                      ReviewAnalysisRepository reviewAnalysisRepository,
+                                      FastApiGateway fastApiGateway,
+                                      PlatformTransactionManager transactionManager,
+                                      @Qualifier(AsyncConfig.REVIEW_ANALYSIS_EXECUTOR) TaskExecutor executor,
+                                      @Value("${review-analysis.chunk.max-reviews:500}") int maxReviews,
+                                      @Value("${review-analysis.chunk.max-bytes:262144}") long maxBytes) {
+        this.reviewRepository = reviewRepository;
+        this.reviewAnalysisRepository = reviewAnalysisRepository;
+        this.fastApiGateway = fastApiGateway;
+        this.executor = executor;
+        this.maxReviews = maxReviews;
+        this.maxBytes = maxBytes;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 학교 목록의 대상 날짜 리뷰를 묶음으로 분석
+     * (이미 분석된 학교 / 리뷰가 없는 학교는 건너뜀)
+     *
+     * @param heartbeat 묶음 하나가 끝날 때마다 호출 (배치 실행 기록 heartbeat 갱신)
+     */
+    public PageResult analyzeSchools(List<Long> schoolIds, LocalDate targetDate, Runnable heartbeat) {
+        Set<Long> analyzed = new HashSet<>(
+                reviewAnalysisRepository.findAnalyzedSchoolIds(schoolIds, targetDate));
+        List<Long> pending = schoolIds.stream()
+                .filter(id -> !analyzed.contains(id))
+                .toList();
+        if (pending.isEmpty()) {
+            return new PageResult(0, schoolIds.size(), Set.of(), 0);
+        }
+
+        // 스트림은 트랜잭션 안에서만 읽을 수 있으므로 묶음 구성까지만 트랜잭션 유지 (전송 중에는 커넥션 반납)
+        List<Chunk> chunks = readOnlyTx.execute(status -> buildChunks(pending, targetDate));
+
+        List<CompletableFuture<PageResult>> futures = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return send(chunk, targetDate);
+                } finally {
+                    heartbeat.run();
+                }
+            }, executor));
+        }
+
+        int processed = 0;
+        Set<Long> failed = new LinkedHashSet<>();
+        long reviewsSent = 0;
+        for (CompletableFuture<PageResult> future : futures) {
+            PageResult result = future.join();
+            processed += result.processed();
+            failed.addAll(result.failedSchoolIds());
+            reviewsSent += result.reviewsSent();
+        }
+
+        log.info("📦 리뷰 분석 묶음 전송: date={}, 학교 {}개, 묶음 {}개, 저장 {}, 실패 {}, 리뷰 {}건",
+                targetDate, pending.size(), chunks.size(), processed, failed.size(), reviewsSent);
+        return new PageResult(processed, schoolIds.size() - processed - failed.size(), failed, reviewsSent);
+    }
+
+    // =========================================================================
+    // 묶음 구성 (학교 ID 순 스트리밍 → 학교 경계에서만 묶음 분리)
+    // =========================================================================
+    private List<Chunk> buildChunks(List<Long> schoolIds, LocalDate targetDate) {
+        LocalDateTime start = targetDate.atStartOfDay();
+        LocalDateTime end = targetDate.plusDays(1).atStartOfDay();
+        String target = targetDate.toString();
+
+        ChunkCollector collector = new ChunkCollector();
+        Long schoolId = null;
+        List<String> texts = new ArrayList<>();
+        long schoolBytes = 0;
+
+        try (Stream<ReviewRepository.SchoolReviewText> rows =
+                     reviewRepository.streamContentsBySchoolIds(schoolIds, start, end)) {
+            for (ReviewRepository.SchoolReviewText row : (Iterable<ReviewRepository.SchoolReviewText>) rows::iterator) {
+                String content = row.getContent();
+                if (content == null || content.isBlank()) {
+                    continue;
+                }
+                if (schoolId != null && !schoolId.equals(row.getSchoolId())) {
+                    collector.add(new FastApiDto.Request(schoolId, target, texts), schoolBytes);
+                    texts = new ArrayList<>();
+                    schoolBytes = 0;
+                }
+                schoolId = row.getSchoolId();
+                texts.add(content);
+                schoolBytes += content.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        if (schoolId != null) {
+            collector.add(new FastApiDto.Request(schoolId, target, texts), schoolBytes);
+        }
+        return collector.finish();
+    }
+
+    /**
+     * 학교를 순서대로 받아, 현재 묶음에 넣으면 기준을 넘는 경우 묶음을 마감하고 새 묶음을 시작
+     */
+    private final class ChunkCollector {
+        private final List<Chunk> chunks = new ArrayList<>();
+        private List<FastApiDto.Request> current = new ArrayList<>();
+        private int reviews;
+        private long bytes;
+
+        void add(FastApiDto.Request school, long schoolBytes) {
+            int count = school.getReviewTexts().size();
+            if (!current.isEmpty() && (reviews + count > maxReviews || bytes + schoolBytes > maxBytes)) {
+                flush();
+            }
+            current.add(school);
+            reviews += count;
+            bytes += schoolBytes;
+        }
+
+        List<Chunk> finish() {
+            if (!current.isEmpty()) {
+                flush();
+            }
+            return chunks;
+        }
+
+        private void flush() {
+            chunks.add(new Chunk(current, reviews));
+            current = new ArrayList<>();
+            reviews = 0;
+            bytes = 0;
+        }
+    }
+
+    // =========================================================================
+    // 묶음 전송 + 학교별 결과 저장
+    // =========================================================================
+    private PageResult send(Chunk chunk, LocalDate targetDate) {
+        List<Long> chunkSchoolIds = chunk.schools().stream().map(FastApiDto.Request::getSchoolId).toList();
+        try {
+            FastApiDto.BatchResponse response = fastApiGateway.analyzeDailyReviewsBatch(
+                    FastApiDto.BatchRequest.builder()
+                            .targetDate(targetDate.toString())
+                            .schools(chunk.schools())
+                            .build());
+
+            Map<Long, FastApiDto.Response> bySchool = new HashMap<>();
+            if (response != null && response.getResults() != null) {
+                for (FastApiDto.SchoolResult result : response.getResults()) {
+                    if (result.getSchoolId() != null && result.getAnalysis() != null) {
+                        bySchool.put(result.getSchoolId(), result.getAnalysis());
+                    }
+                }
+            }
+
+            int saved = 0;
+            long reviewsSent = 0;
+            Set<Long> missing = new LinkedHashSet<>();
+            for (FastApiDto.Request school : chunk.schools()) {
+                FastApiDto.Response analysis = bySchool.get(school.getSchoolId());
+                if (analysis == null) {
+                    missing.add(school.getSchoolId());
+                    log.warn("⚠️ 묶음 응답에 학교 결과 없음: schoolId={}, date={}", school.getSchoolId(), targetDate);
+                    continue;
+                }
+                try {
+                    // 학교마다 별도 트랜잭션으로 저장 (묶음 전체를 한 트랜잭션으로 묶지 않음)
+                    reviewAnalysisRepository.saveAndFlush(
+                            ReviewAnalysisService.toAnalysis(school.getSchoolId(), targetDate, analysis));
+                } catch (DataIntegrityViolationException e) {
+                    // 재개된 실행/다른 인스턴스가 먼저 저장 (school_id, target_date 유일 키) → 건너뜀
+                    log.info("이미 분석된 날짜입니다. SchoolId: {}, Date: {}", school.getSchoolId(), targetDate);
+                    continue;
+                }
+                saved++;
+                reviewsSent += school.getReviewTexts().size();
+            }
+
+            return new PageResult(saved, 0, missing, reviewsSent);
+        } catch (Exception e) {
+            log.warn("⚠️ 리뷰 분석 묶음 전송 실패: date={}, 학교 {}, 리뷰 {}건, {}",
+                    targetDate, chunkSchoolIds, chunk.reviewCount(), e.getMessage());
+            return new PageResult(0, 0, new LinkedHashSet<>(chunkSchoolIds), 0);
+        }
+    }
+}
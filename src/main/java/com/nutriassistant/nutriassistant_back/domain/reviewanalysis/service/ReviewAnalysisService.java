@@ -1,20 +1,20 @@
 package com.nutriassistant.nutriassistant_back.domain.reviewanalysis.service;
 
-import com.nutriassistant.nutriassistant_back.domain.review.entity.Review;
 import com.nutriassistant.nutriassistant_back.domain.review.repository.ReviewRepository;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto.FastApiDto;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.entity.ReviewAnalysis;
 import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.repository.ReviewAnalysisRepository;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,13 +25,12 @@ public class ReviewAnalysisService {
     private final ReviewAnalysisRepository reviewAnalysisRepository;
     private final ReviewRepository reviewRepository;
 
-    // [변경] RestTemplate + @Value 삭제 -> RestClient 사용
-    // RestClientConfig에서 이미 URL 설정이 완료된 상태로 주입됩니다.
-    private final RestClient restClient;
+    // [변경] FastAPI 호출은 FastApiGateway 사용
+    private final FastApiGateway fastApiGateway;
 
     // [1] 가장 최근 분석 결과 1건 조회 (Controller용)
     public ReviewAnalysis getLatestAnalysis(Long schoolId) {
-        return reviewAnalysisRepository.findTopBySchoolIdOrderByTargetYmDesc(schoolId);
+        return reviewAnalysisRepository.findTopBySchoolIdOrderByTargetDateDesc(schoolId);
     }
 
     // [2] 분석 결과 리스트 조회 (Controller용)
@@ -40,58 +39,70 @@ public class ReviewAnalysisService {
     }
 
     // [3] 일일 분석 실행 로직
-    @Transactional
-    public void runDailyAnalysis(Long schoolId, LocalDate targetDate) {
+    //     - 같은 학교/날짜 분석 결과가 이미 있으면 건너뜀 (배치 재시작/재실행 시 중복 저장 방지)
+    //     - FastAPI 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+    //       (조회/저장은 Repository 기본 트랜잭션)
+    //     - FastAPI 호출 실패/응답 없음은 예외로 전달 (배치에서 학교 단위로 실패 처리)
+    //
+    //     반환: FastAPI로 보낸 리뷰 수 (건너뛴 경우 0)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int runDailyAnalysis(Long schoolId, LocalDate targetDate) {
         log.info("일일 감성 분석 시작 - School: {}, Date: {}", schoolId, targetDate);
 
+        if (reviewAnalysisRepository.existsBySchoolIdAndTargetDate(schoolId, targetDate)) {
+            log.info("이미 분석된 날짜입니다. SchoolId: {}, Date: {}", schoolId, targetDate);
+            return 0;
+        }
+
         LocalDateTime startOfDay = targetDate.atStartOfDay();
         LocalDateTime endOfDay = targetDate.plusDays(1).atStartOfDay();
 
-        List<Review> reviews = reviewRepository.findBySchoolIdAndCreatedAtBetween(schoolId, startOfDay, endOfDay);
+        // 본문만 조회 (Review 엔티티 로딩 없이)
+        List<String> texts = reviewRepository.findContentsBySchoolIdAndCreatedAtRange(schoolId, startOfDay, endOfDay);
 
-        if (reviews.isEmpty()) {
+        if (texts.isEmpty()) {
             log.info("분석할 리뷰가 없습니다. SchoolId: {}, Date: {}", schoolId, targetDate);
-            return;
+            return 0;
         }
 
         // FastAPI 요청 데이터 생성
-        List<String> texts = reviews.stream()
-                .map(Review::getContent)
-                .collect(Collectors.toList());
-
         FastApiDto.Request requestDto = FastApiDto.Request.builder()
                 .schoolId(schoolId)
                 .targetDate(targetDate.toString())
                 .reviewTexts(texts)
                 .build();
 
+        FastApiDto.Response response = fastApiGateway.analyzeDailyReviews(requestDto);
+
+        // 응답이 없으면 저장된 것이 없으므로 실패로 처리 (배치가 실패 학교로 남겨 재시도)
+        if (response == null) {
+            throw new IllegalStateException("FastAPI 분석 응답이 없습니다. schoolId=" + schoolId);
+        }
+
         try {
-            // [변경] RestClient를 사용한 깔끔한 호출
-            FastApiDto.Response response = restClient.post()
-                    .uri("/api/analyze/daily") // Base URL은 이미 설정됨
-                    .body(requestDto)
-                    .retrieve()
-                    .body(FastApiDto.Response.class);
-
-            if (response != null) {
-                ReviewAnalysis analysis = ReviewAnalysis.builder()
-                        .schoolId(schoolId)
-                        .targetYm(targetDate.toString())
-                        .sentimentLabel(response.getSentimentLabel())
-                        .sentimentScore(response.getSentimentScore())
-                        .sentimentConf(response.getSentimentConf())
-                        .positiveCount(response.getPositiveCount()) // 개수 저장
-                        .negativeCount(response.getNegativeCount()) // 개수 저장
-                        .aspectTags(String.join(",", response.getAspectTags()))
-                        .evidencePhrases(String.join("|", response.getEvidencePhrases()))
-                        .issueFlags(response.getIssueFlags())
-                        .build();
-
-                reviewAnalysisRepository.save(analysis);
-                log.info("분석 완료 및 저장. SchoolId: {}", schoolId);
-            }
-        } catch (Exception e) {
-            log.error("FastAPI 통신 중 오류 발생: {}", e.getMessage());
+            reviewAnalysisRepository.saveAndFlush(toAnalysis(schoolId, targetDate, response));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장 (school_id, target_date 유일 키)
+            log.info("이미 분석된 날짜입니다. SchoolId: {}, Date: {}", schoolId, targetDate);
+            return 0;
         }
+        log.info("분석 완료 및 저장. SchoolId: {}", schoolId);
+        return texts.size();
+    }
+
+    // FastAPI 분석 결과 → 저장 엔티티 (학교 단위 / 묶음 전송 공통)
+    static ReviewAnalysis toAnalysis(Long schoolId, LocalDate targetDate, FastApiDto.Response response) {
+        return ReviewAnalysis.builder()
+                .schoolId(schoolId)
+                .targetDate(targetDate)
+                .sentimentLabel(response.getSentimentLabel())
+                .sentimentScore(response.getSentimentScore())
+                .sentimentConf(response.getSentimentConf())
+                .positiveCount(response.getPositiveCount()) // 개수 저장
+                .negativeCount(response.getNegativeCount()) // 개수 저장
+                .aspectTags(response.getAspectTags() != null ? String.join(",", response.getAspectTags()) : null)
+                .evidencePhrases(response.getEvidencePhrases() != null ? String.join("|", response.getEvidencePhrases()) : null)
+                .issueFlags(response.getIssueFlags())
+                .build();
     }
-}
\ No newline at end of file
+}
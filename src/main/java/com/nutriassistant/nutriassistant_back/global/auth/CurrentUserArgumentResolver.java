@@ -1,6 +1,8 @@
 package com.nutriassistant.nutriassistant_back.global.auth;
 
+import com.nutriassistant.nutriassistant_back.global.jwt.JwtAuthenticationFilter;
 import com.nutriassistant.nutriassistant_back.global.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +17,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
  * @CurrentUser 어노테이션을 처리하는 ArgumentResolver
  *
  * JWT 토큰에서 사용자 정보(userId, schoolId, role)를 추출하여 UserContext 생성
+ * (JwtAuthenticationFilter가 검증해 둔 Claims가 있으면 토큰을 다시 파싱하지 않음)
  */
 @Slf4j
 @Component
@@ -46,6 +49,10 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
 
         // JWT 토큰이 있는 경우
         if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            Object verified = request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE);
+            if (verified instanceof Claims claims) {
+                return toUserContext(claims);
+            }
             String token = authHeader.substring(BEARER_PREFIX.length());
             return parseJwtToken(token);
         }
@@ -55,27 +62,31 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
     }
 
     /**
-     * JWT 토큰을 파싱하여 UserContext 생성
+     * JWT 토큰을 파싱하여 UserContext 생성 (필터를 거치지 않은 요청용)
      */
     private UserContext parseJwtToken(String token) {
         try {
-            if (!jwtProvider.validateToken(token)) {
+            Claims claims = jwtProvider.verify(token);
+            if (claims == null) {
                 log.warn("JWT 토큰 검증 실패");
                 return UserContext.guest();
             }
-
-            Long userId = jwtProvider.getUserId(token);
-            Long schoolId = jwtProvider.getSchoolId(token);
-            String role = jwtProvider.getRole(token);
-
-            log.debug("JWT 인증 성공: userId={}, schoolId={}, role={}", userId, schoolId, role);
-            return UserContext.of(userId, schoolId, role);
+            return toUserContext(claims);
         } catch (Exception e) {
             log.warn("JWT 파싱 실패: {}", e.getMessage());
             return UserContext.guest();
         }
     }
 
+    private UserContext toUserContext(Claims claims) {
+        Long userId = claims.get("id", Long.class);
+        Long schoolId = claims.get("schoolId", Long.class);
+        String role = claims.get("role", String.class);
+
+        log.debug("JWT 인증 성공: userId={}, schoolId={}, role={}", userId, schoolId, role);
+        return UserContext.of(userId, schoolId, role);
+    }
+
     /**
      * 테스트용: HTTP 헤더에서 사용자 정보 추출
      * Postman 등에서 X-User-Id, X-School-Id, X-User-Role 헤더로 테스트 가능
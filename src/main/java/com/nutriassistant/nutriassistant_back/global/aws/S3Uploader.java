@@ -1,23 +1,48 @@
 package com.nutriassistant.nutriassistant_back.global.aws;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Component
 public class S3Uploader {
 
+    // S3 요청 시간 지표 (tag: operation=put|multipart|delete, outcome=success|error)
+    public static final String METRIC_NAME = "nutri.s3.requests";
+
+    // S3 멀티파트 제한: 마지막 파트 외 최소 5MiB, 업로드당 최대 10,000 파트
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    static final int MAX_PARTS = 10_000;
+
     private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
 
     @Value("${cloud.aws.s3.bucket:}")
     private String bucket;
@@ -25,9 +50,29 @@ public class S3Uploader {
     @Value("${cloud.aws.region.static:ap-northeast-2}")
     private String region;
 
+    // S3 호환 저장소(MinIO, LocalStack 등) 엔드포인트 (비우면 AWS S3, S3Config와 같은 값)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 이 크기를 넘는 파일은 멀티파트 업로드 (파트 크기, 5MiB 이상 - 기동 시 검증)
+    @Value("${cloud.aws.s3.multipart-part-size:8388608}")
+    private long multipartPartSize;
+
     @Autowired
-    public S3Uploader(@Autowired(required = false) S3Client s3Client) {
+    public S3Uploader(@Autowired(required = false) S3Client s3Client, MeterRegistry meterRegistry) {
         this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 파트 크기 검증 (0 이하면 분할 루프가 끝나지 않고, 5MiB 미만이면 S3가 파트 업로드를 거절함)
+     */
+    @PostConstruct
+    void validateMultipartPartSize() {
+        if (multipartPartSize < MIN_PART_SIZE) {
+            throw new IllegalStateException("cloud.aws.s3.multipart-part-size는 " + MIN_PART_SIZE
+                    + " bytes(5MiB) 이상이어야 합니다: " + multipartPartSize);
+        }
     }
 
     public boolean isAvailable() {
@@ -51,6 +96,7 @@ public class S3Uploader {
         String uniqueFileName = UUID.randomUUID().toString() + extension;
         String s3Key = directory + "/" + uniqueFileName;
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
@@ -60,46 +106,138 @@ public class S3Uploader {
                     .build();
 
             s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+            stop(sample, "put", "success");
             log.info("S3 업로드 성공: {}", s3Key);
 
             return s3Key;
         } catch (IOException e) {
+            stop(sample, "put", "error");
             log.error("S3 업로드 실패: {}", originalFilename, e);
             throw new S3UploadException("파일 업로드 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            stop(sample, "put", "error");
+            throw e;
         }
     }
 
     /**
-     * 바이트 배열을 S3에 업로드 (월간 운영자료 등에서 사용)
+     * 파일을 S3에 스트리밍 업로드 (월간 운영자료 PDF 등에서 사용)
+     * - 파트 크기 이하 : PutObject 1회 (파일에서 바로 읽어 전송)
+     * - 그보다 크면    : 멀티파트 업로드 (파트마다 파일의 해당 구간만 읽어 전송, 실패 시 업로드 중단)
+     * 파일 내용을 byte[]로 올리지 않으므로 힙 사용량은 파일 크기와 무관
      *
-     * @param content     업로드할 내용
+     * @param file        업로드할 파일
      * @param s3Key       S3 경로 (key)
      * @param contentType 콘텐츠 타입
      * @return S3 URL
      */
-    public String uploadBytes(byte[] content, String s3Key, String contentType) {
+    public String uploadFile(Path file, String s3Key, String contentType) {
         if (s3Client == null) {
             throw new S3UploadException("S3 Client가 설정되지 않았습니다.", null);
         }
 
+        long size;
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(s3Key)
-                    .contentType(contentType)
-                    .contentLength((long) content.length)
-                    .build();
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new S3UploadException("업로드할 파일을 읽을 수 없습니다.", e);
+        }
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
-            log.info("S3 바이트 업로드 성공: {}", s3Key);
+        String operation = size > multipartPartSize ? "multipart" : "put";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (size > multipartPartSize) {
+                uploadMultipart(file, size, s3Key, contentType);
+            } else {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .build();
+                s3Client.putObject(putObjectRequest, RequestBody.fromFile(file));
+            }
+            stop(sample, operation, "success");
+            log.info("S3 파일 업로드 성공: {} ({} bytes, {})", s3Key, size, operation);
 
             return getS3Url(s3Key);
         } catch (Exception e) {
-            log.error("S3 바이트 업로드 실패: {}", s3Key, e);
+            stop(sample, operation, "error");
+            log.error("S3 파일 업로드 실패: {}", s3Key, e);
             throw new S3UploadException("파일 업로드 중 오류가 발생했습니다.", e);
         }
     }
 
+    private void uploadMultipart(Path file, long size, String s3Key, String contentType) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        try {
+            long partSize = partSize(size);
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                long length = Math.min(partSize, size - offset);
+                UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(length)
+                        .build();
+
+                String eTag = s3Client.uploadPart(uploadPartRequest,
+                        RequestBody.fromContentProvider(filePart(file, offset, length), length, contentType)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (RuntimeException e) {
+            // 완료되지 않은 멀티파트 업로드는 중단해야 올라간 파트가 저장소에 남지 않음
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException abortError) {
+                log.warn("S3 멀티파트 업로드 중단 실패: {} (uploadId={})", s3Key, uploadId, abortError);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 실제 파트 크기 (설정값으로 10,000 파트를 넘으면 파트 수가 10,000 이하가 되도록 키움)
+     */
+    long partSize(long size) {
+        long minForPartLimit = (size + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(multipartPartSize, minForPartLimit);
+    }
+
+    /**
+     * 파일의 [offset, offset + length) 구간 스트림 (SDK 재시도 시 다시 열 수 있도록 매번 새로 엶)
+     */
+    private static ContentStreamProvider filePart(Path file, long offset, long length) {
+        return () -> {
+            try {
+                InputStream in = Files.newInputStream(file);
+                in.skipNBytes(offset);
+                return new BoundedInputStream(in, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
     /**
      * S3 파일 삭제
      *
@@ -110,6 +248,7 @@ public class S3Uploader {
             throw new S3UploadException("S3 Client가 설정되지 않았습니다.", null);
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                     .bucket(bucket)
@@ -117,8 +256,10 @@ public class S3Uploader {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            stop(sample, "delete", "success");
             log.info("S3 파일 삭제 성공: {}", s3Key);
         } catch (Exception e) {
+            stop(sample, "delete", "error");
             log.error("S3 파일 삭제 실패: {}", s3Key, e);
             throw new S3UploadException("파일 삭제 중 오류가 발생했습니다.", e);
         }
@@ -131,9 +272,16 @@ public class S3Uploader {
      * @return 전체 S3 URL
      */
     public String getS3Url(String s3Key) {
+        if (endpoint != null && !endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucket, s3Key);
+        }
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, s3Key);
     }
 
+    private void stop(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(meterRegistry.timer(METRIC_NAME, "operation", operation, "outcome", outcome));
+    }
+
     private String extractExtension(String filename) {
         if (filename == null || !filename.contains(".")) {
             return "";
@@ -141,6 +289,60 @@ public class S3Uploader {
         return filename.substring(filename.lastIndexOf("."));
     }
 
+    /**
+     * 최대 limit 바이트까지만 읽는 스트림 (멀티파트 파트 구간용)
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(buf, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
     public static class S3UploadException extends RuntimeException {
         public S3UploadException(String message, Throwable cause) {
             super(message, cause);
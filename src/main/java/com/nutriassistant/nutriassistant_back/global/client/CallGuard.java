@@ -0,0 +1,271 @@
+package com.nutriassistant.nutriassistant_back.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FastAPI 작업 1종에 대한 벌크헤드 + 서킷 브레이커
+ *
+ * 벌크헤드:
+ * - 동시에 진행 중인 호출 수를 maxConcurrent 로 제한, 초과 시 대기 없이 거절
+ *
+ * 서킷 브레이커 (최근 windowSize 건 기준):
+ * - CLOSED    : 실패율 또는 지연 호출 비율이 임계치 이상이면 OPEN
+ * - OPEN      : openDuration 동안 호출 없이 즉시 거절
+ * - HALF_OPEN : halfOpenCalls 건만 시험 호출, 모두 정상이면 CLOSED / 하나라도 실패·지연이면 다시 OPEN
+ *
+ * 4xx 응답은 요청 측 오류이므로 실패로 세지 않습니다.
+ */
+@Slf4j
+public class CallGuard {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 호출 1건 완료 시 통지 (지표 기록용)
+     */
+    @FunctionalInterface
+    public interface CallListener {
+        void onCall(boolean failed, long elapsedNanos);
+    }
+
+    public record Config(int maxConcurrent,
+                         int windowSize,
+                         int minimumCalls,
+                         int failureRateThreshold,
+                         int slowCallRateThreshold,
+                         Duration slowCallThreshold,
+                         Duration openDuration,
+                         int halfOpenCalls) {}
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final FastApiGateway.Operation operation;
+    private final Config config;
+    private final Semaphore bulkhead;
+
+    // 슬라이딩 윈도우 (guarded by this)
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private int windowSlow;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    // 누적 지표
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong slowCalls = new AtomicLong();
+    private final AtomicLong rejectedCircuitOpen = new AtomicLong();
+    private final AtomicLong rejectedBulkheadFull = new AtomicLong();
+    private final AtomicLong circuitOpened = new AtomicLong();
+
+    private volatile CallListener listener = (failed, elapsedNanos) -> {};
+
+    public CallGuard(FastApiGateway.Operation operation, Config config) {
+        this.operation = operation;
+        this.config = config;
+        this.bulkhead = new Semaphore(config.maxConcurrent());
+        this.window = new byte[config.windowSize()];
+    }
+
+    public void setListener(CallListener listener) {
+        this.listener = listener;
+    }
+
+    // =========================================================================
+    // 호출 허가 / 결과 기록
+    // =========================================================================
+
+    /**
+     * 호출 허가를 받습니다. 반드시 try-with-resources 로 {@link Permit#close()} 를 호출해야 합니다.
+     *
+     * @throws FastApiUnavailableException 서킷 OPEN 또는 동시 호출 한도 초과
+     */
+    public Permit acquire() {
+        if (!bulkhead.tryAcquire()) {
+            rejectedBulkheadFull.incrementAndGet();
+            throw new FastApiUnavailableException(operation, FastApiUnavailableException.Reason.BULKHEAD_FULL);
+        }
+        if (!tryPass()) {
+            bulkhead.release();
+            rejectedCircuitOpen.incrementAndGet();
+            throw new FastApiUnavailableException(operation, FastApiUnavailableException.Reason.CIRCUIT_OPEN);
+        }
+        calls.incrementAndGet();
+        return new Permit(System.nanoTime());
+    }
+
+    private synchronized boolean tryPass() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < config.openDuration().toMillis()) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= config.halfOpenCalls()) {
+                return false;
+            }
+            halfOpenIssued++;
+        }
+        return true;
+    }
+
+    private synchronized void recordOutcome(byte outcome) {
+        if ((outcome & FAILURE) != 0) failures.incrementAndGet();
+        if ((outcome & SLOW) != 0) slowCalls.incrementAndGet();
+
+        switch (state) {
+            case HALF_OPEN -> {
+                if (outcome != SUCCESS) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= config.halfOpenCalls()) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                addToWindow(outcome);
+                if (windowCount >= config.minimumCalls()
+                        && (windowFailures * 100 >= config.failureRateThreshold() * windowCount
+                        || windowSlow * 100 >= config.slowCallRateThreshold() * windowCount)) {
+                    log.warn("🚫 FastAPI 서킷 OPEN: operation={}, 최근 {}건 중 실패 {}건 / 지연 {}건",
+                            operation, windowCount, windowFailures, windowSlow);
+                    transitionTo(State.OPEN);
+                }
+            }
+            case OPEN -> {
+                // OPEN 전환 전에 시작된 호출의 결과는 무시
+            }
+        }
+    }
+
+    private void addToWindow(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            if ((evicted & FAILURE) != 0) windowFailures--;
+            if ((evicted & SLOW) != 0) windowSlow--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if ((outcome & FAILURE) != 0) windowFailures++;
+        if ((outcome & SLOW) != 0) windowSlow++;
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.info("🔁 FastAPI 서킷 상태 변경: operation={}, {} → {}", operation, state, next);
+        }
+        state = next;
+        halfOpenIssued = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+            circuitOpened.incrementAndGet();
+        } else if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+            windowSlow = 0;
+        }
+    }
+
+    /**
+     * 호출 1건의 허가. 결과는 한 번만 기록되며, 기록 없이 close 되면 성공으로 처리합니다.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long startedAt;
+        private boolean recorded;
+        private boolean closed;
+
+        private Permit(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        public void onSuccess() {
+            complete(false);
+        }
+
+        public void onError(Throwable error) {
+            complete(!(error instanceof HttpClientErrorException));
+        }
+
+        private void complete(boolean failed) {
+            if (recorded) return;
+            recorded = true;
+            long elapsed = System.nanoTime() - startedAt;
+            boolean slow = elapsed >= config.slowCallThreshold().toNanos();
+            byte outcome = (byte) ((failed ? FAILURE : SUCCESS) | (slow ? SLOW : 0));
+            recordOutcome(outcome);
+            listener.onCall(failed, elapsed);
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            onSuccess();
+            bulkhead.release();
+        }
+    }
+
+    // =========================================================================
+    // 지표
+    // =========================================================================
+
+    public FastApiGateway.Operation getOperation() {
+        return operation;
+    }
+
+    public synchronized State getState() {
+        // 대기 시간이 지난 OPEN 은 다음 호출에서 HALF_OPEN 으로 전환되지만, 조회 시에는 OPEN 으로 보여줍니다.
+        return state;
+    }
+
+    public int getAvailablePermits() {
+        return bulkhead.availablePermits();
+    }
+
+    public int getMaxConcurrent() {
+        return config.maxConcurrent();
+    }
+
+    public long getCalls() { return calls.get(); }
+    public long getFailures() { return failures.get(); }
+    public long getSlowCalls() { return slowCalls.get(); }
+    public long getRejectedCircuitOpen() { return rejectedCircuitOpen.get(); }
+    public long getRejectedBulkheadFull() { return rejectedBulkheadFull.get(); }
+    public long getCircuitOpened() { return circuitOpened.get(); }
+
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("in_flight", config.maxConcurrent() - bulkhead.availablePermits());
+        stats.put("max_concurrent", config.maxConcurrent());
+        stats.put("window_calls", windowCount);
+        stats.put("window_failures", windowFailures);
+        stats.put("window_slow_calls", windowSlow);
+        stats.put("calls", calls.get());
+        stats.put("failures", failures.get());
+        stats.put("slow_calls", slowCalls.get());
+        stats.put("rejected_circuit_open", rejectedCircuitOpen.get());
+        stats.put("rejected_bulkhead_full", rejectedBulkheadFull.get());
+        stats.put("circuit_opened", circuitOpened.get());
+        return stats;
+    }
+}
@@ -0,0 +1,242 @@
+package com.nutriassistant.nutriassistant_back.global.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nutriassistant.nutriassistant_back.domain.reviewanalysis.dto.FastApiDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FastAPI(AI 서버) 호출 단일 창구
+ *
+ * 역할:
+ * - 공유 커넥션 풀(pooledHttpClient) 위에서 작업별 타임아웃 프로파일로 호출
+ *   (월간 생성 / 1끼 대체 / 분석 / 운영 보고서)
+ * - 내부 인증 헤더(X-Internal-API-Key)를 한 곳에서 주입
+ * - 큰 요청 본문은 gzip 압축 (fastapi.gzip.enabled, FastAPI 측 해제 미들웨어 필요)
+ * - 월간 생성/운영 보고서 요청은 JsonBodyWriter로 본문을 스트리밍 전송
+ *   (본문 전체를 byte[]로 만들지 않음 → 인터셉터 없는 별도 클라이언트 사용, gzip은 스트림에서 바로 압축, chunked 전송)
+ * - 모든 호출은 FastApiResilience(작업별 벌크헤드 + 서킷 브레이커 + 멱등 작업 재시도)를 거침
+ *   → 차단/한도 초과 시 FastApiUnavailableException
+ *
+ * 각 서비스는 URL/헤더를 직접 만들지 않고 이 클래스의 메서드만 호출합니다.
+ */
+@Slf4j
+@Component
+public class FastApiGateway {
+
+    public static final String INTERNAL_API_KEY_HEADER = "X-Internal-API-Key";
+
+    /**
+     * 작업별 타임아웃 / 보호 프로파일
+     * idempotent: FastAPI 측 상태를 바꾸지 않아 일시적 오류 시 재시도해도 되는 작업
+     */
+    public enum Operation {
+        GENERATE(false),       // 월간 식단 생성 (/month/generate) - 응답을 받으며 DB에 저장하므로 재시도 안 함
+        SINGLE_REPLACE(true),  // 1끼 AI 대체 (/v1/menus/single:generate)
+        ANALYZE(true),         // 리뷰 감성 분석, 신메뉴 분석
+        REPORT(true);          // 월간 운영 보고서 분석 (/api/reports/monthly)
+
+        private final boolean idempotent;
+
+        Operation(boolean idempotent) {
+            this.idempotent = idempotent;
+        }
+
+        public boolean isIdempotent() {
+            return idempotent;
+        }
+    }
+
+    private final Map<Operation, RestClient> clients = new EnumMap<>(Operation.class);
+    // 스트리밍 본문용 (인터셉터가 있으면 RestClient가 본문을 메모리에 모두 모은 뒤 전송하므로 인터셉터 없이 구성)
+    private final Map<Operation, RestClient> streamingClients = new EnumMap<>(Operation.class);
+    private final FastApiResilience resilience;
+    private final JsonFactory jsonFactory;
+    private final boolean gzipEnabled;
+
+    public FastApiGateway(CloseableHttpClient pooledHttpClient,
+                          FastApiResilience resilience,
+                          ObjectMapper objectMapper,
+                          @Value("${fastapi.base-url:http://localhost:8001}") String baseUrl,
+                          @Value("${fastapi.internal-token:}") String internalToken,
+                          @Value("${fastapi.timeout.generate-seconds:180}") long generateTimeout,
+                          @Value("${fastapi.timeout.single-replace-seconds:90}") long singleReplaceTimeout,
+                          @Value("${fastapi.timeout.analyze-seconds:90}") long analyzeTimeout,
+                          @Value("${fastapi.timeout.report-seconds:180}") long reportTimeout,
+                          @Value("${fastapi.gzip.enabled:false}") boolean gzipEnabled,
+                          @Value("${fastapi.gzip.min-bytes:8192}") int gzipMinBytes) {
+        this.resilience = resilience;
+        this.jsonFactory = objectMapper.getFactory();
+        this.gzipEnabled = gzipEnabled;
+
+        RestClient.Builder streaming = RestClient.builder().baseUrl(baseUrl);
+        if (internalToken != null && !internalToken.isBlank()) {
+            streaming.defaultHeader(INTERNAL_API_KEY_HEADER, internalToken);
+        }
+        RestClient.Builder base = streaming.clone();
+        if (gzipEnabled) {
+            base.requestInterceptor(new GzipRequestBodyInterceptor(gzipMinBytes));
+        }
+
+        register(Operation.GENERATE, base, streaming, pooledHttpClient, generateTimeout);
+        register(Operation.SINGLE_REPLACE, base, streaming, pooledHttpClient, singleReplaceTimeout);
+        register(Operation.ANALYZE, base, streaming, pooledHttpClient, analyzeTimeout);
+        register(Operation.REPORT, base, streaming, pooledHttpClient, reportTimeout);
+
+        log.info("🔌 FastAPI Gateway 초기화: baseUrl={}, timeout(s) generate={}, single={}, analyze={}, report={}, gzip={}",
+                baseUrl, generateTimeout, singleReplaceTimeout, analyzeTimeout, reportTimeout, gzipEnabled);
+    }
+
+    private void register(Operation operation, RestClient.Builder base, RestClient.Builder streaming,
+                          CloseableHttpClient httpClient, long readTimeoutSeconds) {
+        Duration readTimeout = Duration.ofSeconds(readTimeoutSeconds);
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+        clients.put(operation, base.clone().requestFactory(factory).build());
+        streamingClients.put(operation, streaming.clone().requestFactory(factory).build());
+        resilience.register(operation, readTimeout);
+    }
+
+    /**
+     * JsonBodyWriter → 스트리밍 요청 본문
+     * - gzip 사용 시 본문 크기를 미리 알 수 없으므로 항상 압축
+     * - 작성 도중 예외가 나면 JSON을 자동으로 닫지 않고 그대로 전파 (불완전한 본문이 정상 요청으로 처리되지 않도록)
+     */
+    private StreamingHttpOutputMessage.Body jsonBody(JsonBodyWriter writer) {
+        return outputStream -> {
+            GZIPOutputStream gzip = gzipEnabled ? new GZIPOutputStream(outputStream, 8192) : null;
+            JsonGenerator generator = jsonFactory.createGenerator(gzip != null ? gzip : outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            try (generator) {
+                writer.writeTo(generator);
+            }
+            if (gzip != null) {
+                gzip.finish();
+            }
+        };
+    }
+
+    private RestClient.RequestBodySpec streamingPost(Operation operation, String uri) {
+        RestClient.RequestBodySpec spec = streamingClients.get(operation).post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzipEnabled) {
+            spec.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return spec;
+    }
+
+    // =========================================================================
+    // 식단
+    // =========================================================================
+
+    /**
+     * 월간 식단 생성
+     * 응답 본문을 트리로 읽지 않고 handler에서 스트리밍으로 처리합니다.
+     * 요청 본문은 requestBody가 전송 스트림에 바로 씁니다.
+     *
+     * 서킷 기록과 벌크헤드 반납은 응답 헤더 수신 시점에 끝냅니다.
+     * - handler 실행 중에는 GENERATE 동시 호출 한도를 차지하지 않음
+     * - handler 예외는 AI 서버 상태와 무관하므로 서킷에 기록하지 않음 (헤더 수신 전 예외만 실패로 기록)
+     * handler가 끝나야 커넥션이 풀로 돌아가므로, handler는 본문을 받아 두기만 하고 DB 저장은 호출 뒤에 합니다.
+     */
+    public <T> T generateMonthly(JsonBodyWriter requestBody, RestClient.RequestHeadersSpec.ExchangeFunction<T> handler) {
+        try (CallGuard.Permit permit = resilience.guard(Operation.GENERATE).acquire()) {
+            AtomicBoolean responded = new AtomicBoolean();
+            try {
+                return streamingPost(Operation.GENERATE, "/month/generate")
+                        .body(jsonBody(requestBody))
+                        .exchange((request, response) -> {
+                            responded.set(true);
+                            if (response.getStatusCode().is5xxServerError()) {
+                                permit.onError(new IllegalStateException("FastAPI " + response.getStatusCode()));
+                            }
+                            permit.close();
+                            return handler.exchange(request, response);
+                        });
+            } catch (RuntimeException e) {
+                if (!responded.get()) {
+                    permit.onError(e);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 1끼 AI 대체
+     */
+    public JsonNode replaceSingleMeal(Object requestBody) {
+        return resilience.execute(Operation.SINGLE_REPLACE, () -> clients.get(Operation.SINGLE_REPLACE).post()
+                .uri("/v1/menus/single:generate")
+                .body(requestBody)
+                .retrieve()
+                .body(JsonNode.class));
+    }
+
+    /**
+     * 신메뉴 분석 (게시글 → 신메뉴 정보)
+     */
+    public JsonNode generateNewMenu(Object requestBody) {
+        return resilience.execute(Operation.ANALYZE, () -> clients.get(Operation.ANALYZE).post()
+                .uri("/v1/menus/new-menu:generate")
+                .body(requestBody)
+                .retrieve()
+                .body(JsonNode.class));
+    }
+
+    // =========================================================================
+    // 분석 / 보고서
+    // =========================================================================
+
+    /**
+     * 일별 리뷰 감성 분석
+     */
+    public FastApiDto.Response analyzeDailyReviews(FastApiDto.Request request) {
+        return resilience.execute(Operation.ANALYZE, () -> clients.get(Operation.ANALYZE).post()
+                .uri("/api/analyze/daily")
+                .body(request)
+                .retrieve()
+                .body(FastApiDto.Response.class));
+    }
+
+    /**
+     * 리뷰 감성 분석 (여러 학교 묶음, 학교별 결과)
+     */
+    public FastApiDto.BatchResponse analyzeDailyReviewsBatch(FastApiDto.BatchRequest request) {
+        return resilience.execute(Operation.ANALYZE, () -> clients.get(Operation.ANALYZE).post()
+                .uri("/api/analyze/daily/batch")
+                .body(request)
+                .retrieve()
+                .body(FastApiDto.BatchResponse.class));
+    }
+
+    /**
+     * 월간 운영 보고서 분석
+     * 요청 본문은 payload가 전송 스트림에 바로 씁니다. (재시도 시 다시 호출됨)
+     */
+    public Map<String, Object> analyzeMonthlyReport(JsonBodyWriter payload) {
+        return resilience.execute(Operation.REPORT, () -> streamingPost(Operation.REPORT, "/api/reports/monthly")
+                .body(jsonBody(payload))
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<String, Object>>() {}));
+    }
+}
@@ -0,0 +1,250 @@
+package com.nutriassistant.nutriassistant_back.global.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.NoHttpResponseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * FastAPI 호출 보호 계층 (작업별 벌크헤드 + 서킷 브레이커 + 재시도)
+ *
+ * - AI 서버가 느려질 때 Tomcat 스레드가 타임아웃(최대 180초)까지 묶이지 않도록
+ *   작업별 동시 호출 수를 제한하고, 실패/지연이 누적되면 즉시 503으로 거절합니다.
+ * - 재시도는 멱등 작업에만, 연결 실패 / 502·503·504 에 한해 지터를 둔 지수 백오프로 수행합니다.
+ *   (읽기 타임아웃은 서버가 이미 처리 중일 수 있고 부하만 키우므로 재시도하지 않음)
+ * - 지연 호출 기준은 작업별 읽기 타임아웃 × slow-call-ratio
+ *
+ * 지표 (tag: operation):
+ * - nutri.fastapi.calls           : 호출 시간 (tag: outcome=success|error, 재시도는 시도마다 기록)
+ * - nutri.fastapi.circuit.state   : 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+ * - nutri.fastapi.in_flight       : 진행 중 호출 수
+ * - nutri.fastapi.rejected        : 거절 횟수 (tag: reason=circuit_open|bulkhead_full)
+ * - nutri.fastapi.retries         : 재시도 횟수
+ */
+@Slf4j
+@Component
+public class FastApiResilience {
+
+    private final Map<FastApiGateway.Operation, CallGuard> guards =
+            Collections.synchronizedMap(new EnumMap<>(FastApiGateway.Operation.class));
+
+    private final Map<FastApiGateway.Operation, Integer> maxConcurrent = new EnumMap<>(FastApiGateway.Operation.class);
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final double slowCallRatio;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+
+    private final int retryMaxAttempts;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+    private final AtomicLong retries = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public FastApiResilience(@Value("${fastapi.resilience.max-concurrent.generate:2}") int generateConcurrent,
+                             @Value("${fastapi.resilience.max-concurrent.single-replace:8}") int singleReplaceConcurrent,
+                             @Value("${fastapi.resilience.max-concurrent.analyze:8}") int analyzeConcurrent,
+                             @Value("${fastapi.resilience.max-concurrent.report:4}") int reportConcurrent,
+                             @Value("${fastapi.resilience.window-size:20}") int windowSize,
+                             @Value("${fastapi.resilience.minimum-calls:10}") int minimumCalls,
+                             @Value("${fastapi.resilience.failure-rate-threshold:50}") int failureRateThreshold,
+                             @Value("${fastapi.resilience.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+                             @Value("${fastapi.resilience.slow-call-ratio:0.5}") double slowCallRatio,
+                             @Value("${fastapi.resilience.open-seconds:30}") long openSeconds,
+                             @Value("${fastapi.resilience.half-open-calls:3}") int halfOpenCalls,
+                             @Value("${fastapi.retry.max-attempts:3}") int retryMaxAttempts,
+                             @Value("${fastapi.retry.base-millis:300}") long retryBaseMillis,
+                             @Value("${fastapi.retry.max-millis:3000}") long retryMaxMillis,
+                             MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        maxConcurrent.put(FastApiGateway.Operation.GENERATE, generateConcurrent);
+        maxConcurrent.put(FastApiGateway.Operation.SINGLE_REPLACE, singleReplaceConcurrent);
+        maxConcurrent.put(FastApiGateway.Operation.ANALYZE, analyzeConcurrent);
+        maxConcurrent.put(FastApiGateway.Operation.REPORT, reportConcurrent);
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallRatio = slowCallRatio;
+        this.openDuration = Duration.ofSeconds(openSeconds);
+        this.halfOpenCalls = halfOpenCalls;
+        this.retryMaxAttempts = Math.max(1, retryMaxAttempts);
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+
+        FunctionCounter.builder("nutri.fastapi.retries", retries, AtomicLong::get)
+                .description("FastAPI 재시도 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업별 보호 장치 등록 (FastApiGateway 초기화 시 읽기 타임아웃과 함께 호출)
+     */
+    public CallGuard register(FastApiGateway.Operation operation, Duration readTimeout) {
+        CallGuard.Config config = new CallGuard.Config(
+                maxConcurrent.get(operation),
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                slowCallRateThreshold,
+                Duration.ofMillis((long) (readTimeout.toMillis() * slowCallRatio)),
+                openDuration,
+                halfOpenCalls
+        );
+        CallGuard guard = new CallGuard(operation, config);
+        bindMetrics(guard);
+        guards.put(operation, guard);
+        return guard;
+    }
+
+    // =========================================================================
+    // 실행
+    // =========================================================================
+
+    /**
+     * 벌크헤드/서킷을 거쳐 호출하고, 멱등 작업이면 일시적 오류에 한해 재시도합니다.
+     */
+    public <T> T execute(FastApiGateway.Operation operation, Supplier<T> call) {
+        CallGuard guard = guards.get(operation);
+        int maxAttempts = operation.isIdempotent() ? retryMaxAttempts : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return callOnce(guard, call);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                long delay = backoffMillis(attempt);
+                retries.incrementAndGet();
+                log.warn("🔁 FastAPI 재시도: operation={}, {}/{}회 실패, {}ms 후 재시도 ({})",
+                        operation, attempt, maxAttempts, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private <T> T callOnce(CallGuard guard, Supplier<T> call) {
+        try (CallGuard.Permit permit = guard.acquire()) {
+            try {
+                T result = call.get();
+                permit.onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                permit.onError(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 연결 실패 / 응답 없이 끊김 / 게이트웨이 계열 5xx 만 재시도
+     */
+    static boolean isRetryable(RuntimeException e) {
+        if (e instanceof HttpServerErrorException server) {
+            HttpStatus status = HttpStatus.resolve(server.getStatusCode().value());
+            return status == HttpStatus.BAD_GATEWAY
+                    || status == HttpStatus.SERVICE_UNAVAILABLE
+                    || status == HttpStatus.GATEWAY_TIMEOUT;
+        }
+        if (e instanceof ResourceAccessException) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConnectException || cause instanceof NoHttpResponseException) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * full jitter: 0 ~ min(max, base × 2^(attempt-1))
+     */
+    private long backoffMillis(int attempt) {
+        long cap = Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    // =========================================================================
+    // 지표
+    // =========================================================================
+
+    private void bindMetrics(CallGuard guard) {
+        String operation = guard.getOperation().name().toLowerCase();
+
+        Timer success = Timer.builder("nutri.fastapi.calls")
+                .description("FastAPI 호출 시간 (월간 생성은 응답 헤더 수신까지)")
+                .tags("operation", operation, "outcome", "success")
+                .register(meterRegistry);
+        Timer error = Timer.builder("nutri.fastapi.calls")
+                .description("FastAPI 호출 시간 (월간 생성은 응답 헤더 수신까지)")
+                .tags("operation", operation, "outcome", "error")
+                .register(meterRegistry);
+        guard.setListener((failed, elapsedNanos) ->
+                (failed ? error : success).record(elapsedNanos, TimeUnit.NANOSECONDS));
+
+        Gauge.builder("nutri.fastapi.circuit.state", guard, g -> g.getState().ordinal())
+                .description("서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder("nutri.fastapi.in_flight", guard, g -> g.getMaxConcurrent() - g.getAvailablePermits())
+                .description("진행 중인 FastAPI 호출 수")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        FunctionCounter.builder("nutri.fastapi.rejected", guard, CallGuard::getRejectedCircuitOpen)
+                .description("서킷 OPEN 으로 거절된 호출 수")
+                .tags("operation", operation, "reason", "circuit_open")
+                .register(meterRegistry);
+        FunctionCounter.builder("nutri.fastapi.rejected", guard, CallGuard::getRejectedBulkheadFull)
+                .description("동시 호출 한도 초과로 거절된 호출 수")
+                .tags("operation", operation, "reason", "bulkhead_full")
+                .register(meterRegistry);
+    }
+
+    public CallGuard guard(FastApiGateway.Operation operation) {
+        return guards.get(operation);
+    }
+
+    public Collection<CallGuard> guards() {
+        return guards.values();
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public Map<String, Object> statsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        synchronized (guards) {
+            guards.forEach((operation, guard) -> summary.put(operation.name().toLowerCase(), guard.snapshot()));
+        }
+        summary.put("retries", retries.get());
+        return summary;
+    }
+}
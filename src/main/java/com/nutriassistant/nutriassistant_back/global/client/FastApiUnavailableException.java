@@ -0,0 +1,27 @@
+package com.nutriassistant.nutriassistant_back.global.client;
+
+import lombok.Getter;
+
+/**
+ * FastAPI 호출을 시도하지 않고 즉시 거절한 경우 (서킷 OPEN / 동시 호출 한도 초과)
+ * 컨트롤러에서는 503으로 응답합니다.
+ */
+@Getter
+public class FastApiUnavailableException extends RuntimeException {
+
+    public enum Reason {
+        CIRCUIT_OPEN,   // 최근 실패/지연이 임계치를 넘어 차단 중
+        BULKHEAD_FULL   // 동시 호출 수 한도 초과
+    }
+
+    private final FastApiGateway.Operation operation;
+    private final Reason reason;
+
+    public FastApiUnavailableException(FastApiGateway.Operation operation, Reason reason) {
+        super(reason == Reason.CIRCUIT_OPEN
+                ? "AI 서버 응답이 불안정하여 요청을 일시적으로 차단했습니다. 잠시 후 다시 시도해주세요. (" + operation + ")"
+                : "AI 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. (" + operation + ")");
+        this.operation = operation;
+        this.reason = reason;
+    }
+}
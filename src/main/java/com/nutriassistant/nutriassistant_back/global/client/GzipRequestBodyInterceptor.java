@@ -0,0 +1,45 @@
+package com.nutriassistant.nutriassistant_back.global.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 요청 본문 gzip 압축 인터셉터
+ *
+ * 본문이 min-bytes 이상일 때만 압축하고 Content-Encoding: gzip 헤더를 붙입니다.
+ * (리뷰 분석 묶음 등 메모리에 만든 JSON 본문용 - 월간 생성/운영 보고서 스트리밍 본문은 FastApiGateway에서 직접 압축)
+ * 수신 측(FastAPI)에 gzip 요청 본문을 해제하는 미들웨어가 있어야 합니다.
+ */
+public class GzipRequestBodyInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int minBytes;
+
+    public GzipRequestBodyInterceptor(int minBytes) {
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (body.length < minBytes || request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return execution.execute(request, body);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(body.length / 4, 512));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        byte[] compressed = out.toByteArray();
+
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        request.getHeaders().setContentLength(compressed.length);
+        return execution.execute(request, compressed);
+    }
+}
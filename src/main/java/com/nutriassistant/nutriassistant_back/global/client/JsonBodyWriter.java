@@ -0,0 +1,43 @@
+package com.nutriassistant.nutriassistant_back.global.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * FastAPI 요청 본문 스트리밍 작성기
+ *
+ * 요청 본문을 Map/DTO 트리로 만들지 않고, 전송 중인 요청 스트림 위의 JsonGenerator에 바로 씁니다.
+ * (FastApiGateway가 요청을 보낼 때 호출, 큰 목록은 DB 커서에서 한 행씩 읽어 바로 쓰면 힙 사용량이 행 수와 무관)
+ *
+ * 주의사항:
+ * - 재시도되는 작업(멱등 작업)은 시도마다 다시 호출되므로, 매번 처음부터 다시 쓸 수 있어야 함
+ * - 도중에 예외가 나면 본문이 완성되지 않은 채 요청이 중단됨 (닫히지 않은 배열/객체를 자동으로 닫지 않음)
+ */
+@FunctionalInterface
+public interface JsonBodyWriter {
+
+    void writeTo(JsonGenerator generator) throws IOException;
+
+    /**
+     * 작성 구간 전체를 트랜잭션 안에서 실행 (Stream 반환 리포지토리 조회용)
+     * - 트랜잭션(DB 커넥션)은 본문을 다 쓸 때까지만 유지되고, 응답 대기 중에는 잡지 않음
+     */
+    static JsonBodyWriter inTransaction(TransactionOperations tx, JsonBodyWriter writer) {
+        return generator -> {
+            try {
+                tx.executeWithoutResult(status -> {
+                    try {
+                        writer.writeTo(generator);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
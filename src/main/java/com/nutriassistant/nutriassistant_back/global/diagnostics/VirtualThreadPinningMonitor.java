@@ -0,0 +1,118 @@
+package com.nutriassistant.nutriassistant_back.global.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 진단 (가상 스레드 모드에서만 활성화)
+ *
+ * 가상 스레드가 synchronized 블록/네이티브 호출 안에서 블로킹되면 캐리어 스레드에 고정(pinning)되어
+ * 다른 가상 스레드를 실행하지 못합니다. JFR의 jdk.VirtualThreadPinned 이벤트를 앱 내부에서 구독해
+ * 임계값 이상 고정된 경우 위치(스택)를 로그로 남기고 지표로 집계합니다.
+ *
+ * 설정:
+ * - diagnostics.pinning.threshold-millis : 기록할 최소 고정 시간 (기본 20ms)
+ * - diagnostics.pinning.stack-depth      : 로그에 남길 스택 프레임 수 (기본 12)
+ *
+ * 지표: nutri.vthread.pinned{site=클래스.메서드} (고정 시간)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.nutriassistant.";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final int stackDepth;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.pinning.threshold-millis:20}") long thresholdMillis,
+                                       @Value("${diagnostics.pinning.stack-depth:12}") int stackDepth) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.stackDepth = stackDepth;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("📌 가상 스레드 pinning 진단 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+
+        String site = appSite(frames);
+        Timer.builder("nutri.vthread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String threadName = event.getThread() != null ? event.getThread().getJavaName() : "?";
+        log.warn("📌 가상 스레드 pinning: {}ms, site={}, thread={}\n{}",
+                event.getDuration().toMillis(), site, threadName, format(frames));
+    }
+
+    /**
+     * 스택에서 가장 가까운 애플리케이션 프레임 (지표 태그용, 없으면 최상단 프레임)
+     */
+    private String appSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = frames.get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        int limit = Math.min(frames.size(), stackDepth);
+        for (int i = 0; i < limit; i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("    at ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
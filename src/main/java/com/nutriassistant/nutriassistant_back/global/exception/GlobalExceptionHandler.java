@@ -3,6 +3,7 @@ package com.nutriassistant.nutriassistant_back.global.exception;
 import com.nutriassistant.nutriassistant_back.domain.Board.service.BoardService;
 import com.nutriassistant.nutriassistant_back.domain.File.service.FileService;
 import com.nutriassistant.nutriassistant_back.global.aws.S3Uploader;
+import com.nutriassistant.nutriassistant_back.global.client.FastApiUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -151,6 +152,22 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    // AI 서버 호출 차단 (서킷 OPEN / 동시 호출 한도 초과)
+    @ExceptionHandler(FastApiUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleFastApiUnavailableException(
+            FastApiUnavailableException e, HttpServletRequest request) {
+        log.warn("AI 서버 호출 차단: operation={}, reason={}", e.getOperation(), e.getReason());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(
+                        503,
+                        "SERVICE_UNAVAILABLE",
+                        "AI_503",
+                        e.getMessage(),
+                        request.getRequestURI(),
+                        Map.of("reason", e.getReason().name())
+                ));
+    }
+
     // 일반 예외 처리
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
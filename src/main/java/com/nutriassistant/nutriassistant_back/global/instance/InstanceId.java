@@ -0,0 +1,78 @@
+package com.nutriassistant.nutriassistant_back.global.instance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 이 서버 인스턴스(프로세스)의 식별자
+ *
+ * 여러 인스턴스가 같은 DB를 쓸 때 작업(배치 실행, 생성 작업 등)의 소유자로 기록합니다.
+ * 형식: {호스트 이름}@{기동마다 새로 만드는 임의 값 8자리}
+ * - 같은 호스트에서 재기동해도 이전 프로세스와 구분됩니다.
+ * - 구분자 '@'는 호스트 이름에 올 수 없으므로, "web@" 접두어가 "web-2@..." 같은 다른 호스트와 겹치지 않음
+ * (이전 프로세스가 남긴 작업은 heartbeat가 만료된 뒤에만 다른 인스턴스가 이어받음)
+ */
+@Slf4j
+@Component
+public class InstanceId {
+
+    // 소유자 컬럼 길이 (owner VARCHAR(100))
+    public static final int MAX_LENGTH = 100;
+
+    // sameHostPattern 을 쓰는 LIKE 조건의 ESCAPE 문자 (JPQL: LIKE :pattern ESCAPE '!')
+    public static final char LIKE_ESCAPE = '!';
+
+    private static final char DELIMITER = '@';
+    private static final int SUFFIX_LENGTH = 8;
+
+    private final String host;
+    private final String value;
+
+    public InstanceId() {
+        this(localHostName());
+    }
+
+    InstanceId(String hostName) {
+        // 호스트 부분이 잘리지 않고 그대로 접두어가 되도록 호스트 이름 쪽을 줄임
+        int maxHostLength = MAX_LENGTH - SUFFIX_LENGTH - 1;
+        this.host = hostName.length() > maxHostLength ? hostName.substring(0, maxHostLength) : hostName;
+        this.value = host + DELIMITER + UUID.randomUUID().toString().substring(0, SUFFIX_LENGTH);
+        log.info("🖥️ 인스턴스 ID: {}", value);
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    public String value() {
+        return value;
+    }
+
+    /**
+     * 같은 호스트의 이전 프로세스 식별자에 공통인 접두어 (LIKE 패턴, 재기동 시 남은 작업 정리용)
+     * 호스트 이름의 %, _ 는 LIKE_ESCAPE 로 이스케이프 → 쿼리에 ESCAPE '!' 를 함께 지정해야 함
+     */
+    public String sameHostPattern() {
+        StringBuilder pattern = new StringBuilder(host.length() + 2);
+        for (char c : host.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append(DELIMITER).append('%').toString();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
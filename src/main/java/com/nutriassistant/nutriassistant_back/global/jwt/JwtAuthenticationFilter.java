@@ -1,5 +1,6 @@
 package com.nutriassistant.nutriassistant_back.global.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ import java.io.IOException;
  * 1. HTTP 요청 헤더에서 JWT 토큰을 추출합니다.
  * 2. JwtProvider를 통해 토큰의 유효성을 검증합니다.
  * 3. 유효한 토큰이라면, Spring Security의 Context에 인증 정보(User)를 저장합니다.
+ * 4. 검증된 Claims를 요청 속성(CLAIMS_ATTRIBUTE)에 저장해 CurrentUserArgumentResolver가 재사용합니다.
  *
  * 특징:
  * - OncePerRequestFilter를 상속받아, 하나의 요청당 한 번만 실행됨을 보장합니다.
@@ -30,6 +32,9 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 검증된 Claims 요청 속성 이름 (CurrentUserArgumentResolver에서 재사용)
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".CLAIMS";
+
     private final JwtProvider jwtProvider;
 
     @Override
@@ -39,16 +44,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Request Header에서 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰 유효성 검사
-        if (token != null && jwtProvider.validateToken(token)) {
-            // 3. 토큰이 유효하면 인증 객체(Authentication)를 가져와서 SecurityContext에 저장
-            Authentication authentication = jwtProvider.getAuthentication(token);
+        // 2. 토큰 유효성 검사 (요청당 1회, 최근 검증한 토큰은 캐시된 Claims 사용)
+        Claims claims = jwtProvider.verify(token);
+        if (claims != null) {
+            // 3. 토큰이 유효하면 인증 객체(Authentication)를 만들어 SecurityContext에 저장
+            Authentication authentication = jwtProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            request.setAttribute(CLAIMS_ATTRIBUTE, claims);
 
             log.info("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
         }
 
-        // 4. 다음 필터로 진행
+        // 5. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
@@ -1,5 +1,8 @@
 package com.nutriassistant.nutriassistant_back.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,19 +14,40 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증
+ *
+ * 검증 비용 절감:
+ * - 파서(JwtParser)는 한 번만 만들어 재사용합니다. (thread-safe)
+ * - 서명 검증에 성공한 토큰의 Claims를 크기 제한 캐시에 보관하고,
+ *   같은 토큰이 다시 오면 HMAC 검증 없이 캐시된 Claims를 사용합니다.
+ * - 캐시 항목은 토큰 만료 시각(exp)에 함께 만료되므로 만료된 토큰은 캐시에서 통과되지 않습니다.
+ * - 요청 안에서는 JwtAuthenticationFilter가 한 번 검증한 Claims를 요청 속성으로 넘깁니다.
+ */
 @Slf4j
 @Component
 public class JwtProvider {
 
     private final Key key;
     private final long tokenValidityInMilliseconds;
+    private final JwtParser parser;
+
+    // 검증 완료 토큰 → Claims (토큰 만료 시각까지 유지)
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtProvider(@Value("${jwt.secret}") String secret,
-                       @Value("${jwt.expiration}") long tokenValidityInMilliseconds) {
+                       @Value("${jwt.expiration}") long tokenValidityInMilliseconds,
+                       @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     // =========================================================================
@@ -48,8 +72,11 @@ public class JwtProvider {
     // 2. 인증 정보 조회 (SecurityContext 저장용)
     // =========================================================================
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    // 이미 검증된 Claims로 인증 객체 생성 (재파싱 없음)
+    public Authentication getAuthentication(Claims claims) {
         Long id = claims.get("id", Long.class);
         String username = claims.getSubject();
         Long schoolId = claims.get("schoolId", Long.class);
@@ -64,9 +91,26 @@ public class JwtProvider {
     // 3. 토큰 유효성 검증
     // =========================================================================
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * 토큰을 검증하고 Claims를 반환합니다. (유효하지 않거나 만료된 토큰이면 null)
+     * 최근 검증한 토큰은 캐시된 Claims를 반환하므로 서명 검증을 다시 하지 않습니다.
+     */
+    public Claims verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(token, claims);
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -76,7 +120,7 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
     // =========================================================================
@@ -103,16 +147,41 @@ public class JwtProvider {
         return parseClaims(token).get("role", String.class);
     }
 
-    // 내부 파싱 메서드
+    // 내부 파싱 메서드 (만료된 토큰도 Claims 반환)
     private Claims parseClaims(String token) {
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
+
+    /**
+     * 캐시 항목 만료 = 토큰 만료 시각 (exp가 없으면 발급 유효기간)
+     */
+    private class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMillis = expiration != null
+                    ? expiration.getTime() - System.currentTimeMillis()
+                    : tokenValidityInMilliseconds;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
\ No newline at end of file
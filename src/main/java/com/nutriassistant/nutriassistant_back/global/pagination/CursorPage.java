@@ -0,0 +1,50 @@
+package com.nutriassistant.nutriassistant_back.global.pagination;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 모드 목록 응답
+ *
+ * 전체 건수(COUNT) 대신 size + 1건을 조회해 다음 페이지 존재 여부만 판단합니다.
+ * - items       : 이번 페이지 (최대 page_size건)
+ * - has_next    : 다음 페이지 존재 여부
+ * - next_cursor : 다음 요청에 그대로 넘길 커서 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(
+        List<T> items,
+        @JsonProperty("page_size") int pageSize,
+        @JsonProperty("has_next") boolean hasNext,
+        @JsonProperty("next_cursor") String nextCursor
+) {
+
+    /**
+     * 다음 페이지 확인용 1건을 더 포함한 조회 범위
+     */
+    public static Pageable probe(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * size + 1건으로 조회한 결과를 잘라 커서 응답으로 변환
+     *
+     * @param rows     probe(size)로 조회한 행
+     * @param cursorOf 행 → 커서 (정렬 키 + id)
+     * @param mapper   행 → 응답 항목
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,67 @@
+package com.nutriassistant.nutriassistant_back.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션 위치 (정렬 키 + id)
+ *
+ * 마지막으로 내려준 행의 (정렬 키, id)를 Base64URL 문자열로 감싸 클라이언트에 전달하고,
+ * 다음 요청에서 "그 행보다 뒤" 조건(seek)으로 바로 이어서 조회합니다.
+ * - OFFSET 없이 인덱스에서 바로 시작 위치를 찾으므로 깊은 페이지도 첫 페이지와 같은 비용
+ * - 정렬 키가 같은 행은 id로 순서를 고정 (중복/누락 없음)
+ * - 정렬 키가 id 자체인 목록은 key 없이 id만 사용
+ *
+ * 클라이언트는 값을 해석하지 않고 그대로 돌려보내야 합니다. (형식은 바뀔 수 있음)
+ */
+public record KeysetCursor(String key, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(LocalDateTime key, Long id) {
+        return new KeysetCursor(key != null ? key.toString() : null, id);
+    }
+
+    public static KeysetCursor ofId(Long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    /**
+     * 커서 요청 파라미터 해석
+     * - null 또는 빈 문자열 : 첫 페이지 (null 반환)
+     * - 그 외 : 이전 응답의 next_cursor
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            String key = sep > 0 ? raw.substring(0, sep) : null;
+            return new KeysetCursor(key, Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = key != null ? key + SEPARATOR + id : String.valueOf(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        if (key == null) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+        }
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
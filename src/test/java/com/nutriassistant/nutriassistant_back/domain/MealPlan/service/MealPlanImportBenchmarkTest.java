@@ -0,0 +1,164 @@
+package com.nutriassistant.nutriassistant_back.domain.MealPlan.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.entity.MealPlan;
+import com.nutriassistant.nutriassistant_back.domain.MealPlan.repository.MealPlanRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월간 식단 저장 경로 비교 벤치마크 (44끼 = 평일 22일 × 중식/석식)
+ *
+ * 실제 MySQL이 필요하므로 기본 빌드에서는 실행하지 않습니다.
+ * 실행: MEALPLAN_BENCHMARK=true ./gradlew test --tests '*MealPlanImportBenchmarkTest'
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "MEALPLAN_BENCHMARK", matches = "true")
+class MealPlanImportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MealPlanImportBenchmarkTest.class);
+
+    private static final long SCHOOL_ID = 999_999L;
+    private static final int YEAR = 2099;
+    private static final int MONTH = 3;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    private static final String[] RICE = {"쌀밥", "잡곡밥", "현미밥", "보리밥"};
+    private static final String[] SOUP = {"된장국", "미역국", "김치찌개", "북엇국", "어묵국"};
+    private static final String[] MAIN = {"제육볶음", "닭갈비", "고등어구이", "불고기", "돈까스", "떡갈비"};
+    private static final String[] SIDE = {"시금치나물", "콩나물무침", "감자조림", "계란말이"};
+    private static final String[] KIMCHI = {"배추김치", "깍두기", "총각김치"};
+    private static final String[] DESSERT = {"요구르트", "사과", "귤", "바나나우유"};
+
+    @Autowired
+    private MealPlanMenuService mealPlanMenuService;
+
+    @Autowired
+    private MealPlanRepository mealPlanRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long mealPlanId;
+
+    @BeforeEach
+    void setUp() {
+        MealPlan mealPlan = mealPlanRepository.findBySchoolIdAndYearAndMonth(SCHOOL_ID, YEAR, MONTH)
+                .orElseGet(() -> mealPlanRepository.save(new MealPlan(SCHOOL_ID, YEAR, MONTH)));
+        mealPlanId = mealPlan.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE i FROM meal_plan_menu_item i JOIN meal_plan_menu m " +
+                "ON i.meal_plan_menu_id = m.id WHERE m.meal_plan_id = ?", mealPlanId);
+        jdbcTemplate.update("DELETE FROM meal_plan_menu WHERE meal_plan_id = ?", mealPlanId);
+        jdbcTemplate.update("DELETE FROM meal_plan WHERE id = ?", mealPlanId);
+    }
+
+    @Test
+    void compareImportPaths() {
+        JsonNode payload = buildMonthPayload();
+        assertThat(payload.path("meals").size()).isEqualTo(44);
+
+        double perEntityMillis = measure(false, payload);
+        double batchedMillis = measure(true, payload);
+
+        log.info("📊 식단 저장 벤치마크 (44끼, {}회 평균): 엔티티 단건 save {} ms, JDBC 배치 INSERT {} ms, {}배",
+                ITERATIONS, String.format("%.2f", perEntityMillis), String.format("%.2f", batchedMillis),
+                String.format("%.2f", perEntityMillis / batchedMillis));
+
+        // 배치 경로가 단건 저장보다 느려지면 실패
+        assertThat(batchedMillis).isLessThan(perEntityMillis);
+    }
+
+    private double measure(boolean bulkInsert, JsonNode payload) {
+        MealPlanMenuService target = AopTestUtils.getTargetObject(mealPlanMenuService);
+        ReflectionTestUtils.setField(target, "bulkInsertEnabled", bulkInsert);
+
+        for (int i = 0; i < WARMUP; i++) {
+            mealPlanMenuService.importFromFastApi(mealPlanId, payload);
+        }
+
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            mealPlanMenuService.importFromFastApi(mealPlanId, payload);
+            total += System.nanoTime() - start;
+        }
+
+        assertThat(countMenus()).isEqualTo(44);
+        assertThat(countItems()).isEqualTo(44 * 7);
+        return total / 1_000_000.0 / ITERATIONS;
+    }
+
+    private JsonNode buildMonthPayload() {
+        ArrayNode meals = objectMapper.createArrayNode();
+        LocalDate date = LocalDate.of(YEAR, MONTH, 1);
+        int day = 0;
+
+        while (day < 22) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                meals.add(meal(date, "중식", day * 2));
+                meals.add(meal(date, "석식", day * 2 + 1));
+                day++;
+            }
+            date = date.plusDays(1);
+        }
+
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.set("meals", meals);
+        return payload;
+    }
+
+    private ObjectNode meal(LocalDate date, String type, int seq) {
+        ObjectNode meal = objectMapper.createObjectNode();
+        meal.put("Date", date.toString());
+        meal.put("Type", type);
+        meal.put("Rice", RICE[seq % RICE.length]);
+        meal.put("Soup", SOUP[seq % SOUP.length]);
+        meal.put("Main1", MAIN[seq % MAIN.length]);
+        meal.put("Main2", MAIN[(seq + 3) % MAIN.length]);
+        meal.put("Side", SIDE[seq % SIDE.length]);
+        meal.put("Kimchi", KIMCHI[seq % KIMCHI.length]);
+        meal.put("Dessert", DESSERT[seq % DESSERT.length]);
+        meal.put("Kcal", 650 + seq);
+        meal.put("Carb", 90);
+        meal.put("Prot", 25);
+        meal.put("Fat", 18);
+        meal.put("Cost", 4200);
+        return meal;
+    }
+
+    private Integer countMenus() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meal_plan_menu WHERE meal_plan_id = ?", Integer.class, mealPlanId);
+    }
+
+    private Integer countItems() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM meal_plan_menu_item i " +
+                "JOIN meal_plan_menu m ON i.meal_plan_menu_id = m.id WHERE m.meal_plan_id = ?",
+                Integer.class, mealPlanId);
+    }
+}
@@ -0,0 +1,187 @@
+package com.nutriassistant.nutriassistant_back.global.aws;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파일 스트리밍 업로드 / 멀티파트 분할 확인 (파일 시스템 저장소 스텁, AWS/스프링 컨텍스트 불필요)
+ */
+class S3UploaderTest {
+
+    private static final int PART_SIZE = 1024;
+    private static final String KEY = "schools/1/reports/7/report_2026_03.pdf";
+
+    @TempDir
+    Path tempDir;
+
+    private FileSystemS3 storage;
+    private S3Uploader uploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new FileSystemS3(Files.createDirectories(tempDir.resolve("bucket")));
+        uploader = new S3Uploader(storage.client, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(uploader, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(uploader, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(uploader, "multipartPartSize", (long) PART_SIZE);
+    }
+
+    @Test
+    void fileUpToPartSizeIsUploadedInOneRequest() throws IOException {
+        Path file = writeFile("small.pdf", PART_SIZE);
+
+        uploader.uploadFile(file, KEY, "application/pdf");
+
+        assertThat(Files.readAllBytes(storage.objectPath(KEY))).isEqualTo(Files.readAllBytes(file));
+        assertThat(storage.partSizes).isEmpty();
+    }
+
+    @Test
+    void largeFileIsSplitIntoMultipartUploadParts() throws IOException {
+        Path file = writeFile("large.pdf", PART_SIZE * 3 + 100);
+
+        String url = uploader.uploadFile(file, KEY, "application/pdf");
+
+        assertThat(Files.readAllBytes(storage.objectPath(KEY))).isEqualTo(Files.readAllBytes(file));
+        assertThat(storage.partSizes).containsExactly((long) PART_SIZE, (long) PART_SIZE, (long) PART_SIZE, 100L);
+        assertThat(url).endsWith("/" + KEY);
+    }
+
+    @Test
+    void failedPartUploadAbortsMultipartUpload() throws IOException {
+        Path file = writeFile("large.pdf", PART_SIZE * 3);
+        storage.failOnPart = 2;
+
+        assertThatThrownBy(() -> uploader.uploadFile(file, KEY, "application/pdf"))
+                .isInstanceOf(S3Uploader.S3UploadException.class);
+
+        assertThat(storage.aborted).containsExactly(KEY);
+        assertThat(Files.exists(storage.objectPath(KEY))).isFalse();
+    }
+
+    @Test
+    void partSizeUnder5MiBIsRejectedAtStartup() {
+        ReflectionTestUtils.setField(uploader, "multipartPartSize", 0L);
+        assertThatThrownBy(uploader::validateMultipartPartSize).isInstanceOf(IllegalStateException.class);
+
+        ReflectionTestUtils.setField(uploader, "multipartPartSize", S3Uploader.MIN_PART_SIZE);
+        uploader.validateMultipartPartSize();
+    }
+
+    @Test
+    void partSizeGrowsToStayWithinPartLimit() {
+        long size = (long) PART_SIZE * S3Uploader.MAX_PARTS + 1;
+
+        assertThat(uploader.partSize((long) PART_SIZE * S3Uploader.MAX_PARTS)).isEqualTo(PART_SIZE);
+        assertThat(uploader.partSize(size)).isEqualTo(PART_SIZE + 1);
+        assertThat((size + uploader.partSize(size) - 1) / uploader.partSize(size)).isLessThanOrEqualTo(S3Uploader.MAX_PARTS);
+    }
+
+    private Path writeFile(String name, int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+    /**
+     * 디렉터리를 버킷처럼 쓰는 S3Client 스텁 (PutObject / 멀티파트 업로드만 지원)
+     */
+    private static final class FileSystemS3 {
+
+        private final Path root;
+        private final S3Client client = mock(S3Client.class);
+        private final List<Long> partSizes = new ArrayList<>();
+        private final List<String> aborted = new ArrayList<>();
+        private int failOnPart = -1;
+
+        FileSystemS3(Path root) {
+            this.root = root;
+
+            when(client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+                PutObjectRequest request = invocation.getArgument(0);
+                copy(invocation.getArgument(1), objectPath(request.key()));
+                return PutObjectResponse.builder().eTag("etag").build();
+            });
+
+            when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+
+            when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+                UploadPartRequest request = invocation.getArgument(0);
+                if (request.partNumber() == failOnPart) {
+                    throw S3Exception.builder().message("part upload failed").statusCode(500).build();
+                }
+                long written = copy(invocation.getArgument(1), partPath(request.uploadId(), request.partNumber()));
+                assertThat(written).isEqualTo(request.contentLength());
+                partSizes.add(written);
+                return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+            });
+
+            when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenAnswer(invocation -> {
+                CompleteMultipartUploadRequest request = invocation.getArgument(0);
+                Path target = objectPath(request.key());
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    for (CompletedPart part : request.multipartUpload().parts()) {
+                        Files.copy(partPath(request.uploadId(), part.partNumber()), out);
+                    }
+                }
+                return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+            });
+
+            when(client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenAnswer(invocation -> {
+                AbortMultipartUploadRequest request = invocation.getArgument(0);
+                aborted.add(request.key());
+                return AbortMultipartUploadResponse.builder().build();
+            });
+        }
+
+        Path objectPath(String key) {
+            return root.resolve(key);
+        }
+
+        private Path partPath(String uploadId, int partNumber) {
+            return root.resolve(".uploads").resolve(uploadId).resolve(String.valueOf(partNumber));
+        }
+
+        private static long copy(RequestBody body, Path target) throws IOException {
+            Files.createDirectories(target.getParent());
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                return Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
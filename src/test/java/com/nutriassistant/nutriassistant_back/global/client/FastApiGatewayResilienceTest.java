@@ -0,0 +1,240 @@
+package com.nutriassistant.nutriassistant_back.global.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FastApiGateway 보호 계층 동작 확인 (로컬 스텁 HTTP 서버, DB/스프링 컨텍스트 불필요)
+ */
+class FastApiGatewayResilienceTest {
+
+    private HttpServer stub;
+    private CloseableHttpClient httpClient;
+    private final AtomicInteger hits = new AtomicInteger();
+
+    // 스텁 응답 제어
+    private volatile int status = 200;
+    private volatile int failFirst = 0;
+    private volatile CountDownLatch release;
+
+    // 마지막 요청 본문 (gzip이면 해제 후)
+    private volatile String lastRequestBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/", exchange -> {
+            int hit = hits.incrementAndGet();
+            boolean gzipped = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            try (InputStream in = gzipped ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+                lastRequestBody = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            try {
+                if (release != null) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int code = hit <= failFirst ? 503 : status;
+            byte[] body = "{\"menus\":[\"쌀밥\"]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(code, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+        httpClient = HttpClients.createDefault();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        stub.stop(0);
+        httpClient.close();
+    }
+
+    private FastApiGateway gateway(int maxConcurrent, int retryAttempts) {
+        return gateway(maxConcurrent, retryAttempts, false);
+    }
+
+    private FastApiGateway gateway(int maxConcurrent, int retryAttempts, boolean gzip) {
+        FastApiResilience resilience = new FastApiResilience(
+                maxConcurrent, maxConcurrent, maxConcurrent, maxConcurrent,
+                10, 4, 50, 100, 0.5, 60, 1,
+                retryAttempts, 1, 5, new SimpleMeterRegistry());
+        String baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        return new FastApiGateway(httpClient, resilience, new ObjectMapper(), baseUrl, "test-token",
+                10, 10, 10, 10, gzip, 8192);
+    }
+
+    private Map<String, Object> replaceRequest() {
+        return Map.of("date", "2026-03-02", "meal_type", "LUNCH");
+    }
+
+    @Test
+    void circuitOpensAfterFailuresAndFailsFast() {
+        status = 500;
+        FastApiGateway gateway = gateway(4, 1);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> gateway.replaceSingleMeal(replaceRequest()))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThatThrownBy(() -> gateway.replaceSingleMeal(replaceRequest()))
+                .isInstanceOf(FastApiUnavailableException.class)
+                .extracting("reason").isEqualTo(FastApiUnavailableException.Reason.CIRCUIT_OPEN);
+        assertThat(hits.get()).isEqualTo(4);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        status = 400;
+        FastApiGateway gateway = gateway(4, 1);
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> gateway.replaceSingleMeal(replaceRequest()))
+                    .isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(hits.get()).isEqualTo(6);
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverLimit() throws Exception {
+        release = new CountDownLatch(1);
+        FastApiGateway gateway = gateway(2, 1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonNode> first = pool.submit(() -> gateway.replaceSingleMeal(replaceRequest()));
+            Future<JsonNode> second = pool.submit(() -> gateway.replaceSingleMeal(replaceRequest()));
+            while (hits.get() < 2) {
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(() -> gateway.replaceSingleMeal(replaceRequest()))
+                    .isInstanceOf(FastApiUnavailableException.class)
+                    .extracting("reason").isEqualTo(FastApiUnavailableException.Reason.BULKHEAD_FULL);
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS).path("menus").size()).isEqualTo(1);
+            assertThat(second.get(5, TimeUnit.SECONDS).path("menus").size()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void idempotentCallRetriesTransientErrors() {
+        failFirst = 2;
+        FastApiGateway gateway = gateway(4, 3);
+
+        JsonNode result = gateway.replaceSingleMeal(replaceRequest());
+
+        assertThat(result.path("menus").get(0).asText()).isEqualTo("쌀밥");
+        assertThat(hits.get()).isEqualTo(3);
+    }
+
+    @Test
+    void generateIsNotRetried() {
+        failFirst = 1;
+        FastApiGateway gateway = gateway(4, 3);
+
+        assertThatThrownBy(() -> gateway.generateMonthly(generator -> {
+            generator.writeStartObject();
+            generator.writeEndObject();
+        }, (request, response) -> {
+            if (response.getStatusCode().isError()) {
+                throw new IllegalStateException("status " + response.getStatusCode().value());
+            }
+            return response.getStatusCode().value();
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void generateHandlerErrorsDoNotOpenCircuit() {
+        FastApiGateway gateway = gateway(4, 1);
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> gateway.generateMonthly(emptyObject(), (request, response) -> {
+                throw new IllegalStateException("DB 저장 실패");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(gateway.generateMonthly(emptyObject(), (request, response) -> response.getStatusCode().value()))
+                .isEqualTo(200);
+        assertThat(hits.get()).isEqualTo(7);
+    }
+
+    @Test
+    void generatePermitIsReleasedBeforeHandlerRuns() {
+        FastApiGateway gateway = gateway(1, 1);
+
+        Integer nested = gateway.generateMonthly(emptyObject(), (request, response) ->
+                gateway.generateMonthly(emptyObject(), (nestedRequest, nestedResponse) ->
+                        nestedResponse.getStatusCode().value()));
+
+        assertThat(nested).isEqualTo(200);
+        assertThat(hits.get()).isEqualTo(2);
+    }
+
+    private JsonBodyWriter emptyObject() {
+        return generator -> {
+            generator.writeStartObject();
+            generator.writeEndObject();
+        };
+    }
+
+    @Test
+    void streamingBodyIsWrittenAgainOnRetry() throws IOException {
+        failFirst = 1;
+        FastApiGateway gateway = gateway(4, 3, true);
+        AtomicInteger writes = new AtomicInteger();
+
+        gateway.analyzeMonthlyReport(generator -> {
+            writes.incrementAndGet();
+            generator.writeStartObject();
+            generator.writeNumberField("year", 2026);
+            generator.writeArrayFieldStart("reviews");
+            for (int i = 0; i < 3; i++) {
+                generator.writeString("리뷰-" + i);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+
+        assertThat(writes.get()).isEqualTo(2);
+        JsonNode sent = new ObjectMapper().readTree(lastRequestBody);
+        assertThat(sent.path("year").asInt()).isEqualTo(2026);
+        assertThat(sent.path("reviews").size()).isEqualTo(3);
+        assertThat(sent.path("reviews").get(2).asText()).isEqualTo("리뷰-2");
+    }
+}
@@ -0,0 +1,59 @@
+package com.nutriassistant.nutriassistant_back.global.instance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인스턴스 ID 형식 / 같은 호스트 LIKE 패턴 확인
+ */
+class InstanceIdTest {
+
+    @Test
+    void sameHostPatternDoesNotMatchLongerHostNames() {
+        InstanceId web = new InstanceId("web");
+        InstanceId web2 = new InstanceId("web-2");
+
+        assertThat(web.value()).startsWith("web@");
+        assertThat(web.sameHostPattern()).isEqualTo("web@%");
+        assertThat(matches(web.sameHostPattern(), web2.value())).isFalse();
+        assertThat(matches(web.sameHostPattern(), new InstanceId("web").value())).isTrue();
+    }
+
+    @Test
+    void likeWildcardsInHostNameAreEscaped() {
+        InstanceId instance = new InstanceId("ip_10%1!a");
+
+        assertThat(instance.sameHostPattern()).isEqualTo("ip!_10!%1!!a@%");
+        assertThat(matches(instance.sameHostPattern(), new InstanceId("ipx10%1!a").value())).isFalse();
+        assertThat(matches(instance.sameHostPattern(), new InstanceId("ip_10%1!a").value())).isTrue();
+    }
+
+    @Test
+    void longHostNameIsTrimmedButKeepsSuffix() {
+        InstanceId instance = new InstanceId("h".repeat(150));
+
+        assertThat(instance.value()).hasSize(InstanceId.MAX_LENGTH);
+        assertThat(matches(instance.sameHostPattern(), instance.value())).isTrue();
+    }
+
+    /**
+     * LIKE pattern ESCAPE '!' 를 정규식으로 바꿔 비교
+     */
+    private static boolean matches(String likePattern, String value) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < likePattern.length(); i++) {
+            char c = likePattern.charAt(i);
+            if (c == InstanceId.LIKE_ESCAPE) {
+                regex.append(java.util.regex.Pattern.quote(String.valueOf(likePattern.charAt(++i))));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(java.util.regex.Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return value.matches(regex.toString());
+    }
+}
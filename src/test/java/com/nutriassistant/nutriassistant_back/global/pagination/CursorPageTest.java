@@ -0,0 +1,54 @@
+package com.nutriassistant.nutriassistant_back.global.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 인코딩/해석 및 size + 1 조회 결과 자르기 확인 (DB/스프링 컨텍스트 불필요)
+ */
+class CursorPageTest {
+
+    @Test
+    void cursorRoundTripsSortKeyAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 3, 12, 30, 15, 123_000_000);
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, 42L).encode());
+
+        assertThat(decoded.keyAsDateTime()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+
+        KeysetCursor idOnly = KeysetCursor.decode(KeysetCursor.ofId(7L).encode());
+        assertThat(idOnly.key()).isNull();
+        assertThat(idOnly.id()).isEqualTo(7L);
+    }
+
+    @Test
+    void blankCursorIsFirstPageAndMalformedCursorIsRejected() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+
+        assertThatThrownBy(() -> KeysetCursor.decode("!!not-base64!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.ofId(1L).encode()).keyAsDateTime())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void extraRowIsTrimmedAndBecomesNextCursor() {
+        CursorPage<Long> page = CursorPage.of(List.of(10L, 9L, 8L), 2, KeysetCursor::ofId, Function.identity());
+
+        assertThat(page.items()).containsExactly(10L, 9L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor()).id()).isEqualTo(9L);
+
+        CursorPage<Long> last = CursorPage.of(List.of(7L), 2, KeysetCursor::ofId, Function.identity());
+        assertThat(last.items()).containsExactly(7L);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+}